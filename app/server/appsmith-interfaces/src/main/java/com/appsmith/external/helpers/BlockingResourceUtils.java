@@ -0,0 +1,65 @@
+package com.appsmith.external.helpers;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Plugins are called from the server's event loop threads, which must never block. Every blocking call of a plugin,
+ * including checking a connection out of a pool, which waits when the pool is exhausted, must therefore run on a worker
+ * scheduler, and never in the body of a {@link com.appsmith.external.plugins.PluginExecutor} method itself.
+ */
+public class BlockingResourceUtils {
+
+    // Seconds after which idle worker threads are released
+    private static final int WORKER_TTL_SECONDS = 60;
+
+    /**
+     * Creates a bounded pool of worker threads for the blocking calls of a plugin. Once all of its threads are busy,
+     * further calls are queued instead of creating more threads, so that a slow datasource can't exhaust the server's
+     * threads. Each plugin gets its own pool, so that a slow datasource of one plugin doesn't hold up the others.
+     * Keep the pool in a static field of the plugin, as its executor may be instantiated more than once, and its
+     * idle threads are released on their own.
+     *
+     * @param name Prefix of the names of the worker threads, e.g., the name of the plugin
+     */
+    public static Scheduler newBlockingScheduler(String name) {
+        return Schedulers.newBoundedElastic(
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+                name,
+                WORKER_TTL_SECONDS,
+                true
+        );
+    }
+
+    /**
+     * Acquires a resource, e.g., a connection from a pool, uses it and releases it, on the given scheduler. Unlike
+     * acquiring the resource before building the returned Mono, nothing blocks the thread that subscribes to it.
+     *
+     * @param resourceSupplier Blocking call that acquires the resource, run on subscription
+     * @param resourceClosure  Builds the Mono that uses the resource
+     * @param resourceCleanup  Releases the resource once the Mono completes, fails or is cancelled
+     * @param scheduler        Blocking scheduler of the plugin, see {@link #newBlockingScheduler(String)}
+     * @return Mono that is subscribed to on the given scheduler
+     */
+    public static <R, T> Mono<T> usingResource(Callable<R> resourceSupplier,
+                                               Function<R, Mono<T>> resourceClosure,
+                                               Consumer<R> resourceCleanup,
+                                               Scheduler scheduler) {
+        return Mono.using(resourceSupplier, resourceClosure, resourceCleanup)
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Runs a blocking call on the given blocking scheduler.
+     */
+    public static <T> Mono<T> fromBlockingCallable(Callable<T> callable, Scheduler scheduler) {
+        return Mono.fromCallable(callable)
+                .subscribeOn(scheduler);
+    }
+}
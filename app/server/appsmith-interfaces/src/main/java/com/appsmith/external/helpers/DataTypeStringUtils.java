@@ -5,8 +5,8 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ParsedDataType;
+import com.appsmith.external.models.TypedValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -18,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
-import org.apache.commons.validator.routines.DateValidator;
 import org.bson.BsonInvalidOperationException;
 import org.bson.Document;
 import org.bson.json.JsonParseException;
@@ -26,25 +25,21 @@ import reactor.core.Exceptions;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.apache.commons.lang3.ClassUtils.isPrimitiveOrWrapper;
 
 @Slf4j
 public class DataTypeStringUtils {
 
-    private static String regexForQuestionMark = "\\?";
-
-    private static Pattern questionPattern = Pattern.compile(regexForQuestionMark);
-
     private static ObjectMapper objectMapper = new ObjectMapper();
 
     private static JSONParser parser = new JSONParser(JSONParser.MODE_PERMISSIVE);
@@ -52,32 +47,24 @@ public class DataTypeStringUtils {
     private static final TypeAdapter<JsonObject> strictGsonObjectAdapter =
             new Gson().getAdapter(JsonObject.class);
 
-    public static class DateValidatorUsingDateFormat extends DateValidator {
-        private String dateFormat;
-
-        public DateValidatorUsingDateFormat(String dateFormat) {
-            this.dateFormat = dateFormat;
-        }
-
-        @Override
-        public boolean isValid(String dateStr) {
-            DateFormat sdf = new SimpleDateFormat(this.dateFormat);
-            sdf.setLenient(false);
-            try {
-                sdf.parse(dateStr);
-            } catch (ParseException e) {
-                return false;
-            }
-            return true;
-        }
+    public static DataType stringToKnownDataTypeConverter(String input) {
+        return parseToKnownDataType(input).getDataType();
     }
 
-    public static DataType stringToKnownDataTypeConverter(String input) {
+    /**
+     * Detects the data type of the input, same as {@link #stringToKnownDataTypeConverter(String)}, and returns the
+     * value it has parsed along the way, so that plugins binding the value don't have to parse it again.
+     *
+     * @param input Evaluated value of a binding
+     * @return The data type of the input, along with its value parsed into the Java type of that data type
+     */
+    public static TypedValue parseToKnownDataType(String input) {
 
         if (input == null) {
-            return DataType.NULL;
+            return new TypedValue(DataType.NULL, null);
         }
 
+        final String originalInput = input;
         input = input.trim();
 
         if (input.startsWith("[") && input.endsWith("]")) {
@@ -86,75 +73,58 @@ public class DataTypeStringUtils {
             // In case of no values in the array, set this as null. Otherwise plugins like postgres and ms-sql
             // would break while creating a SQL array.
             if (trimmedInputBetweenBraces.isEmpty()) {
-                return DataType.NULL;
+                return new TypedValue(DataType.NULL, null);
             }
-            return DataType.ARRAY;
+            return new TypedValue(DataType.ARRAY, originalInput);
         }
 
-        try {
-            Integer.parseInt(input);
-            return DataType.INTEGER;
-        } catch (NumberFormatException e) {
-            // Not an integer
+        // This runs for every binding of every execution, so the checks below are plain character scans instead of
+        // parse attempts that throw and catch an exception for each type the input turns out not to be.
+        TypedValue number = parseNumber(input);
+        if (number != null) {
+            return number;
         }
 
-        try {
-            Long.parseLong(input);
-            return DataType.LONG;
-        } catch (NumberFormatException e1) {
-            // Not long
+        if (input.equalsIgnoreCase("true") || input.equalsIgnoreCase("false")) {
+            return new TypedValue(DataType.BOOLEAN, Boolean.parseBoolean(input));
         }
 
-        try {
-            Float.parseFloat(input);
-            return DataType.FLOAT;
-        } catch (NumberFormatException e2) {
-            // Not float
+        if (input.equalsIgnoreCase("null")) {
+            return new TypedValue(DataType.NULL, null);
         }
 
-        try {
-            Double.parseDouble(input);
-            return DataType.DOUBLE;
-        } catch (NumberFormatException e3) {
-            // Not double
-        }
-
-        // Creating a copy of the input in lower case form to do simple string equality to check for boolean/null types.
-        String copyInput = String.valueOf(input).toLowerCase().trim();
-        if (copyInput.equals("true") || copyInput.equals("false")) {
-            return DataType.BOOLEAN;
+        // yyyy-MM-dd HH:mm:ss
+        if (input.length() == 19 && isDate(input, 0) && input.charAt(10) == ' ' && isTime(input, 11)) {
+            return new TypedValue(DataType.TIMESTAMP, LocalDateTime.of(toDate(input, 0), toTime(input, 11)));
         }
 
-        if (copyInput.equals("null")) {
-            return DataType.NULL;
+        // yyyy-MM-dd
+        if (input.length() == 10 && isDate(input, 0)) {
+            return new TypedValue(DataType.DATE, toDate(input, 0));
         }
 
-        DateValidator timestampValidator = new DateValidatorUsingDateFormat("yyyy-MM-dd HH:mm:ss");
-        if (timestampValidator.isValid(input)) {
-            return DataType.TIMESTAMP;
+        // HH:mm:ss
+        if (input.length() == 8 && isTime(input, 0)) {
+            return new TypedValue(DataType.TIME, toTime(input, 0));
         }
 
-        DateValidator dateValidator = new DateValidatorUsingDateFormat("yyyy-mm-dd");
-        if (dateValidator.isValid(input)) {
-            return DataType.DATE;
-        }
-
-        DateValidator timeValidator = new DateValidatorUsingDateFormat("hh:mm:ss");
-        if (timeValidator.isValid(input)) {
-            return DataType.TIME;
+        // Both JSON objects and BSON documents have to start with an opening brace, so there is no point in running
+        // either of the parsers on anything else.
+        if (!input.startsWith("{")) {
+            return new TypedValue(DataType.STRING, originalInput);
         }
 
         try (JsonReader reader = new JsonReader(new StringReader(input))) {
             strictGsonObjectAdapter.read(reader);
             reader.hasNext(); // throws on multiple top level values
-            return DataType.JSON_OBJECT;
+            return new TypedValue(DataType.JSON_OBJECT, originalInput);
         } catch (IOException | JsonSyntaxException e) {
             // Not a strict JSON object
         }
 
         try {
             Document.parse(input);
-            return DataType.BSON;
+            return new TypedValue(DataType.BSON, originalInput);
         } catch (JsonParseException | BsonInvalidOperationException e) {
             // Not BSON
         }
@@ -180,12 +150,203 @@ public class DataTypeStringUtils {
 //        }
 
         // default return type if none of the above matches.
-        return DataType.STRING;
+        return new TypedValue(DataType.STRING, originalInput);
+    }
+
+    /**
+     * Classifies the input as a number using the same syntax that `Integer.parseInt`, `Long.parseLong` and
+     * `Float.parseFloat` accept, and only parses it once its type is known, so that no parse attempt can fail.
+     *
+     * @param input trimmed input string
+     * @return INTEGER or LONG for whole numbers that fit in them, FLOAT for any other number and null if the input is
+     * not a number at all.
+     */
+    private static TypedValue parseNumber(String input) {
+        final int length = input.length();
+        int index = 0;
+
+        final boolean isNegative = length > 0 && input.charAt(0) == '-';
+        if (isNegative || (length > 0 && input.charAt(0) == '+')) {
+            index++;
+        }
+
+        final int integerStart = index;
+        while (index < length && isDigit(input.charAt(index))) {
+            index++;
+        }
+        final int integerDigits = index - integerStart;
+
+        if (index == length) {
+            return integerDigits == 0 ? null : parseWholeNumber(input, integerStart, isNegative);
+        }
+
+        if (integerDigits == 0 && (input.startsWith("NaN", index) || input.startsWith("Infinity", index))) {
+            final String special = input.substring(index);
+            return special.equals("NaN") || special.equals("Infinity")
+                    ? new TypedValue(DataType.FLOAT, Float.parseFloat(input))
+                    : null;
+        }
+
+        int fractionDigits = 0;
+        if (input.charAt(index) == '.') {
+            index++;
+            final int fractionStart = index;
+            while (index < length && isDigit(input.charAt(index))) {
+                index++;
+            }
+            fractionDigits = index - fractionStart;
+        }
+
+        if (integerDigits + fractionDigits == 0) {
+            return null;
+        }
+
+        if (index < length && (input.charAt(index) == 'e' || input.charAt(index) == 'E')) {
+            index++;
+            if (index < length && (input.charAt(index) == '-' || input.charAt(index) == '+')) {
+                index++;
+            }
+            final int exponentStart = index;
+            while (index < length && isDigit(input.charAt(index))) {
+                index++;
+            }
+            if (index == exponentStart) {
+                return null;
+            }
+        }
+
+        // Float and double type suffixes, as in `1.5f` or `2d`.
+        if (index < length && "fFdD".indexOf(input.charAt(index)) >= 0) {
+            index++;
+        }
+
+        return index == length ? new TypedValue(DataType.FLOAT, Float.parseFloat(input)) : null;
     }
 
-    public static String jsonSmartReplacementQuestionWithValue(String input,
-                                                               String replacement,
-                                                               List<Map.Entry<String, String>> insertedParams) {
+    private static TypedValue parseWholeNumber(String input, int digitsStart, boolean isNegative) {
+        int index = digitsStart;
+        while (index < input.length() - 1 && input.charAt(index) == '0') {
+            index++;
+        }
+
+        final int significantDigits = input.length() - index;
+        if (significantDigits < 19) {
+            long value = 0;
+            for (; index < input.length(); index++) {
+                value = value * 10 + (input.charAt(index) - '0');
+            }
+            value = isNegative ? -value : value;
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE
+                    ? new TypedValue(DataType.INTEGER, (int) value)
+                    : new TypedValue(DataType.LONG, value);
+        }
+
+        if (significantDigits == 19) {
+            final String limit = isNegative ? "9223372036854775808" : "9223372036854775807";
+            if (input.substring(index).compareTo(limit) <= 0) {
+                return new TypedValue(DataType.LONG, Long.parseLong(input));
+            }
+        }
+
+        // Too large for a long, but still a valid float.
+        return new TypedValue(DataType.FLOAT, Float.parseFloat(input));
+    }
+
+    /**
+     * Checks for a valid calendar date in the `yyyy-MM-dd` format starting at the given offset.
+     */
+    private static boolean isDate(String input, int offset) {
+        if (!hasDigits(input, offset, 4) || input.charAt(offset + 4) != '-'
+                || !hasDigits(input, offset + 5, 2) || input.charAt(offset + 7) != '-'
+                || !hasDigits(input, offset + 8, 2)) {
+            return false;
+        }
+
+        final int year = toNumber(input, offset, 4);
+        final int month = toNumber(input, offset + 5, 2);
+        final int day = toNumber(input, offset + 8, 2);
+
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * Checks for a valid time of day in the `HH:mm:ss` format starting at the given offset.
+     */
+    private static boolean isTime(String input, int offset) {
+        if (!hasDigits(input, offset, 2) || input.charAt(offset + 2) != ':'
+                || !hasDigits(input, offset + 3, 2) || input.charAt(offset + 5) != ':'
+                || !hasDigits(input, offset + 6, 2)) {
+            return false;
+        }
+
+        return toNumber(input, offset, 2) <= 23
+                && toNumber(input, offset + 3, 2) <= 59
+                && toNumber(input, offset + 6, 2) <= 59;
+    }
+
+    private static LocalDate toDate(String input, int offset) {
+        return LocalDate.of(toNumber(input, offset, 4), toNumber(input, offset + 5, 2), toNumber(input, offset + 8, 2));
+    }
+
+    private static LocalTime toTime(String input, int offset) {
+        return LocalTime.of(toNumber(input, offset, 2), toNumber(input, offset + 3, 2), toNumber(input, offset + 6, 2));
+    }
+
+    private static boolean hasDigits(String input, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            if (!isDigit(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toNumber(String input, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            value = value * 10 + (input.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Replaces the `?` placeholders in the input with the given replacements, in order, writing the whole result in a
+     * single pass. Placeholders beyond the available replacements are left as they are.
+     *
+     * @param input          JSON body with a `?` in place of every binding
+     * @param replacements   Evaluated values of the bindings, in the order of their placeholders
+     * @param insertedParams List to which each replacement and its detected data type is added
+     * @return The JSON body with all the replacements substituted
+     */
+    public static String jsonSmartReplacementQuestionWithValues(String input,
+                                                                List<String> replacements,
+                                                                List<Map.Entry<String, String>> insertedParams) {
+
+        final StringBuilder result = new StringBuilder(input.length());
+        int start = 0;
+
+        for (String replacement : replacements) {
+            final String value = getJsonSmartReplacementValue(replacement, insertedParams);
+
+            final int index = input.indexOf('?', start);
+            if (index < 0) {
+                continue;
+            }
+
+            result.append(input, start, index).append(value);
+            // Continue searching after this placeholder, so that a `?` inside an inserted value is never replaced.
+            start = index + 1;
+        }
+
+        return result.append(input, start, input.length()).toString();
+    }
+
+    private static String getJsonSmartReplacementValue(String replacement,
+                                                       List<Map.Entry<String, String>> insertedParams) {
 
         DataType dataType = DataTypeStringUtils.stringToKnownDataTypeConverter(replacement);
 
@@ -199,12 +360,11 @@ public class DataTypeStringUtils {
             case DOUBLE:
             case NULL:
             case BOOLEAN:
-                input = questionPattern.matcher(input).replaceFirst(String.valueOf(replacement));
-                break;
+                return String.valueOf(replacement);
             case ARRAY:
                 try {
                     JSONArray jsonArray = (JSONArray) parser.parse(replacement);
-                    input = questionPattern.matcher(input).replaceFirst(String.valueOf(objectMapper.writeValueAsString(jsonArray)));
+                    return objectMapper.writeValueAsString(jsonArray);
                 } catch (net.minidev.json.parser.ParseException | JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -214,13 +374,10 @@ public class DataTypeStringUtils {
                             )
                     );
                 }
-                break;
             case JSON_OBJECT:
                 try {
                     JSONObject jsonObject = (JSONObject) parser.parse(replacement);
-                    String jsonString = String.valueOf(objectMapper.writeValueAsString(jsonObject));
-                    // Adding Matcher.quoteReplacement so that "/" and "$" in the string are escaped during replacement
-                    input = questionPattern.matcher(input).replaceFirst(Matcher.quoteReplacement(jsonString));
+                    return objectMapper.writeValueAsString(jsonObject);
                 } catch (net.minidev.json.parser.ParseException | JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -230,10 +387,8 @@ public class DataTypeStringUtils {
                             )
                     );
                 }
-                break;
             case BSON:
-                input = questionPattern.matcher(input).replaceFirst(Matcher.quoteReplacement(replacement));
-                break;
+                return replacement;
             case DATE:
             case TIME:
             case ASCII:
@@ -242,9 +397,7 @@ public class DataTypeStringUtils {
             case STRING:
             default:
                 try {
-                    replacement = escapeSpecialCharacters(replacement);
-                    String valueAsString = objectMapper.writeValueAsString(replacement);
-                    input = questionPattern.matcher(input).replaceFirst(valueAsString);
+                    return objectMapper.writeValueAsString(replacement);
                 } catch (JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -255,21 +408,6 @@ public class DataTypeStringUtils {
                     );
                 }
         }
-
-        return input;
-    }
-
-    private static String escapeSpecialCharacters(String raw) {
-        String escaped = raw;
-        escaped = escaped.replace("\\", "\\\\");
-        escaped = escaped.replace("\"", "\\\"");
-        escaped = escaped.replace("\b", "\\b");
-        escaped = escaped.replace("\f", "\\f");
-        escaped = escaped.replace("\n", "\\n");
-        escaped = escaped.replace("\r", "\\r");
-        escaped = escaped.replace("\t", "\\t");
-        // TODO: escape other non-printing characters using uXXXX notation
-        return escaped;
     }
 
     private static boolean isBinary(String input) {
@@ -295,22 +433,27 @@ public class DataTypeStringUtils {
                             isPrimitiveOrWrapper(((Map.Entry)e).getValue().getClass())));
         }
         else if (data instanceof JsonNode) {
-            // Check if the data is an array of simple json objects
-            try {
-                objectMapper.convertValue(data, new TypeReference<List<Map<String, String>>>() {});
-                return true;
-            } catch (IllegalArgumentException e) {
+            // Check if the data is an array of simple json objects, by walking the already parsed tree.
+            JsonNode node = (JsonNode) data;
+            if (!node.isArray()) {
                 return false;
             }
-        }
-        else if (data instanceof String) {
-            // Check if the data is an array of simple json objects
-            try {
-                objectMapper.readValue((String)data, new TypeReference<List<Map<String, String>>>() {});
-                return true;
-            } catch (IOException e) {
-                return false;
+
+            for (JsonNode item : node) {
+                if (item.isNull()) {
+                    continue;
+                }
+                if (!item.isObject()) {
+                    return false;
+                }
+                for (JsonNode value : item) {
+                    if (!value.isValueNode()) {
+                        return false;
+                    }
+                }
             }
+
+            return true;
         }
 
         return false;
@@ -321,19 +464,7 @@ public class DataTypeStringUtils {
          * - Any non string non primitive object is converted into a json when serializing.
          * - https://stackoverflow.com/questions/25039080/java-how-to-determine-if-type-is-any-of-primitive-wrapper-string-or-something/25039320
          */
-        if (!isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String)) {
-            return true;
-        }
-        else if (data instanceof String) {
-            try {
-                objectMapper.readTree((String)data);
-                return true;
-            } catch (IOException e) {
-                return false;
-            }
-        }
-
-        return false;
+        return !isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String);
     }
 
     public static List<ParsedDataType> getDisplayDataTypes(Object data) {
@@ -344,6 +475,22 @@ public class DataTypeStringUtils {
 
         List<ParsedDataType> dataTypes = new ArrayList<>();
 
+        // Parse string bodies only once here, and check for both table and json on the parsed tree. Large API responses
+        // used to be parsed once for each of these checks.
+        if (data instanceof String) {
+            try {
+                data = objectMapper.readTree((String) data);
+            } catch (IOException e) {
+                // Not a valid json, so it can only be displayed as raw.
+                data = null;
+            }
+
+            if (data == null) {
+                dataTypes.add(new ParsedDataType(DisplayDataType.RAW));
+                return dataTypes;
+            }
+        }
+
         // Check if the data is a valid table.
         if (isDisplayTypeTable(data)) {
             dataTypes.add(new ParsedDataType(DisplayDataType.TABLE));
@@ -0,0 +1,19 @@
+package com.appsmith.external.models;
+
+import com.appsmith.external.constants.DataType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The value of a binding along with its detected data type. The value is already parsed into the Java type of its data
+ * type: Integer, Long, Float, Boolean, LocalDate, LocalTime or LocalDateTime, null for NULL, and the input string for
+ * all the other data types.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TypedValue {
+    private final DataType dataType;
+    private final Object value;
+}
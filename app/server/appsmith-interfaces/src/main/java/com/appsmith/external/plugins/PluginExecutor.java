@@ -12,10 +12,16 @@ import org.pf4j.ExtensionPoint;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * The methods of a plugin executor are called from the server's event loop threads. Any blocking work, including
+ * checking a connection out of a pool, must happen inside the returned Mono, subscribed to on a worker scheduler, see
+ * {@link com.appsmith.external.helpers.BlockingResourceUtils}.
+ */
 public interface PluginExecutor<C> extends ExtensionPoint {
 
     /**
@@ -41,7 +47,8 @@ public interface PluginExecutor<C> extends ExtensionPoint {
     Mono<C> datasourceCreate(DatasourceConfiguration datasourceConfiguration);
 
     /**
-     * This function is used to bring down/destroy the connection to the data source.
+     * This function is used to bring down/destroy the connection to the data source. It shouldn't block the calling
+     * thread, so a blocking close has to be scheduled on a worker scheduler.
      *
      * @param connection
      */
@@ -93,6 +100,67 @@ public interface PluginExecutor<C> extends ExtensionPoint {
         return Mono.empty();
     }
 
+    /**
+     * This function fetches only the names and types of the tables/collections in the datasource, without their
+     * columns, keys and templates. It's meant for datasources with so many tables that fetching the complete structure
+     * of all of them is slow. The default implementation fetches the complete structure and strips it, so plugins that
+     * can list their tables cheaply should override this.
+     *
+     * @param connection
+     * @param datasourceConfiguration
+     * @return
+     */
+    default Mono<DatasourceStructure> getTables(C connection, DatasourceConfiguration datasourceConfiguration) {
+        return getStructure(connection, datasourceConfiguration)
+                .map(structure -> {
+                    if (structure.getTables() == null) {
+                        return structure;
+                    }
+
+                    return new DatasourceStructure(structure.getTables()
+                            .stream()
+                            .map(table -> new DatasourceStructure.Table(
+                                    table.getType(),
+                                    table.getSchema(),
+                                    table.getName(),
+                                    new ArrayList<>(),
+                                    new ArrayList<>(),
+                                    new ArrayList<>()
+                            ))
+                            .collect(Collectors.toList()));
+                });
+    }
+
+    /**
+     * This function fetches the complete structure of only the given tables/collections in the datasource, named as in
+     * the result of {@link #getTables}. The default implementation fetches the complete structure of all the tables and
+     * filters it, so plugins that can query the structure of selected tables should override this.
+     *
+     * @param connection
+     * @param datasourceConfiguration
+     * @param tableNames Names of the tables to fetch the structure of. All the tables are fetched if this is null.
+     * @return
+     */
+    default Mono<DatasourceStructure> getStructure(C connection,
+                                                   DatasourceConfiguration datasourceConfiguration,
+                                                   Set<String> tableNames) {
+        if (tableNames == null) {
+            return getStructure(connection, datasourceConfiguration);
+        }
+
+        return getStructure(connection, datasourceConfiguration)
+                .map(structure -> {
+                    if (structure.getTables() == null) {
+                        return structure;
+                    }
+
+                    return new DatasourceStructure(structure.getTables()
+                            .stream()
+                            .filter(table -> tableNames.contains(table.getName()))
+                            .collect(Collectors.toList()));
+                });
+    }
+
     /**
      * Appsmith Server calls this function for execution of the action.
      * Default implementation which takes the variables that need to be substituted and then calls the plugin execute function
@@ -4,9 +4,11 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Param;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public interface SmartSubstitutionInterface {
 
@@ -27,27 +29,52 @@ public interface SmartSubstitutionInterface {
                                                List<Map.Entry<String, String>> insertedParams,
                                                Object... args) throws AppsmithPluginException {
 
-        if (mustacheValuesInOrder != null && !mustacheValuesInOrder.isEmpty()) {
-
-            for (int i = 0; i < mustacheValuesInOrder.size(); i++) {
-                String key = mustacheValuesInOrder.get(i);
-                Optional<Param> matchingParam = evaluatedParams.stream().filter(param -> param.getKey().trim().equals(key)).findFirst();
-
-                // If the evaluated value of the mustache binding is present, set it in the prepared statement
-                if (matchingParam.isPresent()) {
-                    String value = matchingParam.get().getValue();
-                    input = substituteValueInInput(i + 1, key,
-                            value, input, insertedParams, args);
-                } else {
-                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Uh oh! This is unexpected. " +
-                            "Did not receive any information for the binding "
-                            + key + ". Please contact customer support at Appsmith.");
-                }
-            }
+        List<String> values = getBindingValuesInOrder(mustacheValuesInOrder, evaluatedParams);
+
+        for (int i = 0; i < values.size(); i++) {
+            input = substituteValueInInput(i + 1, mustacheValuesInOrder.get(i),
+                    values.get(i), input, insertedParams, args);
         }
         return input;
     }
 
+    /**
+     * Looks up the evaluated value of every binding, in order and including duplicates. Plugins that substitute all
+     * the values into their input in a single pass use this instead of {@link #smartSubstitutionOfBindings}.
+     * @param mustacheValuesInOrder Keys of the bindings, in the order they appear in the input
+     * @param evaluatedParams       Evaluated values of the bindings, sent by the client
+     * @return The value of every binding, at the same index as its key
+     * @throws AppsmithPluginException if any of the bindings does not have an evaluated value
+     */
+    default List<String> getBindingValuesInOrder(List<String> mustacheValuesInOrder,
+                                                 List<Param> evaluatedParams) throws AppsmithPluginException {
+
+        if (mustacheValuesInOrder == null || mustacheValuesInOrder.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // The first param with a matching key wins, same as looking each binding up in the list.
+        Map<String, String> valuesByKey = new HashMap<>();
+        for (Param param : evaluatedParams) {
+            String key = param.getKey().trim();
+            if (!valuesByKey.containsKey(key)) {
+                valuesByKey.put(key, param.getValue());
+            }
+        }
+
+        List<String> values = new ArrayList<>(mustacheValuesInOrder.size());
+        for (String key : mustacheValuesInOrder) {
+            if (!valuesByKey.containsKey(key)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Uh oh! This is unexpected. " +
+                        "Did not receive any information for the binding "
+                        + key + ". Please contact customer support at Appsmith.");
+            }
+            values.add(valuesByKey.get(key));
+        }
+
+        return values;
+    }
+
     // Default implementation does not do any substitution. The plugin doing intelligent substitution is responsible
     // for overriding this function.
     default Object substituteValueInInput(int index, String binding, String value, Object input,
@@ -1,8 +1,22 @@
 package com.appsmith.external.helpers;
 
 import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.DisplayDataType;
+import com.appsmith.external.models.ParsedDataType;
+import com.appsmith.external.models.TypedValue;
 import org.junit.Test;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.getDisplayDataTypes;
+import static com.appsmith.external.helpers.DataTypeStringUtils.jsonSmartReplacementQuestionWithValues;
+import static com.appsmith.external.helpers.DataTypeStringUtils.parseToKnownDataType;
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,6 +38,74 @@ public class DataTypeStringUtilsTest {
         assertThat(dataType).isEqualByComparingTo(DataType.DATE);
     }
 
+    @Test
+    public void checkTimeDataType() {
+        assertThat(stringToKnownDataTypeConverter("14:05:34")).isEqualByComparingTo(DataType.TIME);
+        assertThat(stringToKnownDataTypeConverter("24:05:34")).isEqualByComparingTo(DataType.STRING);
+    }
+
+    @Test
+    public void checkInvalidDatesAreStrings() {
+        assertThat(stringToKnownDataTypeConverter("2021-02-30")).isEqualByComparingTo(DataType.STRING);
+        assertThat(stringToKnownDataTypeConverter("2021-13-01")).isEqualByComparingTo(DataType.STRING);
+        assertThat(stringToKnownDataTypeConverter("2020-02-29")).isEqualByComparingTo(DataType.DATE);
+        assertThat(stringToKnownDataTypeConverter("2021-03-24T14:05:34Z")).isEqualByComparingTo(DataType.STRING);
+    }
+
+    @Test
+    public void checkNumericDataTypes() {
+        assertThat(stringToKnownDataTypeConverter("-2147483648")).isEqualByComparingTo(DataType.INTEGER);
+        assertThat(stringToKnownDataTypeConverter("+007")).isEqualByComparingTo(DataType.INTEGER);
+        assertThat(stringToKnownDataTypeConverter("2147483648")).isEqualByComparingTo(DataType.LONG);
+        assertThat(stringToKnownDataTypeConverter("-9223372036854775808")).isEqualByComparingTo(DataType.LONG);
+        assertThat(stringToKnownDataTypeConverter("9223372036854775808")).isEqualByComparingTo(DataType.FLOAT);
+        assertThat(stringToKnownDataTypeConverter("-.5e-3")).isEqualByComparingTo(DataType.FLOAT);
+        assertThat(stringToKnownDataTypeConverter("1.5f")).isEqualByComparingTo(DataType.FLOAT);
+        assertThat(stringToKnownDataTypeConverter("NaN")).isEqualByComparingTo(DataType.FLOAT);
+        assertThat(stringToKnownDataTypeConverter("1e")).isEqualByComparingTo(DataType.STRING);
+        assertThat(stringToKnownDataTypeConverter("1.2.3")).isEqualByComparingTo(DataType.STRING);
+        assertThat(stringToKnownDataTypeConverter("-")).isEqualByComparingTo(DataType.STRING);
+    }
+
+    @Test
+    public void checkParsedValuesOfKnownDataTypes() {
+        // Each row is an input, the data type it should be detected as and the value it should be parsed into.
+        final Object[][] cases = {
+                {"42", DataType.INTEGER, 42},
+                {" -2147483648 ", DataType.INTEGER, Integer.MIN_VALUE},
+                {"+007", DataType.INTEGER, 7},
+                {"2147483648", DataType.LONG, 2147483648L},
+                {"-9223372036854775808", DataType.LONG, Long.MIN_VALUE},
+                {"9223372036854775807", DataType.LONG, Long.MAX_VALUE},
+                {"9223372036854775808", DataType.FLOAT, 9223372036854775808f},
+                {"-.5e-3", DataType.FLOAT, -.5e-3f},
+                {"1.5f", DataType.FLOAT, 1.5f},
+                {"NaN", DataType.FLOAT, Float.NaN},
+                {"TRUE", DataType.BOOLEAN, true},
+                {"false", DataType.BOOLEAN, false},
+                {"null", DataType.NULL, null},
+                {null, DataType.NULL, null},
+                {"[]", DataType.NULL, null},
+                {"[1, 2]", DataType.ARRAY, "[1, 2]"},
+                {"2020-02-29", DataType.DATE, LocalDate.of(2020, 2, 29)},
+                {"14:05:34", DataType.TIME, LocalTime.of(14, 5, 34)},
+                {"2021-03-24 14:05:34", DataType.TIMESTAMP, LocalDateTime.of(2021, 3, 24, 14, 5, 34)},
+                {"2021-02-30", DataType.STRING, "2021-02-30"},
+                {"{\"a\": 1}", DataType.JSON_OBJECT, "{\"a\": 1}"},
+                {"{a: ObjectId(\"60a2d1f8f3a3a40b2c1f4a11\")}", DataType.BSON, "{a: ObjectId(\"60a2d1f8f3a3a40b2c1f4a11\")}"},
+                {"1.2.3", DataType.STRING, "1.2.3"},
+        };
+
+        for (Object[] testCase : cases) {
+            final String input = (String) testCase[0];
+            final TypedValue typedValue = parseToKnownDataType(input);
+
+            assertThat(typedValue.getDataType()).as(String.valueOf(input)).isEqualByComparingTo((DataType) testCase[1]);
+            assertThat(typedValue.getValue()).as(String.valueOf(input)).isEqualTo(testCase[2]);
+            assertThat(stringToKnownDataTypeConverter(input)).as(String.valueOf(input)).isEqualByComparingTo((DataType) testCase[1]);
+        }
+    }
+
     @Test
     public void checkBooleanDataType() {
         String boolInput = "true";
@@ -152,4 +234,43 @@ public class DataTypeStringUtilsTest {
         assertThat(DataType.JSON_OBJECT).isEqualByComparingTo(stringToKnownDataTypeConverter("{\"a\": \"\"}"));
         assertThat(DataType.JSON_OBJECT).isEqualByComparingTo(stringToKnownDataTypeConverter("{\"a\": []}"));
     }
+
+    @Test
+    public void testJsonSmartReplacementWithValuesInSinglePass() {
+        List<Map.Entry<String, String>> insertedParams = new ArrayList<>();
+        String body = "{\"name\": ?, \"age\": ?, \"tags\": ?, \"address\": ?}";
+
+        String result = jsonSmartReplacementQuestionWithValues(
+                body,
+                List.of("Who? $1", "42", "[\"a\", \"b\\\"c\"]", "{\"city\": \"Paris\"}"),
+                insertedParams
+        );
+
+        // The `?` inside the first value must not be taken as the placeholder for the second one.
+        assertThat(result).isEqualTo(
+                "{\"name\": \"Who? $1\", \"age\": 42, \"tags\": [\"a\",\"b\\\"c\"], \"address\": {\"city\":\"Paris\"}}");
+        assertThat(insertedParams).hasSize(4);
+        assertThat(insertedParams.get(0).getValue()).isEqualTo("STRING");
+        assertThat(insertedParams.get(1).getValue()).isEqualTo("INTEGER");
+        assertThat(insertedParams.get(2).getValue()).isEqualTo("ARRAY");
+        assertThat(insertedParams.get(3).getValue()).isEqualTo("JSON_OBJECT");
+    }
+
+    private List<DisplayDataType> displayDataTypes(Object data) {
+        return getDisplayDataTypes(data).stream().map(ParsedDataType::getDataType).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testDisplayDataTypesOfStringBodies() {
+        assertThat(displayDataTypes("[{\"a\": 1, \"b\": \"x\"}, null, {\"c\": true}]"))
+                .containsExactly(DisplayDataType.TABLE, DisplayDataType.JSON, DisplayDataType.RAW);
+        assertThat(displayDataTypes("[{\"a\": {\"nested\": 1}}]"))
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+        assertThat(displayDataTypes("[1, 2]"))
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+        assertThat(displayDataTypes("{\"a\": 1}"))
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+        assertThat(displayDataTypes("not json"))
+                .containsExactly(DisplayDataType.RAW);
+    }
 }
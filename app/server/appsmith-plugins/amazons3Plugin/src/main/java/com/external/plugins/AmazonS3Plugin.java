@@ -20,6 +20,7 @@ import com.amazonaws.util.IOUtils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -38,7 +39,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -89,7 +89,7 @@ public class AmazonS3Plugin extends BasePlugin {
     @Slf4j
     @Extension
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3> {
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("amazons3-plugin");
 
         /*
          * - Exception thrown by this method is expected to be handled by the caller.
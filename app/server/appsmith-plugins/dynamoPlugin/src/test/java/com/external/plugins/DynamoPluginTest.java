@@ -12,7 +12,9 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.GenericContainer;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -57,6 +59,9 @@ public class DynamoPluginTest {
 
     @BeforeClass
     public static void setUp() {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         final String host = "localhost";
         final Integer port = container.getMappedPort(8000);
 
@@ -464,4 +469,23 @@ public class DynamoPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testExecuteDoesNotBlockTheCallingThread() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("ListTables");
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop. Calling the blocking
+        // DynamoDB client there would fail the execution.
+        Mono<ActionExecutionResult> executeMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> Mono
+                        .defer(() -> pluginExecutor.execute(conn, dsConfig, actionConfiguration))
+                        .subscribeOn(Schedulers.parallel())
+                );
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+    }
 }
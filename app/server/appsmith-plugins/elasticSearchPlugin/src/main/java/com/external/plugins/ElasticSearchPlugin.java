@@ -2,6 +2,7 @@ package com.external.plugins;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -12,6 +13,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
@@ -23,8 +25,10 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.Cancellable;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.pf4j.Extension;
@@ -34,9 +38,9 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -45,6 +49,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
@@ -59,7 +67,13 @@ public class ElasticSearchPlugin extends BasePlugin {
     @Extension
     public static class ElasticSearchPluginExecutor implements PluginExecutor<RestClient> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("elasticsearch-plugin");
+
+        // Scrolling stops once at least this many hits have been collected, so that a search can't fill up the server's
+        // heap.
+        private static final int MAX_SCROLLED_HITS = 10000;
+
+        private static final Pattern SCROLL_PARAMETER_PATTERN = Pattern.compile("(?:^|&)scroll=([^&]+)");
 
         @Override
         public Mono<ActionExecutionResult> execute(RestClient client,
@@ -113,19 +127,23 @@ public class ElasticSearchPlugin extends BasePlugin {
                     request.setEntity(new NStringEntity(body, contentType));
                 }
 
-                try {
-                    final String responseBody = new String(
-                            client.performRequest(request).getEntity().getContent().readAllBytes());
-                    result.setBody(objectMapper.readValue(responseBody, HashMap.class));
-                } catch (IOException e) {
-                    final String message = "Error performing request: " + e.getMessage();
-                    log.warn(message, e);
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message));
-                }
+                final String scrollKeepAlive = getScrollKeepAlive(httpMethod, path);
+                final Mono<Map<String, Object>> responseBodyMono = scrollKeepAlive == null
+                        ? performRequest(client, request)
+                        : performScrolledSearch(client, request, scrollKeepAlive, result);
 
-                result.setIsExecutionSuccess(true);
-                System.out.println(Thread.currentThread().getName() + ": In the Elastic Search Plugin, got action execution result");
-                return Mono.just(result);
+                return responseBodyMono
+                        .onErrorMap(IOException.class, e -> {
+                            final String message = "Error performing request: " + e.getMessage();
+                            log.warn(message, e);
+                            return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+                        })
+                        .map(responseBody -> {
+                            result.setBody(responseBody);
+                            result.setIsExecutionSuccess(true);
+                            System.out.println(Thread.currentThread().getName() + ": In the Elastic Search Plugin, got action execution result");
+                            return result;
+                        });
             })
                     .flatMap(obj -> obj)
                     .map(obj -> (ActionExecutionResult) obj)
@@ -148,6 +166,158 @@ public class ElasticSearchPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Sends the request without blocking the calling thread; the response is handed over by the client's I/O
+         * threads. Cancelling the returned Mono aborts the request.
+         */
+        private static Mono<Response> sendRequest(RestClient client, Request request) {
+            return Mono.create(sink -> {
+                final Cancellable cancellable = client.performRequestAsync(request, new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        sink.success(response);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        sink.error(exception);
+                    }
+                });
+                sink.onCancel(cancellable::cancel);
+            });
+        }
+
+        /**
+         * Sends the request and parses the JSON response, reading it straight from the response entity, without
+         * copying it into a String first. Parsing happens on the plugin's scheduler, not on the client's I/O threads.
+         */
+        private Mono<Map<String, Object>> performRequest(RestClient client, Request request) {
+            return sendRequest(client, request)
+                    .publishOn(scheduler)
+                    .flatMap(response -> Mono.fromCallable(() -> {
+                        try (InputStream content = response.getEntity().getContent()) {
+                            return (Map<String, Object>) objectMapper.readValue(content, HashMap.class);
+                        }
+                    }));
+        }
+
+        /**
+         * A search made with a `scroll` parameter, e.g., `POST /index/_search?scroll=1m`, returns its hits a page at a
+         * time. Instead of users asking for one huge page, the hits of all the pages are collected into the response
+         * of the first page. Only one page is requested at a time, and no more pages are requested once
+         * {@link #MAX_SCROLLED_HITS} hits have been collected. In that case the scroll is kept open, and its
+         * `_scroll_id` is left in the response, so that users can fetch the rest of the hits from where it stopped.
+         * Otherwise, the scroll is cleared in the end, however it ends.
+         */
+        private Mono<Map<String, Object>> performScrolledSearch(RestClient client,
+                                                                Request request,
+                                                                String scrollKeepAlive,
+                                                                ActionExecutionResult result) {
+            return performRequest(client, request)
+                    .flatMap(firstPage -> {
+                        final List<Object> hits = getHits(firstPage);
+                        if (hits == null) {
+                            return Mono.just(firstPage);
+                        }
+
+                        final AtomicReference<String> scrollId = new AtomicReference<>();
+                        // Set once a page without hits, or without a scroll id, shows that there is nothing more to fetch.
+                        final AtomicBoolean isScrollExhausted = new AtomicBoolean(false);
+                        final AtomicBoolean isScrollKept = new AtomicBoolean(false);
+                        return Mono.just(firstPage)
+                                .expand(page -> {
+                                    if (page.get("_scroll_id") != null) {
+                                        scrollId.set((String) page.get("_scroll_id"));
+                                    }
+                                    if (CollectionUtils.isEmpty(getHits(page)) || scrollId.get() == null) {
+                                        isScrollExhausted.set(true);
+                                        return Mono.empty();
+                                    }
+                                    if (hits.size() >= MAX_SCROLLED_HITS) {
+                                        return Mono.empty();
+                                    }
+
+                                    final Request scrollRequest = new Request("POST", "/_search/scroll");
+                                    scrollRequest.setJsonEntity(toJson(Map.of(
+                                            "scroll", scrollKeepAlive,
+                                            "scroll_id", scrollId.get()
+                                    )));
+                                    return performRequest(client, scrollRequest)
+                                            .doOnNext(nextPage -> {
+                                                final List<Object> nextHits = getHits(nextPage);
+                                                if (nextHits != null) {
+                                                    hits.addAll(nextHits);
+                                                }
+                                            });
+                                })
+                                .then(Mono.fromCallable(() -> {
+                                    if (isScrollExhausted.get()) {
+                                        // The scroll is cleared below, its id is of no use to the user.
+                                        firstPage.remove("_scroll_id");
+                                    } else {
+                                        // All the collected hits are kept, so that scrolling on from the latest scroll
+                                        // id doesn't skip any.
+                                        isScrollKept.set(true);
+                                        firstPage.put("_scroll_id", scrollId.get());
+                                        result.setMessages(Set.of(String.format("Scrolling stopped after %d hits, " +
+                                                "there may be more. Use the `_scroll_id` in the response to fetch " +
+                                                "the rest.", hits.size())));
+                                    }
+                                    return firstPage;
+                                }))
+                                .doFinally(signalType -> {
+                                    if (!isScrollKept.get()) {
+                                        clearScroll(client, scrollId.get());
+                                    }
+                                });
+                    });
+        }
+
+        private static void clearScroll(RestClient client, String scrollId) {
+            if (scrollId == null) {
+                return;
+            }
+
+            final Request request = new Request("DELETE", "/_search/scroll");
+            request.setJsonEntity(toJson(Map.of("scroll_id", scrollId)));
+            sendRequest(client, request)
+                    .subscribe(
+                            null,
+                            error -> log.warn("Error clearing ElasticSearch scroll.", error)
+                    );
+        }
+
+        private static List<Object> getHits(Map<String, Object> searchResponse) {
+            final Object hits = searchResponse.get("hits");
+            return hits instanceof Map ? (List<Object>) ((Map<String, Object>) hits).get("hits") : null;
+        }
+
+        private static String toJson(Object value) {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        /**
+         * @return The value of the `scroll` parameter of a search request, or null if the request is not a search or
+         * doesn't have one
+         */
+        private static String getScrollKeepAlive(HttpMethod httpMethod, String path) {
+            if (httpMethod != HttpMethod.GET && httpMethod != HttpMethod.POST) {
+                return null;
+            }
+
+            final String[] pathAndQuery = path.split("\\?", 2);
+            if (pathAndQuery.length < 2 || !pathAndQuery[0].matches(".*\\b_search$")) {
+                return null;
+            }
+
+            final Matcher matcher = SCROLL_PARAMETER_PATTERN.matcher(pathAndQuery[1]);
+            return matcher.find() ? matcher.group(1) : null;
+        }
+
         private static boolean isBulkQuery(String path) {
             return path.split("\\?", 1)[0].matches(".*\\b_bulk$");
         }
@@ -247,9 +417,9 @@ public class ElasticSearchPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .map(client -> {
+                    .flatMap(client -> {
                         if (client == null) {
-                            return new DatasourceTestResult("Null client object to ElasticSearch.");
+                            return Mono.just(new DatasourceTestResult("Null client object to ElasticSearch."));
                         }
 
                         // This HEAD request is to check if an index exists. It response with 200 if the index exists,
@@ -257,27 +427,28 @@ public class ElasticSearchPlugin extends BasePlugin {
                         // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
                         Request request = new Request("HEAD", "/potentially-missing-index?local=true");
 
-                        final Response response;
-                        try {
-                            response = client.performRequest(request);
-                        } catch (IOException e) {
-                            return new DatasourceTestResult("Error running HEAD request: " + e.getMessage());
-                        }
-
-                        final StatusLine statusLine = response.getStatusLine();
-
-                        try {
-                            client.close();
-                        } catch (IOException e) {
-                            log.warn("Error closing ElasticSearch client that was made for testing.", e);
-                        }
-
-                        if (statusLine.getStatusCode() != 404 && statusLine.getStatusCode() != 200) {
-                            return new DatasourceTestResult(
-                                    "Unexpected response from ElasticSearch: " + statusLine);
-                        }
-
-                        return new DatasourceTestResult();
+                        return sendRequest(client, request)
+                                // The client can't be closed from one of its own I/O threads, which the response is
+                                // published on.
+                                .publishOn(scheduler)
+                                .map(response -> {
+                                    final StatusLine statusLine = response.getStatusLine();
+                                    if (statusLine.getStatusCode() != 404 && statusLine.getStatusCode() != 200) {
+                                        return new DatasourceTestResult(
+                                                "Unexpected response from ElasticSearch: " + statusLine);
+                                    }
+
+                                    return new DatasourceTestResult();
+                                })
+                                .onErrorResume(IOException.class, e -> Mono.just(
+                                        new DatasourceTestResult("Error running HEAD request: " + e.getMessage())))
+                                .doFinally(signalType -> {
+                                    try {
+                                        client.close();
+                                    } catch (IOException e) {
+                                        log.warn("Error closing ElasticSearch client that was made for testing.", e);
+                                    }
+                                });
                     })
                     .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage())))
                     .subscribeOn(scheduler);
@@ -7,6 +7,8 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NStringEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RestClient;
 import org.junit.Assert;
@@ -16,7 +18,9 @@ import org.junit.Test;
 import org.springframework.http.HttpMethod;
 import org.testcontainers.elasticsearch.ElasticsearchContainer;
 import org.testcontainers.utility.DockerImageName;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
@@ -25,6 +29,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
@@ -47,6 +52,9 @@ public class ElasticSearchPluginTest {
 
     @BeforeClass
     public static void setUp() throws IOException {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         port = container.getMappedPort(9200);
         host = "http://" + container.getContainerIpAddress();
 
@@ -68,6 +76,18 @@ public class ElasticSearchPluginTest {
         request.setJsonEntity("{\"name\": \"Earth\"}");
         client.performRequest(request);
 
+        request = new Request("POST", "/moons/_bulk");
+        request.addParameter("refresh", "true");
+        request.setEntity(new NStringEntity(
+                "{\"index\": {\"_id\": \"1\"}}\n{\"name\": \"Moon\"}\n" +
+                        "{\"index\": {\"_id\": \"2\"}}\n{\"name\": \"Phobos\"}\n" +
+                        "{\"index\": {\"_id\": \"3\"}}\n{\"name\": \"Deimos\"}\n" +
+                        "{\"index\": {\"_id\": \"4\"}}\n{\"name\": \"Io\"}\n" +
+                        "{\"index\": {\"_id\": \"5\"}}\n{\"name\": \"Europa\"}\n",
+                ContentType.create("application/x-ndjson")
+        ));
+        client.performRequest(request);
+
         client.close();
 
         dsConfig.setEndpoints(List.of(new Endpoint(host, port.longValue())));
@@ -136,6 +156,28 @@ public class ElasticSearchPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testScrolledSearch() {
+        final String contentJson = "{\"size\": 2, \"sort\": [\"_doc\"], \"query\": {\"match_all\": {}}}";
+        StepVerifier.create(execute(HttpMethod.POST, "/moons/_search?scroll=1m", contentJson))
+                .assertNext(result -> {
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+                    final Map<String, Object> resultBody = (Map) result.getBody();
+                    // All the pages of two hits each are collected into one response.
+                    final List<Map> hits = ((Map<String, List<Map>>) resultBody.get("hits")).get("hits");
+                    assertEquals(5, hits.size());
+                    assertEquals(
+                            Set.of("Moon", "Phobos", "Deimos", "Io", "Europa"),
+                            hits.stream()
+                                    .map(hit -> ((Map<String, String>) hit.get("_source")).get("name"))
+                                    .collect(Collectors.toSet())
+                    );
+                    assertFalse(resultBody.containsKey("_scroll_id"));
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testPutCreate() {
         final String contentJson = "{\"name\": \"Pluto\"}";
@@ -304,4 +346,24 @@ public class ElasticSearchPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testExecuteDoesNotBlockTheCallingThread() {
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setPath("/planets/doc/id1");
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop. Calling the blocking
+        // REST client there would fail the execution.
+        Mono<ActionExecutionResult> executeMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> Mono
+                        .defer(() -> pluginExecutor.execute(conn, dsConfig, actionConfiguration))
+                        .subscribeOn(Schedulers.parallel())
+                );
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+    }
 }
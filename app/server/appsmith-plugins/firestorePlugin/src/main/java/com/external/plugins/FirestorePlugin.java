@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -17,6 +18,8 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.firestore.CollectionReference;
 import com.google.cloud.firestore.DocumentReference;
@@ -25,7 +28,9 @@ import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.Query;
 import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.cloud.FirestoreClient;
@@ -37,7 +42,6 @@ import org.springframework.util.CollectionUtils;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -50,7 +54,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -78,6 +81,9 @@ public class FirestorePlugin extends BasePlugin {
     private static final int FIELDVALUE_TIMESTAMP_PROPERTY_INDEX = 8;
     private static final int FIELDVALUE_DELETE_PROPERTY_INDEX = 9;
     private static final String FIELDVALUE_TIMESTAMP_METHOD_NAME = "serverTimestamp";
+    private static final String BATCH_ITEMS_KEY = "batchItems";
+    // Firestore doesn't allow more writes than this in a single batch.
+    private static final int MAX_BATCH_WRITE_SIZE = 500;
 
     public FirestorePlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -87,7 +93,7 @@ public class FirestorePlugin extends BasePlugin {
     @Extension
     public static class FirestorePluginExecutor implements PluginExecutor<Firestore> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("firestore-plugin");
 
         @Override
         @Deprecated
@@ -171,6 +177,16 @@ public class FirestorePlugin extends BasePlugin {
                         }
 
                         try {
+                            if (method.isBatch()) {
+                                /*
+                                 * - Batch methods take a JSON array. It's wrapped in a map, so that it goes through
+                                 *   the same checks as the body of the other methods.
+                                 */
+                                final HashMap<String, Object> batchBody = new HashMap<>();
+                                batchBody.put(BATCH_ITEMS_KEY, objectMapper.readValue(strBody, ArrayList.class));
+                                return Mono.just(batchBody);
+                            }
+
                             return Mono.just(objectMapper.readValue(strBody, HashMap.class));
                         } catch (IOException e) {
                             return Mono.error(new AppsmithPluginException(
@@ -213,8 +229,11 @@ public class FirestorePlugin extends BasePlugin {
                         try {
                             /*
                              * - Update mapBody with FieldValue.xyz() values if the FieldValue paths are provided.
+                             * - Not applicable to batch methods, whose body is a list of documents.
                              */
-                            insertFieldValues(mapBody, properties, method, requestParams);
+                            if (!method.isBatch()) {
+                                insertFieldValues(mapBody, properties, method, requestParams);
+                            }
                         } catch (AppsmithPluginException e) {
                             return Mono.error(e);
                         }
@@ -472,14 +491,7 @@ public class FirestorePlugin extends BasePlugin {
                         return Mono.just((ApiFuture<Object>) objFuture);
                     })
                     // Consume the Future to get the actual result object.
-                    .flatMap(resultFuture -> {
-                        try {
-
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
-                        }
-                    })
+                    .flatMap(FirestorePluginExecutor::toMono)
                     // Build a response object with the result.
                     .flatMap(objResult1 -> {
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -515,6 +527,14 @@ public class FirestorePlugin extends BasePlugin {
                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null, null, null));
                 return methodAddToCollection(collection, mapBody);
 
+            } else if (method == Method.GET_DOCUMENTS) {
+                requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null, null, null));
+                return methodGetDocuments(connection, collection, (List<Object>) mapBody.get(BATCH_ITEMS_KEY));
+
+            } else if (method == Method.BATCH_WRITE) {
+                requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null, null, null));
+                return methodBatchWrite(connection, collection, (List<Object>) mapBody.get(BATCH_ITEMS_KEY));
+
             }
 
             return Mono.error(new AppsmithPluginException(
@@ -660,13 +680,7 @@ public class FirestorePlugin extends BasePlugin {
                     // Run the Firestore query to get a Future of the results.
                     .map(Query::get)
                     // Consume the future to get the actual results.
-                    .flatMap(resultFuture -> {
-                        try {
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
-                        }
-                    })
+                    .flatMap(FirestorePluginExecutor::toMono)
                     // Build response object with the results from the Future.
                     .flatMap(objResult1 -> {
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -705,16 +719,7 @@ public class FirestorePlugin extends BasePlugin {
 
         private Mono<ActionExecutionResult> methodAddToCollection(CollectionReference collection, Map<String, Object> mapBody) {
             return Mono.justOrEmpty(collection.add(mapBody))
-                    .flatMap(future -> {
-                        try {
-                            return Mono.just(future.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_ERROR,
-                                    e.getMessage()
-                            ));
-                        }
-                    })
+                    .flatMap(FirestorePluginExecutor::toMono)
                     .flatMap(opResult -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         try {
@@ -731,6 +736,157 @@ public class FirestorePlugin extends BasePlugin {
                     });
         }
 
+        /**
+         * - Reads all the documents with the given keys, relative to the collection, in a single call.
+         * - Documents that don't exist are returned with just their reference.
+         */
+        private Mono<ActionExecutionResult> methodGetDocuments(Firestore connection,
+                                                               CollectionReference collection,
+                                                               List<Object> documentKeys) {
+            if (CollectionUtils.isEmpty(documentKeys)) {
+                return Mono.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "The method GET_DOCUMENTS needs a non-empty array of document keys as its body."
+                ));
+            }
+
+            final DocumentReference[] documents = new DocumentReference[documentKeys.size()];
+            for (int i = 0; i < documentKeys.size(); i++) {
+                final Object documentKey = documentKeys.get(i);
+                if (!(documentKey instanceof String) || StringUtils.isBlank((String) documentKey)) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "Document key at index " + i + " should be a non-empty string."
+                    ));
+                }
+                documents[i] = collection.document((String) documentKey);
+            }
+
+            return toMono(connection.getAll(documents))
+                    .flatMap(documentSnapshots -> buildResult(documentSnapshots, "get documents"));
+        }
+
+        /**
+         * - Applies all the given writes to documents of the collection atomically, in a single call. Every write is
+         *   of the form {"method": "SET_DOCUMENT", "documentKey": "key", "body": {...}}, where method is one of
+         *   SET_DOCUMENT, CREATE_DOCUMENT, UPDATE_DOCUMENT and DELETE_DOCUMENT.
+         * - Ref: https://firebase.google.com/docs/firestore/manage-data/transactions#batched-writes
+         */
+        private Mono<ActionExecutionResult> methodBatchWrite(Firestore connection,
+                                                             CollectionReference collection,
+                                                             List<Object> writes) {
+            if (CollectionUtils.isEmpty(writes)) {
+                return Mono.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "The method BATCH_WRITE needs a non-empty array of writes as its body."
+                ));
+            }
+
+            if (writes.size() > MAX_BATCH_WRITE_SIZE) {
+                return Mono.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "A batch can have at most " + MAX_BATCH_WRITE_SIZE + " writes, found " + writes.size() + "."
+                ));
+            }
+
+            final WriteBatch batch = connection.batch();
+            for (int i = 0; i < writes.size(); i++) {
+                try {
+                    addToBatch(batch, collection, writes.get(i));
+                } catch (AppsmithPluginException | IllegalArgumentException e) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "Invalid write at index " + i + ": " + e.getMessage()
+                    ));
+                }
+            }
+
+            return toMono(batch.commit())
+                    .flatMap(writeResults -> buildResult(writeResults, "batch write"));
+        }
+
+        private void addToBatch(WriteBatch batch, CollectionReference collection, Object write)
+                throws AppsmithPluginException {
+            if (!(write instanceof Map)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Expected an object with the method, documentKey and body of the write.");
+            }
+
+            final Map<String, Object> writeMap = (Map<String, Object>) write;
+            final Object methodName = writeMap.get("method");
+            final Object documentKey = writeMap.get("documentKey");
+            final Object body = writeMap.get("body");
+
+            if (!(documentKey instanceof String) || StringUtils.isBlank((String) documentKey)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "documentKey should be a non-empty string.");
+            }
+
+            if (body != null && !(body instanceof Map)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "body should be an object.");
+            }
+
+            final DocumentReference document = collection.document((String) documentKey);
+            final Map<String, Object> data = body == null ? new HashMap<>() : (Map<String, Object>) body;
+
+            switch (String.valueOf(methodName)) {
+                case "SET_DOCUMENT":
+                    batch.set(document, data);
+                    break;
+                case "CREATE_DOCUMENT":
+                    batch.create(document, data);
+                    break;
+                case "UPDATE_DOCUMENT":
+                    batch.update(document, data);
+                    break;
+                case "DELETE_DOCUMENT":
+                    batch.delete(document);
+                    break;
+                default:
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "method should be one of SET_DOCUMENT, CREATE_DOCUMENT, UPDATE_DOCUMENT and " +
+                                    "DELETE_DOCUMENT, found " + methodName + ".");
+            }
+        }
+
+        private Mono<ActionExecutionResult> buildResult(Object objResult, String operationName) {
+            ActionExecutionResult result = new ActionExecutionResult();
+            try {
+                result.setBody(resultToMap(objResult));
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+            result.setIsExecutionSuccess(true);
+            log.debug("In the Firestore Plugin, got action execution result for {}", operationName);
+            return Mono.just(result);
+        }
+
+        /**
+         * - Bridges a Firestore future to a Mono through a callback, instead of parking a thread on ApiFuture.get()
+         *   till the call completes.
+         * - The callback runs on the thread that completes the future, i.e., one of the client's gRPC threads. The rest
+         *   of the pipeline is handed over to the plugin's scheduler, so that converting the result doesn't hold up
+         *   those threads.
+         */
+        private static <T> Mono<T> toMono(ApiFuture<T> future) {
+            return Mono.create(sink -> {
+                ApiFutures.addCallback(future, new ApiFutureCallback<T>() {
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, throwable.getMessage()));
+                    }
+
+                    @Override
+                    public void onSuccess(T result) {
+                        sink.success(result);
+                    }
+                }, MoreExecutors.directExecutor());
+                sink.onCancel(() -> future.cancel(true));
+            })
+                    .publishOn(scheduler);
+        }
+
         private Object resultToMap(Object objResult) throws AppsmithPluginException {
             return resultToMap(objResult, true);
         }
@@ -1,21 +1,26 @@
 package com.external.plugins;
 
 public enum Method {
-    GET_DOCUMENT(true, false),
-    GET_COLLECTION(false, false),
-    SET_DOCUMENT(true, false),
-    CREATE_DOCUMENT(true, false),
-    ADD_TO_COLLECTION(false, false),
-    UPDATE_DOCUMENT(true, false),
-    DELETE_DOCUMENT(true, false),
+    GET_DOCUMENT(true, false, false),
+    GET_COLLECTION(false, false, false),
+    SET_DOCUMENT(true, false, false),
+    CREATE_DOCUMENT(true, false, false),
+    ADD_TO_COLLECTION(false, false, false),
+    UPDATE_DOCUMENT(true, false, false),
+    DELETE_DOCUMENT(true, false, false),
+    GET_DOCUMENTS(false, true, true),
+    BATCH_WRITE(false, true, true),
     ;
 
     private final boolean isDocumentLevel;
     private final boolean isBodyNeeded;
+    // Batch methods take a JSON array body, with one item per document of the collection.
+    private final boolean isBatch;
 
-    Method(boolean isDocumentLevel, boolean isBodyNeeded) {
+    Method(boolean isDocumentLevel, boolean isBodyNeeded, boolean isBatch) {
         this.isDocumentLevel = isDocumentLevel;
         this.isBodyNeeded = isBodyNeeded;
+        this.isBatch = isBatch;
     }
 
     public boolean isDocumentLevel() {
@@ -25,4 +30,8 @@ public enum Method {
     public boolean isBodyNeeded() {
         return isBodyNeeded;
     }
+
+    public boolean isBatch() {
+        return isBatch;
+    }
 }
@@ -29,7 +29,9 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.FirestoreEmulatorContainer;
 import org.testcontainers.utility.DockerImageName;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple3;
 
@@ -70,6 +72,9 @@ public class FirestorePluginTest {
 
     @BeforeClass
     public static void setUp() throws ExecutionException, InterruptedException {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         firestoreConnection = FirestoreOptions.newBuilder()
                 .setHost(emulator.getEmulatorEndpoint())
                 .setCredentials(NoCredentials.getInstance())
@@ -1086,4 +1091,99 @@ public class FirestorePluginTest {
                 ((Map)((List)actionConfiguration.getPluginSpecifiedTemplates().get(3).getValue()).get(0)).get(
                         "value"));
     }
+
+    @Test
+    public void testGetDocuments() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("initial");
+        actionConfiguration.setBody("[\"two\", \"one\", \"missing\"]");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("method", "GET_DOCUMENTS")));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final List<Map<String, Object>> docs = (List) result.getBody();
+                    assertEquals(3, docs.size());
+                    assertEquals("two", docs.get(0).get("name"));
+                    assertEquals("one", docs.get(1).get("name"));
+                    assertEquals(Map.of("_ref", Map.of("id", "missing", "path", "initial/missing")), docs.get(2));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBatchWrite() throws ExecutionException, InterruptedException {
+        firestoreConnection.document("batch/to-update").set(Map.of("value", 1)).get();
+        firestoreConnection.document("batch/to-delete").set(Map.of("value", 1)).get();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("batch");
+        actionConfiguration.setBody("[\n" +
+                "  {\"method\": \"SET_DOCUMENT\", \"documentKey\": \"to-set\", \"body\": {\"value\": 2}},\n" +
+                "  {\"method\": \"UPDATE_DOCUMENT\", \"documentKey\": \"to-update\", \"body\": {\"value\": 3}},\n" +
+                "  {\"method\": \"DELETE_DOCUMENT\", \"documentKey\": \"to-delete\"}\n" +
+                "]");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("method", "BATCH_WRITE")));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final List<Map<String, Object>> writeResults = (List) result.getBody();
+                    assertEquals(3, writeResults.size());
+                    writeResults.forEach(writeResult -> assertNotNull(writeResult.get("lastUpdateTime")));
+
+                    try {
+                        assertEquals(2L, firestoreConnection.document("batch/to-set").get().get().getLong("value"));
+                        assertEquals(3L, firestoreConnection.document("batch/to-update").get().get().getLong("value"));
+                        assertFalse(firestoreConnection.document("batch/to-delete").get().get().exists());
+                    } catch (InterruptedException | ExecutionException e) {
+                        throw new AssertionError(e);
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBatchWriteWithInvalidWrite() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("batch");
+        actionConfiguration.setBody("[{\"method\": \"SET_DOCUMENT\", \"documentKey\": \"valid\", \"body\": {\"value\": 1}}," +
+                " {\"method\": \"GET_DOCUMENT\", \"documentKey\": \"invalid\"}]");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("method", "BATCH_WRITE")));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteDoesNotBlockTheCallingThread() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("initial/one");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("method", "GET_DOCUMENT")));
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop.
+        Mono<ActionExecutionResult> resultMono = Mono
+                .defer(() -> pluginExecutor.executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration))
+                .subscribeOn(Schedulers.parallel());
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("one", ((Map) result.getBody()).get("name"));
+                })
+                .verifyComplete();
+    }
 }
@@ -3,11 +3,11 @@ package com.external.config;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.OAuth2;
+import com.external.domains.GoogleSheetsConnection;
 import com.external.domains.RowObject;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.google.api.services.sheets.v4.model.ValueRange;
 import org.springframework.http.HttpMethod;
@@ -17,7 +17,6 @@ import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,10 +69,7 @@ public class AppendMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
+    public Mono<Object> executePrerequisites(MethodConfig methodConfig, GoogleSheetsConnection connection, OAuth2 oauth2) {
         final GetValuesMethod getValuesMethod = new GetValuesMethod(this.objectMapper);
 
         RowObject rowObjectFromBody = null;
@@ -83,77 +79,33 @@ public class AppendMethod implements Method {
             // Should never enter here
         }
         assert rowObjectFromBody != null;
-        final MethodConfig newMethodConfig = methodConfig
-                .toBuilder()
-                .queryFormat("ROWS")
-                .rowOffset(String.valueOf(Integer.parseInt(methodConfig.getTableHeaderIndex()) - 1))
-                .rowLimit("1")
-                .build();
-
-        getValuesMethod.validateMethodRequest(newMethodConfig);
 
         RowObject finalRowObjectFromBody = rowObjectFromBody;
         return getValuesMethod
-                .getClient(client, newMethodConfig)
-                .headers(headers -> headers.set(
-                        "Authorization",
-                        "Bearer " + oauth2.getAuthenticationResponse().getToken()))
-                .exchange()
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(response -> {
-                    // Choose body depending on response status
-                    byte[] responseBody = response.getBody();
-
-                    if (responseBody == null || !response.getStatusCode().is2xxSuccessful()) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Could not map request back to existing data"));
-                    }
-                    String jsonBody = new String(responseBody);
-                    JsonNode jsonNodeBody;
-                    try {
-                        jsonNodeBody = objectMapper.readTree(jsonBody);
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
-                                new String(responseBody),
-                                e.getMessage()
-                        ));
-                    }
-                    if (jsonNodeBody == null) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Expected to receive a response of existing headers."));
-                    }
-
-                    ArrayNode valueRanges = (ArrayNode) jsonNodeBody.get("valueRanges");
-                    ArrayNode values = (ArrayNode) valueRanges.get(0).get("values");
-
+                .getTableHeaders(methodConfig, connection, oauth2)
+                .map(headers -> {
                     // We replace these original values with new ones
-                    if (values != null && !values.isEmpty()) {
-                        ArrayNode headers = (ArrayNode) values.get(0);
-                        if (headers != null && !headers.isEmpty()) {
-                            final Map<String, String> valueMap = new LinkedHashMap<>();
-                            boolean validValues = false;
-                            final Map<String, String> inputValueMap = finalRowObjectFromBody.getValueMap();
-
-                            for (JsonNode header : headers) {
-                                final String value = inputValueMap.getOrDefault(header.asText(), null);
-                                if (value != null) {
-                                    validValues = true;
-                                }
-                                valueMap.put(header.asText(), value);
+                    if (!headers.isEmpty()) {
+                        final Map<String, String> valueMap = new LinkedHashMap<>();
+                        boolean validValues = false;
+                        final Map<String, String> inputValueMap = finalRowObjectFromBody.getValueMap();
+
+                        for (String header : headers) {
+                            final String value = inputValueMap.getOrDefault(header, null);
+                            if (value != null) {
+                                validValues = true;
                             }
-                            if (Boolean.TRUE.equals(validValues)) {
-                                finalRowObjectFromBody.setValueMap(valueMap);
-                            } else {
-                                throw Exceptions.propagate(new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_ERROR,
-                                        "Could not map values to existing data."));
-                            }
-                            methodConfig.setBody(finalRowObjectFromBody);
-                            return methodConfig;
+                            valueMap.put(header, value);
+                        }
+                        if (Boolean.TRUE.equals(validValues)) {
+                            finalRowObjectFromBody.setValueMap(valueMap);
+                        } else {
+                            throw Exceptions.propagate(new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_ERROR,
+                                    "Could not map values to existing data."));
                         }
+                        methodConfig.setBody(finalRowObjectFromBody);
+                        return methodConfig;
                     }
 
                     final LinkedHashMap<String, String> headerMap = new LinkedHashMap<>(finalRowObjectFromBody.getValueMap());
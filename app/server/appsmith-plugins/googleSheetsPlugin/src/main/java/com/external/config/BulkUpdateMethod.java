@@ -3,7 +3,9 @@ package com.external.config;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.OAuth2;
+import com.external.domains.GoogleSheetsConnection;
 import com.external.domains.RowObject;
+import com.external.utils.HeaderRowCache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -71,10 +73,8 @@ public class BulkUpdateMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
+    public Mono<Object> executePrerequisites(MethodConfig methodConfig, GoogleSheetsConnection connection, OAuth2 oauth2) {
+        WebClient client = connection.getWebClient();
         final GetValuesMethod getValuesMethod = new GetValuesMethod(this.objectMapper);
 
         Map<Integer, RowObject> rowObjectMapFromBody = null;
@@ -240,4 +240,9 @@ public class BulkUpdateMethod implements Method {
 
     }
 
+    @Override
+    public void evictCachedHeaders(HeaderRowCache headerRowCache, MethodConfig methodConfig) {
+        // Updating rows by their index can overwrite the header row of the table
+        headerRowCache.evict(methodConfig);
+    }
 }
@@ -2,6 +2,7 @@ package com.external.config;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.utils.HeaderRowCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -47,4 +48,9 @@ public class ClearMethod implements Method {
                 .body(BodyInserters.empty());
     }
 
+    @Override
+    public void evictCachedHeaders(HeaderRowCache headerRowCache, MethodConfig methodConfig) {
+        // The cleared range can be in any of the sheets of this spreadsheet
+        headerRowCache.evictSpreadsheet(methodConfig.getSpreadsheetId());
+    }
 }
@@ -3,6 +3,8 @@ package com.external.config;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.OAuth2;
+import com.external.domains.GoogleSheetsConnection;
+import com.external.utils.HeaderRowCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpMethod;
@@ -64,10 +66,8 @@ public class DeleteRowMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
+    public Mono<Object> executePrerequisites(MethodConfig methodConfig, GoogleSheetsConnection connection, OAuth2 oauth2) {
+        WebClient client = connection.getWebClient();
         UriComponentsBuilder uriBuilder = getBaseUriBuilder(this.BASE_SHEETS_API_URL,
                 methodConfig.getSpreadsheetId());
         uriBuilder.queryParam("fields", "sheets/properties");
@@ -155,4 +155,10 @@ public class DeleteRowMethod implements Method {
                 "Deleted row successfully!"));
     }
 
+    @Override
+    public void evictCachedHeaders(HeaderRowCache headerRowCache, MethodConfig methodConfig) {
+        // Deleting a row moves up the rows below it, including the header rows of the tables below it in this sheet
+        headerRowCache.evictSheet(methodConfig.getSpreadsheetId(), methodConfig.getSheetName());
+    }
+
 }
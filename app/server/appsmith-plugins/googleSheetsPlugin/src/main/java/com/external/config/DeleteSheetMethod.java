@@ -4,6 +4,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.OAuth2;
 import com.external.constants.GoogleSheets;
+import com.external.domains.GoogleSheetsConnection;
+import com.external.utils.HeaderRowCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -43,14 +45,12 @@ public class DeleteSheetMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
+    public Mono<Object> executePrerequisites(MethodConfig methodConfig, GoogleSheetsConnection connection, OAuth2 oauth2) {
         if (GoogleSheets.SPREADSHEET.equalsIgnoreCase(methodConfig.getDeleteFormat())) {
             return Mono.just(true);
         }
 
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
+        WebClient client = connection.getWebClient();
         UriComponentsBuilder uriBuilder = getBaseUriBuilder(this.BASE_SHEETS_API_URL,
                 methodConfig.getSpreadsheetId())
                 .queryParam("includeGridData", false);
@@ -141,4 +141,8 @@ public class DeleteSheetMethod implements Method {
         return this.objectMapper.valueToTree(Map.of("message", "Deleted sheet successfully!"));
     }
 
+    @Override
+    public void evictCachedHeaders(HeaderRowCache headerRowCache, MethodConfig methodConfig) {
+        headerRowCache.evictSpreadsheet(methodConfig.getSpreadsheetId());
+    }
 }
@@ -2,7 +2,10 @@ package com.external.config;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.OAuth2;
+import com.external.domains.GoogleSheetsConnection;
 import com.external.domains.RowObject;
+import com.external.utils.HeaderRowCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -11,7 +14,11 @@ import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -120,6 +127,74 @@ public class GetValuesMethod implements Method {
                 .body(BodyInserters.empty());
     }
 
+    /**
+     * Reads the header row of the table referred to by the method config, unless it is cached already for this
+     * datasource.
+     *
+     * @return The headers of the table, or an empty list if the table doesn't have a header row yet
+     */
+    public Mono<List<String>> getTableHeaders(MethodConfig methodConfig, GoogleSheetsConnection connection, OAuth2 oauth2) {
+        final HeaderRowCache headerRowCache = connection.getHeaderRowCache();
+
+        return Mono.justOrEmpty(headerRowCache.get(methodConfig))
+                .switchIfEmpty(Mono.defer(() -> {
+                    final MethodConfig newMethodConfig = methodConfig
+                            .toBuilder()
+                            .queryFormat("ROWS")
+                            .rowOffset(String.valueOf(Integer.parseInt(methodConfig.getTableHeaderIndex()) - 1))
+                            .rowLimit("1")
+                            .build();
+
+                    this.validateMethodRequest(newMethodConfig);
+
+                    return this.getClient(connection.getWebClient(), newMethodConfig)
+                            .headers(headers -> headers.set(
+                                    "Authorization",
+                                    "Bearer " + oauth2.getAuthenticationResponse().getToken()))
+                            .exchange()
+                            .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                            .map(response -> {
+                                // Choose body depending on response status
+                                byte[] responseBody = response.getBody();
+
+                                if (responseBody == null || !response.getStatusCode().is2xxSuccessful()) {
+                                    throw Exceptions.propagate(new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_ERROR,
+                                            "Could not map request back to existing data"));
+                                }
+                                String jsonBody = new String(responseBody);
+                                JsonNode jsonNodeBody;
+                                try {
+                                    jsonNodeBody = objectMapper.readTree(jsonBody);
+                                } catch (IOException e) {
+                                    throw Exceptions.propagate(new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
+                                            new String(responseBody),
+                                            e.getMessage()
+                                    ));
+                                }
+                                if (jsonNodeBody == null) {
+                                    throw Exceptions.propagate(new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_ERROR,
+                                            "Expected to receive a response of existing headers."));
+                                }
+
+                                ArrayNode valueRanges = (ArrayNode) jsonNodeBody.get("valueRanges");
+                                ArrayNode values = (ArrayNode) valueRanges.get(0).get("values");
+
+                                final List<String> headers = new ArrayList<>();
+                                if (values != null && !values.isEmpty() && values.get(0) != null) {
+                                    for (JsonNode header : values.get(0)) {
+                                        headers.add(header.asText());
+                                    }
+                                }
+
+                                headerRowCache.put(methodConfig, headers);
+                                return headers;
+                            });
+                }));
+    }
+
     private List<String> validateInputs(MethodConfig methodConfig) {
         int tableHeaderIndex = 1;
         if (methodConfig.getTableHeaderIndex() != null && !methodConfig.getTableHeaderIndex().isBlank()) {
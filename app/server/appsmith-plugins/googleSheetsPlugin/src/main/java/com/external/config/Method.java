@@ -3,6 +3,8 @@ package com.external.config;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.OAuth2;
+import com.external.domains.GoogleSheetsConnection;
+import com.external.utils.HeaderRowCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -55,7 +57,7 @@ public interface Method {
 
     boolean validateMethodRequest(MethodConfig methodConfig);
 
-    default Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
+    default Mono<Object> executePrerequisites(MethodConfig methodConfig, GoogleSheetsConnection connection, OAuth2 oauth2) {
         return Mono.just(true);
     }
 
@@ -70,4 +72,11 @@ public interface Method {
         // By default, no transformation takes place
         return response;
     }
+
+    /**
+     * Called once this method has been executed successfully, to evict the cached header rows that it could have
+     * changed. By default, a method doesn't change any header rows.
+     */
+    default void evictCachedHeaders(HeaderRowCache headerRowCache, MethodConfig methodConfig) {
+    }
 }
@@ -0,0 +1,54 @@
+package com.external.domains;
+
+import com.external.config.Method;
+import com.external.utils.HeaderRowCache;
+import lombok.Getter;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * The HTTP client of a Google Sheets datasource, along with the state that is kept for it across executions. The
+ * client keeps its connections to Google APIs open in a pool of its own, so that consecutive executions on the same
+ * datasource don't pay for a new TLS handshake each time.
+ */
+@Getter
+public class GoogleSheetsConnection {
+
+    // Upper limit on the number of concurrent requests to Google APIs for a single datasource
+    private static final int MAX_CONNECTIONS = 20;
+
+    private final ConnectionProvider connectionProvider;
+
+    private final WebClient webClient;
+
+    private final HeaderRowCache headerRowCache = new HeaderRowCache();
+
+    public GoogleSheetsConnection() {
+        this(ConnectionProvider.fixed("google-sheets", MAX_CONNECTIONS));
+    }
+
+    private GoogleSheetsConnection(ConnectionProvider connectionProvider) {
+        this(connectionProvider, WebClient.builder()
+                .exchangeStrategies(Method.EXCHANGE_STRATEGIES)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build());
+    }
+
+    /**
+     * Uses the given client, which is expected to send its requests through the given connection pool.
+     */
+    public GoogleSheetsConnection(ConnectionProvider connectionProvider, WebClient webClient) {
+        this.connectionProvider = connectionProvider;
+        this.webClient = webClient;
+    }
+
+    public boolean isClosed() {
+        return connectionProvider.isDisposed();
+    }
+
+    public void close() {
+        connectionProvider.dispose();
+    }
+}
@@ -2,6 +2,7 @@ package com.external.plugins;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
@@ -13,6 +14,7 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.external.config.GoogleSheetsMethodStrategy;
 import com.external.config.Method;
 import com.external.config.MethodConfig;
+import com.external.domains.GoogleSheetsConnection;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
@@ -44,13 +46,17 @@ public class GoogleSheetsPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class GoogleSheetsPluginExecutor implements PluginExecutor<Void> {
+    public static class GoogleSheetsPluginExecutor implements PluginExecutor<GoogleSheetsConnection> {
 
         @Override
-        public Mono<ActionExecutionResult> execute(Void connection,
+        public Mono<ActionExecutionResult> execute(GoogleSheetsConnection connection,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
 
+            if (connection == null || connection.isClosed()) {
+                return Mono.error(new StaleConnectionException());
+            }
+
             // Initializing object for error condition
             ActionExecutionResult errorResult = new ActionExecutionResult();
             errorResult.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
@@ -72,21 +78,17 @@ public class GoogleSheetsPlugin extends BasePlugin {
             // Convert unreadable map to a DTO
             MethodConfig methodConfig = new MethodConfig(properties);
 
-            // Initializing webClient to be used for http call
-            WebClient.Builder webClientBuilder = WebClient.builder();
-
             method.validateMethodRequest(methodConfig);
 
-            WebClient client = webClientBuilder
-                    .exchangeStrategies(EXCHANGE_STRATEGIES)
-                    .build();
+            // The datasource's pooled client is shared by all of its executions
+            WebClient client = connection.getWebClient();
 
             // Authentication will already be valid at this point
             final OAuth2 oauth2 = (OAuth2) datasourceConfiguration.getAuthentication();
             assert (oauth2.getAuthenticationResponse() != null);
 
             // Triggering the actual REST API call
-            return method.executePrerequisites(methodConfig, oauth2)
+            return method.executePrerequisites(methodConfig, connection, oauth2)
                     // This method call will populate the request with all the configurations it needs for a particular method
                     .flatMap(res -> {
                         return method.getClient(client, methodConfig)
@@ -137,6 +139,7 @@ public class GoogleSheetsPlugin extends BasePlugin {
 
                                         if (response.getStatusCode().is2xxSuccessful()) {
                                             result.setBody(method.transformResponse(jsonNodeBody, methodConfig));
+                                            method.evictCachedHeaders(connection.getHeaderRowCache(), methodConfig);
                                         } else {
                                             result.setBody(jsonNodeBody
                                                     .get("error")
@@ -164,13 +167,17 @@ public class GoogleSheetsPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Void> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-            return Mono.empty();
+        public Mono<GoogleSheetsConnection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            // The OAuth2 token is read from the datasource configuration on each execution, so the connection only holds
+            // the HTTP client and the cached header rows of this datasource.
+            return Mono.fromSupplier(GoogleSheetsConnection::new);
         }
 
         @Override
-        public void datasourceDestroy(Void connection) {
-            // This plugin doesn't have a connection to destroy
+        public void datasourceDestroy(GoogleSheetsConnection connection) {
+            if (connection != null) {
+                connection.close();
+            }
         }
 
         @Override
@@ -0,0 +1,113 @@
+package com.external.utils;
+
+import com.external.config.MethodConfig;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the header rows of the tables in a datasource's spreadsheets, keyed by spreadsheet, sheet and table header
+ * index, so that appending rows to a table doesn't need to read its header row from the sheet on every call. Entries
+ * expire after a short while, so that headers edited outside of Appsmith are picked up again, and are evicted right
+ * away when a method of this plugin could have changed them.
+ */
+public class HeaderRowCache {
+
+    static final Duration TTL = Duration.ofSeconds(30);
+
+    // Upper limit on the number of tables whose headers are cached for a datasource
+    static final int MAX_ENTRIES = 1000;
+
+    private final Map<List<String>, CachedHeaders> entries = new ConcurrentHashMap<>();
+
+    private final Supplier<Instant> clock;
+
+    public HeaderRowCache() {
+        this(Instant::now);
+    }
+
+    HeaderRowCache(Supplier<Instant> clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return The cached header row of the table referred to by the method config, or null if there is none, or if it
+     * has expired.
+     */
+    public List<String> get(MethodConfig methodConfig) {
+        final List<String> key = getKey(methodConfig);
+        final CachedHeaders cachedHeaders = entries.get(key);
+        if (cachedHeaders == null) {
+            return null;
+        }
+        if (cachedHeaders.expiresAt.isBefore(clock.get())) {
+            entries.remove(key, cachedHeaders);
+            return null;
+        }
+        return cachedHeaders.headers;
+    }
+
+    /**
+     * Caches the header row of the table referred to by the method config. A table without a header row isn't cached,
+     * since the next append to it writes one.
+     */
+    public void put(MethodConfig methodConfig, List<String> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return;
+        }
+
+        final Instant now = clock.get();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(cachedHeaders -> cachedHeaders.expiresAt.isBefore(now));
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+
+        entries.put(getKey(methodConfig), new CachedHeaders(List.copyOf(headers), now.plus(TTL)));
+    }
+
+    /**
+     * Evicts the header row of the table referred to by the method config.
+     */
+    public void evict(MethodConfig methodConfig) {
+        entries.remove(getKey(methodConfig));
+    }
+
+    /**
+     * Evicts the header rows of all the tables in a sheet.
+     */
+    public void evictSheet(String spreadsheetId, String sheetName) {
+        entries.keySet().removeIf(key -> key.get(0).equals(String.valueOf(spreadsheetId))
+                && key.get(1).equals(String.valueOf(sheetName)));
+    }
+
+    /**
+     * Evicts the header rows of all the tables in a spreadsheet.
+     */
+    public void evictSpreadsheet(String spreadsheetId) {
+        entries.keySet().removeIf(key -> key.get(0).equals(spreadsheetId));
+    }
+
+    private static List<String> getKey(MethodConfig methodConfig) {
+        return List.of(
+                String.valueOf(methodConfig.getSpreadsheetId()),
+                String.valueOf(methodConfig.getSheetName()),
+                String.valueOf(methodConfig.getTableHeaderIndex())
+        );
+    }
+
+    private static class CachedHeaders {
+        final List<String> headers;
+        final Instant expiresAt;
+
+        CachedHeaders(List<String> headers, Instant expiresAt) {
+            this.headers = headers;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
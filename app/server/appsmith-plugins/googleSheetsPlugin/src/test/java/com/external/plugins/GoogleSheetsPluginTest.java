@@ -0,0 +1,71 @@
+package com.external.plugins;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.AuthenticationResponse;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.OAuth2;
+import com.appsmith.external.models.Property;
+import com.external.config.MethodConfig;
+import com.external.domains.GoogleSheetsConnection;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class GoogleSheetsPluginTest {
+
+    GoogleSheetsPlugin.GoogleSheetsPluginExecutor pluginExecutor = new GoogleSheetsPlugin.GoogleSheetsPluginExecutor();
+
+    @Test
+    public void testAppend_withCachedHeaders_sendsSingleRequest() {
+        // Answers every request to Google APIs with an empty JSON object, and records it.
+        final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+        final WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{}")
+                            .build());
+                })
+                .build();
+        final GoogleSheetsConnection connection = new GoogleSheetsConnection(ConnectionProvider.newConnection(), webClient);
+
+        final List<Property> properties = List.of(
+                new Property("method", "APPEND"),
+                new Property("sheetUrl", "https://docs.google.com/spreadsheets/d/spreadsheet1/edit"),
+                new Property("sheetName", "Sheet1"),
+                new Property("tableHeaderIndex", "1"),
+                new Property("rowObject", "{\"name\": \"Alice\", \"email\": \"alice@example.com\"}")
+        );
+        connection.getHeaderRowCache().put(new MethodConfig(properties), List.of("name", "email"));
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(properties);
+
+        OAuth2 oauth2 = new OAuth2();
+        AuthenticationResponse authenticationResponse = new AuthenticationResponse();
+        authenticationResponse.setToken("token");
+        oauth2.setAuthenticationResponse(authenticationResponse);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(oauth2);
+
+        StepVerifier.create(pluginExecutor.execute(connection, datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> Assert.assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        // The header row is not read from the sheet again, only the row is appended.
+        Assert.assertEquals(1, requests.size());
+        Assert.assertTrue(requests.get(0).url().getPath().endsWith(":append"));
+    }
+}
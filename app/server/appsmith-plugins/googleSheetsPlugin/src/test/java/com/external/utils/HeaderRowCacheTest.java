@@ -0,0 +1,76 @@
+package com.external.utils;
+
+import com.appsmith.external.models.Property;
+import com.external.config.MethodConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class HeaderRowCacheTest {
+
+    private static MethodConfig getMethodConfig(String spreadsheetId, String sheetName) {
+        return new MethodConfig(List.of(
+                new Property("sheetUrl", "https://docs.google.com/spreadsheets/d/" + spreadsheetId + "/edit"),
+                new Property("sheetName", sheetName),
+                new Property("tableHeaderIndex", "1")
+        ));
+    }
+
+    @Test
+    public void testGet_afterTtl_returnsNull() {
+        final AtomicReference<Instant> now = new AtomicReference<>(Instant.now());
+        final HeaderRowCache headerRowCache = new HeaderRowCache(now::get);
+        final MethodConfig methodConfig = getMethodConfig("spreadsheet1", "Sheet1");
+
+        headerRowCache.put(methodConfig, List.of("name", "email"));
+        Assert.assertEquals(List.of("name", "email"), headerRowCache.get(methodConfig));
+
+        now.set(now.get().plus(HeaderRowCache.TTL).plusSeconds(1));
+        Assert.assertNull(headerRowCache.get(methodConfig));
+    }
+
+    @Test
+    public void testPut_emptyHeaders_isNotCached() {
+        final HeaderRowCache headerRowCache = new HeaderRowCache();
+        final MethodConfig methodConfig = getMethodConfig("spreadsheet1", "Sheet1");
+
+        headerRowCache.put(methodConfig, List.of());
+        Assert.assertNull(headerRowCache.get(methodConfig));
+    }
+
+    @Test
+    public void testEvictSpreadsheet_evictsOnlyThatSpreadsheet() {
+        final HeaderRowCache headerRowCache = new HeaderRowCache();
+        final MethodConfig sheet1 = getMethodConfig("spreadsheet1", "Sheet1");
+        final MethodConfig sheet2 = getMethodConfig("spreadsheet1", "Sheet2");
+        final MethodConfig otherSpreadsheet = getMethodConfig("spreadsheet2", "Sheet1");
+
+        headerRowCache.put(sheet1, List.of("name"));
+        headerRowCache.put(sheet2, List.of("email"));
+        headerRowCache.put(otherSpreadsheet, List.of("phone"));
+
+        headerRowCache.evictSpreadsheet("spreadsheet1");
+
+        Assert.assertNull(headerRowCache.get(sheet1));
+        Assert.assertNull(headerRowCache.get(sheet2));
+        Assert.assertEquals(List.of("phone"), headerRowCache.get(otherSpreadsheet));
+    }
+
+    @Test
+    public void testEvictSheet_evictsOnlyThatSheet() {
+        final HeaderRowCache headerRowCache = new HeaderRowCache();
+        final MethodConfig sheet1 = getMethodConfig("spreadsheet1", "Sheet1");
+        final MethodConfig sheet2 = getMethodConfig("spreadsheet1", "Sheet2");
+
+        headerRowCache.put(sheet1, List.of("name"));
+        headerRowCache.put(sheet2, List.of("email"));
+
+        headerRowCache.evictSheet("spreadsheet1", "Sheet1");
+
+        Assert.assertNull(headerRowCache.get(sheet1));
+        Assert.assertEquals(List.of("email"), headerRowCache.get(sheet2));
+    }
+}
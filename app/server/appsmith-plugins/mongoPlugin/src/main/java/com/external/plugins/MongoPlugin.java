@@ -5,6 +5,7 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
@@ -52,7 +53,6 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -178,7 +178,7 @@ public class MongoPlugin extends BasePlugin {
     @Extension
     public static class MongoPluginExecutor implements PluginExecutor<MongoClient>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("mongo-plugin");
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -479,12 +479,9 @@ public class MongoPlugin extends BasePlugin {
             // Replace all the bindings with a ? as expected in a prepared statement.
             String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(rawQuery, mustacheKeysInOrder);
 
-            updatedQuery = (String) smartSubstitutionOfBindings(updatedQuery,
-                    mustacheKeysInOrder,
-                    params,
-                    parameters);
+            List<String> values = getBindingValuesInOrder(mustacheKeysInOrder, params);
 
-            return updatedQuery;
+            return DataTypeStringUtils.jsonSmartReplacementQuestionWithValues(updatedQuery, values, parameters);
         }
 
         private List<Property> smartSubstituteFormCommand(List<Property> templates,
@@ -885,13 +882,49 @@ public class MongoPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration) {
-            final DatasourceStructure structure = new DatasourceStructure();
-            List<DatasourceStructure.Table> tables = new ArrayList<>();
-            structure.setTables(tables);
+            final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+            return getStructure(database, Flux.from(database.listCollectionNames()));
+        }
 
+        @Override
+        public Mono<DatasourceStructure> getStructure(MongoClient mongoClient,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      Set<String> tableNames) {
+            if (tableNames == null) {
+                return getStructure(mongoClient, datasourceConfiguration);
+            }
+
+            // Only the selected collections are sampled. Their names are checked against the database, so that a
+            // missing collection isn't reported with an empty structure.
+            final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+            return getStructure(database, Flux.from(database.listCollectionNames()).filter(tableNames::contains));
+        }
+
+        @Override
+        public Mono<DatasourceStructure> getTables(MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration) {
             final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
             return Flux.from(database.listCollectionNames())
+                    .map(collectionName -> new DatasourceStructure.Table(
+                            DatasourceStructure.TableType.COLLECTION,
+                            null,
+                            collectionName,
+                            new ArrayList<>(),
+                            new ArrayList<>(),
+                            new ArrayList<>()
+                    ))
+                    .collectList()
+                    .map(DatasourceStructure::new)
+                    .onErrorMap(MongoCommandException.class, this::mapGetStructureError)
+                    .subscribeOn(scheduler);
+        }
+
+        private Mono<DatasourceStructure> getStructure(MongoDatabase database, Flux<String> collectionNames) {
+            final DatasourceStructure structure = new DatasourceStructure();
+            List<DatasourceStructure.Table> tables = new ArrayList<>();
+            structure.setTables(tables);
+
+            return collectionNames
                     .flatMap(collectionName -> {
                         final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
                         final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
@@ -923,23 +956,22 @@ public class MongoPlugin extends BasePlugin {
                     })
                     .collectList()
                     .thenReturn(structure)
-                    .onErrorMap(
-                            MongoCommandException.class,
-                            error -> {
-                                if (MONGO_COMMAND_EXCEPTION_UNAUTHORIZED_ERROR_CODE.equals(error.getErrorCode())) {
-                                    return new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
-                                            "Appsmith has failed to get database structure. Please provide read permission on" +
-                                                    " the database to fix this."
-                                    );
-                                }
-
-                                return error;
-                            }
-                    )
+                    .onErrorMap(MongoCommandException.class, this::mapGetStructureError)
                     .subscribeOn(scheduler);
         }
 
+        private Throwable mapGetStructureError(MongoCommandException error) {
+            if (MONGO_COMMAND_EXCEPTION_UNAUTHORIZED_ERROR_CODE.equals(error.getErrorCode())) {
+                return new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                        "Appsmith has failed to get database structure. Please provide read permission on" +
+                                " the database to fix this."
+                );
+            }
+
+            return error;
+        }
+
         private static void generateTemplatesAndStructureForACollection(String collectionName,
                                                                         Document document,
                                                                         ArrayList<DatasourceStructure.Column> columns,
@@ -1017,17 +1049,6 @@ public class MongoPlugin extends BasePlugin {
             );
         }
 
-        @Override
-        public Object substituteValueInInput(int index,
-                                             String binding,
-                                             String value,
-                                             Object input,
-                                             List<Map.Entry<String, String>> insertedParams,
-                                             Object... args) {
-            String jsonBody = (String) input;
-            return DataTypeStringUtils.jsonSmartReplacementQuestionWithValue(jsonBody, value, insertedParams);
-        }
-
         @Override
         public Mono<ActionExecutionResult> execute(MongoClient mongoClient,
                                                    DatasourceConfiguration datasourceConfiguration,
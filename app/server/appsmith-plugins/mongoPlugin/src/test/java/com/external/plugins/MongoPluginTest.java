@@ -31,8 +31,10 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.GenericContainer;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
@@ -97,6 +99,9 @@ public class MongoPluginTest {
 
     @BeforeClass
     public static void setUp() {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         address = mongoContainer.getContainerIpAddress();
         port = mongoContainer.getFirstMappedPort();
         String uri = "mongodb://" + address + ":" + Integer.toString(port);
@@ -413,6 +418,53 @@ public class MongoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testGetTables() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<DatasourceStructure> tablesMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getTables(connection, dsConfig));
+
+        StepVerifier.create(tablesMono)
+                .assertNext(structure -> {
+                    assertNotNull(structure);
+                    assertEquals(1, structure.getTables().size());
+
+                    final DatasourceStructure.Table usersTable = structure.getTables().get(0);
+                    assertEquals("users", usersTable.getName());
+                    assertEquals(DatasourceStructure.TableType.COLLECTION, usersTable.getType());
+                    assertTrue(usersTable.getColumns().isEmpty());
+                    assertTrue(usersTable.getTemplates().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStructureOfSelectedCollections() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig, Set.of("users", "missing")));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertNotNull(structure);
+                    // Collections that don't exist in the database are left out rather than reported as empty.
+                    assertEquals(1, structure.getTables().size());
+
+                    final DatasourceStructure.Table usersTable = structure.getTables().get(0);
+                    assertEquals("users", usersTable.getName());
+                    assertEquals(8, usersTable.getColumns().size());
+                    assertTrue(!usersTable.getTemplates().isEmpty());
+                })
+                .verifyComplete();
+
+        Mono<DatasourceStructure> missingStructureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig, Set.of("missing")));
+
+        StepVerifier.create(missingStructureMono)
+                .assertNext(structure -> assertTrue(structure.getTables().isEmpty()))
+                .verifyComplete();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -912,6 +964,54 @@ public class MongoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testBsonSmartSubstitutionOfStringWithSpecialCharacters() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        // Quotes, backslashes and newlines must be escaped in the substituted query, and read back as they are.
+        final String text = "She said \"hi\" from C:\\temp\\\nand left";
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        Param param = new Param();
+        param.setKey("Input1.text");
+        param.setValue(text);
+        executeActionDTO.setParams(List.of(param));
+
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("jsonSmartSubstitution", "true"));
+        pluginSpecifiedTemplates.add(null);
+        pluginSpecifiedTemplates.add(new Property("command", "RAW"));
+
+        ActionConfiguration insertConfiguration = new ActionConfiguration();
+        insertConfiguration.setBody("{\n" +
+                "      insert: \"smartSubstitution\",\n" +
+                "      documents: [ { text: {{Input1.text}} } ]\n" +
+                "    }");
+        insertConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+
+        ActionConfiguration findConfiguration = new ActionConfiguration();
+        findConfiguration.setBody("{\n" +
+                "      find: \"smartSubstitution\",\n" +
+                "      filter: { text: {{Input1.text}} }\n" +
+                "    }");
+        findConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> pluginExecutor.executeParameterized(conn, executeActionDTO, datasourceConfiguration, insertConfiguration)
+                        .doOnNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                        .then(pluginExecutor.executeParameterized(conn, executeActionDTO, datasourceConfiguration, findConfiguration)));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(1, documents.size());
+                    assertEquals(text, documents.get(0).get("text").asText());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testGetStructureReadPermissionError() {
         MongoClient mockConnection = mock(MongoClient.class);
@@ -1402,4 +1502,29 @@ public class MongoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteDoesNotBlockTheCallingThread() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("{\n" +
+                "      find: \"users\",\n" +
+                "      filter: { \"age\": { \"$gte\": 30 } },\n" +
+                "    }");
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop.
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> Mono
+                        .defer(() -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                        .subscribeOn(Schedulers.parallel())
+                );
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
 }
@@ -5,6 +5,7 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
@@ -18,6 +19,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.TypedValue;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
@@ -31,7 +33,6 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.sql.Connection;
@@ -45,7 +46,9 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.AbstractMap.SimpleEntry;
@@ -87,7 +90,7 @@ public class MssqlPlugin extends BasePlugin {
     @Extension
     public static class MssqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("mssql-plugin");
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
@@ -500,7 +503,8 @@ public class MssqlPlugin extends BasePlugin {
                                              Object... args) throws AppsmithPluginException {
 
             PreparedStatement preparedStatement = (PreparedStatement) input;
-            DataType valueType = DataTypeStringUtils.stringToKnownDataTypeConverter(value);
+            TypedValue typedValue = DataTypeStringUtils.parseToKnownDataType(value);
+            DataType valueType = typedValue.getDataType();
 
             Map.Entry<String, String> parameter = new SimpleEntry<>(value, valueType.toString());
             insertedParams.add(parameter);
@@ -520,15 +524,15 @@ public class MssqlPlugin extends BasePlugin {
                         break;
                     }
                     case INTEGER: {
-                        preparedStatement.setInt(index, Integer.parseInt(value));
+                        preparedStatement.setInt(index, (Integer) typedValue.getValue());
                         break;
                     }
                     case LONG: {
-                        preparedStatement.setLong(index, Long.parseLong(value));
+                        preparedStatement.setLong(index, (Long) typedValue.getValue());
                         break;
                     }
                     case FLOAT: {
-                        preparedStatement.setFloat(index, Float.parseFloat(value));
+                        preparedStatement.setFloat(index, (Float) typedValue.getValue());
                         break;
                     }
                     case DOUBLE: {
@@ -536,19 +540,19 @@ public class MssqlPlugin extends BasePlugin {
                         break;
                     }
                     case BOOLEAN: {
-                        preparedStatement.setBoolean(index, Boolean.parseBoolean(value));
+                        preparedStatement.setBoolean(index, (Boolean) typedValue.getValue());
                         break;
                     }
                     case DATE: {
-                        preparedStatement.setDate(index, Date.valueOf(value));
+                        preparedStatement.setDate(index, Date.valueOf((LocalDate) typedValue.getValue()));
                         break;
                     }
                     case TIME: {
-                        preparedStatement.setTime(index, Time.valueOf(value));
+                        preparedStatement.setTime(index, Time.valueOf((LocalTime) typedValue.getValue()));
                         break;
                     }
                     case TIMESTAMP: {
-                        preparedStatement.setTimestamp(index, Timestamp.valueOf(value));
+                        preparedStatement.setTimestamp(index, Timestamp.valueOf((LocalDateTime) typedValue.getValue()));
                         break;
                     }
                     case ARRAY: {
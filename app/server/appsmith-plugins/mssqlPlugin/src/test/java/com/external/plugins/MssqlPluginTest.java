@@ -23,7 +23,9 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.MSSQLServerContainer;
 import org.testcontainers.utility.DockerImageName;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
@@ -71,6 +73,9 @@ public class MssqlPluginTest {
 
     @BeforeClass
     public static void setUp() throws SQLException {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         address = container.getContainerIpAddress();
         port = container.getMappedPort(1433);
         username = container.getUsername();
@@ -590,4 +595,28 @@ public class MssqlPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testExecuteDoesNotBlockTheCallingThread() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT id FROM users WHERE id = 1");
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop. Running the JDBC call
+        // there would fail the execution.
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> Mono
+                        .defer(() -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                        .subscribeOn(Schedulers.parallel())
+                );
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
 }
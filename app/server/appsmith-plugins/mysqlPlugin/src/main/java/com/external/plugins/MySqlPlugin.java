@@ -5,6 +5,7 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
@@ -41,7 +42,6 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -75,7 +75,7 @@ public class MySqlPlugin extends BasePlugin {
     private static final String TIMESTAMP_COLUMN_TYPE_NAME = "timestamp";
 
     /**
-     * Example output for COLUMNS_QUERY:
+     * Example output for COLUMNS_QUERY_SELECT followed by COLUMNS_QUERY_ORDER:
      * +------------+-----------+-------------+-------------+-------------+------------+----------------+
      * | table_name | column_id | column_name | column_type | is_nullable | COLUMN_KEY | EXTRA          |
      * +------------+-----------+-------------+-------------+-------------+------------+----------------+
@@ -85,7 +85,7 @@ public class MySqlPlugin extends BasePlugin {
      * | test       |         4 | lastname    | varchar     |           1 |            |                |
      * +------------+-----------+-------------+-------------+-------------+------------+----------------+
      */
-    private static final String COLUMNS_QUERY = "select tab.table_name as table_name,\n" +
+    private static final String COLUMNS_QUERY_SELECT = "select tab.table_name as table_name,\n" +
             "       col.ordinal_position as column_id,\n" +
             "       col.column_name as column_name,\n" +
             "       col.data_type as column_type,\n" +
@@ -97,19 +97,20 @@ public class MySqlPlugin extends BasePlugin {
             "                    on col.table_schema = tab.table_schema\n" +
             "                        and col.table_name = tab.table_name\n" +
             "where tab.table_type = 'BASE TABLE'\n" +
-            "  and tab.table_schema = database()\n" +
-            "order by tab.table_name,\n" +
+            "  and tab.table_schema = database()\n";
+
+    private static final String COLUMNS_QUERY_ORDER = "order by tab.table_name,\n" +
             "         col.ordinal_position;";
 
     /**
-     * Example output for KEYS_QUERY:
+     * Example output for KEYS_QUERY_SELECT followed by KEYS_QUERY_ORDER:
      * +-----------------+-------------+------------+-----------------+-------------+----------------+---------------+----------------+
      * | CONSTRAINT_NAME | self_schema | self_table | constraint_type | self_column | foreign_schema | foreign_table | foreign_column |
      * +-----------------+-------------+------------+-----------------+-------------+----------------+---------------+----------------+
      * | PRIMARY         | mytestdb    | test       | p               | id          | NULL           | NULL          | NULL           |
      * +-----------------+-------------+------------+-----------------+-------------+----------------+---------------+----------------+
      */
-    private static final String KEYS_QUERY = "select i.constraint_name,\n" +
+    private static final String KEYS_QUERY_SELECT = "select i.constraint_name,\n" +
             "       i.TABLE_SCHEMA as self_schema,\n" +
             "       i.table_name as self_table,\n" +
             "       if(i.constraint_type = 'FOREIGN KEY', 'f', 'p') as constraint_type,\n" +
@@ -123,9 +124,17 @@ public class MySqlPlugin extends BasePlugin {
             "where i.table_schema = database()\n" +
             "  and k.constraint_schema = database()\n" +
             // "  and i.enforced = 'YES'\n" +  // Looks like this is not available on all versions of MySQL.
-            "  and i.constraint_type in ('FOREIGN KEY', 'PRIMARY KEY')\n" +
+            "  and i.constraint_type in ('FOREIGN KEY', 'PRIMARY KEY')\n";
+
+    private static final String KEYS_QUERY_ORDER =
             "order by i.table_name, i.constraint_name, k.position_in_unique_constraint;";
 
+    private static final String TABLE_NAMES_QUERY = "select tab.table_name as table_name\n" +
+            "from information_schema.tables as tab\n" +
+            "where tab.table_type = 'BASE TABLE'\n" +
+            "  and tab.table_schema = database()\n" +
+            "order by tab.table_name;";
+
     public MySqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -134,7 +143,7 @@ public class MySqlPlugin extends BasePlugin {
     @Extension
     public static class MySqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("mysql-plugin");
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
@@ -633,8 +642,32 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         /**
-         * 1. Parse results obtained by running COLUMNS_QUERY defined on top of the page.
-         * 2. A sample mysql output for the query is also given near COLUMNS_QUERY definition on top of the page.
+         * Creates a statement for one of the structure queries defined on top of the page, restricted to the given
+         * tables with an `in` clause on the given column. The statement is not restricted if no table names are given.
+         */
+        private Statement createStructureStatement(Connection connection,
+                                                   String selectQuery,
+                                                   String tableNameColumn,
+                                                   String orderClause,
+                                                   List<String> tableNames) {
+            if (tableNames == null) {
+                return connection.createStatement(selectQuery + orderClause);
+            }
+
+            final String placeholders = tableNames.stream().map(name -> "?").collect(Collectors.joining(", "));
+            final Statement statement = connection.createStatement(selectQuery
+                    + "  and " + tableNameColumn + " in (" + placeholders + ")\n"
+                    + orderClause);
+            for (int i = 0; i < tableNames.size(); i++) {
+                statement.bind(i, tableNames.get(i));
+            }
+
+            return statement;
+        }
+
+        /**
+         * 1. Parse results obtained by running COLUMNS_QUERY_SELECT defined on top of the page.
+         * 2. A sample mysql output for the query is also given near COLUMNS_QUERY_SELECT definition on top of the page.
          */
         private void getTableInfo(Row row, RowMetadata meta, Map<String, DatasourceStructure.Table> tablesByName) {
             final String tableName = row.get("table_name", String.class);
@@ -661,8 +694,8 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         /**
-         * 1. Parse results obtained by running KEYS_QUERY defined on top of the page.
-         * 2. A sample mysql output for the query is also given near KEYS_QUERY definition on top of the page.
+         * 1. Parse results obtained by running KEYS_QUERY_SELECT defined on top of the page.
+         * 2. A sample mysql output for the query is also given near KEYS_QUERY_SELECT definition on top of the page.
          */
         private void getKeyInfo(Row row, RowMetadata meta, Map<String, DatasourceStructure.Table> tablesByName,
                                 Map<String, DatasourceStructure.Key> keyRegistry) {
@@ -775,14 +808,65 @@ public class MySqlPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return getStructure(connection, datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<DatasourceStructure> getTables(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return Mono.from(connection.validate(ValidationDepth.REMOTE))
+                    .flatMapMany(isValid -> {
+                        if (isValid) {
+                            return connection.createStatement(TABLE_NAMES_QUERY).execute();
+                        } else {
+                            return Flux.error(new StaleConnectionException());
+                        }
+                    })
+                    .flatMap(result -> result.map((row, meta) -> new DatasourceStructure.Table(
+                            DatasourceStructure.TableType.TABLE,
+                            null,
+                            row.get("table_name", String.class),
+                            new ArrayList<>(),
+                            new ArrayList<>(),
+                            new ArrayList<>()
+                    )))
+                    .collectList()
+                    .map(DatasourceStructure::new)
+                    .onErrorMap(e -> {
+                        if (!(e instanceof AppsmithPluginException) && !(e instanceof StaleConnectionException)) {
+                            return new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_ERROR,
+                                    e.getMessage()
+                            );
+                        }
+
+                        return e;
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Fetches the columns, keys and templates of only the given tables, so that a single table can be looked at
+         * without reading the catalog of every table in a very large database. A null set of names fetches the
+         * structure of all the tables.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(Connection connection,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      Set<String> tableNames) {
+            if (tableNames != null && tableNames.isEmpty()) {
+                return Mono.just(new DatasourceStructure(new ArrayList<>()));
+            }
+
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
+            final List<String> tableNamesFilter = tableNames == null ? null : new ArrayList<>(tableNames);
 
             return Mono.from(connection.validate(ValidationDepth.REMOTE))
                     .flatMapMany(isValid -> {
                         if (isValid) {
-                            return connection.createStatement(COLUMNS_QUERY).execute();
+                            return createStructureStatement(connection, COLUMNS_QUERY_SELECT, "tab.table_name",
+                                    COLUMNS_QUERY_ORDER, tableNamesFilter).execute();
                         } else {
                             return Flux.error(new StaleConnectionException());
                         }
@@ -795,7 +879,8 @@ public class MySqlPlugin extends BasePlugin {
                         });
                     })
                     .collectList()
-                    .thenMany(Flux.from(connection.createStatement(KEYS_QUERY).execute()))
+                    .thenMany(Flux.from(createStructureStatement(connection, KEYS_QUERY_SELECT, "i.table_name",
+                            KEYS_QUERY_ORDER, tableNamesFilter).execute()))
                     .flatMap(result -> {
                         return result.map((row, meta) -> {
                             getKeyInfo(row, meta, tablesByName, keyRegistry);
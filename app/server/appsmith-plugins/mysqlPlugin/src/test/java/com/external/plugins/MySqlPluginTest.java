@@ -28,8 +28,10 @@ import org.junit.Test;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.containers.MySQLR2DBCDatabaseContainer;
 import org.testcontainers.utility.DockerImageName;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
@@ -80,6 +82,9 @@ public class MySqlPluginTest {
 
     @BeforeClass
     public static void setUp() {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         address = mySQLContainer.getContainerIpAddress();
         port = mySQLContainer.getFirstMappedPort();
         username = mySQLContainer.getUsername();
@@ -600,6 +605,50 @@ public class MySqlPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testGetTables() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<DatasourceStructure> tablesMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getTables(connection, dsConfig));
+
+        StepVerifier.create(tablesMono)
+                .assertNext(structure -> {
+                    assertNotNull(structure);
+                    assertArrayEquals(
+                            new String[]{"possessions", "users"},
+                            structure.getTables().stream().map(DatasourceStructure.Table::getName).toArray()
+                    );
+
+                    for (DatasourceStructure.Table table : structure.getTables()) {
+                        assertEquals(DatasourceStructure.TableType.TABLE, table.getType());
+                        assertTrue(table.getColumns().isEmpty());
+                        assertTrue(table.getKeys().isEmpty());
+                        assertTrue(table.getTemplates().isEmpty());
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStructureOfSelectedTables() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig, Set.of("possessions")));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertNotNull(structure);
+                    assertEquals(1, structure.getTables().size());
+
+                    final DatasourceStructure.Table possessionsTable = structure.getTables().get(0);
+                    assertEquals("possessions", possessionsTable.getName());
+                    assertEquals(5, possessionsTable.getColumns().size());
+                    assertEquals(2, possessionsTable.getKeys().size());
+                    assertEquals(4, possessionsTable.getTemplates().size());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -860,4 +909,26 @@ public class MySqlPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testExecuteDoesNotBlockTheCallingThread() {
+        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT id FROM users WHERE id = 1");
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop.
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> Mono
+                        .defer(() -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                        .subscribeOn(Schedulers.parallel())
+                );
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
 }
@@ -5,6 +5,7 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
@@ -19,6 +20,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.TypedValue;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
@@ -27,6 +29,7 @@ import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariProxyConnection;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -35,7 +38,6 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.sql.Array;
@@ -49,7 +51,9 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.AbstractMap.SimpleEntry;
@@ -103,12 +107,24 @@ public class PostgresPlugin extends BasePlugin {
         super(wrapper);
     }
 
+    @Slf4j
     @Extension
     public static class PostgresPluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("postgres-plugin");
 
-        private static final String TABLES_QUERY =
+        private static final String TABLE_NAMES_QUERY =
+                "select c.relkind as kind,\n" +
+                        "       c.relname as table_name,\n" +
+                        "       n.nspname as schema_name\n" +
+                        "from pg_catalog.pg_class c\n" +
+                        "         left join pg_catalog.pg_namespace n on c.relnamespace = n.oid\n" +
+                        "where n.nspname not in ('information_schema', 'pg_catalog')\n" +
+                        "  and c.relkind in ('r', 'v')\n" +
+                        "  and pg_catalog.pg_table_is_visible(c.oid)\n" +
+                        "order by c.relname;";
+
+        private static final String TABLES_QUERY_SELECT =
                 "select a.attname                                                      as name,\n" +
                         "       t1.typname                                                     as column_type,\n" +
                         "       case when a.atthasdef then pg_get_expr(d.adbin, d.adrelid) end as default_expr,\n" +
@@ -124,10 +140,18 @@ public class PostgresPlugin extends BasePlugin {
                         "  and not a.attisdropped\n" +
                         "  and n.nspname not in ('information_schema', 'pg_catalog')\n" +
                         "  and c.relkind in ('r', 'v')\n" +
-                        "  and pg_catalog.pg_table_is_visible(a.attrelid)\n" +
-                        "order by c.relname, a.attnum;";
+                        "  and pg_catalog.pg_table_is_visible(a.attrelid)\n";
+
+        private static final String TABLES_QUERY_ORDER = "order by c.relname, a.attnum;";
 
-        public static final String KEYS_QUERY =
+        private static final String TABLES_QUERY = TABLES_QUERY_SELECT + TABLES_QUERY_ORDER;
+
+        // Same as TABLES_QUERY, restricted to the schema qualified table names given as a text array parameter.
+        private static final String FILTERED_TABLES_QUERY = TABLES_QUERY_SELECT +
+                "  and (n.nspname || '.' || c.relname) = any(?)\n" +
+                TABLES_QUERY_ORDER;
+
+        private static final String KEYS_QUERY_SELECT =
                 "select c.conname                                         as constraint_name,\n" +
                         "       c.contype                                         as constraint_type,\n" +
                         "       sch.nspname                                       as self_schema,\n" +
@@ -146,10 +170,19 @@ public class PostgresPlugin extends BasePlugin {
                         "         left join pg_attribute col on (col.attrelid = tbl.oid and col.attnum = u.attnum)\n" +
                         "         left join pg_class f_tbl on f_tbl.oid = c.confrelid\n" +
                         "         left join pg_namespace f_sch on f_sch.oid = f_tbl.relnamespace\n" +
-                        "         left join pg_attribute f_col on (f_col.attrelid = f_tbl.oid and f_col.attnum = f_u.attnum)\n" +
-                        "group by constraint_name, constraint_type, self_schema, self_table, definition, foreign_schema, foreign_table\n" +
+                        "         left join pg_attribute f_col on (f_col.attrelid = f_tbl.oid and f_col.attnum = f_u.attnum)\n";
+
+        private static final String KEYS_QUERY_GROUP =
+                "group by constraint_name, constraint_type, self_schema, self_table, definition, foreign_schema, foreign_table\n" +
                         "order by self_schema, self_table;";
 
+        public static final String KEYS_QUERY = KEYS_QUERY_SELECT + KEYS_QUERY_GROUP;
+
+        // Same as KEYS_QUERY, restricted to the schema qualified table names given as a text array parameter.
+        private static final String FILTERED_KEYS_QUERY = KEYS_QUERY_SELECT +
+                "where (sch.nspname || '.' || tbl.relname) = any(?)\n" +
+                KEYS_QUERY_GROUP;
+
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
         /**
@@ -482,7 +515,15 @@ public class PostgresPlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
-                connection.close();
+                // Closing the pool waits for the connections in use to be returned, so it mustn't block the caller.
+                BlockingResourceUtils.fromBlockingCallable(() -> {
+                    connection.close();
+                    return connection;
+                }, scheduler)
+                        .subscribe(
+                                null,
+                                error -> log.error("Error closing Postgres connection pool", error)
+                        );
             }
         }
 
@@ -554,7 +595,70 @@ public class PostgresPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
+            return getStructure(connection, datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<DatasourceStructure> getTables(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
+
+            return Mono.fromSupplier(() -> {
 
+                Connection connectionFromPool;
+                try {
+                    connectionFromPool = getConnectionFromConnectionPool(connection, datasourceConfiguration);
+                } catch (SQLException | StaleConnectionException e) {
+                    // Same as getStructure, a failure to get a connection should trigger the recreation of the pool.
+                    return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
+                }
+
+                final List<DatasourceStructure.Table> tables = new ArrayList<>();
+
+                try (Statement statement = connectionFromPool.createStatement();
+                     ResultSet tablesResultSet = statement.executeQuery(TABLE_NAMES_QUERY)) {
+                    while (tablesResultSet.next()) {
+                        final char kind = tablesResultSet.getString("kind").charAt(0);
+                        final String schemaName = tablesResultSet.getString("schema_name");
+                        tables.add(new DatasourceStructure.Table(
+                                kind == 'r' ? DatasourceStructure.TableType.TABLE : DatasourceStructure.TableType.VIEW,
+                                schemaName,
+                                schemaName + "." + tablesResultSet.getString("table_name"),
+                                new ArrayList<>(),
+                                new ArrayList<>(),
+                                new ArrayList<>()
+                        ));
+                    }
+                } catch (SQLException throwable) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_ERROR,
+                            throwable.getMessage()
+                    ));
+                } finally {
+                    try {
+                        // Return the connection back to the pool
+                        connectionFromPool.close();
+                    } catch (SQLException e) {
+                        log.error("Error returning Postgres connection to pool during get tables", e);
+                    }
+                }
+
+                return Mono.just(new DatasourceStructure(tables));
+            })
+                    .flatMap(obj -> obj)
+                    .map(obj -> (DatasourceStructure) obj)
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Fetches the columns, keys and templates of only the given tables, so that a single table can be looked at
+         * without reading the catalog of every table in a very large database. The table names are schema qualified,
+         * as in the full structure. A null set of names fetches the structure of all the tables.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connection,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      Set<String> tableNames) {
+
+            final String[] tableNamesFilter = tableNames == null ? null : tableNames.toArray(new String[0]);
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
 
@@ -584,10 +688,12 @@ public class PostgresPlugin extends BasePlugin {
                         ", total - " + totalConnections);
 
                 // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
-                try (Statement statement = connectionFromPool.createStatement()) {
+                try {
 
                     // Get tables and fill up their columns.
-                    try (ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY)) {
+                    try (PreparedStatement columnsStatement = prepareStructureStatement(connectionFromPool,
+                            TABLES_QUERY, FILTERED_TABLES_QUERY, tableNamesFilter);
+                         ResultSet columnsResultSet = columnsStatement.executeQuery()) {
                         while (columnsResultSet.next()) {
                             final char kind = columnsResultSet.getString("kind").charAt(0);
                             final String schemaName = columnsResultSet.getString("schema_name");
@@ -613,7 +719,9 @@ public class PostgresPlugin extends BasePlugin {
                     }
 
                     // Get tables' constraints and fill those up.
-                    try (ResultSet constraintsResultSet = statement.executeQuery(KEYS_QUERY)) {
+                    try (PreparedStatement constraintsStatement = prepareStructureStatement(connectionFromPool,
+                            KEYS_QUERY, FILTERED_KEYS_QUERY, tableNamesFilter);
+                         ResultSet constraintsResultSet = constraintsStatement.executeQuery()) {
                         while (constraintsResultSet.next()) {
                             final String constraintName = constraintsResultSet.getString("constraint_name");
                             final char constraintType = constraintsResultSet.getString("constraint_type").charAt(0);
@@ -759,7 +867,8 @@ public class PostgresPlugin extends BasePlugin {
 
             PreparedStatement preparedStatement = (PreparedStatement) input;
             HikariProxyConnection connection = (HikariProxyConnection) args[0];
-            DataType valueType = DataTypeStringUtils.stringToKnownDataTypeConverter(value);
+            TypedValue typedValue = DataTypeStringUtils.parseToKnownDataType(value);
+            DataType valueType = typedValue.getDataType();
 
             Map.Entry<String, String> parameter = new SimpleEntry<>(value, valueType.toString());
             insertedParams.add(parameter);
@@ -779,15 +888,15 @@ public class PostgresPlugin extends BasePlugin {
                         break;
                     }
                     case INTEGER: {
-                        preparedStatement.setInt(index, Integer.parseInt(value));
+                        preparedStatement.setInt(index, (Integer) typedValue.getValue());
                         break;
                     }
                     case LONG: {
-                        preparedStatement.setLong(index, Long.parseLong(value));
+                        preparedStatement.setLong(index, (Long) typedValue.getValue());
                         break;
                     }
                     case FLOAT: {
-                        preparedStatement.setFloat(index, Float.parseFloat(value));
+                        preparedStatement.setFloat(index, (Float) typedValue.getValue());
                         break;
                     }
                     case DOUBLE: {
@@ -795,19 +904,19 @@ public class PostgresPlugin extends BasePlugin {
                         break;
                     }
                     case BOOLEAN: {
-                        preparedStatement.setBoolean(index, Boolean.parseBoolean(value));
+                        preparedStatement.setBoolean(index, (Boolean) typedValue.getValue());
                         break;
                     }
                     case DATE: {
-                        preparedStatement.setDate(index, Date.valueOf(value));
+                        preparedStatement.setDate(index, Date.valueOf((LocalDate) typedValue.getValue()));
                         break;
                     }
                     case TIME: {
-                        preparedStatement.setTime(index, Time.valueOf(value));
+                        preparedStatement.setTime(index, Time.valueOf((LocalTime) typedValue.getValue()));
                         break;
                     }
                     case TIMESTAMP: {
-                        preparedStatement.setTimestamp(index, Timestamp.valueOf(value));
+                        preparedStatement.setTimestamp(index, Timestamp.valueOf((LocalDateTime) typedValue.getValue()));
                         break;
                     }
                     case ARRAY: {
@@ -977,6 +1086,33 @@ public class PostgresPlugin extends BasePlugin {
         return datasource;
     }
 
+    /**
+     * Prepares one of the structure queries, restricted to the given schema qualified table names if there are any.
+     *
+     * @param connection
+     * @param query         Query over all the tables
+     * @param filteredQuery Same query, taking the table names as a text array parameter
+     * @param tableNames    Table names to restrict the query to, null for all the tables
+     * @return PreparedStatement ready to be executed
+     */
+    private static PreparedStatement prepareStructureStatement(Connection connection,
+                                                               String query,
+                                                               String filteredQuery,
+                                                               String[] tableNames) throws SQLException {
+        if (tableNames == null) {
+            return connection.prepareStatement(query);
+        }
+
+        PreparedStatement statement = connection.prepareStatement(filteredQuery);
+        try {
+            statement.setArray(1, connection.createArrayOf("text", tableNames));
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+        return statement;
+    }
+
     /**
      * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
      * In case a connection is not available in the pool, SQL Exception is thrown
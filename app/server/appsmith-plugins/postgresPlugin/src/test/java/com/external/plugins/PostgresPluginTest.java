@@ -23,7 +23,9 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
@@ -68,6 +70,9 @@ public class PostgresPluginTest {
 
     @BeforeClass
     public static void setUp() {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         if (address != null) {
             return;
         }
@@ -341,6 +346,51 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testGetTables() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<DatasourceStructure> tablesMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getTables(connection, dsConfig));
+
+        StepVerifier.create(tablesMono)
+                .assertNext(structure -> {
+                    assertNotNull(structure);
+                    assertArrayEquals(
+                            new String[]{"public.campus", "public.jsontest", "public.possessions", "public.users"},
+                            structure.getTables().stream().map(DatasourceStructure.Table::getName).toArray()
+                    );
+
+                    for (DatasourceStructure.Table table : structure.getTables()) {
+                        assertEquals(DatasourceStructure.TableType.TABLE, table.getType());
+                        assertEquals("public", table.getSchema());
+                        assertTrue(table.getColumns().isEmpty());
+                        assertTrue(table.getKeys().isEmpty());
+                        assertTrue(table.getTemplates().isEmpty());
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStructureOfSelectedTables() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig, Set.of("public.possessions")));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertNotNull(structure);
+                    assertEquals(1, structure.getTables().size());
+
+                    final DatasourceStructure.Table possessionsTable = structure.getTables().get(0);
+                    assertEquals("public.possessions", possessionsTable.getName());
+                    assertEquals(3, possessionsTable.getColumns().size());
+                    assertEquals(2, possessionsTable.getKeys().size());
+                    assertEquals(4, possessionsTable.getTemplates().size());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -1115,4 +1165,29 @@ public class PostgresPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testExecuteDoesNotBlockTheCallingThread() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT id FROM users WHERE id = 1");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop. Checking a connection out
+        // of the pool there would fail the execution.
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> Mono
+                        .defer(() -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                        .subscribeOn(Schedulers.parallel())
+                );
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
 }
@@ -2,6 +2,7 @@ package com.external.plugins;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -9,6 +10,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
@@ -20,16 +22,20 @@ import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.PipelineBase;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.SafeEncoder;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +47,8 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 public class RedisPlugin extends BasePlugin {
     private static final Long DEFAULT_PORT = 6379L;
     private static final int CONNECTION_TIMEOUT = 60;
+    // Index of the "Run each line as a separate command" setting in the plugin specified templates
+    private static final int PIPELINE_INDEX = 0;
 
     public RedisPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -50,7 +58,7 @@ public class RedisPlugin extends BasePlugin {
     @Extension
     public static class RedisPluginExecutor implements PluginExecutor<JedisPool> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("redis-plugin");
 
         @Override
         public Mono<ActionExecutionResult> execute(JedisPool jedisPool,
@@ -61,41 +69,48 @@ public class RedisPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null
                     , null, null));
 
-            Jedis jedis = jedisPool.getResource();
-            return Mono.fromCallable(() -> {
-                if (StringUtils.isNullOrEmpty(query)) {
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            String.format("Body is null or empty [%s]", query)));
-                }
-
-                // First value will be the redis command and others are arguments for that command
-                String[] bodySplitted = query.trim().split("\\s+");
-
-                Protocol.Command command;
-                try {
-                    // Commands are in upper case
-                    command = Protocol.Command.valueOf(bodySplitted[0].toUpperCase());
-                } catch (IllegalArgumentException exc) {
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            String.format("Not a valid Redis command:%s", bodySplitted[0])));
-                }
+            return BlockingResourceUtils.usingResource(
+                    // Checking out a connection blocks while the pool is exhausted, so it's done on the blocking
+                    // scheduler as well, instead of on the calling thread.
+                    jedisPool::getResource,
+                    jedis -> Mono.fromCallable(() -> {
+                        if (StringUtils.isNullOrEmpty(query)) {
+                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                    String.format("Body is null or empty [%s]", query)));
+                        }
 
-                Object commandOutput;
-                if (bodySplitted.length > 1) {
-                    commandOutput = jedis.sendCommand(command, Arrays.copyOfRange(bodySplitted, 1, bodySplitted.length));
-                } else {
-                    commandOutput = jedis.sendCommand(command);
-                }
+                        List<List<byte[]>> commands = parseCommands(query, isPipeline(actionConfiguration));
+                        if (commands.isEmpty()) {
+                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                    String.format("Body is null or empty [%s]", query)));
+                        }
 
-                ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                actionExecutionResult.setBody(objectMapper.valueToTree(processCommandOutput(commandOutput)));
-                actionExecutionResult.setIsExecutionSuccess(true);
+                        ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
+                        if (commands.size() == 1) {
+                            // First value will be the redis command and others are arguments for that command
+                            List<byte[]> commandWithArgs = commands.get(0);
+                            Protocol.Command command = getCommand(commandWithArgs.get(0));
+                            byte[][] args = commandWithArgs.subList(1, commandWithArgs.size()).toArray(new byte[0][]);
+                            Object commandOutput = jedis.sendCommand(command, args);
+                            actionExecutionResult.setBody(objectMapper.valueToTree(processCommandOutput(commandOutput)));
+                        } else {
+                            actionExecutionResult.setBody(objectMapper.valueToTree(executeBatch(jedis, commands)));
+                        }
+                        actionExecutionResult.setIsExecutionSuccess(true);
 
-                System.out.println(Thread.currentThread().getName() + ": In the RedisPlugin, got action execution result");
-                return Mono.just(actionExecutionResult);
-            })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
+                        System.out.println(Thread.currentThread().getName() + ": In the RedisPlugin, got action execution result");
+                        return Mono.just(actionExecutionResult);
+                    })
+                            .flatMap(obj -> obj)
+                            .map(obj -> (ActionExecutionResult) obj),
+                    /**
+                     * - Return resource back to the pool.
+                     * - https://stackoverflow.com/questions/54902337/is-it-necessary-to-use-jedis-close
+                     * - https://www.baeldung.com/jedis-java-redis-client-library:
+                     */
+                    Jedis::close,
+                    scheduler
+            )
                     .onErrorResume(error  -> {
                         error.printStackTrace();
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -111,18 +126,227 @@ public class RedisPlugin extends BasePlugin {
                         ActionExecutionResult result = actionExecutionResult;
                         result.setRequest(request);
                         return result;
-                    })
-                    .doFinally(signalType -> {
-                        /**
-                         * - Return resource back to the pool.
-                         * - https://stackoverflow.com/questions/54902337/is-it-necessary-to-use-jedis-close
-                         * - https://www.baeldung.com/jedis-java-redis-client-library:
-                         */
-                        if (jedis != null) {
-                            jedis.close();
+                    });
+        }
+
+        /**
+         * Sends all the commands to Redis in a single round trip, through a pipeline, or through a transaction if the
+         * body starts with MULTI and ends with EXEC. Redis runs the commands of a pipeline independently of each
+         * other, so a command that fails doesn't stop the commands after it; its error is returned in its place.
+         *
+         * @return The output of every command, in the order of the commands in the body
+         */
+        private List<List<Map<String, String>>> executeBatch(Jedis jedis, List<List<byte[]>> commands) {
+            final boolean isTransaction = isCommand(commands.get(0), Protocol.Command.MULTI)
+                    && isCommand(commands.get(commands.size() - 1), Protocol.Command.EXEC);
+            final List<List<byte[]>> batch = isTransaction ? commands.subList(1, commands.size() - 1) : commands;
+
+            // Validate all the commands before sending any of them.
+            List<Protocol.Command> batchCommands = new ArrayList<>();
+            for (List<byte[]> commandWithArgs : batch) {
+                Protocol.Command command = getCommand(commandWithArgs.get(0));
+                if (command == Protocol.Command.MULTI
+                        || command == Protocol.Command.EXEC
+                        || command == Protocol.Command.DISCARD) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            String.format("%s is only supported as the first (MULTI) or the last (EXEC) command " +
+                                    "of a transaction", command));
+                }
+                batchCommands.add(command);
+            }
+
+            final PipelineBase pipeline = isTransaction ? jedis.multi() : jedis.pipelined();
+            for (int i = 0; i < batch.size(); i++) {
+                List<byte[]> commandWithArgs = batch.get(i);
+                pipeline.sendCommand(
+                        batchCommands.get(i),
+                        commandWithArgs.subList(1, commandWithArgs.size()).toArray(new byte[0][])
+                );
+            }
+
+            List<Object> outputs;
+            if (isTransaction) {
+                outputs = ((Transaction) pipeline).exec();
+                if (outputs == null) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                            "Transaction was aborted by Redis, none of its commands were executed.");
+                }
+            } else {
+                outputs = ((Pipeline) pipeline).syncAndReturnAll();
+            }
+
+            return outputs.stream()
+                    .map(output -> output instanceof JedisDataException
+                            ? List.of(Map.of("error", String.valueOf(((JedisDataException) output).getMessage())))
+                            : processCommandOutput(output))
+                    .collect(Collectors.toList());
+        }
+
+        private static boolean isCommand(List<byte[]> commandWithArgs, Protocol.Command command) {
+            return commandWithArgs.size() == 1 && command.name().equalsIgnoreCase(SafeEncoder.encode(commandWithArgs.get(0)));
+        }
+
+        /**
+         * @return Whether the user turned on running each line of the body as a separate command. It's off by default,
+         * so that the body of existing queries is still read as a single command.
+         */
+        private static boolean isPipeline(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.size() <= PIPELINE_INDEX || properties.get(PIPELINE_INDEX) == null) {
+                return false;
+            }
+
+            final Object value = properties.get(PIPELINE_INDEX).getValue();
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            } else if (value instanceof String) {
+                return Boolean.parseBoolean((String) value);
+            }
+            return false;
+        }
+
+        private static Protocol.Command getCommand(byte[] name) {
+            final String commandName = SafeEncoder.encode(name);
+            try {
+                // Commands are in upper case
+                return Protocol.Command.valueOf(commandName.toUpperCase());
+            } catch (IllegalArgumentException exc) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format("Not a valid Redis command:%s", commandName));
+            }
+        }
+
+        /**
+         * Splits the body into commands, one per line, and every command into its arguments, the same way redis-cli
+         * does. Arguments are separated by whitespace, unless quoted with double or single quotes. In double quotes,
+         * \", \\, \n, \r, \t and \xHH are escaped, the last one being the byte HH; in single quotes, only \' is.
+         * Quoted arguments may span lines. Arguments are encoded in UTF-8.
+         *
+         * Unless the body is a pipeline, it's a single command whose arguments may span lines, as bodies were read
+         * before they could hold several commands.
+         */
+        static List<List<byte[]>> parseCommands(String body, boolean isPipeline) {
+            List<List<byte[]>> commands = new ArrayList<>();
+            List<byte[]> args = new ArrayList<>();
+            ArgumentBuilder arg = null;
+            char quote = 0;
+
+            for (int i = 0; i < body.length(); i++) {
+                char c = body.charAt(i);
+
+                if (quote != 0) {
+                    if (c == '\\' && i + 1 < body.length()) {
+                        char next = body.charAt(i + 1);
+                        if (quote == '"') {
+                            if (next == 'x' && i + 3 < body.length() && isHexDigit(body.charAt(i + 2))
+                                    && isHexDigit(body.charAt(i + 3))) {
+                                arg.appendByte(Integer.parseInt(body.substring(i + 2, i + 4), 16));
+                                i += 3;
+                                continue;
+                            }
+                            switch (next) {
+                                case 'n':
+                                    arg.append('\n');
+                                    break;
+                                case 'r':
+                                    arg.append('\r');
+                                    break;
+                                case 't':
+                                    arg.append('\t');
+                                    break;
+                                default:
+                                    arg.append(next);
+                            }
+                            i++;
+                            continue;
+                        } else if (next == '\'') {
+                            arg.append(next);
+                            i++;
+                            continue;
                         }
-                    })
-                    .subscribeOn(scheduler);
+                    }
+
+                    if (c != quote) {
+                        arg.append(c);
+                        continue;
+                    }
+
+                    // The closing quote must end the argument.
+                    quote = 0;
+                    if (i + 1 < body.length() && !Character.isWhitespace(body.charAt(i + 1))) {
+                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                String.format("Closing quote must be followed by a space or nothing at all, at " +
+                                        "position %d of the query", i + 1));
+                    }
+                } else if ((c == '"' || c == '\'') && arg == null) {
+                    quote = c;
+                    arg = new ArgumentBuilder();
+                } else if (Character.isWhitespace(c)) {
+                    if (arg != null) {
+                        args.add(arg.build());
+                        arg = null;
+                    }
+                    if ((c == '\n' || c == '\r') && !args.isEmpty()) {
+                        commands.add(args);
+                        args = new ArrayList<>();
+                    }
+                } else {
+                    if (arg == null) {
+                        arg = new ArgumentBuilder();
+                    }
+                    arg.append(c);
+                }
+            }
+
+            if (quote != 0) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Unbalanced quotes in the query");
+            }
+            if (arg != null) {
+                args.add(arg.build());
+            }
+            if (!args.isEmpty()) {
+                commands.add(args);
+            }
+
+            if (commands.size() > 1 && !isPipeline) {
+                return List.of(commands.stream().flatMap(List::stream).collect(Collectors.toList()));
+            }
+
+            return commands;
+        }
+
+        /**
+         * Builds the bytes of an argument from its characters, encoded in UTF-8, and from raw bytes given as escapes.
+         */
+        private static class ArgumentBuilder {
+            private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            private final StringBuilder chars = new StringBuilder();
+
+            void append(char c) {
+                chars.append(c);
+            }
+
+            void appendByte(int b) {
+                flushChars();
+                bytes.write(b);
+            }
+
+            byte[] build() {
+                flushChars();
+                return bytes.toByteArray();
+            }
+
+            private void flushChars() {
+                if (chars.length() > 0) {
+                    bytes.writeBytes(SafeEncoder.encode(chars.toString()));
+                    chars.setLength(0);
+                }
+            }
+        }
+
+        private static boolean isHexDigit(char c) {
+            return Character.digit(c, 16) != -1;
         }
 
         // This will be updated as we encounter different outputs.
@@ -132,9 +356,11 @@ public class RedisPlugin extends BasePlugin {
             } else if (commandOutput instanceof byte[]) {
                 return List.of(Map.of("result", SafeEncoder.encode((byte[]) commandOutput)));
             } else if (commandOutput instanceof List) {
-                List<byte[]> commandList = (List<byte[]>) commandOutput;
+                List<Object> commandList = (List<Object>) commandOutput;
                 return commandList.stream()
-                        .map(obj -> Map.of("result", SafeEncoder.encode(obj)))
+                        .map(obj -> Map.of("result", obj instanceof byte[]
+                                ? SafeEncoder.encode((byte[]) obj)
+                                : String.valueOf(obj)))
                         .collect(Collectors.toList());
             } else {
                 return List.of(Map.of("result", String.valueOf(commandOutput)));
@@ -261,17 +487,16 @@ public class RedisPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
 
-            return Mono.fromCallable(() ->
-                    datasourceCreate(datasourceConfiguration)
-                    .map(jedisPool -> {
-                        Jedis jedis = jedisPool.getResource();
-                        verifyPing(jedis).block();
-                        datasourceDestroy(jedisPool);
-                        return new DatasourceTestResult();
-                    })
-                    .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage()))))
-                    .flatMap(obj -> obj)
-                    .subscribeOn(scheduler);
+            return datasourceCreate(datasourceConfiguration)
+                    .flatMap(jedisPool -> BlockingResourceUtils.usingResource(
+                            jedisPool::getResource,
+                            this::verifyPing,
+                            Jedis::close,
+                            scheduler
+                    )
+                            .doFinally(signalType -> datasourceDestroy(jedisPool)))
+                    .thenReturn(new DatasourceTestResult())
+                    .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage())));
         }
 
     }
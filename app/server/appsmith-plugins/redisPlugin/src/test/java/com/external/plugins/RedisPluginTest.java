@@ -7,6 +7,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -17,14 +18,18 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.DockerImageName;
+import reactor.blockhound.BlockHound;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.util.SafeEncoder;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.Assert.assertEquals;
@@ -41,6 +46,9 @@ public class RedisPluginTest {
 
     @BeforeClass
     public static void setup() {
+        // Fails any blocking call made on a non-blocking thread, e.g., an event loop.
+        BlockHound.install();
+
         host = redis.getContainerIpAddress();
         port = redis.getFirstMappedPort();
     }
@@ -265,4 +273,141 @@ public class RedisPluginTest {
                     Assert.assertEquals("value", node.get("result").asText());
                 }).verifyComplete();
     }
+
+    @Test
+    public void itShouldParseQuotedArguments() {
+        List<List<byte[]>> commands = RedisPlugin.RedisPluginExecutor.parseCommands(
+                "SET greeting \"hello \\\"world\\\"\\n\"\n\n  set 'it\\'s' '' \r\nGET \"\\x41b\"", true);
+
+        assertEquals(List.of(
+                List.of("SET", "greeting", "hello \"world\"\n"),
+                List.of("set", "it's", ""),
+                List.of("GET", "Ab")
+        ), toStrings(commands));
+    }
+
+    @Test
+    public void itShouldParseHexEscapesAsBytes() {
+        List<List<byte[]>> commands = RedisPlugin.RedisPluginExecutor.parseCommands("SET binary \"\\xff\\x00é\"", false);
+
+        assertEquals(1, commands.size());
+        Assert.assertArrayEquals(new byte[]{(byte) 0xff, 0x00, (byte) 0xc3, (byte) 0xa9}, commands.get(0).get(2));
+    }
+
+    @Test
+    public void itShouldParseCommandSpanningLinesAsSingleCommand() {
+        List<List<byte[]>> commands = RedisPlugin.RedisPluginExecutor.parseCommands("HSET user:1\n  name Alice\n  age 30", false);
+
+        assertEquals(List.of(List.of("HSET", "user:1", "name", "Alice", "age", "30")), toStrings(commands));
+    }
+
+    @Test
+    public void itShouldNotSplitLinesStartingWithCommandNamesUnlessPipelined() {
+        // "get" and "set" are arguments here, even though they are names of commands too.
+        List<List<byte[]>> commands = RedisPlugin.RedisPluginExecutor.parseCommands("SADD verbs\nget\nset", false);
+
+        assertEquals(List.of(List.of("SADD", "verbs", "get", "set")), toStrings(commands));
+    }
+
+    private static List<List<String>> toStrings(List<List<byte[]>> commands) {
+        return commands.stream()
+                .map(args -> args.stream().map(SafeEncoder::encode).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void itShouldExecuteCommandsInPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("pipeline", "true")));
+        actionConfiguration.setBody("SET pipelinedKey \"a value with spaces\"\n" +
+                "GET pipelinedKey\n" +
+                "INCR pipelinedKey\n" +
+                "MGET pipelinedKey missingKey");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
+                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    Assert.assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode body = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(4, body.size());
+                    assertEquals("OK", body.get(0).get(0).get("result").asText());
+                    assertEquals("a value with spaces", body.get(1).get(0).get("result").asText());
+                    // A failed command doesn't stop the commands after it.
+                    Assert.assertTrue(body.get(2).get(0).has("error"));
+                    assertEquals("a value with spaces", body.get(3).get(0).get("result").asText());
+                    assertEquals("null", body.get(3).get(1).get("result").asText());
+                }).verifyComplete();
+    }
+
+    @Test
+    public void itShouldExecuteCommandsInTransaction() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("pipeline", "true")));
+        actionConfiguration.setBody("MULTI\nSET counter 10\nINCRBY counter 5\nGET counter\nEXEC");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
+                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    Assert.assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode body = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(3, body.size());
+                    assertEquals("OK", body.get(0).get(0).get("result").asText());
+                    assertEquals("15", body.get(1).get(0).get("result").asText());
+                    assertEquals("15", body.get(2).get(0).get("result").asText());
+                }).verifyComplete();
+    }
+
+    @Test
+    public void itShouldThrowErrorIfTransactionIsNotWholeBody() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("pipeline", "true")));
+        actionConfiguration.setBody("GET key\nMULTI\nSET key value\nEXEC");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
+                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    Assert.assertFalse(result.getIsExecutionSuccess());
+                    Assert.assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldNotBlockTheCallingThread() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("PING");
+
+        // The plugin is called on a non-blocking thread, same as on the server's event loop. Checking a connection out
+        // of the pool there would fail the execution.
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
+                .flatMap(jedisPool -> Mono
+                        .defer(() -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration))
+                        .subscribeOn(Schedulers.parallel())
+                );
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    Assert.assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final JsonNode node = ((ArrayNode) actionExecutionResult.getBody()).get(0);
+                    Assert.assertEquals("PONG", node.get("result").asText());
+                }).verifyComplete();
+    }
 }
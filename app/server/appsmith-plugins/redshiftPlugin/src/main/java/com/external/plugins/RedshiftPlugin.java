@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -24,10 +25,10 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -69,9 +70,20 @@ public class RedshiftPlugin extends BasePlugin {
     @Extension
     public static class RedshiftPluginExecutor implements PluginExecutor<Connection> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("redshift-plugin");
 
-        private static final String TABLES_QUERY =
+        private static final String TABLE_NAMES_QUERY =
+                "select c.relkind as kind,\n" +
+                        "       c.relname as table_name,\n" +
+                        "       n.nspname as schema_name\n" +
+                        "from pg_catalog.pg_class c\n" +
+                        "         left join pg_catalog.pg_namespace n on c.relnamespace = n.oid\n" +
+                        "where n.nspname not in ('information_schema', 'pg_catalog')\n" +
+                        "  and c.relkind in ('r', 'v')\n" +
+                        "  and pg_catalog.pg_table_is_visible(c.oid)\n" +
+                        "order by c.relname;";
+
+        private static final String TABLES_QUERY_SELECT =
                 "select a.attname                                                      as name,\n" +
                         "       t1.typname                                                     as column_type,\n" +
                         "       case when a.atthasdef then pg_get_expr(d.adbin, d.adrelid) end as default_expr,\n" +
@@ -87,10 +99,11 @@ public class RedshiftPlugin extends BasePlugin {
                         "  and not a.attisdropped\n" +
                         "  and n.nspname not in ('information_schema', 'pg_catalog')\n" +
                         "  and c.relkind in ('r', 'v')\n" +
-                        "  and pg_catalog.pg_table_is_visible(a.attrelid)\n" +
-                        "order by c.relname, a.attnum;";
+                        "  and pg_catalog.pg_table_is_visible(a.attrelid)\n";
+
+        private static final String TABLES_QUERY_ORDER = "order by c.relname, a.attnum;";
 
-        private static final String KEYS_QUERY_PRIMARY_KEY = "select tco.constraint_schema as self_schema,\n" +
+        private static final String KEYS_QUERY_PRIMARY_KEY_SELECT = "select tco.constraint_schema as self_schema,\n" +
                 "       tco.constraint_name,\n" +
                 "       kcu.column_name as self_column,\n" +
                 "       kcu.table_name as self_table,\n" +
@@ -100,12 +113,13 @@ public class RedshiftPlugin extends BasePlugin {
                 "     on kcu.constraint_name = tco.constraint_name\n" +
                 "     and kcu.constraint_schema = tco.constraint_schema\n" +
                 "     and kcu.constraint_name = tco.constraint_name\n" +
-                "where tco.constraint_type = 'PRIMARY KEY'\n" +
-                "order by tco.constraint_schema,\n" +
+                "where tco.constraint_type = 'PRIMARY KEY'\n";
+
+        private static final String KEYS_QUERY_PRIMARY_KEY_ORDER = "order by tco.constraint_schema,\n" +
                 "         tco.constraint_name,\n" +
                 "         kcu.ordinal_position;";
 
-        private static final String KEYS_QUERY_FOREIGN_KEY = "select kcu.table_schema as self_schema,\n" +
+        private static final String KEYS_QUERY_FOREIGN_KEY_SELECT = "select kcu.table_schema as self_schema,\n" +
                 "\t   kcu.table_name as self_table,\n" +
                 "       rel_kcu.table_schema as foreign_schema,\n" +
                 "       rel_kcu.table_name as foreign_table,\n" +
@@ -124,8 +138,9 @@ public class RedshiftPlugin extends BasePlugin {
                 "          on rco.unique_constraint_schema = rel_kcu.constraint_schema\n" +
                 "          and rco.unique_constraint_name = rel_kcu.constraint_name\n" +
                 "          and kcu.ordinal_position = rel_kcu.ordinal_position\n" +
-                "where tco.constraint_type = 'FOREIGN KEY'\n" +
-                "order by kcu.table_schema,\n" +
+                "where tco.constraint_type = 'FOREIGN KEY'\n";
+
+        private static final String KEYS_QUERY_FOREIGN_KEY_ORDER = "order by kcu.table_schema,\n" +
                 "         kcu.table_name,\n" +
                 "         kcu.ordinal_position;\n";
 
@@ -215,6 +230,19 @@ public class RedshiftPlugin extends BasePlugin {
             }
         }
 
+        /**
+         * Checks the validity of the connection on the blocking scheduler, since checking it makes a round trip to the
+         * cluster. If there is any issue with checking connection validity then assume that the connection is stale.
+         */
+        private Mono<Connection> validateConnection(Connection connection) {
+            return Mono.fromCallable(() -> {
+                checkConnectionValidity(connection);
+                return connection;
+            })
+                    .onErrorMap(SQLException.class, error -> new StaleConnectionException())
+                    .subscribeOn(scheduler);
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(Connection connection,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -519,8 +547,8 @@ public class RedshiftPlugin extends BasePlugin {
                 final String fullTableName = selfSchema + "." + tableName;
 
                 if (!tablesByName.containsKey(fullTableName)) {
-                    /* do nothing */
-                    return;
+                    /* skip the keys of tables that are not being fetched */
+                    continue;
                 }
 
                 final DatasourceStructure.Table table = tablesByName.get(fullTableName);
@@ -616,36 +644,115 @@ public class RedshiftPlugin extends BasePlugin {
             }
         }
 
+        /**
+         * Prepares one of the structure queries defined on top of the class, restricted to the given schema qualified
+         * table names with an `in` clause on the given expression. The query is not restricted if no table names are
+         * given.
+         */
+        private PreparedStatement prepareStructureStatement(Connection connection,
+                                                            String selectQuery,
+                                                            String tableNameExpression,
+                                                            String orderClause,
+                                                            List<String> tableNames) throws SQLException {
+            if (tableNames == null) {
+                return connection.prepareStatement(selectQuery + orderClause);
+            }
+
+            final String placeholders = tableNames.stream().map(name -> "?").collect(Collectors.joining(", "));
+            final PreparedStatement statement = connection.prepareStatement(selectQuery
+                    + "  and " + tableNameExpression + " in (" + placeholders + ")\n"
+                    + orderClause);
+            for (int i = 0; i < tableNames.size(); i++) {
+                statement.setString(i + 1, tableNames.get(i));
+            }
+
+            return statement;
+        }
+
         @Override
         public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
-            /*
-             * 1. If there is any issue with checking connection validity then assume that the connection is stale.
-             */
-            try {
-                checkConnectionValidity(connection);
-            } catch (SQLException e) {
-                return Mono.error(new StaleConnectionException());
+            return getStructure(connection, datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<DatasourceStructure> getTables(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return validateConnection(connection).then(Mono.fromSupplier(() -> {
+                final List<DatasourceStructure.Table> tables = new ArrayList<>();
+
+                try (Statement statement = connection.createStatement();
+                     ResultSet tablesResultSet = statement.executeQuery(TABLE_NAMES_QUERY)) {
+                    checkResultSetValidity(tablesResultSet);
+
+                    while (tablesResultSet.next()) {
+                        final char kind = tablesResultSet.getString("kind").charAt(0);
+                        final String schemaName = tablesResultSet.getString("schema_name");
+                        tables.add(new DatasourceStructure.Table(
+                                kind == 'r' ? DatasourceStructure.TableType.TABLE : DatasourceStructure.TableType.VIEW,
+                                schemaName,
+                                schemaName + "." + tablesResultSet.getString("table_name"),
+                                new ArrayList<>(),
+                                new ArrayList<>(),
+                                new ArrayList<>()
+                        ));
+                    }
+                } catch (SQLException e) {
+                    return Mono.error(
+                            new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                                    e.getMessage()
+                            )
+                    );
+                } catch (AppsmithPluginException e) {
+                    return Mono.error(e);
+                }
+
+                return Mono.just(new DatasourceStructure(tables));
+            }))
+                    .flatMap(obj -> obj)
+                    .map(obj -> (DatasourceStructure) obj)
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Fetches the columns, keys and templates of only the given tables, so that a single table can be looked at
+         * without reading the catalog of every table in a very large cluster. The table names are schema qualified, as
+         * in the full structure. A null set of names fetches the structure of all the tables.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(Connection connection,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      Set<String> tableNames) {
+            if (tableNames != null && tableNames.isEmpty()) {
+                return validateConnection(connection).thenReturn(new DatasourceStructure(new ArrayList<>()));
             }
 
+            final List<String> tableNamesFilter = tableNames == null ? null : new ArrayList<>(tableNames);
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
-            return Mono.fromSupplier(() -> {
+            return validateConnection(connection).then(Mono.fromSupplier(() -> {
                 // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                 System.out.println(Thread.currentThread().getName() + ": Getting Redshift Db structure");
-                try (Statement statement = connection.createStatement()) {
+                try (PreparedStatement columnsStatement = prepareStructureStatement(connection, TABLES_QUERY_SELECT,
+                        "n.nspname || '.' || c.relname", TABLES_QUERY_ORDER, tableNamesFilter);
+                     PreparedStatement primaryKeysStatement = prepareStructureStatement(connection,
+                             KEYS_QUERY_PRIMARY_KEY_SELECT, "tco.constraint_schema || '.' || kcu.table_name",
+                             KEYS_QUERY_PRIMARY_KEY_ORDER, tableNamesFilter);
+                     PreparedStatement foreignKeysStatement = prepareStructureStatement(connection,
+                             KEYS_QUERY_FOREIGN_KEY_SELECT, "kcu.table_schema || '.' || kcu.table_name",
+                             KEYS_QUERY_FOREIGN_KEY_ORDER, tableNamesFilter)) {
 
                     // Get tables' schema and fill up their columns.
-                    ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY);
+                    ResultSet columnsResultSet = columnsStatement.executeQuery();
                     getTablesInfo(columnsResultSet, tablesByName);
 
                     // Get tables' primary key constraints and fill those up.
-                    ResultSet primaryKeyConstraintsResultSet = statement.executeQuery(KEYS_QUERY_PRIMARY_KEY);
+                    ResultSet primaryKeyConstraintsResultSet = primaryKeysStatement.executeQuery();
                     getKeysInfo(primaryKeyConstraintsResultSet, tablesByName, keyRegistry);
 
                     // Get tables' foreign key constraints and fill those up.
-                    ResultSet foreignKeyConstraintsResultSet = statement.executeQuery(KEYS_QUERY_FOREIGN_KEY);
+                    ResultSet foreignKeyConstraintsResultSet = foreignKeysStatement.executeQuery();
                     getKeysInfo(foreignKeyConstraintsResultSet, tablesByName, keyRegistry);
 
                     // Get templates for each table and put those in.
@@ -667,8 +774,9 @@ public class RedshiftPlugin extends BasePlugin {
                     table.getKeys().sort(Comparator.naturalOrder());
                 }
 
-                return structure;
-            })
+                return Mono.just(structure);
+            }))
+                    .flatMap(obj -> obj)
                     .map(resultStructure -> (DatasourceStructure) resultStructure)
                     .onErrorMap(e -> {
                         if (!(e instanceof AppsmithPluginException)) {
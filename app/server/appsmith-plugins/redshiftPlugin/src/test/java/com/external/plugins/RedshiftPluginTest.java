@@ -18,16 +18,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
 import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Time;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -47,6 +48,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -192,13 +195,12 @@ public class RedshiftPluginTest {
         when(mockConnection.isClosed()).thenReturn(false);
         when(mockConnection.isValid(Mockito.anyInt())).thenReturn(true);
 
-        /* Mock java.sql.Statement:
-         *      a. execute(...)
+        /* Mock java.sql.PreparedStatement:
+         *      a. executeQuery()
          *      b. close()
          */
-        Statement mockStatement = mock(Statement.class);
-        when(mockConnection.createStatement()).thenReturn(mockStatement);
-        when(mockStatement.execute(Mockito.any())).thenReturn(true);
+        PreparedStatement mockStatement = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement(Mockito.anyString())).thenReturn(mockStatement);
         doNothing().when(mockStatement).close();
 
         /* Mock java.sql.ResultSet:
@@ -302,9 +304,9 @@ public class RedshiftPluginTest {
      *      id timestamptz default now(),
      *      name timestamptz default now()
      *    );
-     * 4. Run TABLES_QUERY
-     * 5. Run KEYS_QUERY_PRIMARY_KEY
-     * 6. Run KEYS_QUERY_FOREIGN_KEY
+     * 4. Run TABLES_QUERY_SELECT
+     * 5. Run KEYS_QUERY_PRIMARY_KEY_SELECT
+     * 6. Run KEYS_QUERY_FOREIGN_KEY_SELECT
      */
     @Test
     public void testStructure() throws SQLException {
@@ -316,13 +318,12 @@ public class RedshiftPluginTest {
         when(mockConnection.isClosed()).thenReturn(false);
         when(mockConnection.isValid(Mockito.anyInt())).thenReturn(true);
 
-        /* Mock java.sql.Statement:
-         *      a. execute(...)
+        /* Mock java.sql.PreparedStatement:
+         *      a. executeQuery()
          *      b. close()
          */
-        Statement mockStatement = mock(Statement.class);
-        when(mockConnection.createStatement()).thenReturn(mockStatement);
-        when(mockStatement.execute(Mockito.any())).thenReturn(true);
+        PreparedStatement mockStatement = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement(Mockito.anyString())).thenReturn(mockStatement);
         doNothing().when(mockStatement).close();
 
         /* Mock java.sql.ResultSet:
@@ -331,7 +332,7 @@ public class RedshiftPluginTest {
          *      e. close()
          */
         ResultSet mockResultSet = mock(ResultSet.class);
-        when(mockStatement.executeQuery(Mockito.anyString())).thenReturn(mockResultSet, mockResultSet, mockResultSet);
+        when(mockStatement.executeQuery()).thenReturn(mockResultSet, mockResultSet, mockResultSet);
         when(mockResultSet.next())
                 .thenReturn(true, true, true, true, true, true, true, true, false)                  // TABLES_QUERY
                 .thenReturn(true, true, false)                                                      // KEYS_QUERY_PRIMARY_KEY
@@ -467,6 +468,59 @@ public class RedshiftPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testStructureOfSelectedTables() throws SQLException {
+        Connection mockConnection = mock(Connection.class);
+        when(mockConnection.isClosed()).thenReturn(false);
+        when(mockConnection.isValid(Mockito.anyInt())).thenReturn(true);
+
+        PreparedStatement mockStatement = mock(PreparedStatement.class);
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        when(mockConnection.prepareStatement(queryCaptor.capture())).thenReturn(mockStatement);
+
+        ResultSet mockResultSet = mock(ResultSet.class);
+        when(mockStatement.executeQuery()).thenReturn(mockResultSet, mockResultSet, mockResultSet);
+        when(mockResultSet.next())
+                .thenReturn(true, false)                                         // TABLES_QUERY
+                .thenReturn(true, true, false)                                   // KEYS_QUERY_PRIMARY_KEY
+                .thenReturn(false);                                              // KEYS_QUERY_FOREIGN_KEY
+        when(mockResultSet.getString("kind")).thenReturn("r");
+        when(mockResultSet.getString("schema_name")).thenReturn("public");
+        when(mockResultSet.getString("table_name")).thenReturn("possessions");
+        when(mockResultSet.getString("name")).thenReturn("id");
+        when(mockResultSet.getString("column_type")).thenReturn("int4");
+        // The key of a table that wasn't asked for must not stop the keys of the selected table from being read.
+        when(mockResultSet.getString("constraint_name")).thenReturn("users_pkey", "possessions_pkey");
+        when(mockResultSet.getString("constraint_type")).thenReturn("p", "p");
+        when(mockResultSet.getString("self_schema")).thenReturn("public", "public");
+        when(mockResultSet.getString("self_table")).thenReturn("users", "possessions");
+        when(mockResultSet.getString("self_column")).thenReturn("id", "id");
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<DatasourceStructure> structureMono = pluginExecutor.getStructure(mockConnection, dsConfig,
+                Set.of("public.possessions"));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertEquals(1, structure.getTables().size());
+
+                    final DatasourceStructure.Table possessionsTable = structure.getTables().get(0);
+                    assertEquals("public.possessions", possessionsTable.getName());
+                    assertArrayEquals(
+                            new DatasourceStructure.Key[]{new DatasourceStructure.PrimaryKey("possessions_pkey", List.of("id"))},
+                            possessionsTable.getKeys().toArray()
+                    );
+                    assertEquals(4, possessionsTable.getTemplates().size());
+                })
+                .verifyComplete();
+
+        assertEquals(3, queryCaptor.getAllValues().size());
+        for (String query : queryCaptor.getAllValues()) {
+            assertTrue(query.contains(" in (?)"));
+        }
+        verify(mockStatement, times(3)).setString(1, "public.possessions");
+    }
+
     @Test
     public void testDuplicateColumnNames() throws SQLException {
         /* Mock java.sql.Connection:
@@ -477,13 +531,12 @@ public class RedshiftPluginTest {
         when(mockConnection.isClosed()).thenReturn(false);
         when(mockConnection.isValid(Mockito.anyInt())).thenReturn(true);
 
-        /* Mock java.sql.Statement:
-         *      a. execute(...)
+        /* Mock java.sql.PreparedStatement:
+         *      a. executeQuery()
          *      b. close()
          */
-        Statement mockStatement = mock(Statement.class);
-        when(mockConnection.createStatement()).thenReturn(mockStatement);
-        when(mockStatement.execute(Mockito.any())).thenReturn(true);
+        PreparedStatement mockStatement = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement(Mockito.anyString())).thenReturn(mockStatement);
         doNothing().when(mockStatement).close();
 
         /* Mock java.sql.ResultSet:
@@ -154,9 +154,9 @@ public class RestApiPlugin extends BasePlugin {
                     String updatedBody = MustacheHelper.replaceMustacheWithQuestionMark(actionConfiguration.getBody(), mustacheKeysInOrder);
 
                     try {
-                        updatedBody = (String) smartSubstitutionOfBindings(updatedBody,
-                                mustacheKeysInOrder,
-                                executeActionDTO.getParams(),
+                        List<String> values = getBindingValuesInOrder(mustacheKeysInOrder, executeActionDTO.getParams());
+                        updatedBody = DataTypeStringUtils.jsonSmartReplacementQuestionWithValues(updatedBody,
+                                values,
                                 parameters);
                     } catch (AppsmithPluginException e) {
                         ActionExecutionResult errorResult = new ActionExecutionResult();
@@ -768,17 +768,6 @@ public class RestApiPlugin extends BasePlugin {
             return datasourceConfiguration;
         }
 
-        @Override
-        public Object substituteValueInInput(int index,
-                                             String binding,
-                                             String value,
-                                             Object input,
-                                             List<Map.Entry<String, String>> insertedParams,
-                                             Object... args) {
-            String jsonBody = (String) input;
-            return DataTypeStringUtils.jsonSmartReplacementQuestionWithValue(jsonBody, value, insertedParams);
-        }
-
         @Override
         public Mono<ActionExecutionResult> execute(APIConnection apiConnection,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -405,6 +405,41 @@ public class RestApiPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testSmartSubstitutionJSONBodyWithSpecialCharacters() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl("https://postman-echo.com/post");
+
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHeaders(List.of(new Property("content-type", "application/json")));
+        actionConfig.setHttpMethod(HttpMethod.POST);
+        actionConfig.setBody("{\"text\" : {{Input1.text}}, \"quotedText\" : \"{{Input1.text}}\"}");
+        actionConfig.setPluginSpecifiedTemplates(List.of(new Property("jsonSmartSubstitution", "true")));
+
+        // Quotes, backslashes and newlines must be escaped in the substituted body, and read back as they are.
+        final String text = "She said \"hi\" from C:\\temp\\\nand left";
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        Param param = new Param();
+        param.setKey("Input1.text");
+        param.setValue(text);
+        executeActionDTO.setParams(List.of(param));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(null, executeActionDTO, dsConfig, actionConfig);
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    try {
+                        final JsonNode echoedBody = new ObjectMapper().readTree(String.valueOf(result.getBody())).get("json");
+                        assertEquals(text, echoedBody.get("text").asText());
+                        assertEquals(text, echoedBody.get("quotedText").asText());
+                    } catch (JsonProcessingException e) {
+                        throw new AssertionError(e);
+                    }
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testMultipartFormData() {
         DatasourceConfiguration dsConfig = new DatasourceConfiguration();
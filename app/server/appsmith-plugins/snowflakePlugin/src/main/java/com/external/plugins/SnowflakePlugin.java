@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BlockingResourceUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -19,10 +20,10 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -36,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class SnowflakePlugin extends BasePlugin {
 
@@ -47,7 +49,7 @@ public class SnowflakePlugin extends BasePlugin {
     @Extension
     public static class SnowflakePluginExecutor implements PluginExecutor<Connection> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final Scheduler scheduler = BlockingResourceUtils.newBlockingScheduler("snowflake-plugin");
 
         @Override
         public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
@@ -216,6 +218,58 @@ public class SnowflakePlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return getStructure(connection, datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<DatasourceStructure> getTables(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return Mono
+                    .fromSupplier(() -> {
+                        final List<DatasourceStructure.Table> tables = new ArrayList<>();
+                        try {
+                            if (connection.isValid(30)) {
+                                try (PreparedStatement statement = connection.prepareStatement(SqlUtils.TABLES_QUERY)) {
+                                    statement.setString(1, (String) datasourceConfiguration.getProperties().get(2).getValue());
+                                    ResultSet resultSet = statement.executeQuery();
+
+                                    while (resultSet.next()) {
+                                        tables.add(new DatasourceStructure.Table(
+                                                DatasourceStructure.TableType.TABLE,
+                                                resultSet.getString("TABLE_SCHEMA"),
+                                                resultSet.getString("TABLE_NAME"),
+                                                new ArrayList<>(),
+                                                new ArrayList<>(),
+                                                new ArrayList<>()
+                                        ));
+                                    }
+                                }
+                            } else {
+                                throw new StaleConnectionException();
+                            }
+                        } catch (SQLException throwable) {
+                            throwable.printStackTrace();
+                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, throwable.getMessage());
+                        }
+                        return new DatasourceStructure(tables);
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Fetches the columns, keys and templates of only the given tables of the configured schema. Only the columns
+         * query is restricted to the given tables, the keys are listed for the whole schema by `SHOW` commands, which
+         * only read metadata, and the keys of the other tables are skipped. A null set of names fetches the structure
+         * of all the tables.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(Connection connection,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      Set<String> tableNames) {
+            if (tableNames != null && tableNames.isEmpty()) {
+                return Mono.just(new DatasourceStructure(new ArrayList<>()));
+            }
+
+            final List<String> tableNamesFilter = tableNames == null ? null : new ArrayList<>(tableNames);
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
@@ -225,9 +279,23 @@ public class SnowflakePlugin extends BasePlugin {
                         try {
                             if (connection.isValid(30)) {
                                 Statement statement = connection.createStatement();
-                                final String columnsQuery = SqlUtils.COLUMNS_QUERY + "'"
-                                        + datasourceConfiguration.getProperties().get(2).getValue() + "'";
-                                ResultSet resultSet = statement.executeQuery(columnsQuery);
+                                ResultSet resultSet;
+                                if (tableNamesFilter == null) {
+                                    final String columnsQuery = SqlUtils.COLUMNS_QUERY + "'"
+                                            + datasourceConfiguration.getProperties().get(2).getValue() + "'";
+                                    resultSet = statement.executeQuery(columnsQuery);
+                                } else {
+                                    final String placeholders = tableNamesFilter.stream()
+                                            .map(name -> "?")
+                                            .collect(Collectors.joining(", "));
+                                    final PreparedStatement columnsStatement = connection.prepareStatement(
+                                            SqlUtils.COLUMNS_QUERY + "? AND cols.table_name IN (" + placeholders + ")");
+                                    columnsStatement.setString(1, (String) datasourceConfiguration.getProperties().get(2).getValue());
+                                    for (int i = 0; i < tableNamesFilter.size(); i++) {
+                                        columnsStatement.setString(i + 2, tableNamesFilter.get(i));
+                                    }
+                                    resultSet = columnsStatement.executeQuery();
+                                }
 
                                 while (resultSet.next()) {
                                     SqlUtils.getTableInfo(resultSet, tablesByName);
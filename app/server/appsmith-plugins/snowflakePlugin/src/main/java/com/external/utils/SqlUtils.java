@@ -36,6 +36,25 @@ public class SqlUtils {
                     "WHERE " +
                     "cols.table_schema = ";
 
+    /**
+     * Example output for TABLES_QUERY:
+     * +--------------+------------+
+     * | TABLE_SCHEMA | TABLE_NAME |
+     * +--------------+------------+
+     * | test_schema  | test       |
+     * | test_schema  | test2      |
+     * +--------------+------------+
+     */
+    public static final String TABLES_QUERY =
+            "SELECT " +
+                    "tabs.table_schema as table_schema, " +
+                    "tabs.table_name as table_name " +
+                    "FROM " +
+                    "information_schema.tables tabs " +
+                    "WHERE " +
+                    "tabs.table_schema = ? " +
+                    "ORDER BY tabs.table_name";
+
     /**
      * Example output for PRIMARY_KEYS_QUERY:
      * +------------+---------------+-------------+------------+-------------+--------------+--------------------+---------+
@@ -0,0 +1,89 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.User;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.getUserPermissions;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * The policies that the documents matched by a query inherit from their applications, as resolved by
+ * {@link InheritedPolicyResolver} for a user.
+ */
+public class InheritedPolicies {
+
+    public static final InheritedPolicies NONE = new InheritedPolicies(Collections.emptySet(), Collections.emptyMap(), null);
+
+    // The permissions of the documents that are inherited from their application, rather than read from themselves
+    private final Set<String> inheritablePermissions;
+
+    private final Map<String, Set<Policy>> policiesByApplicationId;
+
+    private final Map<String, Set<String>> userPermissionsByApplicationId = new HashMap<>();
+
+    InheritedPolicies(Set<String> inheritablePermissions, Map<String, Set<Policy>> policiesByApplicationId, User user) {
+        this.inheritablePermissions = inheritablePermissions;
+        this.policiesByApplicationId = policiesByApplicationId;
+        policiesByApplicationId.forEach((applicationId, policies) ->
+                userPermissionsByApplicationId.put(applicationId, getUserPermissions(policies, user)));
+    }
+
+    public boolean isInherited(AclPermission permission) {
+        return permission != null && inheritablePermissions.contains(permission.getValue());
+    }
+
+    /**
+     * Criteria that match the documents on which the user gets the given inherited permission from their application.
+     * Takes the place of {@link com.appsmith.server.repositories.BaseAppsmithRepositoryImpl#userAcl} for the
+     * permissions for which {@link #isInherited} is true.
+     */
+    public Criteria getCriteria(AclPermission permission) {
+        final Set<String> applicationIds = userPermissionsByApplicationId.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(permission.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        return where(FieldName.APPLICATION_ID).in(applicationIds);
+    }
+
+    /**
+     * Replaces the inheritable policies of the given document with the ones it inherits from its application. The
+     * copies of the application's policies saved in the document itself may be out of date, since sharing an application
+     * doesn't update them, so they are dropped. The document's own policies, e.g., for its creator, are kept.
+     */
+    public <T extends BaseDomain> T apply(T obj, String applicationId) {
+        if (inheritablePermissions.isEmpty()) {
+            return obj;
+        }
+
+        Set<Policy> policies = new HashSet<>();
+        if (obj.getPolicies() != null) {
+            for (Policy policy : obj.getPolicies()) {
+                if (!inheritablePermissions.contains(policy.getPermission())) {
+                    policies.add(policy);
+                }
+            }
+        }
+
+        // Copies are added, so that changes made to the policies of one document don't show up in the others
+        for (Policy policy : policiesByApplicationId.getOrDefault(applicationId, Collections.emptySet())) {
+            policies.add(Policy.builder()
+                    .permission(policy.getPermission())
+                    .users(new HashSet<>(policy.getUsers()))
+                    .groups(new HashSet<>(policy.getGroups()))
+                    .build());
+        }
+
+        obj.setPolicies(policies);
+        return obj;
+    }
+}
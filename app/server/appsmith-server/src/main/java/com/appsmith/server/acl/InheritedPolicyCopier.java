@@ -0,0 +1,102 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Config;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.repositories.ConfigRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.minidev.json.JSONObject;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Brings the copies of the application policies saved in pages, actions and comment threads up to date, when the
+ * server is started with `appsmith.acl.inherit-policies` turned back off. While it's on, sharing an application doesn't
+ * update these copies, so without this they would grant the access the application had when it was turned on.
+ *
+ * Every start with the flag on is recorded in the config collection, and the next start with it off copies the
+ * policies of every application into its documents again, before any request is served. The copying is idempotent, so
+ * it's simply done again on the next start if the server stops half way.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InheritedPolicyCopier {
+
+    private static final String INHERITED_POLICIES_CONFIG = "inherited-policies";
+
+    private final InheritedPolicyResolver inheritedPolicyResolver;
+    private final ConfigRepository configRepository;
+    private final ReactiveMongoOperations mongoOperations;
+
+    @PostConstruct
+    public void copyPoliciesIfInheritanceWasTurnedOff() {
+        if (inheritedPolicyResolver.isEnabled()) {
+            setInheritedPoliciesConfig(true).block();
+            return;
+        }
+
+        configRepository.findByName(INHERITED_POLICIES_CONFIG)
+                .filter(config -> config.getConfig() != null && Boolean.TRUE.equals(config.getConfig().get("value")))
+                .flatMap(config -> {
+                    log.info("Policies were inherited from applications before this start, copying them to the documents again");
+                    return copyApplicationPolicies().then(setInheritedPoliciesConfig(false));
+                })
+                .block();
+    }
+
+    private Mono<Config> setInheritedPoliciesConfig(boolean isInherited) {
+        return configRepository.findByName(INHERITED_POLICIES_CONFIG)
+                .defaultIfEmpty(new Config(null, INHERITED_POLICIES_CONFIG))
+                .flatMap(config -> {
+                    config.setConfig(new JSONObject(Map.of("value", isInherited)));
+                    return configRepository.save(config);
+                });
+    }
+
+    private Mono<Void> copyApplicationPolicies() {
+        Query applicationQuery = new Query();
+        applicationQuery.fields().include(fieldName(QApplication.application.policies));
+
+        return mongoOperations.find(applicationQuery, Application.class)
+                .concatMap(application -> Flux.fromIterable(inheritedPolicyResolver.getInheritingDomains())
+                        .concatMap(domain -> copyApplicationPolicies(application, domain)))
+                .then();
+    }
+
+    /**
+     * Replaces the inheritable policies of all the documents of the given type in the given application with the ones
+     * derived from the application's policies. Their other policies, e.g., for their creator, are kept.
+     */
+    private Mono<Void> copyApplicationPolicies(Application application, Class<? extends BaseDomain> domain) {
+        final Query query = new Query(where(FieldName.APPLICATION_ID).is(application.getId()));
+        final Set<Policy> policies = inheritedPolicyResolver.getInheritedPolicies(domain, application.getPolicies());
+
+        final Update removeInheritablePolicies = new Update().pull(
+                FieldName.POLICIES,
+                new Document("permission", new Document("$in", new ArrayList<>(inheritedPolicyResolver.getInheritablePermissions(domain))))
+        );
+        final Update addInheritedPolicies = new Update().addToSet(FieldName.POLICIES).each(policies.toArray());
+
+        return mongoOperations.updateMulti(query, removeInheritablePolicies, domain)
+                .then(mongoOperations.updateMulti(query, addInheritedPolicies, domain))
+                .then();
+    }
+}
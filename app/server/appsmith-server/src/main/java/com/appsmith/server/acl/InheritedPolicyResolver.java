@@ -0,0 +1,203 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Resolves the policies that pages, actions and comment threads inherit from their application when they are read,
+ * when `appsmith.acl.inherit-policies` is true. Otherwise, these documents are checked against the copies of their
+ * application's policies that are saved in each of them, which sharing an application has to update one by one.
+ * With the policies resolved when reading, sharing an application, or making it public, only updates the application.
+ *
+ * The inherited policies are derived from the application's policies with the hierarchy and lateral graphs of
+ * {@link PolicyGenerator}, the same as the copies are, so a document gets the same permissions either way. The copies
+ * are brought up to date again when the server is started with the flag turned back off, see
+ * {@link InheritedPolicyCopier}.
+ */
+@Component
+public class InheritedPolicyResolver {
+
+    // Key of a map in the subscriber context, from application ids to their policies, that is shared by all the reads
+    // of a request. See InheritedPolicyCacheFilter.
+    public static final String APPLICATION_POLICIES_CACHE = "inheritedPolicyResolver.applicationPolicies";
+
+    // The chain of entities in the policy hierarchy, that leads from the application to each document that inherits
+    // its policies.
+    private static final Map<Class<? extends BaseDomain>, List<Class<? extends BaseDomain>>> HIERARCHIES = Map.of(
+            NewPage.class, List.of(Application.class, Page.class),
+            NewAction.class, List.of(Application.class, Page.class, Action.class),
+            CommentThread.class, List.of(Application.class, CommentThread.class)
+    );
+
+    private final PolicyGenerator policyGenerator;
+    private final ReactiveMongoOperations mongoOperations;
+    private final boolean isEnabled;
+
+    private final Map<Class<? extends BaseDomain>, Set<String>> inheritablePermissions = new HashMap<>();
+
+    public InheritedPolicyResolver(PolicyGenerator policyGenerator,
+                                   ReactiveMongoOperations mongoOperations,
+                                   @Value("${appsmith.acl.inherit-policies:false}") boolean isEnabled) {
+        this.policyGenerator = policyGenerator;
+        this.mongoOperations = mongoOperations;
+        this.isEnabled = isEnabled;
+
+        // The permissions that can be inherited are the ones derived from an application that has all the permissions.
+        final Set<Policy> allApplicationPolicies = EnumSet.allOf(AclPermission.class).stream()
+                .filter(permission -> Application.class.equals(permission.getEntity()))
+                .map(permission -> Policy.builder().permission(permission.getValue()).users(Set.of(FieldName.ANONYMOUS_USER)).build())
+                .collect(Collectors.toSet());
+        HIERARCHIES.forEach((domain, hierarchy) -> inheritablePermissions.put(
+                domain,
+                getInheritedPolicies(allApplicationPolicies, hierarchy).stream()
+                        .map(Policy::getPermission)
+                        .collect(Collectors.toUnmodifiableSet())
+        ));
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public boolean isInherited(Class<? extends BaseDomain> domain) {
+        return isEnabled && HIERARCHIES.containsKey(domain);
+    }
+
+    /**
+     * Reads the policies of the applications of the documents matched by the given query, and derives the policies
+     * that these documents inherit from them. The applications are read once for a query, and only their policies are
+     * read. The ids of the applications aren't looked up when the query already selects a single application, and the
+     * policies of the applications already read by the current request are reused, when the subscriber context has a
+     * {@link #APPLICATION_POLICIES_CACHE}.
+     *
+     * @param domain Type of the documents, which is checked with {@link #isInherited}
+     * @param query  Query that matches the documents, without any permission checks
+     * @param user   User whose permissions are resolved
+     */
+    public Mono<InheritedPolicies> resolve(Class<? extends BaseDomain> domain, Query query, User user) {
+        if (!isInherited(domain)) {
+            return Mono.just(InheritedPolicies.NONE);
+        }
+
+        final List<Class<? extends BaseDomain>> hierarchy = HIERARCHIES.get(domain);
+
+        return Mono.subscriberContext()
+                .flatMap(context -> {
+                    // Without a cache in the context, a map of its own keeps the applications read for this query
+                    final Map<String, Set<Policy>> cache =
+                            context.getOrDefault(APPLICATION_POLICIES_CACHE, new ConcurrentHashMap<String, Set<Policy>>());
+
+                    return findApplicationIds(domain, query)
+                            .flatMap(applicationIds -> findApplicationPolicies(applicationIds, cache));
+                })
+                .map(applicationPoliciesById -> {
+                    Map<String, Set<Policy>> policiesByApplicationId = new HashMap<>();
+                    applicationPoliciesById.forEach((applicationId, applicationPolicies) ->
+                            policiesByApplicationId.put(applicationId, getInheritedPolicies(applicationPolicies, hierarchy)));
+                    return new InheritedPolicies(inheritablePermissions.get(domain), policiesByApplicationId, user);
+                });
+    }
+
+    private Mono<List<String>> findApplicationIds(Class<? extends BaseDomain> domain, Query query) {
+        final Object applicationId = query.getQueryObject().get(FieldName.APPLICATION_ID);
+        if (applicationId instanceof String) {
+            return Mono.just(List.of((String) applicationId));
+        }
+
+        return mongoOperations.findDistinct(query, FieldName.APPLICATION_ID, domain, String.class).collectList();
+    }
+
+    private Mono<Map<String, Set<Policy>>> findApplicationPolicies(List<String> applicationIds, Map<String, Set<Policy>> cache) {
+        final List<String> missingApplicationIds = applicationIds.stream()
+                .filter(applicationId -> !cache.containsKey(applicationId))
+                .collect(Collectors.toList());
+
+        Mono<Void> readMissingApplications = Mono.empty();
+        if (!missingApplicationIds.isEmpty()) {
+            Query applicationQuery = new Query(where(fieldName(QApplication.application.id)).in(missingApplicationIds));
+            applicationQuery.fields().include(fieldName(QApplication.application.policies));
+            readMissingApplications = mongoOperations.find(applicationQuery, Application.class)
+                    .doOnNext(application -> cache.put(
+                            application.getId(),
+                            application.getPolicies() == null ? Collections.emptySet() : application.getPolicies()
+                    ))
+                    .then();
+        }
+
+        return readMissingApplications.then(Mono.fromSupplier(() -> {
+            Map<String, Set<Policy>> applicationPoliciesById = new HashMap<>();
+            for (String applicationId : applicationIds) {
+                // Applications that don't exist, e.g., have been deleted, grant nothing
+                applicationPoliciesById.put(applicationId, cache.getOrDefault(applicationId, Collections.emptySet()));
+            }
+            return applicationPoliciesById;
+        }));
+    }
+
+    /**
+     * The types of documents that can inherit their policies from their application.
+     */
+    Set<Class<? extends BaseDomain>> getInheritingDomains() {
+        return HIERARCHIES.keySet();
+    }
+
+    /**
+     * The permissions that documents of the given type get from their application's policies, instead of their own.
+     */
+    Set<String> getInheritablePermissions(Class<? extends BaseDomain> domain) {
+        return inheritablePermissions.get(domain);
+    }
+
+    /**
+     * Derives the policies that a document of the given type inherits from the given policies of its application.
+     */
+    Set<Policy> getInheritedPolicies(Class<? extends BaseDomain> domain, Set<Policy> applicationPolicies) {
+        return getInheritedPolicies(applicationPolicies, HIERARCHIES.get(domain));
+    }
+
+    private Set<Policy> getInheritedPolicies(Set<Policy> applicationPolicies, List<Class<? extends BaseDomain>> hierarchy) {
+        Set<Policy> policies = applicationPolicies == null ? Collections.emptySet() : applicationPolicies;
+        for (int i = 1; i < hierarchy.size(); i++) {
+            final Class<? extends BaseDomain> sourceEntity = hierarchy.get(i - 1);
+            // Policies that don't belong to the entity have no place in the hierarchy, e.g., leftovers of older versions
+            final Set<Policy> sourcePolicies = policies.stream()
+                    .filter(policy -> isPermissionOf(policy.getPermission(), sourceEntity))
+                    .collect(Collectors.toSet());
+            policies = policyGenerator.getAllChildPolicies(sourcePolicies, sourceEntity, hierarchy.get(i));
+        }
+
+        return policies;
+    }
+
+    private static boolean isPermissionOf(String permission, Class<? extends BaseDomain> entity) {
+        return Arrays.stream(AclPermission.values())
+                .anyMatch(aclPermission -> entity.equals(aclPermission.getEntity()) && aclPermission.getValue().equals(permission));
+    }
+}
@@ -70,6 +70,9 @@ public class SecurityConfig {
     @Autowired
     private RedirectHelper redirectHelper;
 
+    @Autowired
+    private SessionUserSecurityContextRepository sessionUserSecurityContextRepository;
+
     /**
      * This routerFunction is required to map /public/** endpoints to the src/main/resources/public folder
      * This is to allow static resources to be served by the server. Couldn't find an easier way to do this,
@@ -118,6 +121,8 @@ public class SecurityConfig {
                 // This picks up the configurationSource from the bean corsConfigurationSource()
                 .cors().and()
                 .csrf().disable()
+                // Keeps only a compact principal for the logged in user in the session, instead of the whole user
+                .securityContextRepository(sessionUserSecurityContextRepository)
                 .anonymous().principal(createAnonymousUser())
                 .and()
                 // This returns 401 unauthorized for all requests that are not authenticated but authentication is required
@@ -0,0 +1,102 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.domains.SessionUserPrincipal;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.solutions.SessionUserCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+/**
+ * Keeps the security context in the web session, like {@link WebSessionServerSecurityContextRepository}, but with a
+ * {@link SessionUserPrincipal} in place of the whole {@link User}. This keeps the sessions in Redis small, and the
+ * user is loaded back into the context from the {@link SessionUserCache} on every request. Sessions that still hold
+ * the whole user, e.g. ones created before this repository was in use, are converted the next time they are loaded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionUserSecurityContextRepository implements ServerSecurityContextRepository {
+
+    private final WebSessionServerSecurityContextRepository delegate = new WebSessionServerSecurityContextRepository();
+
+    private final SessionUserCache sessionUserCache;
+
+    @Override
+    public Mono<Void> save(ServerWebExchange exchange, SecurityContext context) {
+        return delegate.save(exchange, context == null ? null : toSessionContext(context));
+    }
+
+    @Override
+    public Mono<SecurityContext> load(ServerWebExchange exchange) {
+        return exchange.getSession().flatMap(session -> {
+            final SecurityContext context = session.getAttribute(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME);
+            if (context == null || context.getAuthentication() == null) {
+                return Mono.justOrEmpty(context);
+            }
+
+            final Object principal = context.getAuthentication().getPrincipal();
+            if (principal instanceof SessionUserPrincipal) {
+                return sessionUserCache.get((SessionUserPrincipal) principal)
+                        .flatMap(user -> Mono.justOrEmpty(withPrincipal(context, user)));
+            }
+
+            if (principal instanceof User) {
+                // The whole user was put in the session, either by a session saved before this repository was in use,
+                // or by code that updates the session directly. The user is used as is for this request.
+                session.getAttributes().put(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME, toSessionContext(context));
+            }
+
+            return Mono.just(context);
+        });
+    }
+
+    /**
+     * @return A copy of the given context, to be put in the session, with a compact principal in place of the user.
+     * The given context is returned as is if it doesn't hold a user.
+     */
+    private static SecurityContext toSessionContext(SecurityContext context) {
+        final Authentication authentication = context.getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            return context;
+        }
+
+        final SecurityContext sessionContext = withPrincipal(context, SessionUserPrincipal.of((User) authentication.getPrincipal()));
+        return sessionContext == null ? context : sessionContext;
+    }
+
+    /**
+     * @return A new context with the same authentication as the given one, but for the given principal. Null if the
+     * type of the authentication token isn't one that users can log in with.
+     */
+    private static SecurityContext withPrincipal(SecurityContext context, OAuth2User principal) {
+        final Authentication authentication = context.getAuthentication();
+        final Authentication newAuthentication;
+        if (authentication instanceof UsernamePasswordAuthenticationToken) {
+            newAuthentication = new UsernamePasswordAuthenticationToken(principal, null, authentication.getAuthorities());
+        } else if (authentication instanceof OAuth2AuthenticationToken) {
+            newAuthentication = new OAuth2AuthenticationToken(
+                    principal,
+                    authentication.getAuthorities(),
+                    ((OAuth2AuthenticationToken) authentication).getAuthorizedClientRegistrationId()
+            );
+        } else {
+            log.error("Unrecognized session token type when loading user from session: {}.", authentication.getClass());
+            return null;
+        }
+
+        return new SecurityContextImpl(newAuthentication);
+    }
+}
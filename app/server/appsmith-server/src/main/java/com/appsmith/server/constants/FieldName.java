@@ -72,4 +72,6 @@ public class FieldName {
     public static String MONGO_UNESCAPED_ID = "_id";
     public static String MONGO_UNESCAPED_CLASS = "_class";
     public static String DATASOURCE_STRUCTURE = "datasource structure";
+    public static final String POLICIES = "policies";
+    public static final String USER_PERMISSIONS = "userPermissions";
 }
@@ -5,9 +5,13 @@ import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.CommentService;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -56,11 +61,29 @@ public class CommentController extends BaseController<CommentService, Comment, S
     }
 
     @GetMapping("/threads")
-    public Mono<ResponseDTO<List<CommentThread>>> getCommentThread(@RequestParam String applicationId) {
-        return service.getThreadsByApplicationId(applicationId)
+    public Mono<ResponseDTO<List<CommentThread>>> getCommentThread(@RequestParam String applicationId,
+                                                                   @RequestParam MultiValueMap<String, String> params) {
+        // Threads are paginated, and loaded without their comments, only when a page size is asked for.
+        final Mono<List<CommentThread>> threadsMono = params.containsKey("pageSize")
+                ? service.getThreadsByApplicationId(applicationId, params)
+                : service.getThreadsByApplicationId(applicationId);
+        return threadsMono
                 .map(threads -> new ResponseDTO<>(HttpStatus.OK.value(), threads, null));
     }
 
+    @GetMapping("/threads/{threadId}/comments")
+    public Mono<ResponseDTO<List<Comment>>> getComments(@PathVariable String threadId,
+                                                        @RequestParam MultiValueMap<String, String> params) {
+        return service.getCommentsByThreadId(threadId, params)
+                .map(comments -> new ResponseDTO<>(HttpStatus.OK.value(), comments, null));
+    }
+
+    @GetMapping(value = "/threads/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<JsonNode>> getCommentEvents(@RequestParam String applicationId) {
+        return service.getRealtimeEvents(applicationId)
+                .map(event -> ServerSentEvent.builder(event.getPayload()).event(event.getType().name()).build());
+    }
+
     @PutMapping("/threads/{threadId}")
     public Mono<ResponseDTO<CommentThread>> updateThread(
             @Valid @RequestBody CommentThread resource,
@@ -28,6 +28,7 @@ import reactor.core.publisher.Mono;
 import net.minidev.json.JSONObject;
 
 import java.net.URI;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -61,9 +62,17 @@ public class DatasourceController extends BaseController<DatasourceService, Data
 
     @GetMapping("/{datasourceId}/structure")
     public Mono<ResponseDTO<DatasourceStructure>> getStructure(@PathVariable String datasourceId,
-                                                               @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache) {
+                                                               @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache,
+                                                               @RequestParam(required = false) Set<String> tableNames) {
         log.debug("Going to get structure for datasource with id: '{}'.", datasourceId);
-        return datasourceStructureSolution.getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache))
+        return datasourceStructureSolution.getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), tableNames)
+                .map(structure -> new ResponseDTO<>(HttpStatus.OK.value(), structure, null));
+    }
+
+    @GetMapping("/{datasourceId}/structure/tables")
+    public Mono<ResponseDTO<DatasourceStructure>> getTables(@PathVariable String datasourceId) {
+        log.debug("Going to get tables for datasource with id: '{}'.", datasourceId);
+        return datasourceStructureSolution.getTables(datasourceId)
                 .map(structure -> new ResponseDTO<>(HttpStatus.OK.value(), structure, null));
     }
 
@@ -2,10 +2,12 @@ package com.appsmith.server.controllers;
 
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.PolicyPropagationJob;
 import com.appsmith.server.domains.UserRole;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.UserOrganizationService;
+import com.appsmith.server.solutions.PolicyPropagationJobRunner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.codec.multipart.Part;
@@ -29,11 +31,15 @@ import java.util.Map;
 @RequestMapping(Url.ORGANIZATION_URL)
 public class OrganizationController extends BaseController<OrganizationService, Organization, String> {
     private final UserOrganizationService userOrganizationService;
+    private final PolicyPropagationJobRunner policyPropagationJobRunner;
 
     @Autowired
-    public OrganizationController(OrganizationService organizationService, UserOrganizationService userOrganizationService) {
+    public OrganizationController(OrganizationService organizationService,
+                                  UserOrganizationService userOrganizationService,
+                                  PolicyPropagationJobRunner policyPropagationJobRunner) {
         super(organizationService);
         this.userOrganizationService = userOrganizationService;
+        this.policyPropagationJobRunner = policyPropagationJobRunner;
     }
 
     /**
@@ -61,6 +67,17 @@ public class OrganizationController extends BaseController<OrganizationService,
                 .map(user -> new ResponseDTO<>(HttpStatus.OK.value(), user, null));
     }
 
+    /**
+     * Lists the latest jobs that update the permissions of the applications, pages, actions and datasources of the
+     * organization after its members have changed, along with their status.
+     */
+    @GetMapping("/{orgId}/permissionJobs")
+    public Mono<ResponseDTO<List<PolicyPropagationJob>>> getPermissionJobsOfOrganization(@PathVariable String orgId) {
+        return policyPropagationJobRunner.getJobsByOrganizationId(orgId)
+                .collectList()
+                .map(jobs -> new ResponseDTO<>(HttpStatus.OK.value(), jobs, null));
+    }
+
     @PostMapping("/{organizationId}/logo")
     public Mono<ResponseDTO<Organization>> uploadLogo(@PathVariable String organizationId,
                                                       @RequestPart("file") Mono<Part> fileMono) {
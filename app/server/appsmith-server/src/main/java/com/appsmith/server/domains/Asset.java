@@ -1,22 +1,35 @@
 package com.appsmith.server.domains;
 
 import com.appsmith.external.models.BaseDomain;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.http.MediaType;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
+@Document
 public class Asset extends BaseDomain {
 
     public Asset(MediaType mediaType, byte[] data) {
-        this(mediaType == null ? null : mediaType.toString(), data);
+        this.contentType = mediaType == null ? null : mediaType.toString();
+        this.data = data;
+        this.hash = DigestUtils.sha256Hex(data);
+        this.referenceCount = 1;
     }
 
     String contentType;
 
     byte[] data;
 
+    // SHA-256 of the data, as hex. Uploads of the same content share an asset, and it's the ETag of the asset's responses.
+    @JsonIgnore
+    String hash;
+
+    // Number of organizations and users that refer to this asset. It is deleted once the last of them stops using it.
+    @JsonIgnore
+    Integer referenceCount;
+
 }
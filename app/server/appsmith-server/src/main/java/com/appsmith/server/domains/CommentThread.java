@@ -58,6 +58,19 @@ public class CommentThread extends BaseDomain {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     String authorUsername;
 
+    /**
+     * Number of comments in this thread. It's updated along with the comments, so that threads can be listed without
+     * loading their comments.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    Long commentCount;
+
+    /**
+     * A copy of the latest comment in this thread, shown as a preview when listing threads.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    Comment lastComment;
+
     @Transient
     Boolean isViewed;
 
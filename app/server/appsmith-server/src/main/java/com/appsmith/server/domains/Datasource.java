@@ -14,6 +14,7 @@ import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.util.CollectionUtils;
 
+import java.time.Instant;
 import java.util.Set;
 
 @Getter
@@ -58,6 +59,10 @@ public class Datasource extends BaseDomain {
     @JsonIgnore
     DatasourceStructure structure;
 
+    // When the structure cache above was last fetched from the datasource. Used to refresh stale structures.
+    @JsonIgnore
+    Instant structureUpdatedAt;
+
     /**
      * This method is here so that the JSON version of this class' instances have a `isValid` field, for backwards
      * compatibility. It may be removed, when sure that no API received is relying on this field.
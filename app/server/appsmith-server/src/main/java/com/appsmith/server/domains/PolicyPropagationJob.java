@@ -0,0 +1,103 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A change of the policies of all the resources of an organization, e.g., when users join or leave it, that is carried
+ * out in the background. The job is persisted so that it survives a server restart, and records the steps it has
+ * completed so that a job that is retried or picked up again resumes from where it stopped.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Document
+public class PolicyPropagationJob extends BaseDomain {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+    }
+
+    /**
+     * The steps of a job, in the order in which they are run.
+     */
+    public enum Step {
+        // Reading the application ids before any of the policies change, so that a user removing themselves from the
+        // organization can still find all the applications to be updated when the job is resumed.
+        FIND_APPLICATIONS,
+        DATASOURCES,
+        APPLICATIONS,
+        PAGES,
+        ACTIONS,
+        COMMENT_THREADS,
+    }
+
+    String organizationId;
+
+    // The job runs with the permissions of the user who made the change. Not sent to the client, since the jobs are
+    // listed to all the admins of the organization.
+    @JsonIgnore
+    String requestedBy;
+
+    Boolean addPolicyToObject;
+
+    @JsonIgnore
+    Map<String, Policy> datasourcePolicyMap;
+
+    @JsonIgnore
+    Map<String, Policy> applicationPolicyMap;
+
+    @JsonIgnore
+    Map<String, Policy> pagePolicyMap;
+
+    @JsonIgnore
+    Map<String, Policy> actionPolicyMap;
+
+    // Comment threads are left unchanged if this is null.
+    @JsonIgnore
+    Map<String, Policy> commentThreadPolicyMap;
+
+    Status status;
+
+    @JsonIgnore
+    Set<String> applicationIds;
+
+    Set<Step> completedSteps = new LinkedHashSet<>();
+
+    Integer attempts = 0;
+
+    // A running job whose lock has expired is considered abandoned, e.g., because of a server restart, and is picked up
+    // again. A pending job is not picked up before this time, which is used to back off between retries.
+    Instant lockedUntil;
+
+    // Identifies the worker holding the lock of a running job. Every update made while running the job is conditional
+    // on it, so that a worker whose lock has expired can't overwrite the progress of the worker that picked it up.
+    @JsonIgnore
+    String lockedBy;
+
+    // Set for jobs run by the request that submitted them before the change they are part of is saved. Such a job is
+    // failed instead of being picked up again if it's abandoned, since the request that ran it has failed.
+    @JsonIgnore
+    Boolean failIfAbandoned;
+
+    String error;
+
+    // Set once the job has completed, or failed for good. Finished jobs are deleted 30 days after this.
+    Instant finishedAt;
+
+}
@@ -0,0 +1,56 @@
+package com.appsmith.server.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The principal that is stored in a user's web session in place of the whole {@link User}. Sessions are read from
+ * Redis on every authenticated request, so this only carries what is needed to load the user again. The user itself
+ * is loaded through {@link com.appsmith.server.solutions.SessionUserCache}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SessionUserPrincipal implements OAuth2User, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+
+    private final String email;
+
+    // The time at which the user was last updated, when it was saved in the session. Identifies the version of the user
+    // that the session was created with, so that a session refreshed with a newer user doesn't get an older cached one.
+    private final long version;
+
+    public static SessionUserPrincipal of(User user) {
+        return new SessionUserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getUpdatedAt() == null ? 0 : user.getUpdatedAt().toEpochMilli()
+        );
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,38 @@
+package com.appsmith.server.dtos;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * An event pushed to the connected clients, shared between all the servers through Redis pub/sub.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RealtimeEventDTO {
+
+    public enum Type {
+        NOTIFICATION, UNREAD_COUNT, COMMENT, COMMENT_THREAD
+    }
+
+    Type type;
+
+    // If set, the event is only delivered to this user.
+    String forUsername;
+
+    // If set, the event is delivered to the users listening to this application who can read the resource.
+    String applicationId;
+
+    Set<String> readableByUsers;
+
+    Set<String> readableByGroups;
+
+    // The permission the users and groups above have on the resource.
+    String readPermission;
+
+    JsonNode payload;
+}
@@ -89,6 +89,7 @@ public enum AppsmithError {
     INVALID_CURL_HEADER(400, 4036, "Invalid header in cURL command: {0}.", AppsmithErrorAction.DEFAULT, null),
     AUTHENTICATION_FAILURE(500, 5010, "Authentication failed with error: {0}", AppsmithErrorAction.DEFAULT, null),
     INSTANCE_REGISTRATION_FAILURE(500, 5011, "Registration for instance failed with error: {0}", AppsmithErrorAction.LOG_EXTERNALLY, null),
+    POLICY_PROPAGATION_IN_PROGRESS(503, 5030, "Earlier changes to the members of this organization are still being applied. Please try again in a minute.", AppsmithErrorAction.DEFAULT, null),
     ;
 
     private final Integer httpErrorCode;
@@ -0,0 +1,34 @@
+package com.appsmith.server.filters;
+
+import com.appsmith.server.acl.InheritedPolicyResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lets all the reads of a GET request share the application policies that {@link InheritedPolicyResolver} reads, so
+ * that, e.g., viewing a page doesn't read its application's policies again for the page, its actions and its comment
+ * threads. Requests that may change the policies of an application always read them afresh.
+ */
+@Component
+@RequiredArgsConstructor
+public class InheritedPolicyCacheFilter implements WebFilter {
+
+    private final InheritedPolicyResolver inheritedPolicyResolver;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!inheritedPolicyResolver.isEnabled() || !HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .subscriberContext(context -> context.put(InheritedPolicyResolver.APPLICATION_POLICIES_CACHE, new ConcurrentHashMap<>()));
+    }
+}
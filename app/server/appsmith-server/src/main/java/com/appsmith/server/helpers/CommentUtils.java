@@ -71,4 +71,23 @@ public class CommentUtils {
         }
         return commentLines;
     }
+
+    /**
+     * Returns a copy of the provided comment with only the fields needed to show it as a preview of its thread. This copy
+     * is saved inside the thread, so it doesn't carry the policies or the reactions of the comment.
+     * @param comment Comment object
+     * @return preview of the comment or null if the comment is null
+     */
+    public static Comment getPreview(Comment comment) {
+        if (comment == null) {
+            return null;
+        }
+        Comment preview = new Comment();
+        preview.setId(comment.getId());
+        preview.setAuthorName(comment.getAuthorName());
+        preview.setAuthorUsername(comment.getAuthorUsername());
+        preview.setBody(comment.getBody());
+        preview.setCreatedAt(comment.getCreatedAt());
+        return preview;
+    }
 }
@@ -3,12 +3,18 @@ package com.appsmith.server.helpers;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.InheritedPolicyResolver;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QCommentThread;
+import com.appsmith.server.domains.QDatasource;
+import com.appsmith.server.domains.QNewAction;
+import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.CommentThreadRepository;
@@ -18,6 +24,7 @@ import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.solutions.UserChangedHandler;
 import lombok.AllArgsConstructor;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -34,6 +41,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_DATASOURCES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
 @AllArgsConstructor
@@ -46,6 +55,7 @@ public class PolicyUtils {
     private final NewActionRepository newActionRepository;
     private final UserChangedHandler userChangedHandler;
     private final CommentThreadRepository commentThreadRepository;
+    private final InheritedPolicyResolver inheritedPolicyResolver;
 
     public <T extends BaseDomain> T addPoliciesToExistingObject(Map<String, Policy> policyMap, T obj) {
         // Making a deep copy here so we don't modify the `policyMap` object.
@@ -198,6 +208,10 @@ public class PolicyUtils {
     }
 
     public Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
+        if (inheritedPolicyResolver.isInherited(NewPage.class)) {
+            // The pages get the new policies from the application when they are read
+            return Flux.empty();
+        }
 
         // Instead of fetching pages from the application object, we fetch pages from the page repository. This ensures that all the published
         // AND the unpublished pages are updated with the new policy change [This covers the edge cases where a page may exist
@@ -220,6 +234,9 @@ public class PolicyUtils {
     }
 
     public Flux<CommentThread> updateWithApplicationPermissionsToAllItsCommentThreads(String applicationId, Map<String, Policy> commentThreadPolicyMap, boolean addPolicyToObject) {
+        if (inheritedPolicyResolver.isInherited(CommentThread.class)) {
+            return Flux.empty();
+        }
 
         return
                 // fetch comment threads with read permissions
@@ -243,12 +260,17 @@ public class PolicyUtils {
      * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), fetching
      * actions by applicationId ensures that we update ALL the actions and don't have to do special handling for the same.
      *
+     * When the actions inherit their policies from the application, they are returned as they are, without being updated.
+     *
      * @param applicationId
      * @param newActionPoliciesMap
      * @param addPolicyToObject
      * @return
      */
     public Flux<NewAction> updateWithPagePermissionsToAllItsActions(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+        if (inheritedPolicyResolver.isInherited(NewAction.class)) {
+            return newActionRepository.findByApplicationId(applicationId);
+        }
 
         return newActionRepository
                 .findByApplicationId(applicationId)
@@ -264,6 +286,85 @@ public class PolicyUtils {
                 .flatMapMany(updatedActions -> newActionRepository.saveAll(updatedActions));
     }
 
+    /**
+     * The `updatePoliciesOf*` methods below add the given policies to, or remove them from, all the datasources,
+     * applications, pages, actions and comment threads of an organization, e.g., when users join or leave it. Unlike
+     * the `updateWith*` methods above, the documents are not read and saved back; the policies are updated in place
+     * with bulk writes, see {@link com.appsmith.server.repositories.BaseAppsmithRepositoryImpl#updatePolicies}. The
+     * same permissions are required of the current user on the updated documents as the `updateWith*` methods require.
+     * These updates are idempotent, so any of them can be safely retried. The documents that inherit their policies from
+     * their application when they are read, see {@link InheritedPolicyResolver}, are left unchanged.
+     */
+    public Mono<Long> updatePoliciesOfDatasourcesByOrgId(String orgId, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
+        return datasourceRepository.updatePolicies(
+                List.of(where(fieldName(QDatasource.datasource.organizationId)).is(orgId)),
+                // update datasources with execute permissions so that app viewers can invite other app viewers
+                AclPermission.EXECUTE_DATASOURCES,
+                datasourcePolicyMap,
+                addPolicyToObject
+        );
+    }
+
+    public Mono<Set<String>> findApplicationIdsByOrgId(String orgId) {
+        return applicationRepository
+                // fetch applications with read permissions so that app viewers can invite other app viewers
+                .findIdsByOrganizationId(orgId, AclPermission.READ_APPLICATIONS)
+                .collect(Collectors.toSet());
+    }
+
+    public Mono<Long> updatePoliciesOfApplicationsByIds(Set<String> applicationIds, Map<String, Policy> applicationPolicyMap, boolean addPolicyToObject) {
+        return applicationRepository.updatePolicies(
+                List.of(where(fieldName(QApplication.application.id)).in(applicationIds)),
+                AclPermission.READ_APPLICATIONS,
+                applicationPolicyMap,
+                addPolicyToObject
+        );
+    }
+
+    /**
+     * All the published AND unpublished pages of the applications are updated, same as
+     * {@link #updateWithApplicationPermissionsToAllItsPages}.
+     */
+    public Mono<Long> updatePoliciesOfPagesByApplicationIds(Set<String> applicationIds, Map<String, Policy> pagePolicyMap, boolean addPolicyToObject) {
+        if (inheritedPolicyResolver.isInherited(NewPage.class)) {
+            return Mono.just(0L);
+        }
+        return newPageRepository.updatePolicies(
+                List.of(where(fieldName(QNewPage.newPage.applicationId)).in(applicationIds)),
+                AclPermission.READ_PAGES,
+                pagePolicyMap,
+                addPolicyToObject
+        );
+    }
+
+    /**
+     * All the actions of the applications are updated, whichever page they are on, same as
+     * {@link #updateWithPagePermissionsToAllItsActions}.
+     */
+    public Mono<Long> updatePoliciesOfActionsByApplicationIds(Set<String> applicationIds, Map<String, Policy> actionPolicyMap, boolean addPolicyToObject) {
+        if (inheritedPolicyResolver.isInherited(NewAction.class)) {
+            return Mono.just(0L);
+        }
+        return newActionRepository.updatePolicies(
+                List.of(where(fieldName(QNewAction.newAction.applicationId)).in(applicationIds)),
+                null,
+                actionPolicyMap,
+                addPolicyToObject
+        );
+    }
+
+    public Mono<Long> updatePoliciesOfCommentThreadsByApplicationIds(Set<String> applicationIds, Map<String, Policy> commentThreadPolicyMap, boolean addPolicyToObject) {
+        if (inheritedPolicyResolver.isInherited(CommentThread.class)) {
+            return Mono.just(0L);
+        }
+        return commentThreadRepository.updatePolicies(
+                List.of(where(fieldName(QCommentThread.commentThread.applicationId)).in(applicationIds)),
+                AclPermission.READ_THREAD,
+                commentThreadPolicyMap,
+                addPolicyToObject
+        );
+    }
+
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(Map<String, Policy> sourcePolicyMap,
                                                                            Class<? extends BaseDomain> sourceEntity,
                                                                            Class<? extends BaseDomain> destinationEntity) {
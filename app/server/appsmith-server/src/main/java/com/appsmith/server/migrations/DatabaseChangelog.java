@@ -16,7 +16,10 @@ import com.appsmith.server.constants.Appsmith;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Asset;
 import com.appsmith.server.domains.Collection;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Config;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.Group;
@@ -31,11 +34,17 @@ import com.appsmith.server.domains.PasswordResetToken;
 import com.appsmith.server.domains.Permission;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.PluginType;
+import com.appsmith.server.domains.PolicyPropagationJob;
 import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QAsset;
+import com.appsmith.server.domains.QComment;
+import com.appsmith.server.domains.QCommentThread;
 import com.appsmith.server.domains.QConfig;
 import com.appsmith.server.domains.QDatasource;
 import com.appsmith.server.domains.QNewAction;
 import com.appsmith.server.domains.QOrganization;
+import com.appsmith.server.domains.QPolicyPropagationJob;
+import com.appsmith.server.domains.QUserData;
 import com.appsmith.server.domains.QPlugin;
 import com.appsmith.server.domains.Role;
 import com.appsmith.server.domains.Sequence;
@@ -47,6 +56,7 @@ import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.OrganizationPluginStatus;
 import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.helpers.CommentUtils;
 import com.appsmith.server.services.OrganizationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.cloudyrock.mongock.ChangeLog;
@@ -60,6 +70,7 @@ import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Filters;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.ObjectUtils;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -74,6 +85,7 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -2743,4 +2755,139 @@ public class DatabaseChangelog {
             mongockTemplate.save(action);
         }
     }
+
+    /**
+     * Comment threads now keep a count of their comments and a preview of their last comment, so that they can be listed
+     * without loading all their comments. This fills them in for the threads created before these fields existed, and
+     * indexes the fields that threads and comments are paginated on.
+     */
+    @ChangeSet(order = "077", id = "add-comment-count-to-threads", author = "")
+    public void addCommentCountToThreads(MongoTemplate mongoTemplate) {
+        final String threadIdField = fieldName(QComment.comment.threadId);
+
+        ensureIndexes(mongoTemplate, CommentThread.class,
+                makeIndex(fieldName(QCommentThread.commentThread.applicationId), fieldName(QCommentThread.commentThread.createdAt))
+                        .named("application_createdAt_compound_index")
+        );
+        ensureIndexes(mongoTemplate, Comment.class,
+                makeIndex(threadIdField, fieldName(QComment.comment.createdAt))
+                        .named("thread_createdAt_compound_index")
+        );
+
+        final Query threadsQuery = query(where(fieldName(QCommentThread.commentThread.deleted)).ne(true));
+        threadsQuery.fields().include(fieldName(QCommentThread.commentThread.id));
+
+        for (CommentThread thread : mongoTemplate.find(threadsQuery, CommentThread.class)) {
+            final Query commentsQuery = query(new Criteria().andOperator(
+                    where(threadIdField).is(thread.getId()),
+                    where(fieldName(QComment.comment.deleted)).ne(true)
+            ));
+            final long commentCount = mongoTemplate.count(commentsQuery, Comment.class);
+            final Comment lastComment = mongoTemplate.findOne(
+                    commentsQuery.with(Sort.by(Sort.Direction.DESC, fieldName(QComment.comment.createdAt))).limit(1),
+                    Comment.class
+            );
+
+            final Update update = update(fieldName(QCommentThread.commentThread.commentCount), commentCount);
+            if (lastComment != null) {
+                update.set(fieldName(QCommentThread.commentThread.lastComment), CommentUtils.getPreview(lastComment));
+            }
+            mongoTemplate.updateFirst(query(where("id").is(thread.getId())), update, CommentThread.class);
+        }
+    }
+
+    /**
+     * Assets are now deduplicated by the hash of their content, and count the organizations and users that refer to
+     * them. This fills in both for the assets uploaded before, each of which has a single reference.
+     */
+    @ChangeSet(order = "078", id = "add-hash-to-assets", author = "")
+    public void addHashToAssets(MongoTemplate mongoTemplate) {
+        final String hashField = fieldName(QAsset.asset.hash);
+
+        ensureIndexes(mongoTemplate, Asset.class,
+                makeIndex(hashField, fieldName(QAsset.asset.contentType))
+                        .named("hash_contentType_compound_index")
+        );
+
+        for (Asset asset : mongoTemplate.find(query(where(hashField).exists(false)), Asset.class)) {
+            if (asset.getData() == null) {
+                continue;
+            }
+            mongoTemplate.updateFirst(
+                    query(where(fieldName(QAsset.asset.id)).is(asset.getId())),
+                    update(hashField, DigestUtils.sha256Hex(asset.getData()))
+                            .set(fieldName(QAsset.asset.referenceCount), 1),
+                    Asset.class
+            );
+        }
+    }
+
+    /**
+     * Makes the hash and content type index of assets unique, so that concurrent uploads of the same content can't
+     * create two assets. Assets uploaded before they were deduplicated can share their content, so these are merged
+     * into the oldest of them first, which takes over their references. Assets whose last reference is being removed
+     * are left out of the index, so that the same content can be uploaded again before they are deleted.
+     */
+    @ChangeSet(order = "079", id = "make-asset-hash-index-unique", author = "")
+    public void makeAssetHashIndexUnique(MongoTemplate mongoTemplate) {
+        final String idField = fieldName(QAsset.asset.id);
+        final String hashField = fieldName(QAsset.asset.hash);
+        final String contentTypeField = fieldName(QAsset.asset.contentType);
+        final String referenceCountField = fieldName(QAsset.asset.referenceCount);
+
+        final Query assetsQuery = query(where(hashField).exists(true))
+                .with(Sort.by(Sort.Direction.ASC, idField));
+        assetsQuery.fields().include(idField).include(hashField).include(contentTypeField).include(referenceCountField);
+
+        final Map<String, Asset> keptAssets = new HashMap<>();
+        for (Asset asset : mongoTemplate.find(assetsQuery, Asset.class)) {
+            final Asset keptAsset = keptAssets.putIfAbsent(asset.getHash() + " " + asset.getContentType(), asset);
+            if (keptAsset == null) {
+                continue;
+            }
+
+            mongoTemplate.updateMulti(
+                    query(where(fieldName(QOrganization.organization.logoAssetId)).is(asset.getId())),
+                    update(fieldName(QOrganization.organization.logoAssetId), keptAsset.getId()),
+                    Organization.class
+            );
+            mongoTemplate.updateMulti(
+                    query(where(fieldName(QUserData.userData.profilePhotoAssetId)).is(asset.getId())),
+                    update(fieldName(QUserData.userData.profilePhotoAssetId), keptAsset.getId()),
+                    UserData.class
+            );
+            mongoTemplate.updateFirst(
+                    query(where(idField).is(keptAsset.getId())),
+                    new Update().inc(referenceCountField, asset.getReferenceCount() == null ? 1 : asset.getReferenceCount()),
+                    Asset.class
+            );
+            mongoTemplate.remove(query(where(idField).is(asset.getId())), Asset.class);
+        }
+
+        dropIndexIfExists(mongoTemplate, Asset.class, "hash_contentType_compound_index");
+        ensureIndexes(mongoTemplate, Asset.class,
+                makeIndex(hashField, contentTypeField)
+                        .unique()
+                        .partial(PartialIndexFilter.of(where(referenceCountField).gt(0)))
+                        .named("hash_contentType_compound_index")
+        );
+    }
+
+    /**
+     * Indexes the policy propagation jobs for finding the ones that can be run and the unfinished ones of an
+     * organization. Finished jobs are only kept for a while, to be listed to the admins of their organization, so
+     * they are deleted 30 days after they finished.
+     */
+    @ChangeSet(order = "080", id = "add-policy-propagation-job-indexes", author = "")
+    public void addPolicyPropagationJobIndexes(MongoTemplate mongoTemplate) {
+        final String organizationIdField = fieldName(QPolicyPropagationJob.policyPropagationJob.organizationId);
+        final String statusField = fieldName(QPolicyPropagationJob.policyPropagationJob.status);
+        final String lockedUntilField = fieldName(QPolicyPropagationJob.policyPropagationJob.lockedUntil);
+
+        ensureIndexes(mongoTemplate, PolicyPropagationJob.class,
+                makeIndex(statusField, lockedUntilField).named("status_lockedUntil_compound_index"),
+                makeIndex(organizationIdField, statusField).named("organizationId_status_compound_index"),
+                makeIndex(fieldName(QPolicyPropagationJob.policyPropagationJob.finishedAt)).expire(30, TimeUnit.DAYS)
+        );
+    }
 }
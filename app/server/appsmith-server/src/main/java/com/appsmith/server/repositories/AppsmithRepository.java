@@ -1,5 +1,6 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.User;
 import org.springframework.data.domain.Sort;
@@ -8,6 +9,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 public interface AppsmithRepository<T> {
 
@@ -19,5 +21,10 @@ public interface AppsmithRepository<T> {
 
     Flux<T> queryAll(List<Criteria> criterias, AclPermission permission, Sort sort);
 
+    Mono<Long> updatePolicies(List<Criteria> criterias,
+                              AclPermission permission,
+                              Map<String, Policy> policyMap,
+                              boolean addPolicyToObject);
+
     T setUserPermissionsInObject(T obj, User user);
 }
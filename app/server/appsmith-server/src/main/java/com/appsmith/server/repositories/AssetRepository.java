@@ -4,5 +4,5 @@ import com.appsmith.server.domains.Asset;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AssetRepository extends BaseRepository<Asset, String> {
+public interface AssetRepository extends BaseRepository<Asset, String>, CustomAssetRepository {
 }
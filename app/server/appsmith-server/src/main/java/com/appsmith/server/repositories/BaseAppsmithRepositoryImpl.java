@@ -4,30 +4,46 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.QBaseDomain;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.InheritedPolicies;
+import com.appsmith.server.acl.InheritedPolicyResolver;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
 import com.querydsl.core.types.Path;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
@@ -40,12 +56,44 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
 
     protected final MongoConverter mongoConverter;
 
+    // Resolves the policies that the documents inherit from their application, for the documents that do
+    private final InheritedPolicyResolver inheritedPolicyResolver;
+
+    private final Function<T, String> applicationIdGetter;
+
+    // Maximum number of write models sent to Mongo in a single bulkWrite call
+    public static final int BULK_WRITE_BATCH_SIZE = 500;
+
+    // Whether the database accepts updates with an aggregation pipeline, which needs MongoDB 4.2 or later. Checked on
+    // first use and then cached.
+    private final Mono<Boolean> supportsPipelineUpdates;
+
     @Autowired
     public BaseAppsmithRepositoryImpl(ReactiveMongoOperations mongoOperations,
                                       MongoConverter mongoConverter) {
+        this(mongoOperations, mongoConverter, null, null);
+    }
+
+    /**
+     * For the repositories of documents that can inherit their policies from the application they belong to, instead
+     * of being checked against their own. See {@link InheritedPolicyResolver}.
+     */
+    protected BaseAppsmithRepositoryImpl(ReactiveMongoOperations mongoOperations,
+                                         MongoConverter mongoConverter,
+                                         InheritedPolicyResolver inheritedPolicyResolver,
+                                         Function<T, String> applicationIdGetter) {
         this.mongoOperations = mongoOperations;
         this.mongoConverter = mongoConverter;
+        this.inheritedPolicyResolver = inheritedPolicyResolver;
+        this.applicationIdGetter = applicationIdGetter;
         this.genericDomain = (Class<T>) GenericTypeResolver.resolveTypeArgument(getClass(), BaseAppsmithRepositoryImpl.class);
+        this.supportsPipelineUpdates = Mono.defer(() -> mongoOperations.executeCommand(new Document("buildInfo", 1)))
+                .map(buildInfo -> {
+                    final List<Integer> version = buildInfo.getList("versionArray", Integer.class);
+                    return version.get(0) > 4 || (version.get(0) == 4 && version.get(1) >= 2);
+                })
+                .onErrorReturn(false)
+                .cache();
     }
 
     public static final String fieldName(Path path) {
@@ -97,13 +145,14 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                 .map(auth -> auth.getPrincipal())
                 .flatMap(principal -> {
                     User user = (User) principal;
-                    Query query = new Query(getIdCriteria(id));
-                    query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, permission)));
-
-                    return mongoOperations.query(this.genericDomain)
-                            .matching(query)
-                            .one()
-                            .map(obj -> (T) setUserPermissionsInObject(obj, user));
+                    List<Criteria> criterias = List.of(getIdCriteria(id));
+
+                    return resolveInheritedPolicies(criterias, user)
+                            .flatMap(inheritedPolicies -> mongoOperations.query(this.genericDomain)
+                                    .matching(createQuery(criterias, null, user, permission, inheritedPolicies))
+                                    .one()
+                                    .map(obj -> setUserPermissionsInObject(obj, user, inheritedPolicies))
+                            );
                 });
     }
 
@@ -116,8 +165,7 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                 .map(auth -> auth.getPrincipal())
                 .flatMap(principal -> {
                     User user = (User) principal;
-                    Query query = new Query(Criteria.where("id").is(id));
-                    query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, permission)));
+                    List<Criteria> criterias = List.of(Criteria.where("id").is(id));
 
                     // Set policies to null in the update object
                     resource.setPolicies(null);
@@ -127,7 +175,12 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                     Map<String, Object> updateMap = update.toMap();
                     updateMap.entrySet().stream().forEach(entry -> updateObj.set(entry.getKey(), entry.getValue()));
 
-                    return mongoOperations.updateFirst(query, updateObj, resource.getClass())
+                    return resolveInheritedPolicies(criterias, user)
+                            .flatMap(inheritedPolicies -> mongoOperations.updateFirst(
+                                    createQuery(criterias, null, user, permission, inheritedPolicies),
+                                    updateObj,
+                                    resource.getClass()
+                            ))
                             .flatMap(obj -> {
                                 if (obj.getMatchedCount() == 0) {
                                     return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, resource.getClass().getSimpleName().toLowerCase(), id));
@@ -139,23 +192,25 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
     }
 
     protected Mono<T> queryOne(List<Criteria> criterias, AclPermission aclPermission) {
+        return queryOne(criterias, null, aclPermission);
+    }
+
+    /**
+     * Same as {@link #queryOne(List, AclPermission)}, but only reads the fields selected by the given projection.
+     * See {@link #queryAll(List, Consumer, AclPermission, Sort, int)}.
+     */
+    protected Mono<T> queryOne(List<Criteria> criterias, Consumer<Field> projection, AclPermission aclPermission) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
                 .flatMap(auth -> {
                     User user = (User) auth.getPrincipal();
-                    Query query = new Query();
-                    criterias.stream()
-                            .forEach(criteria -> query.addCriteria(criteria));
-                    if (aclPermission == null) {
-                        query.addCriteria(new Criteria().andOperator(notDeleted()));
-                    } else {
-                        query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, aclPermission)));
-                    }
 
-                    return mongoOperations.query(this.genericDomain)
-                            .matching(query)
-                            .one()
-                            .map(obj -> (T) setUserPermissionsInObject(obj, user));
+                    return resolveInheritedPolicies(criterias, user)
+                            .flatMap(inheritedPolicies -> mongoOperations.query(this.genericDomain)
+                                    .matching(createQuery(criterias, projection, user, aclPermission, inheritedPolicies))
+                                    .one()
+                                    .map(obj -> setUserPermissionsInObject(obj, user, inheritedPolicies))
+                            );
                 });
     }
 
@@ -164,34 +219,346 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
     }
 
     public Flux<T> queryAll(List<Criteria> criterias, AclPermission aclPermission, Sort sort) {
+        return queryAll(criterias, aclPermission, sort, 0);
+    }
+
+    /**
+     * Same as {@link #queryAll(List, AclPermission, Sort)}, but returns at most `limit` documents. A limit of zero
+     * returns all the matching documents.
+     */
+    public Flux<T> queryAll(List<Criteria> criterias, AclPermission aclPermission, Sort sort, int limit) {
+        return queryAll(criterias, null, aclPermission, sort, limit);
+    }
+
+    /**
+     * Same as {@link #queryAll(List, AclPermission, Sort, int)}, but only reads the fields selected by the given
+     * projection, e.g., `fields -> fields.include("name")` or `fields -> fields.exclude("publishedPages")`. The fields
+     * that are not read are left null in the returned objects, so listings that need only a few fields of large
+     * documents don't pay for transferring and decoding the rest. The policies are always read, since they are needed
+     * to set the user permissions of the returned objects.
+     *
+     * @param criterias     Criteria to select the documents
+     * @param projection    Selects the fields to be read, or null to read whole documents
+     * @param aclPermission Permission the current user must have on the returned documents
+     * @param sort          Sort order of the returned documents, or null
+     * @param limit         Maximum number of documents to return, or zero for all
+     * @return Flux of the partially read objects
+     */
+    public Flux<T> queryAll(List<Criteria> criterias,
+                            Consumer<Field> projection,
+                            AclPermission aclPermission,
+                            Sort sort,
+                            int limit) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
                 .flatMapMany(auth -> {
                     User user = (User) auth.getPrincipal();
-                    Query query = new Query();
-                    criterias.stream()
-                            .forEach(criteria -> query.addCriteria(criteria));
-                    if (aclPermission == null) {
-                        query.addCriteria(new Criteria().andOperator(notDeleted()));
-                    } else {
-                        query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, aclPermission)));
-                    }
-                    if (sort != null) {
-                        query.with(sort);
+
+                    return resolveInheritedPolicies(criterias, user)
+                            .flatMapMany(inheritedPolicies -> {
+                                Query query = createQuery(criterias, projection, user, aclPermission, inheritedPolicies);
+                                if (sort != null) {
+                                    query.with(sort);
+                                }
+                                if (limit > 0) {
+                                    query.limit(limit);
+                                }
+
+                                return mongoOperations.query(this.genericDomain)
+                                        .matching(query)
+                                        .all()
+                                        .map(obj -> setUserPermissionsInObject(obj, user, inheritedPolicies));
+                            });
+                });
+    }
+
+    /**
+     * Resolves the policies that the documents matching the given criteria inherit from their application, for the
+     * given user. Resolves to {@link InheritedPolicies#NONE} for the documents that don't inherit them, which is all of
+     * them unless `appsmith.acl.inherit-policies` is true.
+     */
+    protected Mono<InheritedPolicies> resolveInheritedPolicies(List<Criteria> criterias, User user) {
+        if (inheritedPolicyResolver == null || !inheritedPolicyResolver.isInherited(this.genericDomain)) {
+            return Mono.just(InheritedPolicies.NONE);
+        }
+
+        return inheritedPolicyResolver.resolve(this.genericDomain, createQuery(criterias, null, user, null, InheritedPolicies.NONE), user);
+    }
+
+    /**
+     * Creates a query for the documents matching the given criteria, on which the user has the given permission, if
+     * any. The permission is checked against the inherited policies if it's inherited, and the document's own otherwise.
+     */
+    protected Query createQuery(List<Criteria> criterias,
+                                Consumer<Field> projection,
+                                User user,
+                                AclPermission aclPermission,
+                                InheritedPolicies inheritedPolicies) {
+        Query query = new Query();
+        criterias.stream()
+                .forEach(criteria -> query.addCriteria(criteria));
+        if (aclPermission == null) {
+            query.addCriteria(new Criteria().andOperator(notDeleted()));
+        } else if (inheritedPolicies.isInherited(aclPermission)) {
+            query.addCriteria(new Criteria().andOperator(notDeleted(), inheritedPolicies.getCriteria(aclPermission)));
+        } else {
+            query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, aclPermission)));
+        }
+
+        if (projection != null) {
+            projection.accept(query.fields());
+            // An inclusion projection would leave out the policies unless asked for. An exclusion projection can't
+            // include fields, but it reads the policies anyway. Fields can be included with any value other than 0 or
+            // false, e.g., `true`.
+            boolean isInclusion = query.getFieldsObject().values().stream()
+                    .anyMatch(value -> !Integer.valueOf(0).equals(value) && !Boolean.FALSE.equals(value));
+            if (isInclusion) {
+                query.fields().include(fieldName(QBaseDomain.baseDomain.policies));
+                // The application is needed to replace the inherited policies
+                if (applicationIdGetter != null) {
+                    query.fields().include(FieldName.APPLICATION_ID);
+                }
+            }
+        }
+
+        return query;
+    }
+
+    /**
+     * Counts the documents matching the given criteria on which the current user has the given permission, without
+     * reading them.
+     */
+    protected Mono<Long> count(List<Criteria> criterias, AclPermission aclPermission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMap(auth -> {
+                    User user = (User) auth.getPrincipal();
+                    return resolveInheritedPolicies(criterias, user)
+                            .flatMap(inheritedPolicies -> mongoOperations.count(
+                                    createQuery(criterias, null, user, aclPermission, inheritedPolicies),
+                                    this.genericDomain
+                            ));
+                });
+    }
+
+    /**
+     * Deletes every document matching the given criteria on which the current user has the given permission, with a
+     * single `deleteMany` on the database.
+     *
+     * @return Mono that publishes the number of documents that were deleted
+     */
+    protected Mono<Long> deleteAll(List<Criteria> criterias, AclPermission aclPermission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMap(auth -> {
+                    User user = (User) auth.getPrincipal();
+                    return resolveInheritedPolicies(criterias, user)
+                            .flatMap(inheritedPolicies -> mongoOperations.remove(
+                                    createQuery(criterias, null, user, aclPermission, inheritedPolicies),
+                                    this.genericDomain
+                            ));
+                })
+                .map(DeleteResult::getDeletedCount);
+    }
+
+    /**
+     * Copies the sub-document stored at `sourceField` into `targetField` for every document matching the given criteria.
+     * On MongoDB 4.2 or later, this is a single `updateMany` with an aggregation pipeline that sets the target to the
+     * source on the database, so none of the copied sub-documents are ever sent over the wire.
+     *
+     * Older servers don't accept pipeline updates, and these are still supported since the embedded MongoDB the tests
+     * run against is a 3.x one. There, only the source field is read from the database and only the target field, along
+     * with `updatedAt`, is written back, as unordered bulk writes of at most {@link #BULK_WRITE_BATCH_SIZE} operations.
+     *
+     * @param criterias     Criteria to select the documents to be updated
+     * @param aclPermission Permission the current user must have on every updated document
+     * @param sourceField   Dot separated path of the field to be copied
+     * @param targetField   Dot separated path of the field to be overwritten
+     * @return Mono that publishes the number of documents that were matched by the updates
+     */
+    protected Mono<Long> copyFieldInBulk(List<Criteria> criterias,
+                                         AclPermission aclPermission,
+                                         String sourceField,
+                                         String targetField) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMap(auth -> {
+                    User user = (User) auth.getPrincipal();
+                    return resolveInheritedPolicies(criterias, user)
+                            .map(inheritedPolicies -> createQuery(criterias, null, user, aclPermission, inheritedPolicies));
+                })
+                .zipWith(supportsPipelineUpdates)
+                .flatMap(tuple -> {
+                    final Query query = tuple.getT1();
+                    // Written the same way the mapping converter writes an Instant
+                    final Date updatedAt = Date.from(Instant.now());
+                    final String updatedAtField = fieldName(QBaseDomain.baseDomain.updatedAt);
+
+                    if (Boolean.TRUE.equals(tuple.getT2())) {
+                        final Document filter = new QueryMapper(mongoConverter).getMappedObject(
+                                query.getQueryObject(),
+                                mongoConverter.getMappingContext().getPersistentEntity(this.genericDomain)
+                        );
+                        final List<Document> pipeline = List.of(new Document("$set",
+                                new Document(targetField, "$" + sourceField).append(updatedAtField, updatedAt)));
+
+                        return mongoOperations.execute(
+                                this.genericDomain,
+                                collection -> collection.updateMany(filter, pipeline)
+                        )
+                                .next()
+                                .map(result -> {
+                                    log.debug("Copied {} to {} for {} {} documents", sourceField, targetField,
+                                            result.getMatchedCount(), this.genericDomain.getSimpleName());
+                                    return result.getMatchedCount();
+                                });
                     }
 
+                    query.fields().include(sourceField);
+
                     return mongoOperations.query(this.genericDomain)
+                            .as(Document.class)
                             .matching(query)
                             .all()
-                            .map(obj -> (T) setUserPermissionsInObject(obj, user));
+                            .map(document -> new UpdateOneModel<Document>(
+                                    new Document("_id", document.get("_id")),
+                                    new Document("$set", new Document(targetField, document.getEmbedded(List.of(sourceField.split("\\.")), Object.class))
+                                            .append(updatedAtField, updatedAt))
+                            ))
+                            .buffer(BULK_WRITE_BATCH_SIZE)
+                            .concatMap(updates -> mongoOperations.execute(
+                                    this.genericDomain,
+                                    collection -> collection.bulkWrite(updates, new BulkWriteOptions().ordered(false))
+                            ))
+                            .reduce(0L, (matchedCount, result) -> {
+                                log.debug("Copied {} to {} for {} {} documents", sourceField, targetField,
+                                        result.getMatchedCount(), this.genericDomain.getSimpleName());
+                                return matchedCount + result.getMatchedCount();
+                            });
                 });
     }
 
+    /**
+     * Adds the users and groups of the given policies to, or removes them from, the policies of every document matching
+     * the given criteria. The policies are changed with `$addToSet`/`$pull` operators on the database, so unlike reading
+     * the documents, changing their policies and saving them back, only the ids of the documents are ever read, which
+     * matters for large documents like applications and pages. Policies that a document doesn't have yet are appended
+     * to it whole, the same as {@link com.appsmith.server.helpers.PolicyUtils#addPoliciesToExistingObject} does.
+     *
+     * The documents are selected by id, in batches of {@link #BULK_WRITE_BATCH_SIZE}, and each batch is one ordered
+     * bulk write with an update per permission. Selecting by id keeps the permission check out of the update filters,
+     * so that the positional operator always refers to the policy of the permission being updated.
+     *
+     * @param criterias         Criteria to select the documents to be updated
+     * @param aclPermission     Permission the current user must have on every updated document, or null
+     * @param policyMap         Policies to be added or removed, by permission
+     * @param addPolicyToObject Whether the users and groups are added to the existing policies or removed from them
+     * @return Mono that publishes the number of documents that were matched by the bulk updates
+     */
+    public Mono<Long> updatePolicies(List<Criteria> criterias,
+                                     AclPermission aclPermission,
+                                     Map<String, Policy> policyMap,
+                                     boolean addPolicyToObject) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMap(auth -> {
+                    User user = (User) auth.getPrincipal();
+                    return resolveInheritedPolicies(criterias, user)
+                            .map(inheritedPolicies -> createQuery(criterias, null, user, aclPermission, inheritedPolicies));
+                })
+                .flatMap(query -> {
+                    query.fields().include("_id");
+
+                    return mongoOperations.query(this.genericDomain)
+                            .as(Document.class)
+                            .matching(query)
+                            .all()
+                            .map(document -> document.get("_id"))
+                            .buffer(BULK_WRITE_BATCH_SIZE)
+                            .map(ids -> getPolicyUpdates(ids, policyMap, addPolicyToObject))
+                            .filter(updates -> !updates.isEmpty())
+                            .concatMap(updates -> mongoOperations.execute(
+                                    this.genericDomain,
+                                    collection -> collection.bulkWrite(updates, new BulkWriteOptions().ordered(true))
+                            ))
+                            .reduce(0L, (matchedCount, result) -> {
+                                log.debug("Updated the policies of {} {} documents", result.getModifiedCount(),
+                                        this.genericDomain.getSimpleName());
+                                return matchedCount + result.getMatchedCount();
+                            });
+                });
+    }
+
+    private List<WriteModel<Document>> getPolicyUpdates(List<Object> ids,
+                                                       Map<String, Policy> policyMap,
+                                                       boolean addPolicyToObject) {
+        final String policiesField = fieldName(QBaseDomain.baseDomain.policies);
+        final String permissionField = policiesField + ".permission";
+        final Document idsFilter = new Document("_id", new Document("$in", ids));
+        List<WriteModel<Document>> updates = new ArrayList<>();
+
+        for (Policy policy : policyMap.values()) {
+            Document policyUpdate = new Document();
+            if (!CollectionUtils.isEmpty(policy.getUsers())) {
+                policyUpdate.append(policiesField + ".$.users", addPolicyToObject
+                        ? new Document("$each", new ArrayList<>(policy.getUsers()))
+                        : new Document("$in", new ArrayList<>(policy.getUsers())));
+            }
+            if (!CollectionUtils.isEmpty(policy.getGroups())) {
+                policyUpdate.append(policiesField + ".$.groups", addPolicyToObject
+                        ? new Document("$each", new ArrayList<>(policy.getGroups()))
+                        : new Document("$in", new ArrayList<>(policy.getGroups())));
+            }
+            if (policyUpdate.isEmpty()) {
+                continue;
+            }
+
+            if (addPolicyToObject) {
+                // Documents that don't have a policy for this permission yet get the whole policy. The `$addToSet` that
+                // follows in the same ordered bulk write then finds its users and groups already present in them.
+                Document newPolicy = new Document("permission", policy.getPermission())
+                        .append("users", new ArrayList<>(policy.getUsers() == null ? Set.of() : policy.getUsers()))
+                        .append("groups", new ArrayList<>(policy.getGroups() == null ? Set.of() : policy.getGroups()));
+                updates.add(new UpdateManyModel<>(
+                        new Document(idsFilter).append(permissionField, new Document("$ne", policy.getPermission())),
+                        new Document("$push", new Document(policiesField, newPolicy))
+                ));
+            }
+
+            updates.add(new UpdateManyModel<>(
+                    new Document(idsFilter).append(permissionField, policy.getPermission()),
+                    new Document(addPolicyToObject ? "$addToSet" : "$pull", policyUpdate)
+            ));
+        }
+
+        return updates;
+    }
+
     public T setUserPermissionsInObject(T obj, User user) {
+        obj.setUserPermissions(getUserPermissions(obj.getPolicies(), user));
+        return obj;
+    }
+
+    /**
+     * Same as {@link #setUserPermissionsInObject(BaseDomain, User)}, after replacing the inherited policies of the
+     * object with the given ones.
+     */
+    protected T setUserPermissionsInObject(T obj, User user, InheritedPolicies inheritedPolicies) {
+        if (applicationIdGetter != null) {
+            inheritedPolicies.apply(obj, applicationIdGetter.apply(obj));
+        }
+        return setUserPermissionsInObject(obj, user);
+    }
+
+    /**
+     * @return The permissions that the given policies grant to the user, either directly, through their groups, or as
+     * permissions granted to anonymous users.
+     */
+    public static Set<String> getUserPermissions(Set<Policy> policies, User user) {
 
         Set<String> permissions = new HashSet<>();
 
-        for (Policy policy : obj.getPolicies()) {
+        for (Policy policy : policies) {
             Set<String> policyUsers = policy.getUsers();
             Set<String> policyGroups = policy.getGroups();
 
@@ -211,8 +578,7 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
             }
         }
 
-        obj.setUserPermissions(permissions);
-        return obj;
+        return permissions;
     }
 
 }
@@ -18,6 +18,8 @@ public interface CustomApplicationRepository extends AppsmithRepository<Applicat
 
     Flux<Application> findByOrganizationId(String orgId, AclPermission permission);
 
+    Flux<String> findIdsByOrganizationId(String orgId, AclPermission permission);
+
     Flux<Application> findByMultipleOrganizationIds(Set<String> orgIds, AclPermission permission);
 
     Flux<Application> findByClonedFromApplicationId(String applicationId, AclPermission permission);
@@ -60,10 +60,29 @@ public class CustomApplicationRepositoryImpl extends BaseAppsmithRepositoryImpl<
         return queryAll(List.of(orgIdCriteria), permission);
     }
 
+    @Override
+    public Flux<String> findIdsByOrganizationId(String orgId, AclPermission permission) {
+        Criteria orgIdCriteria = where(fieldName(QApplication.application.organizationId)).is(orgId);
+        return queryAll(List.of(orgIdCriteria), fields -> fields.include(fieldName(QApplication.application.id)), permission, null, 0)
+                .map(Application::getId);
+    }
+
+    /**
+     * Lists the applications of the given organizations for the homepage. The published copies of the pages and the
+     * layout are not read, since they are never sent to the client.
+     */
     @Override
     public Flux<Application> findByMultipleOrganizationIds(Set<String> orgIds, AclPermission permission) {
         Criteria orgIdsCriteria = where(fieldName(QApplication.application.organizationId)).in(orgIds);
-        return queryAll(List.of(orgIdsCriteria), permission);
+        return queryAll(
+                List.of(orgIdsCriteria),
+                fields -> fields
+                        .exclude(fieldName(QApplication.application.publishedPages))
+                        .exclude(fieldName(QApplication.application.publishedAppLayout)),
+                permission,
+                null,
+                0
+        );
     }
 
     @Override
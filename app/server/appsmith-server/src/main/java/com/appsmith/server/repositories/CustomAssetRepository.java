@@ -0,0 +1,11 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.Asset;
+import reactor.core.publisher.Mono;
+
+public interface CustomAssetRepository extends AppsmithRepository<Asset> {
+
+    Mono<Asset> findAndAddReference(String hash, String contentType);
+
+    Mono<Boolean> removeReference(String id);
+}
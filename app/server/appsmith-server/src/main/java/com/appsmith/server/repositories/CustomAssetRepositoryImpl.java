@@ -0,0 +1,69 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.Asset;
+import com.appsmith.server.domains.QAsset;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Component
+public class CustomAssetRepositoryImpl extends BaseAppsmithRepositoryImpl<Asset> implements CustomAssetRepository {
+
+    public CustomAssetRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter) {
+        super(mongoOperations, mongoConverter);
+    }
+
+    /**
+     * Atomically adds a reference to the asset with the given content, if one exists. Publishes that asset, or nothing
+     * if there is no such asset, or if it is being deleted concurrently.
+     */
+    @Override
+    public Mono<Asset> findAndAddReference(String hash, String contentType) {
+        return mongoOperations.findAndModify(
+                query(where(fieldName(QAsset.asset.hash)).is(hash)
+                        .and(fieldName(QAsset.asset.contentType)).is(contentType)
+                        .and(fieldName(QAsset.asset.referenceCount)).gt(0)),
+                new Update().inc(fieldName(QAsset.asset.referenceCount), 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Asset.class
+        );
+    }
+
+    /**
+     * Atomically removes a reference to the asset, and deletes the asset if that was its last reference. Once its count
+     * drops to zero, no new reference can be added to the asset, so deleting it can't race with an upload that reuses
+     * it. Assets saved before references were counted don't have a count, and are only referred to once.
+     *
+     * @return Mono of true if the asset was deleted
+     */
+    @Override
+    public Mono<Boolean> removeReference(String id) {
+        final String referenceCount = fieldName(QAsset.asset.referenceCount);
+
+        return mongoOperations
+                .findAndModify(
+                        query(where(fieldName(QAsset.asset.id)).is(id)),
+                        new Update().inc(referenceCount, -1),
+                        FindAndModifyOptions.options().returnNew(true),
+                        Asset.class
+                )
+                .flatMap(asset -> {
+                    if (asset.getReferenceCount() != null && asset.getReferenceCount() > 0) {
+                        return Mono.just(false);
+                    }
+                    return mongoOperations
+                            .remove(
+                                    query(where(fieldName(QAsset.asset.id)).is(id).and(referenceCount).lte(0)),
+                                    Asset.class
+                            )
+                            .map(deleteResult -> deleteResult.getDeletedCount() > 0);
+                })
+                .defaultIfEmpty(false);
+    }
+}
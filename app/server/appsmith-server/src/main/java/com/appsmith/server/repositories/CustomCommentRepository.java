@@ -1,9 +1,13 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Comment;
 import com.mongodb.client.result.UpdateResult;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 public interface CustomCommentRepository extends AppsmithRepository<Comment> {
 
     Mono<UpdateResult> pushReaction(String commentId, Comment.Reaction reaction);
@@ -12,4 +16,8 @@ public interface CustomCommentRepository extends AppsmithRepository<Comment> {
 
     Mono<Void> updateAuthorNames(String authorId, String authorName);
 
+    Flux<Comment> findByThreadId(String threadId, Instant createdAfter, String idAfter, int limit, AclPermission permission);
+
+    Mono<Comment> findLastCommentByThreadId(String threadId);
+
 }
@@ -1,17 +1,24 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.QComment;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.List;
+
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
@@ -72,4 +79,39 @@ public class CustomCommentRepositoryImpl extends BaseAppsmithRepositoryImpl<Comm
                 .then();
     }
 
+    /**
+     * Returns at most `limit` comments of the thread that come after the given position, oldest first. Comments are
+     * ordered by their creation time, and by their ids among comments created at the same instant, so that a page
+     * boundary falling between such comments neither skips nor repeats any of them. The `createdAt` and the `id` of
+     * the last comment returned are meant to be passed as `createdAfter` and `idAfter` to get the next page. Only the
+     * creation time is compared if `idAfter` is null.
+     */
+    @Override
+    public Flux<Comment> findByThreadId(String threadId, Instant createdAfter, String idAfter, int limit, AclPermission permission) {
+        final String createdAtField = fieldName(QComment.comment.createdAt);
+        final String idField = fieldName(QComment.comment.id);
+        final Criteria afterCriteria = idAfter == null
+                ? where(createdAtField).gt(createdAfter)
+                : new Criteria().orOperator(
+                        where(createdAtField).gt(createdAfter),
+                        where(createdAtField).is(createdAfter).and(idField).gt(new ObjectId(idAfter))
+                );
+        List<Criteria> criteria = List.of(
+                where(fieldName(QComment.comment.threadId)).is(threadId),
+                afterCriteria
+        );
+        return queryAll(criteria, permission, Sort.by(Sort.Direction.ASC, createdAtField, idField), limit);
+    }
+
+    @Override
+    public Mono<Comment> findLastCommentByThreadId(String threadId) {
+        final String createdAtField = fieldName(QComment.comment.createdAt);
+        return queryAll(
+                List.of(where(fieldName(QComment.comment.threadId)).is(threadId)),
+                null,
+                Sort.by(Sort.Direction.DESC, createdAtField, fieldName(QComment.comment.id)),
+                1
+        ).next();
+    }
+
 }
@@ -1,10 +1,15 @@
 package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.InheritedPolicyResolver;
+import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.QCommentThread;
+import com.appsmith.server.helpers.CommentUtils;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -14,6 +19,8 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -24,8 +31,10 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 public class CustomCommentThreadRepositoryImpl extends BaseAppsmithRepositoryImpl<CommentThread>
         implements CustomCommentThreadRepository {
 
-    public CustomCommentThreadRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter) {
-        super(mongoOperations, mongoConverter);
+    public CustomCommentThreadRepositoryImpl(ReactiveMongoOperations mongoOperations,
+                                             MongoConverter mongoConverter,
+                                             InheritedPolicyResolver inheritedPolicyResolver) {
+        super(mongoOperations, mongoConverter, inheritedPolicyResolver, CommentThread::getApplicationId);
     }
 
     @Override
@@ -34,6 +43,23 @@ public class CustomCommentThreadRepositoryImpl extends BaseAppsmithRepositoryImp
         return queryAll(List.of(criteria), permission);
     }
 
+    /**
+     * Returns at most `limit` threads of the application that were created before the given instant, newest first.
+     * The `createdAt` of the last thread returned is meant to be passed as `createdBefore` to get the next page.
+     */
+    @Override
+    public Flux<CommentThread> findByApplicationId(String applicationId,
+                                                   Instant createdBefore,
+                                                   int limit,
+                                                   AclPermission permission) {
+        final String createdAtField = fieldName(QCommentThread.commentThread.createdAt);
+        List<Criteria> criteria = List.of(
+                where(fieldName(QCommentThread.commentThread.applicationId)).is(applicationId),
+                where(createdAtField).lt(createdBefore)
+        );
+        return queryAll(criteria, permission, Sort.by(Sort.Direction.DESC, createdAtField), limit);
+    }
+
     /**
      * Adds the provided username i.e. email address to the subscriber list of this thread
      * @return updated result object
@@ -46,4 +72,51 @@ public class CustomCommentThreadRepositoryImpl extends BaseAppsmithRepositoryImp
                 CommentThread.class
         );
     }
+
+    /**
+     * Atomically adds `delta` to the comment count of this thread, and replaces its last comment with a preview of the
+     * provided comment, or removes it if the provided comment is null. Comments can be added, edited and deleted
+     * concurrently, so the last comment is only replaced if the thread has none, if it comes before the provided one in
+     * the order of creation time and id, or if it's the comment with the id `replacedCommentId`, i.e., the comment that
+     * was just edited or deleted. This keeps an update that was computed earlier from overwriting a newer last comment.
+     * @return updated result object of the comment count
+     */
+    @Override
+    public Mono<UpdateResult> updateCommentCount(String threadId, int delta, Comment lastComment, String replacedCommentId) {
+        final String lastCommentField = fieldName(QCommentThread.commentThread.lastComment);
+        final String lastCommentIdField = lastCommentField + "." + fieldName(QCommentThread.commentThread.lastComment.id);
+        final String lastCommentCreatedAtField =
+                lastCommentField + "." + fieldName(QCommentThread.commentThread.lastComment.createdAt);
+
+        final List<Criteria> replaceableCriteria = new ArrayList<>();
+        if (replacedCommentId != null) {
+            replaceableCriteria.add(where(lastCommentIdField).is(new ObjectId(replacedCommentId)));
+        }
+        final Update lastCommentUpdate = new Update();
+        if (lastComment == null) {
+            lastCommentUpdate.unset(lastCommentField);
+        } else {
+            lastCommentUpdate.set(lastCommentField, CommentUtils.getPreview(lastComment));
+            replaceableCriteria.add(where(lastCommentField).exists(false));
+            replaceableCriteria.add(where(lastCommentCreatedAtField).lt(lastComment.getCreatedAt()));
+            // Comments created at the same instant are ordered by their ids, as when they are listed.
+            replaceableCriteria.add(where(lastCommentCreatedAtField).is(lastComment.getCreatedAt())
+                    .and(lastCommentIdField).lt(new ObjectId(lastComment.getId())));
+        }
+
+        final Mono<UpdateResult> lastCommentMono = replaceableCriteria.isEmpty()
+                ? Mono.empty()
+                : mongoOperations.updateFirst(
+                        Query.query(where("id").is(threadId)
+                                .orOperator(replaceableCriteria.toArray(new Criteria[0]))),
+                        lastCommentUpdate,
+                        CommentThread.class
+                );
+
+        return lastCommentMono.then(mongoOperations.updateFirst(
+                Query.query(where("id").is(threadId)),
+                new Update().inc(fieldName(QCommentThread.commentThread.commentCount), delta),
+                CommentThread.class
+        ));
+    }
 }
@@ -12,6 +12,8 @@ import java.util.Set;
 public interface CustomDatasourceRepository extends AppsmithRepository<Datasource> {
     Flux<Datasource> findAllByOrganizationId(String organizationId, AclPermission permission);
 
+    Flux<Datasource> findAllByOrganizationIdWithoutStructure(String organizationId, AclPermission permission);
+
     Mono<Datasource> findByNameAndOrganizationId(String name, String organizationId, AclPermission aclPermission);
 
     Mono<Datasource> findById(String id, AclPermission aclPermission);
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
@@ -32,6 +33,25 @@ public class CustomDatasourceRepositoryImpl extends BaseAppsmithRepositoryImpl<D
         return queryAll(List.of(orgIdCriteria), permission);
     }
 
+    /**
+     * Same as {@link #findAllByOrganizationId(String, AclPermission)}, but doesn't read the cached structures, which can
+     * be large for datasources with many tables. The returned datasources must not be saved back as they are, since that
+     * would lose their structures.
+     */
+    @Override
+    public Flux<Datasource> findAllByOrganizationIdWithoutStructure(String organizationId, AclPermission permission) {
+        Criteria orgIdCriteria = where(fieldName(QDatasource.datasource.organizationId)).is(organizationId);
+        return queryAll(
+                List.of(orgIdCriteria),
+                fields -> fields
+                        .exclude(fieldName(QDatasource.datasource.structure))
+                        .exclude(fieldName(QDatasource.datasource.structureUpdatedAt)),
+                permission,
+                null,
+                0
+        );
+    }
+
     @Override
     public Mono<Datasource> findByNameAndOrganizationId(String name, String organizationId, AclPermission aclPermission) {
         Criteria nameCriteria = where(fieldName(QDatasource.datasource.name)).is(name);
@@ -48,7 +68,8 @@ public class CustomDatasourceRepositoryImpl extends BaseAppsmithRepositoryImpl<D
     public Mono<UpdateResult> saveStructure(String datasourceId, DatasourceStructure structure) {
         return mongoOperations.updateFirst(
                 query(where(fieldName(QDatasource.datasource.id)).is(datasourceId)),
-                Update.update(fieldName(QDatasource.datasource.structure), structure),
+                Update.update(fieldName(QDatasource.datasource.structure), structure)
+                        .set(fieldName(QDatasource.datasource.structureUpdatedAt), Instant.now()),
                 Datasource.class
         );
     }
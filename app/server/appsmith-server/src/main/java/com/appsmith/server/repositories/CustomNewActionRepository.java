@@ -18,9 +18,10 @@ public interface CustomNewActionRepository extends AppsmithRepository<NewAction>
 
     Flux<NewAction> findByPageIdAndViewMode(String pageId, Boolean viewMode, AclPermission aclPermission);
 
-    Flux<NewAction> findUnpublishedActionsByNameInAndPageId(Set<String> names, String pageId, AclPermission permission);
-
-    Flux<NewAction> findUnpublishedActionsByPageIdAndExecuteOnLoadSetByUserTrue(String pageId, AclPermission permission);
+    Flux<NewAction> findByPageIdAndViewMode(String pageId,
+                                            Boolean viewMode,
+                                            List<String> actionFields,
+                                            AclPermission aclPermission);
 
     Flux<NewAction> findUnpublishedActionsForRestApiOnLoad(Set<String> names,
                                                            String pageId,
@@ -36,5 +37,14 @@ public interface CustomNewActionRepository extends AppsmithRepository<NewAction>
 
     Flux<NewAction> findByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
 
+    Flux<NewAction> findByApplicationIdAndViewMode(String applicationId,
+                                                   Boolean viewMode,
+                                                   List<String> actionFields,
+                                                   AclPermission aclPermission);
+
     Mono<Long> countByDatasourceId(String datasourceId);
+
+    Mono<Long> deleteUnpublishedDeletedActionsByApplicationId(String applicationId, AclPermission aclPermission);
+
+    Mono<Long> publishActions(String applicationId, AclPermission permission);
 }
@@ -2,17 +2,17 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.external.models.QActionConfiguration;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.InheritedPolicyResolver;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.QNewAction;
-import com.appsmith.server.domains.User;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -20,6 +20,7 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
@@ -29,8 +30,9 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
         implements CustomNewActionRepository {
 
     public CustomNewActionRepositoryImpl(ReactiveMongoOperations mongoOperations,
-                                         MongoConverter mongoConverter) {
-        super(mongoOperations, mongoConverter);
+                                         MongoConverter mongoConverter,
+                                         InheritedPolicyResolver inheritedPolicyResolver) {
+        super(mongoOperations, mongoConverter, inheritedPolicyResolver, NewAction::getApplicationId);
     }
 
     @Override
@@ -53,23 +55,7 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
                 where(publishedPage).is(pageId)
         );
 
-        return ReactiveSecurityContextHolder.getContext()
-                .map(ctx -> ctx.getAuthentication())
-                .flatMapMany(auth -> {
-                    User user = (User) auth.getPrincipal();
-                    Query query = new Query();
-
-                    if (aclPermission == null) {
-                        query.addCriteria(new Criteria().andOperator(notDeleted(), pageCriteria));
-                    } else {
-                        query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, aclPermission), pageCriteria));
-                    }
-
-                    return mongoOperations.query(NewAction.class)
-                            .matching(query)
-                            .all()
-                            .map(obj -> setUserPermissionsInObject(obj, user));
-                });
+        return queryAll(List.of(pageCriteria), aclPermission);
     }
 
     @Override
@@ -79,6 +65,36 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
 
     @Override
     public Flux<NewAction> findByPageIdAndViewMode(String pageId, Boolean viewMode, AclPermission aclPermission) {
+        return queryAll(getPageIdAndViewModeCriteria(pageId, viewMode), aclPermission);
+    }
+
+    /**
+     * Same as {@link #findByPageIdAndViewMode(String, Boolean, AclPermission)}, but only reads the given fields of the
+     * action in the given mode, along with the plugin type of the action. The action of the other mode isn't read at
+     * all, and is left null in the returned objects.
+     */
+    @Override
+    public Flux<NewAction> findByPageIdAndViewMode(String pageId,
+                                                   Boolean viewMode,
+                                                   List<String> actionFields,
+                                                   AclPermission aclPermission) {
+        final String actionKey = Boolean.TRUE.equals(viewMode)
+                ? fieldName(QNewAction.newAction.publishedAction)
+                : fieldName(QNewAction.newAction.unpublishedAction);
+
+        return queryAll(
+                getPageIdAndViewModeCriteria(pageId, viewMode),
+                fields -> {
+                    fields.include(fieldName(QNewAction.newAction.pluginType));
+                    actionFields.forEach(field -> fields.include(actionKey + "." + field));
+                },
+                aclPermission,
+                null,
+                0
+        );
+    }
+
+    private List<Criteria> getPageIdAndViewModeCriteria(String pageId, Boolean viewMode) {
 
         List<Criteria> criteria = new ArrayList<>();
 
@@ -98,7 +114,8 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
             Criteria deletedCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
             criteria.add(deletedCriteria);
         }
-        return queryAll(criteria, aclPermission);
+
+        return criteria;
     }
 
     @Override
@@ -180,7 +197,15 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
             criteriaList.add(deletedCriteria);
         }
 
-        return queryAll(criteriaList, aclPermission, sort);
+        // Only the copy for the given mode is read. These actions are only listed, never saved back.
+        return queryAll(criteriaList, excludeOtherMode(viewMode), aclPermission, sort, 0);
+    }
+
+    private Consumer<Field> excludeOtherMode(Boolean viewMode) {
+        final String otherActionKey = Boolean.TRUE.equals(viewMode)
+                ? fieldName(QNewAction.newAction.unpublishedAction)
+                : fieldName(QNewAction.newAction.publishedAction);
+        return fields -> fields.exclude(otherActionKey);
     }
 
     @Override
@@ -205,44 +230,6 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
         return queryAll(criteriaList, permission);
     }
 
-    @Override
-    public Flux<NewAction> findUnpublishedActionsByNameInAndPageId(Set<String> names, String pageId, AclPermission permission) {
-        List<Criteria> criteriaList = new ArrayList<>();
-
-        if (names != null) {
-            Criteria namesCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.name)).in(names);
-            criteriaList.add(namesCriteria);
-        }
-        Criteria pageCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.pageId)).is(pageId);
-        criteriaList.add(pageCriteria);
-
-        // In case an action has been deleted in edit mode, but still exists in deployed mode, NewAction object would exist. To handle this, only fetch non-deleted actions
-        Criteria deletedCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
-        criteriaList.add(deletedCriteria);
-
-        return queryAll(criteriaList, permission);
-    }
-
-    @Override
-    public Flux<NewAction> findUnpublishedActionsByPageIdAndExecuteOnLoadSetByUserTrue(String pageId, AclPermission permission) {
-        List<Criteria> criteriaList = new ArrayList<>();
-
-        Criteria executeOnLoadCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.executeOnLoad)).is(Boolean.TRUE);
-        criteriaList.add(executeOnLoadCriteria);
-
-        Criteria setByUserCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.userSetOnLoad)).is(Boolean.TRUE);
-        criteriaList.add(setByUserCriteria);
-
-        Criteria pageCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.pageId)).is(pageId);
-        criteriaList.add(pageCriteria);
-
-        // In case an action has been deleted in edit mode, but still exists in deployed mode, NewAction object would exist. To handle this, only fetch non-deleted actions
-        Criteria deletedCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
-        criteriaList.add(deletedCriteria);
-
-        return queryAll(criteriaList, permission);
-    }
-
     @Override
     public Flux<NewAction> findByApplicationId(String applicationId, AclPermission aclPermission, Sort sort) {
 
@@ -251,11 +238,47 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
         return queryAll(List.of(applicationCriteria), aclPermission, sort);
     }
 
+    /**
+     * Finds the actions of the application, reading only their copy for the given mode. The other copy is left null in
+     * the returned objects, so they must not be saved back as a whole.
+     */
     @Override
     public Flux<NewAction> findByApplicationIdAndViewMode(String applicationId,
                                                           Boolean viewMode,
                                                           AclPermission aclPermission) {
+        return queryAll(
+                getApplicationIdAndViewModeCriteria(applicationId, viewMode),
+                excludeOtherMode(viewMode),
+                aclPermission,
+                null,
+                0
+        );
+    }
 
+    /**
+     * Same as {@link #findByApplicationIdAndViewMode(String, Boolean, AclPermission)}, but only reads the given fields
+     * of the action in the given mode, e.g., `name` or `actionConfiguration.timeoutInMillisecond`. The action of the
+     * other mode isn't read at all, and is left null in the returned objects.
+     */
+    @Override
+    public Flux<NewAction> findByApplicationIdAndViewMode(String applicationId,
+                                                          Boolean viewMode,
+                                                          List<String> actionFields,
+                                                          AclPermission aclPermission) {
+        final String actionKey = Boolean.TRUE.equals(viewMode)
+                ? fieldName(QNewAction.newAction.publishedAction)
+                : fieldName(QNewAction.newAction.unpublishedAction);
+
+        return queryAll(
+                getApplicationIdAndViewModeCriteria(applicationId, viewMode),
+                fields -> actionFields.forEach(field -> fields.include(actionKey + "." + field)),
+                aclPermission,
+                null,
+                0
+        );
+    }
+
+    private List<Criteria> getApplicationIdAndViewModeCriteria(String applicationId, Boolean viewMode) {
         List<Criteria> criteria = new ArrayList<>();
 
         Criteria applicationCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
@@ -267,7 +290,7 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
             criteria.add(deletedCriterion);
         }
 
-        return queryAll(criteria, aclPermission);
+        return criteria;
     }
 
     @Override
@@ -286,4 +309,26 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
 
         return mongoOperations.count(query, "newAction");
     }
+
+    @Override
+    public Mono<Long> deleteUnpublishedDeletedActionsByApplicationId(String applicationId, AclPermission aclPermission) {
+        Criteria applicationCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        Criteria deletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).ne(null);
+
+        return deleteAll(List.of(applicationCriterion, deletedCriterion), aclPermission);
+    }
+
+    @Override
+    public Mono<Long> publishActions(String applicationId, AclPermission permission) {
+        Criteria applicationCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        // Actions deleted in edit mode are removed during publish and must not be copied over
+        Criteria deletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+
+        return copyFieldInBulk(
+                List.of(applicationCriterion, deletedCriterion),
+                permission,
+                fieldName(QNewAction.newAction.unpublishedAction),
+                fieldName(QNewAction.newAction.publishedAction)
+        );
+    }
 }
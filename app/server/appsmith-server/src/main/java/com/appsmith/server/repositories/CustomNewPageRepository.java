@@ -2,14 +2,20 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.PageDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CustomNewPageRepository extends AppsmithRepository<NewPage> {
     Flux<NewPage> findByApplicationId(String applicationId, AclPermission aclPermission);
 
+    Mono<NewPage> findByIdAndViewMode(String id, AclPermission aclPermission, Boolean viewMode);
+
+    Mono<NewPage> updateUnpublishedPage(String id, PageDTO page, AclPermission aclPermission);
+
     Mono<NewPage> findByIdAndLayoutsIdAndViewMode(String id, String layoutId, AclPermission aclPermission, Boolean viewMode);
 
     Mono<NewPage> findByNameAndViewMode(String name, AclPermission aclPermission, Boolean viewMode);
@@ -18,5 +24,13 @@ public interface CustomNewPageRepository extends AppsmithRepository<NewPage> {
 
     Flux<NewPage> findAllByIds(List<String> ids, AclPermission aclPermission);
 
+    Flux<NewPage> findPageNamesByIdsAndViewMode(List<String> ids, Boolean viewMode, AclPermission aclPermission);
+
+    Flux<NewPage> findPageNamesByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
+
+    Mono<Long> countByIdIn(Collection<String> pageIds, AclPermission permission);
+
+    Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission);
 }
@@ -1,21 +1,30 @@
 package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.InheritedPolicyResolver;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.QLayout;
 import com.appsmith.server.domains.QNewPage;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.PageDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
@@ -24,8 +33,10 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewPage>
         implements CustomNewPageRepository {
 
-    public CustomNewPageRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter) {
-        super(mongoOperations, mongoConverter);
+    public CustomNewPageRepositoryImpl(ReactiveMongoOperations mongoOperations,
+                                       MongoConverter mongoConverter,
+                                       InheritedPolicyResolver inheritedPolicyResolver) {
+        super(mongoOperations, mongoConverter, inheritedPolicyResolver, NewPage::getApplicationId);
     }
 
     @Override
@@ -34,6 +45,51 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
         return queryAll(List.of(applicationIdCriteria), aclPermission);
     }
 
+    /**
+     * Finds the page by id, reading only its copy for the given mode. The other copy is left null in the returned
+     * object, so it must not be saved back as a whole.
+     */
+    @Override
+    public Mono<NewPage> findByIdAndViewMode(String id, AclPermission aclPermission, Boolean viewMode) {
+        final String otherPageKey = Boolean.TRUE.equals(viewMode)
+                ? fieldName(QNewPage.newPage.unpublishedPage)
+                : fieldName(QNewPage.newPage.publishedPage);
+        return queryOne(List.of(getIdCriteria(id)), fields -> fields.exclude(otherPageKey), aclPermission);
+    }
+
+    /**
+     * Replaces only the unpublished copy of the page, so that saving the editor's changes neither reads nor rewrites
+     * the published copy.
+     * @return the updated page, without its published copy, or empty if no page could be updated
+     */
+    @Override
+    public Mono<NewPage> updateUnpublishedPage(String id, PageDTO page, AclPermission aclPermission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> (User) ctx.getAuthentication().getPrincipal())
+                .flatMap(user -> {
+                    List<Criteria> criterias = List.of(getIdCriteria(id));
+
+                    Update update = new Update()
+                            .set(fieldName(QNewPage.newPage.unpublishedPage), page)
+                            .set(fieldName(QNewPage.newPage.updatedAt), Instant.now());
+
+                    return resolveInheritedPolicies(criterias, user)
+                            .flatMap(inheritedPolicies -> {
+                                Query query = createQuery(
+                                        criterias,
+                                        fields -> fields.exclude(fieldName(QNewPage.newPage.publishedPage)),
+                                        user,
+                                        aclPermission,
+                                        inheritedPolicies
+                                );
+
+                                return mongoOperations
+                                        .findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), NewPage.class)
+                                        .map(updatedPage -> setUserPermissionsInObject(updatedPage, user, inheritedPolicies));
+                            });
+                });
+    }
+
     @Override
     public Mono<NewPage> findByIdAndLayoutsIdAndViewMode(String id, String layoutId, AclPermission aclPermission, Boolean viewMode) {
         String layoutsIdKey;
@@ -105,6 +161,34 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
         return queryAll(List.of(idsCriterion), aclPermission);
     }
 
+    @Override
+    public Flux<NewPage> findPageNamesByIdsAndViewMode(List<String> ids, Boolean viewMode, AclPermission aclPermission) {
+        Criteria idsCriterion = where("id").in(ids);
+        return queryAll(List.of(idsCriterion), pageNamesProjection(viewMode), aclPermission, null, 0);
+    }
+
+    @Override
+    public Flux<NewPage> findPageNamesByApplicationIdAndViewMode(String applicationId,
+                                                                 Boolean viewMode,
+                                                                 AclPermission aclPermission) {
+        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        return queryAll(List.of(applicationIdCriteria), pageNamesProjection(viewMode), aclPermission, null, 0);
+    }
+
+    /**
+     * Reads only what's needed to list the pages, i.e., the name and the visibility of the page in the given mode,
+     * leaving out the layouts of both the modes.
+     */
+    private Consumer<Field> pageNamesProjection(Boolean viewMode) {
+        final String pageKey = Boolean.TRUE.equals(viewMode)
+                ? fieldName(QNewPage.newPage.publishedPage)
+                : fieldName(QNewPage.newPage.unpublishedPage);
+        return fields -> fields
+                .include(fieldName(QNewPage.newPage.applicationId))
+                .include(pageKey + "." + fieldName(QNewPage.newPage.unpublishedPage.name))
+                .include(pageKey + "." + fieldName(QNewPage.newPage.unpublishedPage.isHidden));
+    }
+
     private Criteria getNameCriterion(String name, Boolean viewMode) {
         String nameKey;
 
@@ -118,9 +202,14 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
 
     @Override
     public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
+        Query query = Query.query(Criteria.where(fieldName(QNewPage.newPage.id)).is(pageId));
+        query.fields()
+                .include(fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.publishedPage.name))
+                .include(fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.name));
+
         return mongoOperations
                 .query(NewPage.class)
-                .matching(Query.query(Criteria.where(fieldName(QNewPage.newPage.id)).is(pageId)))
+                .matching(query)
                 .one()
                 .map(p -> {
                     PageDTO page = (isPublishedName ? p.getPublishedPage() : p.getUnpublishedPage());
@@ -131,4 +220,23 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
                     return p.getUnpublishedPage().getName();
                 });
     }
+
+    @Override
+    public Mono<Long> countByIdIn(Collection<String> pageIds, AclPermission permission) {
+        Criteria pageIdsCriterion = where(fieldName(QNewPage.newPage.id)).in(pageIds);
+
+        return count(List.of(pageIdsCriterion), permission);
+    }
+
+    @Override
+    public Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission) {
+        Criteria pageIdsCriterion = where(fieldName(QNewPage.newPage.id)).in(pageIds);
+
+        return copyFieldInBulk(
+                List.of(pageIdsCriterion),
+                permission,
+                fieldName(QNewPage.newPage.unpublishedPage),
+                fieldName(QNewPage.newPage.publishedPage)
+        );
+    }
 }
@@ -0,0 +1,19 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.PolicyPropagationJob;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface CustomPolicyPropagationJobRepository extends AppsmithRepository<PolicyPropagationJob> {
+    Flux<PolicyPropagationJob> findRunnable(Instant now, int limit);
+
+    Mono<Boolean> existsUnfinishedBefore(PolicyPropagationJob job);
+
+    Mono<PolicyPropagationJob> claim(PolicyPropagationJob job, Instant lockedUntil);
+
+    Mono<PolicyPropagationJob> saveCheckpoint(PolicyPropagationJob job);
+
+    Mono<PolicyPropagationJob> release(PolicyPropagationJob job);
+}
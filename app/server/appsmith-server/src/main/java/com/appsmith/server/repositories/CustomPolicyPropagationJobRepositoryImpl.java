@@ -0,0 +1,128 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.PolicyPropagationJob;
+import com.appsmith.server.domains.QPolicyPropagationJob;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class CustomPolicyPropagationJobRepositoryImpl extends BaseAppsmithRepositoryImpl<PolicyPropagationJob>
+        implements CustomPolicyPropagationJobRepository {
+
+    private static final List<PolicyPropagationJob.Status> UNFINISHED_STATUSES =
+            List.of(PolicyPropagationJob.Status.PENDING, PolicyPropagationJob.Status.RUNNING);
+
+    public CustomPolicyPropagationJobRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter) {
+        super(mongoOperations, mongoConverter);
+    }
+
+    /**
+     * Finds the jobs that can be picked up by a worker at the given time, oldest first. These are the pending jobs that
+     * are not backing off from a failed attempt, and the running jobs whose lock has expired.
+     */
+    @Override
+    public Flux<PolicyPropagationJob> findRunnable(Instant now, int limit) {
+        final String lockedUntil = fieldName(QPolicyPropagationJob.policyPropagationJob.lockedUntil);
+        Query query = query(where(fieldName(QPolicyPropagationJob.policyPropagationJob.status)).in(UNFINISHED_STATUSES)
+                .orOperator(where(lockedUntil).is(null), where(lockedUntil).lt(now)))
+                .with(Sort.by(Sort.Direction.ASC, fieldName(QPolicyPropagationJob.policyPropagationJob.id)))
+                .limit(limit);
+
+        return mongoOperations.find(query, PolicyPropagationJob.class);
+    }
+
+    /**
+     * Checks if an older job of the same organization hasn't finished yet. The jobs of an organization have to be run
+     * in the order they were created in, e.g., the removal and the addition of a user that make up a role change.
+     * Jobs are ordered by their ids, which increase with the time they were created at.
+     */
+    @Override
+    public Mono<Boolean> existsUnfinishedBefore(PolicyPropagationJob job) {
+        return mongoOperations.exists(
+                query(where(fieldName(QPolicyPropagationJob.policyPropagationJob.organizationId)).is(job.getOrganizationId())
+                        .and(fieldName(QPolicyPropagationJob.policyPropagationJob.status)).in(UNFINISHED_STATUSES)
+                        .and(fieldName(QPolicyPropagationJob.policyPropagationJob.id)).lt(new ObjectId(job.getId()))),
+                PolicyPropagationJob.class
+        );
+    }
+
+    /**
+     * Atomically marks the job as running with the given lock, only if no other worker has claimed it since it was
+     * read. The claimed job is locked by a new owner, which every later update of the job while it runs must match.
+     * Publishes the claimed job, or nothing if the job was claimed by another worker.
+     */
+    @Override
+    public Mono<PolicyPropagationJob> claim(PolicyPropagationJob job, Instant lockedUntil) {
+        final String lockedUntilField = fieldName(QPolicyPropagationJob.policyPropagationJob.lockedUntil);
+        Criteria criteria = where(fieldName(QPolicyPropagationJob.policyPropagationJob.id)).is(job.getId())
+                .and(fieldName(QPolicyPropagationJob.policyPropagationJob.status)).is(job.getStatus())
+                .and(lockedUntilField).is(job.getLockedUntil());
+
+        return mongoOperations.findAndModify(
+                query(criteria),
+                new Update()
+                        .set(fieldName(QPolicyPropagationJob.policyPropagationJob.status), PolicyPropagationJob.Status.RUNNING)
+                        .set(lockedUntilField, lockedUntil)
+                        .set(fieldName(QPolicyPropagationJob.policyPropagationJob.lockedBy), UUID.randomUUID().toString())
+                        .inc(fieldName(QPolicyPropagationJob.policyPropagationJob.attempts), 1),
+                FindAndModifyOptions.options().returnNew(true),
+                PolicyPropagationJob.class
+        );
+    }
+
+    /**
+     * Saves the steps completed by the job and renews its lock, only if the job is still locked by the same owner.
+     * Publishes the updated job, or nothing if the lock was lost to another worker.
+     */
+    @Override
+    public Mono<PolicyPropagationJob> saveCheckpoint(PolicyPropagationJob job) {
+        return updateIfLocked(job, new Update()
+                .set(fieldName(QPolicyPropagationJob.policyPropagationJob.completedSteps), job.getCompletedSteps())
+                .set(fieldName(QPolicyPropagationJob.policyPropagationJob.applicationIds), job.getApplicationIds())
+                .set(fieldName(QPolicyPropagationJob.policyPropagationJob.lockedUntil), job.getLockedUntil())
+        );
+    }
+
+    /**
+     * Saves the status the job is left in once it stops running, along with its lock expiry, error and the time it
+     * finished at, and releases its lock, only if the job is still locked by the same owner. Publishes the updated
+     * job, or nothing if the lock was lost to another worker.
+     */
+    @Override
+    public Mono<PolicyPropagationJob> release(PolicyPropagationJob job) {
+        return updateIfLocked(job, new Update()
+                .set(fieldName(QPolicyPropagationJob.policyPropagationJob.status), job.getStatus())
+                .set(fieldName(QPolicyPropagationJob.policyPropagationJob.lockedUntil), job.getLockedUntil())
+                .set(fieldName(QPolicyPropagationJob.policyPropagationJob.error), job.getError())
+                .set(fieldName(QPolicyPropagationJob.policyPropagationJob.finishedAt), job.getFinishedAt())
+                .unset(fieldName(QPolicyPropagationJob.policyPropagationJob.lockedBy))
+        );
+    }
+
+    private Mono<PolicyPropagationJob> updateIfLocked(PolicyPropagationJob job, Update update) {
+        Criteria criteria = where(fieldName(QPolicyPropagationJob.policyPropagationJob.id)).is(job.getId())
+                .and(fieldName(QPolicyPropagationJob.policyPropagationJob.status)).is(PolicyPropagationJob.Status.RUNNING)
+                .and(fieldName(QPolicyPropagationJob.policyPropagationJob.lockedBy)).is(job.getLockedBy());
+
+        return mongoOperations.findAndModify(
+                query(criteria),
+                update.set(fieldName(QPolicyPropagationJob.policyPropagationJob.updatedAt), Instant.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                PolicyPropagationJob.class
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.PolicyPropagationJob;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface PolicyPropagationJobRepository extends BaseRepository<PolicyPropagationJob, String>, CustomPolicyPropagationJobRepository {
+    Flux<PolicyPropagationJob> findTop20ByOrganizationIdOrderByIdDesc(String organizationId);
+}
@@ -8,4 +8,5 @@ import reactor.core.publisher.Mono;
 public interface UserRepository extends BaseRepository<User, String>, CustomUserRepository {
     Mono<User> findByEmail(String email);
     Mono<User> findByCaseInsensitiveEmail(String email);
+    Mono<User> findByIdAndEmail(String id, String email);
 }
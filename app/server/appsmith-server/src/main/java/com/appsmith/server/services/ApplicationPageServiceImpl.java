@@ -374,23 +374,19 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                 })
                 .flatMap(clonedPage -> {
                     String newPageId = clonedPage.getId();
-                    return sourceActionFlux
-                            .flatMap(action -> {
-                                // Set new page id in the actionDTO
-                                action.getUnpublishedAction().setPageId(newPageId);
-
-                                /*
-                                 * - Now create the new action from the template of the source action.
-                                 * - Use CLONE_PAGE context to make sure that page / application clone quirks are
-                                 *   taken care of - e.g. onPageLoad setting is copied from action setting instead of
-                                 *   being set to off by default.
-                                 */
-                                AppsmithEventContext eventContext = new AppsmithEventContext(AppsmithEventContextType.CLONE_PAGE);
-                                return layoutActionService.createAction(
-                                        action.getUnpublishedAction(),
-                                        eventContext
-                                );
-                            })
+                    /*
+                     * - Now create the new actions from the template of the source actions with a single bulk insert.
+                     * - Use CLONE_PAGE context to make sure that page / application clone quirks are
+                     *   taken care of - e.g. onPageLoad setting is copied from action setting instead of
+                     *   being set to off by default.
+                     */
+                    AppsmithEventContext eventContext = new AppsmithEventContext(AppsmithEventContextType.CLONE_PAGE);
+                    return Mono.zip(
+                            newPageService.findById(newPageId, MANAGE_PAGES)
+                                    .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, newPageId))),
+                            sourceActionFlux.collectList()
+                    )
+                            .flatMapMany(tuple -> newActionService.cloneActionsIntoPage(tuple.getT1(), tuple.getT2(), eventContext))
                             .collectList()
                             .thenReturn(clonedPage);
                 })
@@ -557,6 +553,8 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
      * This function walks through all the pages in the application. In each page, it walks through all the layouts.
      * In a layout, dsl and publishedDsl JSONObjects exist. Publish function is responsible for copying the dsl into
      * the publishedDsl.
+     * The pages and actions are published with bulk updates which copy the unpublished state into the published state
+     * inside the database, so the number of round trips does not grow with the number of pages and actions.
      *
      * @param applicationId The id of the application that will be published.
      * @return Publishes a Boolean true, when the application has been published.
@@ -567,7 +565,25 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
                 .cache();
 
-        Flux<NewPage> publishApplicationAndPages = applicationMono
+        // Every page of the application must be found with the required permission before anything is written, so
+        // that a failed publish doesn't leave the application partly published
+        Mono<Application> validatedApplicationMono = applicationMono
+                .flatMap(application -> {
+                    if (application.getPages() == null || application.getPages().isEmpty()) {
+                        return Mono.just(application);
+                    }
+                    Set<String> pageIds = application.getPages().stream().map(ApplicationPage::getId).collect(Collectors.toSet());
+                    return newPageService.countByIdIn(pageIds, MANAGE_PAGES)
+                            .flatMap(pageCount -> {
+                                if (pageCount < pageIds.size()) {
+                                    return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, String.join(", ", pageIds)));
+                                }
+                                return Mono.just(application);
+                            });
+                })
+                .cache();
+
+        Mono<Long> publishApplicationAndPages = validatedApplicationMono
                 //Return all the pages in the Application
                 .flatMap(application -> {
                     List<ApplicationPage> pages = application.getPages();
@@ -596,54 +612,37 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                     publishedPageIds.addAll(editedPageIds);
                     publishedPageIds.removeAll(editedPageIds);
 
-                    Mono<List<Boolean>> archivePageListMono;
+                    // Archive all the deleted pages with a single update
+                    Mono<Boolean> archivePageListMono;
                     if (!publishedPageIds.isEmpty()) {
-                        archivePageListMono = Flux.fromStream(publishedPageIds.stream())
-                                .flatMap(id -> newPageService.archiveById(id))
-                                .collectList();
+                        archivePageListMono = newPageService.archiveAllById(new ArrayList<>(publishedPageIds));
                     } else {
-                        archivePageListMono = Mono.just(new ArrayList<>());
+                        archivePageListMono = Mono.just(Boolean.FALSE);
                     }
 
                     application.setPublishedPages(pages);
 
                     application.setPublishedAppLayout(application.getUnpublishedAppLayout());
 
-                    // Archive the deleted pages and save the application changes and then return the pages so that
+                    // Archive the deleted pages and save the application changes and then return the page ids so that
                     // the pages can also be published
                     return Mono.zip(archivePageListMono, applicationService.save(application))
-                            .thenReturn(pages);
+                            .thenReturn(editedPageIds);
                 })
-                .flatMapMany(Flux::fromIterable)
                 //In each page, copy each layout's dsl to publishedDsl field
-                .flatMap(applicationPage -> newPageService
-                        .findById(applicationPage.getId(), MANAGE_PAGES)
-                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, applicationPage.getId())))
-                        .map(page -> {
-                            page.setPublishedPage(page.getUnpublishedPage());
-                            return page;
-                        }))
-                .collectList()
-                .flatMapMany(newPageService::saveAll);
-
-        Flux<NewAction> publishedActionsFlux = newActionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, MANAGE_ACTIONS, null)
-                .flatMap(newAction -> {
-                    // If the action was deleted in edit mode, now this can be safely deleted from the repository
-                    if (newAction.getUnpublishedAction().getDeletedAt() != null) {
-                        return newActionService.delete(newAction.getId())
-                                .then(Mono.empty());
+                .flatMap(pageIds -> {
+                    if (pageIds.isEmpty()) {
+                        return Mono.just(0L);
                     }
-                    // Publish the action by copying the unpublished actionDTO to published actionDTO
-                    newAction.setPublishedAction(newAction.getUnpublishedAction());
-                    return Mono.just(newAction);
-                })
-                .collectList()
-                .flatMapMany(actions -> newActionService.saveAll(actions));
+                    return newPageService.publishPages(pageIds, MANAGE_PAGES);
+                });
+
+        Mono<Long> publishedActionsMono = validatedApplicationMono
+                .then(newActionService.publishActions(applicationId, MANAGE_ACTIONS));
 
         return Mono.when(
-                publishApplicationAndPages.collectList(),
-                publishedActionsFlux.collectList()
+                publishApplicationAndPages,
+                publishedActionsMono
         )
                 .then(applicationMono);
     }
@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Asset;
+import org.springframework.http.CacheControl;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -13,5 +14,16 @@ public interface AssetService {
 
     Mono<Void> remove(String assetId);
 
+    /**
+     * Writes the asset as the response to a request for a URL that always refers to this asset, such as the asset's
+     * own URL. Browsers can cache such a response indefinitely.
+     */
     Mono<Void> makeImageResponse(ServerWebExchange exchange, String assetId);
+
+    /**
+     * Writes the asset as the response to a request for a URL that can refer to different assets over time, such as
+     * a user's profile photo, with the given caching policy. Responds with 304 Not Modified if the browser's copy is
+     * the same asset.
+     */
+    Mono<Void> makeImageResponse(ServerWebExchange exchange, String assetId, CacheControl cacheControl);
 }
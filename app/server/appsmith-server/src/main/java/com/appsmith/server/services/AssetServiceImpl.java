@@ -6,9 +6,11 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.AssetRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,6 +21,11 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -32,6 +39,26 @@ public class AssetServiceImpl implements AssetService {
 
     private static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.IMAGE_JPEG, MediaType.IMAGE_PNG);
 
+    // The content of an asset never changes, so a URL that always refers to the same asset can be cached for good. Only
+    // by the browser though, since assets like profile photos are not meant to be stored by shared caches.
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private static final int HOT_ASSETS_MAX_SIZE = 100;
+
+    // Deleted assets can still be in the hot assets of other servers, so they're only kept for a short while.
+    private static final Duration HOT_ASSETS_TTL = Duration.ofMinutes(1);
+
+    // Organization logos and profile photos are requested on every page load, so the most recently requested assets
+    // are kept in memory. Assets are at most a few hundred KB, so this is bounded by a few tens of MB.
+    private final Map<String, HotAsset> hotAssets = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, HotAsset> eldest) {
+                    return size() > HOT_ASSETS_MAX_SIZE;
+                }
+            }
+    );
+
     @Override
     public Mono<Asset> getById(String id) {
         return repository.findById(id);
@@ -69,15 +96,26 @@ public class AssetServiceImpl implements AssetService {
                     byte[] data = new byte[dataBuffer.readableByteCount()];
                     dataBuffer.read(data);
                     DataBufferUtils.release(dataBuffer);
-                    return repository.save(new Asset(contentType, data));
-                })
-                .flatMap(analyticsService::sendCreateEvent);
+                    // The same image is often uploaded more than once, e.g., as the logo of several organizations. Such
+                    // uploads share a single asset, which counts its references.
+                    return Mono.defer(() -> {
+                        final Asset asset = new Asset(contentType, data);
+                        return repository.findAndAddReference(asset.getHash(), asset.getContentType())
+                                .switchIfEmpty(Mono.defer(() -> repository.save(asset)
+                                        .flatMap(analyticsService::sendCreateEvent)
+                                ));
+                    })
+                            // Concurrent uploads of the same content can all miss the existing asset, but the unique
+                            // index on the hash only lets one of them save it. The others add a reference to it instead.
+                            .retry(1, DuplicateKeyException.class::isInstance);
+                });
     }
 
     /**
-     * This function hard-deletes (read: not archive) the asset given by the ID. It is intended to be used to delete an
-     * old asset when a user uploads a new one. For example, when a new profile photo or an organization logo is,
-     * uploaded, this method is used to completely delete the old one, if any.
+     * This function removes a reference to the asset given by the ID, and hard-deletes (read: not archive) the asset if
+     * nothing else refers to it. It is intended to be used to delete an old asset when a user uploads a new one. For
+     * example, when a new profile photo or an organization logo is, uploaded, this method is used to completely delete
+     * the old one, if any.
      * @param assetId The ID string of the asset to delete.
      * @return empty Mono
      */
@@ -85,27 +123,79 @@ public class AssetServiceImpl implements AssetService {
     public Mono<Void> remove(String assetId) {
         final Asset tempAsset = new Asset();
         tempAsset.setId(assetId);
-        return repository.deleteById(assetId)
-                .then(analyticsService.sendDeleteEvent(tempAsset))
+        return repository.removeReference(assetId)
+                .flatMap(isDeleted -> {
+                    if (!Boolean.TRUE.equals(isDeleted)) {
+                        // The asset is still in use elsewhere.
+                        return Mono.empty();
+                    }
+                    hotAssets.remove(assetId);
+                    return analyticsService.sendDeleteEvent(tempAsset);
+                })
                 .then();
     }
 
     @Override
     public Mono<Void> makeImageResponse(ServerWebExchange exchange, String assetId) {
+        return makeImageResponse(exchange, assetId, IMMUTABLE_CACHE_CONTROL);
+    }
+
+    @Override
+    public Mono<Void> makeImageResponse(ServerWebExchange exchange, String assetId, CacheControl cacheControl) {
+        return makeImageResponse(exchange, assetId, cacheControl.getHeaderValue());
+    }
+
+    private Mono<Void> makeImageResponse(ServerWebExchange exchange, String assetId, String cacheControl) {
         log.debug("Returning asset with ID '{}'.", assetId);
-        return getById(assetId)
+        return getHotAsset(assetId)
                 .flatMap(asset -> {
                     final String contentType = asset.getContentType();
                     final ServerHttpResponse response = exchange.getResponse();
+                    final HttpHeaders headers = response.getHeaders();
+
+                    headers.setCacheControl(cacheControl);
+
+                    // Assets saved before their hash was stored don't have one, so it is computed here instead.
+                    final String hash = asset.getHash() != null ? asset.getHash() : DigestUtils.sha256Hex(asset.getData());
+                    final String eTag = "\"" + hash + "\"";
+                    final boolean isNotModified = asset.getCreatedAt() != null
+                            ? exchange.checkNotModified(eTag, asset.getCreatedAt())
+                            : exchange.checkNotModified(eTag);
+                    if (isNotModified) {
+                        // The status is already set to 304 Not Modified, and the browser uses its own copy.
+                        return response.setComplete();
+                    }
 
                     response.setStatusCode(HttpStatus.OK);
 
                     if (contentType != null) {
-                        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, contentType);
+                        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
                     }
+                    headers.setContentLength(asset.getData().length);
 
-                    return response.writeWith(Mono.just(new DefaultDataBufferFactory().wrap(asset.getData())));
+                    // Wrapping the data in a buffer of the response doesn't copy it.
+                    return response.writeWith(Mono.just(response.bufferFactory().wrap(asset.getData())));
                 });
     }
 
+    private Mono<Asset> getHotAsset(String assetId) {
+        final HotAsset hotAsset = hotAssets.get(assetId);
+        if (hotAsset != null && hotAsset.expiresAt.isAfter(Instant.now())) {
+            return Mono.just(hotAsset.asset);
+        }
+
+        return getById(assetId)
+                .doOnNext(asset -> hotAssets.put(assetId, new HotAsset(asset, Instant.now().plus(HOT_ASSETS_TTL))));
+    }
+
+    private static class HotAsset {
+        final Asset asset;
+        final Instant expiresAt;
+
+        HotAsset(Asset asset, Instant expiresAt) {
+            this.asset = asset;
+            this.expiresAt = expiresAt;
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.external.models.AuthenticationDTO;
+import com.appsmith.external.models.AuthenticationResponse;
 import com.appsmith.external.models.OAuth2;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.solutions.AuthenticationService;
@@ -9,11 +10,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthenticationValidator {
 
+    // OAuth2 tokens expiring within this duration are refreshed in the background, while the current token is used.
+    private static final Duration REFRESH_AHEAD_DURATION = Duration.ofMinutes(5);
+
     private final AuthenticationService authenticationService;
 
     public Mono<Datasource> validateAuthentication(Datasource datasource) {
@@ -22,13 +29,25 @@ public class AuthenticationValidator {
         }
         AuthenticationDTO authentication = datasource.getDatasourceConfiguration().getAuthentication();
         return authentication.hasExpired()
-                .filter(expired -> expired)
                 .flatMap(expired -> {
-                    if (authentication instanceof OAuth2) {
+                    if (!(authentication instanceof OAuth2)) {
+                        return Mono.just(datasource);
+                    }
+                    if (expired) {
                         return authenticationService.refreshAuthentication(datasource);
                     }
+                    if (isExpiringSoon((OAuth2) authentication)) {
+                        return authenticationService.refreshAuthenticationInBackground(datasource).thenReturn(datasource);
+                    }
                     return Mono.just(datasource);
                 })
                 .switchIfEmpty(Mono.just(datasource));
     }
+
+    private boolean isExpiringSoon(OAuth2 oAuth2) {
+        final AuthenticationResponse authenticationResponse = oAuth2.getAuthenticationResponse();
+        return authenticationResponse != null
+                && authenticationResponse.getExpiresAt() != null
+                && authenticationResponse.getExpiresAt().isBefore(Instant.now().plus(REFRESH_AHEAD_DURATION));
+    }
 }
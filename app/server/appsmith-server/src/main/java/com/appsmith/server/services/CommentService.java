@@ -2,6 +2,9 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.dtos.RealtimeEventDTO;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -23,4 +26,10 @@ public interface CommentService extends CrudService<Comment, String> {
     Mono<Boolean> createReaction(String commentId, Comment.Reaction reaction);
 
     Mono<Boolean> deleteReaction(String commentId, Comment.Reaction reaction);
+
+    Mono<List<CommentThread>> getThreadsByApplicationId(String applicationId, MultiValueMap<String, String> params);
+
+    Mono<List<Comment>> getCommentsByThreadId(String threadId, MultiValueMap<String, String> params);
+
+    Flux<RealtimeEventDTO> getRealtimeEvents(String applicationId);
 }
@@ -9,27 +9,33 @@ import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.RealtimeEventDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.CommentUtils;
+import com.appsmith.server.helpers.NumberUtils;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.repositories.CommentRepository;
 import com.appsmith.server.repositories.CommentThreadRepository;
 import com.appsmith.server.solutions.EmailEventHandler;
+import com.appsmith.server.solutions.RealtimeEventHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -37,12 +43,16 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 @Slf4j
 @Service
 public class CommentServiceImpl extends BaseService<CommentRepository, Comment, String> implements CommentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentThreadRepository threadRepository;
 
     private final UserService userService;
@@ -53,6 +63,7 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
     private final PolicyGenerator policyGenerator;
     private final PolicyUtils policyUtils;
     private final EmailEventHandler emailEventHandler;
+    private final RealtimeEventHandler realtimeEventHandler;
 
     public CommentServiceImpl(
             Scheduler scheduler,
@@ -68,7 +79,8 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
             NotificationService notificationService,
             PolicyGenerator policyGenerator,
             PolicyUtils policyUtils,
-            EmailEventHandler emailEventHandler) {
+            EmailEventHandler emailEventHandler,
+            RealtimeEventHandler realtimeEventHandler) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.threadRepository = threadRepository;
         this.userService = userService;
@@ -78,6 +90,7 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
         this.policyGenerator = policyGenerator;
         this.policyUtils = policyUtils;
         this.emailEventHandler = emailEventHandler;
+        this.realtimeEventHandler = realtimeEventHandler;
     }
 
     @Override
@@ -140,7 +153,11 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
                     return Mono.zip(
                             Mono.just(user),
                             Mono.just(thread),
-                            repository.save(comment),
+                            repository.save(comment)
+                                    .flatMap(savedComment -> Mono.when(
+                                            threadRepository.updateCommentCount(threadId, 1, savedComment, null),
+                                            realtimeEventHandler.publish(savedComment)
+                                    ).thenReturn(savedComment)),
                             threadRepository.addToSubscribers(threadId, subscribersFromThisComment)
                     );
                 })
@@ -251,14 +268,26 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
                 .map(tuple -> {
                     final List<Comment> comments = tuple.getT1();
                     commentThread.setComments(comments);
+                    commentThread.setCommentCount((long) comments.size());
+                    if (!comments.isEmpty()) {
+                        commentThread.setLastComment(CommentUtils.getPreview(comments.get(comments.size() - 1)));
+                    }
                     commentThread.setIsViewed(true);
                     return commentThread;
-                });
+                })
+                .flatMap(thread -> realtimeEventHandler.publish(thread).thenReturn(thread));
     }
 
     @Override
     public Mono<Comment> update(String id, Comment comment) {
         return repository.updateById(id, comment, AclPermission.MANAGE_COMMENT)
+                // The preview of the thread's last comment has to follow the edit, if that's the comment edited
+                .flatMap(updatedComment -> repository.findLastCommentByThreadId(updatedComment.getThreadId())
+                        .filter(lastComment -> updatedComment.getId().equals(lastComment.getId()))
+                        .flatMap(lastComment -> threadRepository.updateCommentCount(
+                                updatedComment.getThreadId(), 0, updatedComment, updatedComment.getId()
+                        ))
+                        .thenReturn(updatedComment))
                 .flatMap(analyticsService::sendUpdateEvent);
     }
 
@@ -309,6 +338,7 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
 
                     return threadRepository
                             .updateById(threadId, commentThread, AclPermission.READ_THREAD)
+                            .flatMap(updatedThread -> realtimeEventHandler.publish(updatedThread).thenReturn(updatedThread))
                             .flatMap(updatedThread -> {
                                 updatedThread.setIsViewed(true);
                                 // send email if comment thread is resolved
@@ -361,6 +391,78 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
                 });
     }
 
+    /**
+     * Returns a page of the threads of the application, newest first, without their comments. Each thread carries its
+     * comment count and a preview of its last comment instead. The comments are loaded per thread with
+     * {@link #getCommentsByThreadId(String, MultiValueMap)}.
+     *
+     * @param applicationId Application whose threads are to be listed
+     * @param params        `pageSize` and `beforeDate`, the creation time of the last thread of the previous page
+     * @return Mono that publishes the page of threads
+     */
+    @Override
+    public Mono<List<CommentThread>> getThreadsByApplicationId(String applicationId, MultiValueMap<String, String> params) {
+        final Instant beforeDate;
+        try {
+            beforeDate = getInstantParam(params, "beforeDate", Instant.now());
+        } catch (DateTimeParseException e) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "beforeDate"));
+        }
+
+        return sessionUserService.getCurrentUser()
+                .flatMap(user -> threadRepository
+                        .findByApplicationId(applicationId, beforeDate, getPageSize(params), AclPermission.READ_THREAD)
+                        .map(thread -> {
+                            thread.setIsViewed(thread.getViewedByUsers() != null
+                                    && thread.getViewedByUsers().contains(user.getUsername()));
+                            return thread;
+                        })
+                        .collectList()
+                );
+    }
+
+    /**
+     * Returns a page of the comments of the thread, oldest first.
+     *
+     * @param threadId Thread whose comments are to be listed
+     * @param params   `pageSize`, `afterDate` and `afterId`, the creation time and the id of the last comment of the
+     *                 previous page
+     * @return Mono that publishes the page of comments
+     */
+    @Override
+    public Mono<List<Comment>> getCommentsByThreadId(String threadId, MultiValueMap<String, String> params) {
+        final Instant afterDate;
+        try {
+            afterDate = getInstantParam(params, "afterDate", Instant.EPOCH);
+        } catch (DateTimeParseException e) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "afterDate"));
+        }
+
+        final String afterId = params.getFirst("afterId");
+        if (afterId != null && !ObjectId.isValid(afterId)) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "afterId"));
+        }
+
+        return threadRepository.findById(threadId, AclPermission.READ_THREAD)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, "comment thread", threadId)))
+                .flatMap(thread -> repository
+                        .findByThreadId(threadId, afterDate, afterId, getPageSize(params), AclPermission.READ_COMMENT)
+                        .collectList()
+                );
+    }
+
+    private static int getPageSize(MultiValueMap<String, String> params) {
+        int pageSize = DEFAULT_PAGE_SIZE;
+        if (params.containsKey("pageSize")) {
+            pageSize = NumberUtils.parseInteger(params.getFirst("pageSize"), 1, DEFAULT_PAGE_SIZE);
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    private static Instant getInstantParam(MultiValueMap<String, String> params, String key, Instant defaultValue) {
+        return params.containsKey(key) ? Instant.parse(params.getFirst(key)) : defaultValue;
+    }
+
     /**
      * This function performs a soft delete for the comment.
      *
@@ -372,6 +474,15 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
         return repository.findById(id, AclPermission.MANAGE_COMMENT)
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.COMMENT, id)))
                 .flatMap(repository::archive)
+                .flatMap(deletedComment -> Mono.when(
+                        repository.findLastCommentByThreadId(deletedComment.getThreadId())
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .flatMap(lastComment -> threadRepository.updateCommentCount(
+                                        deletedComment.getThreadId(), -1, lastComment.orElse(null), deletedComment.getId()
+                                )),
+                        realtimeEventHandler.publish(deletedComment)
+                ).thenReturn(deletedComment))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 
@@ -379,6 +490,7 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
     public Mono<CommentThread> deleteThread(String threadId) {
         return threadRepository.findById(threadId, AclPermission.MANAGE_THREAD)
                 .flatMap(threadRepository::archive)
+                .flatMap(deletedThread -> realtimeEventHandler.publish(deletedThread).thenReturn(deletedThread))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 
@@ -414,4 +526,18 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
                 });
     }
 
+    /**
+     * Comment and comment thread changes of the given application, pushed to the current user as they happen so that
+     * the threads don't have to be fetched again to find them.
+     */
+    @Override
+    public Flux<RealtimeEventDTO> getRealtimeEvents(String applicationId) {
+        return applicationService.findById(applicationId, AclPermission.READ_APPLICATIONS)
+                .switchIfEmpty(Mono.error(new AppsmithException(
+                        AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)
+                ))
+                .then(sessionUserService.getCurrentUser())
+                .flatMapMany(user -> realtimeEventHandler.listenForApplication(applicationId, user));
+    }
+
 }
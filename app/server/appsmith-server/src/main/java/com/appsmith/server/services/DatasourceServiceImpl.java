@@ -20,6 +20,7 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.solutions.AuthenticationResponseCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
@@ -59,6 +60,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
     private final SequenceService sequenceService;
     private final NewActionRepository newActionRepository;
     private final EncryptionService encryptionService;
+    private final AuthenticationResponseCache authenticationResponseCache;
 
     @Autowired
     public DatasourceServiceImpl(Scheduler scheduler,
@@ -74,7 +76,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                                  PolicyGenerator policyGenerator,
                                  SequenceService sequenceService,
                                  NewActionRepository newActionRepository,
-                                 EncryptionService encryptionService) {
+                                 EncryptionService encryptionService,
+                                 AuthenticationResponseCache authenticationResponseCache) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.organizationService = organizationService;
         this.sessionUserService = sessionUserService;
@@ -84,6 +87,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
         this.sequenceService = sequenceService;
         this.newActionRepository = newActionRepository;
         this.encryptionService = encryptionService;
+        this.authenticationResponseCache = authenticationResponseCache;
     }
 
     @Override
@@ -212,6 +216,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     return dbDatasource;
                 })
                 .flatMap(this::validateAndSaveDatasourceToRepository)
+                // A token cached for the datasource must not take the place of the one that was just saved
+                .doOnNext(savedDatasource -> authenticationResponseCache.evict(id))
                 .flatMap(this::populateHintMessages);
     }
 
@@ -372,7 +378,10 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
          * Note : Currently this API is ONLY used to fetch datasources for an organization.
          */
         if (params.getFirst(FieldName.ORGANIZATION_ID) != null) {
-            return findAllByOrganizationId(params.getFirst(FieldName.ORGANIZATION_ID), AclPermission.READ_DATASOURCES);
+            // The structure isn't a part of this API, and has its own endpoint, so it is not read here.
+            return repository
+                    .findAllByOrganizationIdWithoutStructure(params.getFirst(FieldName.ORGANIZATION_ID), AclPermission.READ_DATASOURCES)
+                    .flatMap(this::populateHintMessages);
         }
 
         return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ORGANIZATION_ID));
@@ -403,6 +412,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     return Mono.just(objects.getT1());
                 })
                 .flatMap(toDelete -> repository.archive(toDelete).thenReturn(toDelete))
+                .doOnNext(deletedDatasource -> authenticationResponseCache.evict(id))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 }
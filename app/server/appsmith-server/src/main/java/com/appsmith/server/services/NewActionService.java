@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.helpers.AppsmithEventContext;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewAction;
@@ -15,7 +16,6 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 public interface NewActionService extends CrudService<NewAction, String> {
 
@@ -27,6 +27,8 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Mono<ActionDTO> validateAndSaveActionToRepository(NewAction newAction);
 
+    Flux<NewAction> cloneActionsIntoPage(NewPage page, List<NewAction> sourceActions, AppsmithEventContext eventContext);
+
     NewAction extractAndSetJsonPathKeys(NewAction newAction);
 
     Mono<ActionDTO> updateUnpublishedAction(String id, ActionDTO action);
@@ -39,9 +41,7 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Mono<ActionDTO> findActionDTObyIdAndViewMode(String id, Boolean viewMode, AclPermission permission);
 
-    Flux<NewAction> findUnpublishedOnLoadActionsExplicitSetByUserInPage(String pageId);
-
-    Flux<NewAction> findUnpublishedActionsInPageByNames(Set<String> names, String pageId);
+    Flux<NewAction> findUnpublishedActionsForOnLoadInPage(String pageId);
 
     Mono<NewAction> findById(String id);
 
@@ -65,6 +65,8 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Flux<NewAction> saveAll(List<NewAction> actions);
 
+    Mono<Long> publishActions(String applicationId, AclPermission permission);
+
     Flux<NewAction> findByPageId(String pageId);
 
     List<String> extractMustacheKeysInOrder(String query);
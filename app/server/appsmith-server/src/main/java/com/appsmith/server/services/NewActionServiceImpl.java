@@ -1,6 +1,8 @@
 package com.appsmith.server.services;
 
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.helpers.AppsmithEventContext;
+import com.appsmith.external.helpers.AppsmithEventContextType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -26,6 +28,7 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.PluginType;
+import com.appsmith.server.domains.QNewAction;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
@@ -65,6 +68,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -77,6 +81,7 @@ import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
 import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_DATASOURCES;
 import static com.appsmith.server.acl.AclPermission.READ_ACTIONS;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 
@@ -197,6 +202,36 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
     @Override
     public Mono<ActionDTO> validateAndSaveActionToRepository(NewAction newAction) {
         ActionDTO action = newAction.getUnpublishedAction();
+        final boolean isDatasourceMissing = action.getDatasource() == null || action.getDatasource().getIsAutoGenerated();
+
+        Mono<NewAction> validatedActionMono = validateAction(
+                newAction,
+                datasourceId -> datasourceService.findById(datasourceId, MANAGE_DATASOURCES)
+        );
+
+        if (isDatasourceMissing) {
+            return validatedActionMono
+                    .flatMap(super::create)
+                    .flatMap(savedAction -> generateActionByViewMode(savedAction, false));
+        }
+
+        return validatedActionMono
+                .flatMap(repository::save)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.REPOSITORY_SAVE_FAILED)))
+                .flatMap(this::setTransientFieldsInUnpublishedAction);
+    }
+
+    /**
+     * Validates the unpublished action and derives the fields that are computed from it before it is saved, i.e., its
+     * validity and invalids, its plugin, its organization and its json path keys. An external datasource is replaced
+     * with a reference to it.
+     *
+     * @param newAction        The action to be validated, which is updated in place
+     * @param datasourceFinder Finds the external datasource of the action by its id
+     * @return Mono of the validated action, or an error if the action can't be saved at all
+     */
+    private Mono<NewAction> validateAction(NewAction newAction, Function<String, Mono<Datasource>> datasourceFinder) {
+        ActionDTO action = newAction.getUnpublishedAction();
 
         //Default the validity to true and invalids to be an empty set.
         Set<String> invalids = new HashSet<>();
@@ -228,8 +263,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 invalids.add(AppsmithError.DATASOURCE_NOT_GIVEN.getMessage());
             }
             action.setInvalids(invalids);
-            return super.create(newAction)
-                    .flatMap(savedAction -> generateActionByViewMode(savedAction, false));
+            return Mono.just(newAction);
         }
 
         // Validate actionConfiguration
@@ -246,7 +280,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                     .flatMap(datasourceService::validateDatasource);
         } else {
             //Data source already exists. Find the same.
-            datasourceMono = datasourceService.findById(action.getDatasource().getId(), MANAGE_DATASOURCES)
+            datasourceMono = datasourceFinder.apply(action.getDatasource().getId())
                     .switchIfEmpty(Mono.defer(() -> {
                         action.setIsValid(false);
                         invalids.add(AppsmithError.NO_RESOURCE_FOUND.getMessage(FieldName.DATASOURCE, action.getDatasource().getId()));
@@ -299,10 +333,70 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                         updatedAction.setUnpublishedAction(unpublishedAction);
                     }
                     return updatedAction;
-                })
-                .flatMap(repository::save)
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.REPOSITORY_SAVE_FAILED)))
-                .flatMap(this::setTransientFieldsInUnpublishedAction);
+                });
+    }
+
+    /**
+     * Clones the given actions into the given page with a single bulk insert. Every cloned action is validated and has
+     * its derived fields computed the same way as when it is saved on its own, but its name is not checked against the
+     * target page, since the source actions already have unique names in their source page. The action policies are
+     * generated once from the page and each datasource is only fetched once for all the actions using it.
+     *
+     * Actions deleted in edit mode only exist for the published application. They are not cloned, since a clone is
+     * never published, and are skipped instead of being created as deleted actions.
+     *
+     * @param page          The page into which the actions are cloned
+     * @param sourceActions The actions whose unpublished state should be cloned
+     * @param eventContext  Context of the clone. Unless it is a page clone, the cloned actions are not executed on load
+     * @return Flux of the cloned actions in the same order as the source actions, excluding the ones deleted in edit mode
+     */
+    @Override
+    public Flux<NewAction> cloneActionsIntoPage(NewPage page, List<NewAction> sourceActions, AppsmithEventContext eventContext) {
+        if (sourceActions.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Set<Policy> actionPolicies = policyGenerator.getAllChildPolicies(page.getPolicies(), Page.class, Action.class);
+        Map<String, Mono<Datasource>> datasourceMonos = new ConcurrentHashMap<>();
+        Function<String, Mono<Datasource>> datasourceFinder = datasourceId -> datasourceMonos.computeIfAbsent(
+                datasourceId,
+                id -> datasourceService.findById(id, MANAGE_DATASOURCES).cache()
+        );
+        List<NewAction> clonedActions = new ArrayList<>();
+
+        for (NewAction sourceAction : sourceActions) {
+            ActionDTO action = sourceAction.getUnpublishedAction();
+
+            if (action.getDeletedAt() != null) {
+                continue;
+            }
+
+            NewAction newAction = new NewAction();
+            newAction.setOrganizationId(sourceAction.getOrganizationId());
+            newAction.setPluginType(sourceAction.getPluginType());
+            newAction.setPluginId(sourceAction.getPluginId());
+            newAction.setTemplateId(sourceAction.getTemplateId());
+            newAction.setProviderId(sourceAction.getProviderId());
+            newAction.setDocumentation(sourceAction.getDocumentation());
+            newAction.setApplicationId(page.getApplicationId());
+            newAction.setPolicies(new HashSet<>(actionPolicies));
+            newAction.setPublishedAction(new ActionDTO());
+            newAction.getPublishedAction().setDatasource(new Datasource());
+
+            action.setPageId(page.getId());
+            if (!AppsmithEventContextType.CLONE_PAGE.equals(eventContext.getAppsmithEventContextType())) {
+                action.setExecuteOnLoad(false);
+            }
+
+            newAction.setUnpublishedAction(action);
+            clonedActions.add(newAction);
+        }
+
+        return Flux.fromIterable(clonedActions)
+                .flatMapSequential(newAction -> validateAction(newAction, datasourceFinder))
+                .collectList()
+                .flatMapMany(repository::saveAll)
+                .flatMapSequential(analyticsService::sendCreateEvent);
     }
 
     /**
@@ -839,23 +933,25 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .flatMap(action -> generateActionByViewMode(action, viewMode));
     }
 
-    @Override
-    public Flux<NewAction> findUnpublishedOnLoadActionsExplicitSetByUserInPage(String pageId) {
-        return repository
-                .findUnpublishedActionsByPageIdAndExecuteOnLoadSetByUserTrue(pageId, MANAGE_ACTIONS);
-    }
-
     /**
-     * Given a list of names of actions and pageId, find all the actions matching this criteria of names and pageId
+     * Fetches all the actions in the page that are yet to be published, reading only the fields needed to find the
+     * on page load actions and their dependencies.
      *
-     * @param names  Set of Action names. The returned list of actions will be a subset of the actioned named in this set.
      * @param pageId Id of the Page within which to look for Actions.
-     * @return A Flux of Actions that are identified to be executed on page-load.
+     * @return A Flux of all the unpublished, non deleted actions in the page.
      */
     @Override
-    public Flux<NewAction> findUnpublishedActionsInPageByNames(Set<String> names, String pageId) {
-        return repository
-                .findUnpublishedActionsByNameInAndPageId(names, pageId, MANAGE_ACTIONS);
+    public Flux<NewAction> findUnpublishedActionsForOnLoadInPage(String pageId) {
+        final List<String> onLoadFields = List.of(
+                fieldName(QNewAction.newAction.unpublishedAction.name),
+                fieldName(QNewAction.newAction.unpublishedAction.jsonPathKeys),
+                fieldName(QNewAction.newAction.unpublishedAction.executeOnLoad),
+                fieldName(QNewAction.newAction.unpublishedAction.userSetOnLoad),
+                fieldName(QNewAction.newAction.unpublishedAction.actionConfiguration) + "."
+                        + fieldName(QNewAction.newAction.unpublishedAction.actionConfiguration.timeoutInMillisecond)
+        );
+
+        return repository.findByPageIdAndViewMode(pageId, false, onLoadFields, MANAGE_ACTIONS);
     }
 
     @Override
@@ -903,9 +999,20 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
             return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.APPLICATION_ID));
         }
 
-        // fetch the published actions by applicationId
+        // fetch the published actions by applicationId, reading only the fields needed for the view
         // No need to sort the results
-        return findAllByApplicationIdAndViewMode(applicationId, true, EXECUTE_ACTIONS, null)
+        final List<String> viewFields = List.of(
+                fieldName(QNewAction.newAction.publishedAction.name),
+                fieldName(QNewAction.newAction.publishedAction.pageId),
+                fieldName(QNewAction.newAction.publishedAction.confirmBeforeExecute),
+                fieldName(QNewAction.newAction.publishedAction.jsonPathKeys),
+                fieldName(QNewAction.newAction.publishedAction.actionConfiguration) + "."
+                        + fieldName(QNewAction.newAction.publishedAction.actionConfiguration.timeoutInMillisecond)
+        );
+
+        return repository.findByApplicationIdAndViewMode(applicationId, true, viewFields, EXECUTE_ACTIONS)
+                // Actions which haven't been published are not a part of the view mode
+                .filter(action -> action.getPublishedAction() != null)
                 .map(action -> {
                     ActionViewDTO actionViewDTO = new ActionViewDTO();
                     actionViewDTO.setId(action.getId());
@@ -1001,6 +1108,22 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         return repository.saveAll(actions);
     }
 
+    /**
+     * Publishes all the actions of an application. Actions which were deleted in edit mode are deleted from the
+     * repository with a single delete, and the unpublished state of every remaining action is copied into its published
+     * state with bulk updates instead of saving each action individually. No delete events are sent for the removed
+     * actions, since they were sent when the actions were deleted in edit mode.
+     *
+     * @param applicationId Id of the application whose actions should be published
+     * @param permission    Permission that the current user must have on every action
+     * @return Mono that publishes the number of actions that were published
+     */
+    @Override
+    public Mono<Long> publishActions(String applicationId, AclPermission permission) {
+        return repository.deleteUnpublishedDeletedActionsByApplicationId(applicationId, permission)
+                .then(repository.publishActions(applicationId, permission));
+    }
+
     @Override
     public Flux<NewAction> findByPageId(String pageId) {
         return repository.findByPageId(pageId);
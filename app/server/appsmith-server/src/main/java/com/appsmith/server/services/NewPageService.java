@@ -8,6 +8,7 @@ import com.appsmith.server.dtos.PageDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NewPageService extends CrudService<NewPage, String> {
@@ -52,6 +53,12 @@ public interface NewPageService extends CrudService<NewPage, String> {
 
     Mono<Boolean> archiveById(String id);
 
+    Mono<Boolean> archiveAllById(List<String> ids);
+
+    Mono<Long> countByIdIn(Collection<String> pageIds, AclPermission permission);
+
+    Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission);
+
     Flux<NewPage> saveAll(List<NewPage> pages);
 
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
@@ -27,6 +27,7 @@ import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -93,7 +94,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
 
     @Override
     public Mono<PageDTO> findPageById(String pageId, AclPermission aclPermission, Boolean view) {
-        return this.findById(pageId, aclPermission)
+        return repository.findByIdAndViewMode(pageId, aclPermission, view)
                 .flatMap(page -> getPageByViewMode(page, view));
     }
 
@@ -106,11 +107,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
     @Override
     public Mono<PageDTO> saveUnpublishedPage(PageDTO page) {
 
-        return findById(page.getId(), AclPermission.MANAGE_PAGES)
-                .flatMap(newPage -> {
-                    newPage.setUnpublishedPage(page);
-                    return repository.save(newPage);
-                })
+        return repository.updateUnpublishedPage(page.getId(), page, AclPermission.MANAGE_PAGES)
                 .flatMap(savedPage -> getPageByViewMode(savedPage, false));
     }
 
@@ -207,7 +204,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                     }
                     return pages.stream().map(page -> page.getId()).collect(Collectors.toList());
                 })
-                .flatMapMany(pageIds -> repository.findAllByIds(pageIds, READ_PAGES))
+                .flatMapMany(pageIds -> repository.findPageNamesByIdsAndViewMode(pageIds, view, READ_PAGES))
                 .collectList()
                 .zipWith(defaultPageIdMono)
                 .flatMap(tuple -> {
@@ -288,7 +285,8 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
             pages = application.getPages();
         }
 
-        return findByApplicationId(application.getId(), READ_PAGES, viewMode)
+        return repository.findPageNamesByApplicationIdAndViewMode(application.getId(), viewMode, READ_PAGES)
+                .flatMap(page -> getPageByViewMode(page, viewMode))
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE + " by application id", application.getId())))
                 .map(page -> {
                     PageNameIdDTO pageNameIdDTO = new PageNameIdDTO();
@@ -369,6 +367,28 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
         return repository.archiveById(id);
     }
 
+    @Override
+    public Mono<Boolean> archiveAllById(List<String> ids) {
+        return repository.archiveAllById(ids);
+    }
+
+    @Override
+    public Mono<Long> countByIdIn(Collection<String> pageIds, AclPermission permission) {
+        return repository.countByIdIn(pageIds, permission);
+    }
+
+    /**
+     * Copies the unpublished state of the given pages into their published state with bulk updates.
+     *
+     * @param pageIds    Ids of the pages to be published
+     * @param permission Permission that the current user must have on every page
+     * @return Mono that publishes the number of pages that were published
+     */
+    @Override
+    public Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission) {
+        return repository.publishPages(pageIds, permission);
+    }
+
     @Override
     public Flux<NewPage> saveAll(List<NewPage> pages) {
         return repository.saveAll(pages);
@@ -4,8 +4,10 @@ import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.RealtimeEventDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationByIdDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NotificationService extends CrudService<Notification, String> {
@@ -14,4 +16,5 @@ public interface NotificationService extends CrudService<Notification, String> {
     Mono<UpdateIsReadNotificationByIdDTO> updateIsRead(UpdateIsReadNotificationByIdDTO dto);
     Mono<UpdateIsReadNotificationDTO> updateIsRead(UpdateIsReadNotificationDTO dto);
     Mono<Long> getUnreadCount();
+    Flux<RealtimeEventDTO> getRealtimeEvents();
 }
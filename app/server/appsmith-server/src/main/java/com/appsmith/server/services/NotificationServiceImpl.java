@@ -7,12 +7,15 @@ import com.appsmith.server.domains.CommentThreadNotification;
 import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.QNotification;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.RealtimeEventDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationByIdDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.NumberUtils;
 import com.appsmith.server.repositories.NotificationRepository;
+import com.appsmith.server.solutions.RealtimeEventHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +39,8 @@ public class NotificationServiceImpl
         implements NotificationService {
 
     private final SessionUserService sessionUserService;
+    private final RealtimeEventHandler realtimeEventHandler;
+    private final ObjectMapper objectMapper;
 
     public NotificationServiceImpl(
             Scheduler scheduler,
@@ -44,9 +49,13 @@ public class NotificationServiceImpl
             ReactiveMongoTemplate reactiveMongoTemplate,
             NotificationRepository repository,
             AnalyticsService analyticsService,
-            SessionUserService sessionUserService) {
+            SessionUserService sessionUserService,
+            RealtimeEventHandler realtimeEventHandler,
+            ObjectMapper objectMapper) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.sessionUserService = sessionUserService;
+        this.realtimeEventHandler = realtimeEventHandler;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -113,7 +122,8 @@ public class NotificationServiceImpl
         notification.setComment(comment);
         notification.setForUsername(forUsername);
         notification.setIsRead(false);
-        return repository.save(notification);
+        return repository.save(notification)
+                .flatMap(this::pushNotification);
     }
 
     @Override
@@ -122,7 +132,8 @@ public class NotificationServiceImpl
         notification.setCommentThread(commentThread);
         notification.setForUsername(forUsername);
         notification.setIsRead(false);
-        return repository.save(notification);
+        return repository.save(notification)
+                .flatMap(this::pushNotification);
     }
 
     @Override
@@ -131,7 +142,7 @@ public class NotificationServiceImpl
                 .flatMap(user ->
                         repository.updateIsReadByForUsernameAndIdList(
                                 user.getUsername(), dto.getIdList(), dto.getIsRead()
-                        ).thenReturn(dto)
+                        ).then(pushUnreadCount(user.getUsername())).thenReturn(dto)
                 );
     }
 
@@ -139,6 +150,7 @@ public class NotificationServiceImpl
     public Mono<UpdateIsReadNotificationDTO> updateIsRead(UpdateIsReadNotificationDTO dto) {
         return sessionUserService.getCurrentUser()
                 .flatMap(user -> repository.updateIsReadByForUsername(user.getUsername(), dto.getIsRead())
+                        .then(pushUnreadCount(user.getUsername()))
                         .thenReturn(dto)
                 );
     }
@@ -149,4 +161,34 @@ public class NotificationServiceImpl
             repository.countByForUsernameAndIsReadIsFalse(user.getUsername())
         );
     }
+
+    /**
+     * Events to be pushed to the current user, starting with their current unread notifications count and followed by
+     * their new notifications and unread count changes as they happen.
+     */
+    @Override
+    public Flux<RealtimeEventDTO> getRealtimeEvents() {
+        return sessionUserService.getCurrentUser()
+                .flatMapMany(user -> repository.countByForUsernameAndIsReadIsFalse(user.getUsername())
+                        .map(count -> {
+                            RealtimeEventDTO event = new RealtimeEventDTO();
+                            event.setType(RealtimeEventDTO.Type.UNREAD_COUNT);
+                            event.setForUsername(user.getUsername());
+                            event.setPayload(objectMapper.valueToTree(count));
+                            return event;
+                        })
+                        .concatWith(realtimeEventHandler.listenForUser(user))
+                );
+    }
+
+    private Mono<Notification> pushNotification(Notification notification) {
+        return repository.countByForUsernameAndIsReadIsFalse(notification.getForUsername())
+                .flatMap(unreadCount -> realtimeEventHandler.publish(notification, unreadCount))
+                .thenReturn(notification);
+    }
+
+    private Mono<Void> pushUnreadCount(String username) {
+        return repository.countByForUsernameAndIsReadIsFalse(username)
+                .flatMap(unreadCount -> realtimeEventHandler.publishUnreadCount(username, unreadCount));
+    }
 }
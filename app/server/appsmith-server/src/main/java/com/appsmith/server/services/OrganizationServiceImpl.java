@@ -334,8 +334,7 @@ public class OrganizationServiceImpl extends BaseService<OrganizationRepository,
                     organization.setLogoAssetId(null);
                     return assetRepository.findById(prevAssetId)
                             .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ASSET, prevAssetId)))
-                            .flatMap(asset -> assetRepository.delete(asset).thenReturn(asset))
-                            .flatMap(analyticsService::sendDeleteEvent)
+                            .flatMap(asset -> assetService.remove(asset.getId()))
                             .then(repository.save(organization));
                 });
     }
@@ -4,6 +4,7 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.solutions.SessionUserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,6 +25,7 @@ import static org.springframework.security.web.server.context.WebSessionServerSe
 public class SessionUserServiceImpl implements SessionUserService {
 
     private final UserRepository userRepository;
+    private final SessionUserCache sessionUserCache;
 
     @Override
     public Mono<User> getCurrentUser() {
@@ -58,7 +60,7 @@ public class SessionUserServiceImpl implements SessionUserService {
             }
             context.setAuthentication(newToken);
             session.getAttributes().put(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME, context);
-            return Mono.just(user);
+            return sessionUserCache.invalidate(user.getId()).thenReturn(user);
         });
     }
 
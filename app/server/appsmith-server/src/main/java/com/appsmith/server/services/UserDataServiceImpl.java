@@ -17,6 +17,7 @@ import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.CacheControl;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -207,7 +208,9 @@ public class UserDataServiceImpl extends BaseService<UserDataRepository, UserDat
 
     private Mono<Void> makeProfilePhotoResponse(ServerWebExchange exchange, UserData userData) {
         return Mono.justOrEmpty(userData.getProfilePhotoAssetId())
-                .flatMap(assetId -> assetService.makeImageResponse(exchange, assetId));
+                // The same URL refers to a new asset when the user changes their photo, so browsers have to check with us
+                // before using their copy.
+                .flatMap(assetId -> assetService.makeImageResponse(exchange, assetId, CacheControl.noCache().cachePrivate()));
     }
 
     /**
@@ -8,8 +8,6 @@ import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Datasource;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.User;
@@ -21,11 +19,11 @@ import com.appsmith.server.notifications.EmailSender;
 import com.appsmith.server.repositories.OrganizationRepository;
 import com.appsmith.server.repositories.UserDataRepository;
 import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.solutions.PolicyPropagationJobRunner;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
@@ -46,6 +44,7 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
     private final UserDataRepository userDataRepository;
     private final PolicyUtils policyUtils;
     private final EmailSender emailSender;
+    private final PolicyPropagationJobRunner policyPropagationJobRunner;
 
     private static final String UPDATE_ROLE_EXISTING_USER_TEMPLATE = "email/updateRoleExistingUserTemplate.html";
 
@@ -55,13 +54,15 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
                                        UserRepository userRepository,
                                        UserDataRepository userDataRepository,
                                        PolicyUtils policyUtils,
-                                       EmailSender emailSender) {
+                                       EmailSender emailSender,
+                                       PolicyPropagationJobRunner policyPropagationJobRunner) {
         this.sessionUserService = sessionUserService;
         this.organizationRepository = organizationRepository;
         this.userRepository = userRepository;
         this.userDataRepository = userDataRepository;
         this.policyUtils = policyUtils;
         this.emailSender = emailSender;
+        this.policyPropagationJobRunner = policyPropagationJobRunner;
     }
 
     /**
@@ -174,21 +175,19 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
         Organization updatedOrganization = policyUtils.addPoliciesToExistingObject(orgPolicyMap, organization);
         updatedOrganization.setUserRoles(userRoles);
 
-        // Update the underlying application/page/action
-        Flux<Datasource> updatedDatasourcesFlux = policyUtils.updateWithNewPoliciesToDatasourcesByOrgId(updatedOrganization.getId(), datasourcePolicyMap, true);
-        Flux<Application> updatedApplicationsFlux = policyUtils.updateWithNewPoliciesToApplicationsByOrgId(updatedOrganization.getId(), applicationPolicyMap, true)
-                .cache();
-        Flux<NewPage> updatedPagesFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, true));
-        Flux<NewAction> updatedActionsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, true));
-
-        return Mono.zip(updatedDatasourcesFlux.collectList(), updatedPagesFlux.collectList(), updatedActionsFlux.collectList(), Mono.just(updatedOrganization))
-                .flatMap(tuple -> {
-                    //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
-                    Organization updatedOrgBeforeSave = tuple.getT4();
-                    return organizationRepository.save(updatedOrgBeforeSave);
-                });
+        // Save the organization first, so that the job never grants access to a user who isn't in the organization.
+        return organizationRepository.save(updatedOrganization)
+                // The underlying datasources/applications/pages/actions are updated by the job, in the background
+                // unless configured otherwise
+                .flatMap(savedOrganization -> policyPropagationJobRunner.submit(
+                        savedOrganization.getId(),
+                        datasourcePolicyMap,
+                        applicationPolicyMap,
+                        pagePolicyMap,
+                        actionPolicyMap,
+                        null,
+                        true
+                ).thenReturn(savedOrganization));
     }
 
     @Override
@@ -249,28 +248,19 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
         Organization updatedOrganization = policyUtils.removePoliciesFromExistingObject(orgPolicyMap, organization);
         updatedOrganization.setUserRoles(userRoles);
 
-        // Update the underlying application/page/action
-        Flux<Datasource> updatedDatasourcesFlux = policyUtils.updateWithNewPoliciesToDatasourcesByOrgId(updatedOrganization.getId(), datasourcePolicyMap, false);
-        Flux<Application> updatedApplicationsFlux = policyUtils.updateWithNewPoliciesToApplicationsByOrgId(updatedOrganization.getId(), applicationPolicyMap, false)
-                .cache();
-        Flux<NewPage> updatedPagesFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, false));
-        Flux<NewAction> updatedActionsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, false));
-        Flux<CommentThread> updatedThreadsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsCommentThreads(application.getId(), commentThreadPolicyMap, false));
-
-        return Mono.zip(
-                updatedDatasourcesFlux.collectList(),
-                updatedPagesFlux.collectList(),
-                updatedActionsFlux.collectList(),
-                updatedThreadsFlux.collectList(),
-                Mono.just(updatedOrganization)
-        ).flatMap(tuple -> {
-                //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
-                Organization updatedOrgBeforeSave = tuple.getT5();
-                return organizationRepository.save(updatedOrgBeforeSave);
-        });
+        // Update the underlying application/page/action before saving the organization, so that the user is only
+        // removed from the organization once they have lost access to all of its resources. If the job fails, the user
+        // is still in the organization and the removal can be tried again.
+        return policyPropagationJobRunner.run(
+                updatedOrganization.getId(),
+                datasourcePolicyMap,
+                applicationPolicyMap,
+                pagePolicyMap,
+                actionPolicyMap,
+                commentThreadPolicyMap,
+                false
+        )
+                .then(Mono.defer(() -> organizationRepository.save(updatedOrganization)));
     }
 
     private Mono<UserRole> updateMemberRole(Organization organization, User user, UserRole userRole, User currentUser, String originHeader) {
@@ -423,23 +413,18 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
         Organization updatedOrganization = policyUtils.addPoliciesToExistingObject(orgPolicyMap, organization);
         updatedOrganization.setUserRoles(userRoles);
 
-        // Update the underlying application/page/action
-        Flux<Datasource> updatedDatasourcesFlux = policyUtils.updateWithNewPoliciesToDatasourcesByOrgId(updatedOrganization.getId(), datasourcePolicyMap, true);
-        Flux<Application> updatedApplicationsFlux = policyUtils.updateWithNewPoliciesToApplicationsByOrgId(updatedOrganization.getId(), applicationPolicyMap, true)
-                .cache();
-        Flux<NewPage> updatedPagesFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, true));
-        Flux<NewAction> updatedActionsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, true));
-        Flux<CommentThread> updatedThreadsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsCommentThreads(application.getId(), commentThreadPolicyMap, true));
-
-        return Mono.when(
-                updatedDatasourcesFlux.collectList(),
-                updatedPagesFlux.collectList(),
-                updatedActionsFlux.collectList(),
-                updatedThreadsFlux.collectList())
-                //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
-                .then(organizationRepository.save(updatedOrganization));
+        // Save the organization first, so that the job never grants access to users who aren't in the organization.
+        return organizationRepository.save(updatedOrganization)
+                // The underlying datasources/applications/pages/actions are updated by the job, in the background
+                // unless configured otherwise
+                .flatMap(savedOrganization -> policyPropagationJobRunner.submit(
+                        savedOrganization.getId(),
+                        datasourcePolicyMap,
+                        applicationPolicyMap,
+                        pagePolicyMap,
+                        actionPolicyMap,
+                        commentThreadPolicyMap,
+                        true
+                ).thenReturn(savedOrganization));
     }
 }
@@ -0,0 +1,86 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.AuthenticationResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The last OAuth2 token refreshed on this server for each datasource, so that executions holding a copy of the
+ * datasource read before the refresh can use it instead of refreshing again. A cached token is only handed out to
+ * copies holding a token issued before it, and the entry of a datasource is evicted whenever the datasource is updated
+ * or deleted, so a token that was authorized again never gets replaced by an older one from here.
+ */
+@Component
+public class AuthenticationResponseCache {
+
+    // Upper limit on the number of datasources whose tokens are cached on this server
+    static final int MAX_ENTRIES = 1000;
+
+    // Tokens this close to expiring are never handed out, since they'd expire before the execution completes
+    private static final long EXPIRY_MARGIN_SECONDS = 60;
+
+    private final Map<String, AuthenticationResponse> authenticationResponses = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AuthenticationResponse> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            }
+    );
+
+    /**
+     * @return A copy of the token cached for the datasource, if it was issued after the given one and isn't about to
+     * expire. Null otherwise.
+     */
+    public AuthenticationResponse getNewerThan(String datasourceId, AuthenticationResponse current) {
+        final AuthenticationResponse cached = authenticationResponses.get(datasourceId);
+        if (cached == null
+                || cached.getExpiresAt() == null
+                || !cached.getExpiresAt().isAfter(Instant.now().plusSeconds(EXPIRY_MARGIN_SECONDS))
+                || !isIssuedAfter(cached, current)) {
+            return null;
+        }
+
+        return copyOf(cached);
+    }
+
+    /**
+     * Caches a copy of the token refreshed for the datasource, unless a token issued after it is already cached.
+     */
+    public void put(String datasourceId, AuthenticationResponse authenticationResponse) {
+        final AuthenticationResponse copy = copyOf(authenticationResponse);
+        authenticationResponses.merge(
+                datasourceId,
+                copy,
+                (cached, refreshed) -> isIssuedAfter(cached, refreshed) ? cached : refreshed
+        );
+    }
+
+    public void evict(String datasourceId) {
+        if (datasourceId != null) {
+            authenticationResponses.remove(datasourceId);
+        }
+    }
+
+    private static boolean isIssuedAfter(AuthenticationResponse first, AuthenticationResponse second) {
+        if (second == null || second.getIssuedAt() == null) {
+            return first.getIssuedAt() != null;
+        }
+
+        return first.getIssuedAt() != null && first.getIssuedAt().isAfter(second.getIssuedAt());
+    }
+
+    static AuthenticationResponse copyOf(AuthenticationResponse authenticationResponse) {
+        return new AuthenticationResponse(
+                authenticationResponse.getToken(),
+                authenticationResponse.getRefreshToken(),
+                authenticationResponse.getIssuedAt(),
+                authenticationResponse.getExpiresAt(),
+                authenticationResponse.getTokenResponse()
+        );
+    }
+}
@@ -5,6 +5,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.AuthenticationResponse;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.OAuth2;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.configurations.CloudServicesConfig;
@@ -26,6 +27,7 @@ import com.appsmith.server.services.PluginService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.internal.Base64;
+import org.springframework.beans.BeanUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Service;
@@ -37,12 +39,14 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
+import javax.annotation.PostConstruct;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.appsmith.external.constants.Authentication.ACCESS_TOKEN;
 import static com.appsmith.external.constants.Authentication.AUDIENCE;
@@ -77,6 +81,21 @@ public class AuthenticationService {
 
     private final ConfigService configService;
 
+    private final AuthenticationResponseCache authenticationResponseCache;
+
+    // Refreshes of OAuth2 tokens in progress, by datasource id, shared by all the executions that find the token expired.
+    private final Map<String, Mono<AuthenticationResponse>> refreshesInFlight = new ConcurrentHashMap<>();
+
+    private WebClient refreshWebClient;
+
+    @PostConstruct
+    public void createRefreshWebClient() {
+        refreshWebClient = WebClient
+                .builder()
+                .baseUrl(cloudServicesConfig.getBaseUrl() + "/api/v1/integrations/oauth/refresh")
+                .build();
+    }
+
     /**
      * This method is used by the generic OAuth2 implementation that is used by REST APIs. Here, we only populate all the required fields
      * when hitting the authorization url and redirect to it from the controller.
@@ -405,12 +424,82 @@ public class AuthenticationService {
                         ));
     }
 
+    /**
+     * Refreshes the OAuth2 token of the datasource and saves it. Concurrent refreshes of the same datasource are
+     * coalesced into a single call to the authentication server and a single save, whose result is shared by all of
+     * them. Callers holding a copy of the datasource that was read before the last refresh get the refreshed token
+     * from memory instead of refreshing again.
+     */
     public Mono<Datasource> refreshAuthentication(Datasource datasource) {
         // This method will always be called from a point where these validations have been performed
         assert (datasource != null &&
                 datasource.getDatasourceConfiguration() != null &&
                 datasource.getDatasourceConfiguration().getAuthentication() instanceof OAuth2);
         OAuth2 oAuth2 = (OAuth2) datasource.getDatasourceConfiguration().getAuthentication();
+        final String datasourceId = datasource.getId();
+
+        if (datasourceId == null) {
+            return requestRefreshedAuthentication(datasource, oAuth2)
+                    .map(authenticationResponse -> {
+                        oAuth2.setAuthenticationResponse(authenticationResponse);
+                        return datasource;
+                    })
+                    .switchIfEmpty(Mono.just(datasource));
+        }
+
+        final AuthenticationResponse latestResponse = authenticationResponseCache.getNewerThan(datasourceId, oAuth2.getAuthenticationResponse());
+        if (latestResponse != null) {
+            oAuth2.setAuthenticationResponse(latestResponse);
+            return Mono.just(datasource);
+        }
+
+        return refreshesInFlight
+                .computeIfAbsent(datasourceId, id -> requestRefreshedAuthentication(datasource, oAuth2)
+                        .flatMap(authenticationResponse -> {
+                            final AuthenticationResponse refreshedResponse = AuthenticationResponseCache.copyOf(authenticationResponse);
+                            oAuth2.setAuthenticationResponse(authenticationResponse);
+                            datasource.getDatasourceConfiguration().setAuthentication(oAuth2);
+                            // We return the same object instead of the update value because the updates value
+                            // will be in the encrypted form. The token is cached once saved, since saving the
+                            // datasource evicts the token cached for it.
+                            return datasourceService
+                                    .update(id, datasource)
+                                    .then(Mono.fromRunnable(() -> authenticationResponseCache.put(id, refreshedResponse)))
+                                    .thenReturn(refreshedResponse);
+                        })
+                        .doFinally(signalType -> refreshesInFlight.remove(id))
+                        .cache()
+                )
+                .map(authenticationResponse -> {
+                    oAuth2.setAuthenticationResponse(AuthenticationResponseCache.copyOf(authenticationResponse));
+                    return datasource;
+                })
+                .switchIfEmpty(Mono.just(datasource));
+    }
+
+    /**
+     * Starts refreshing the OAuth2 token of the datasource without waiting for it, so that the token is refreshed before
+     * it expires rather than on the execution path. Does nothing if a refresh is already in progress. The refresh works
+     * on a copy of the datasource, since the given one goes on to be used by the execution while the refresh runs.
+     */
+    public Mono<Void> refreshAuthenticationInBackground(Datasource datasource) {
+        if (datasource.getId() == null || refreshesInFlight.containsKey(datasource.getId())) {
+            return Mono.empty();
+        }
+
+        final Datasource datasourceCopy = copyOfAuthentication(datasource);
+        return Mono.subscriberContext()
+                .doOnNext(context -> refreshAuthentication(datasourceCopy)
+                        .subscriberContext(context)
+                        .subscribe(
+                                refreshedDatasource -> log.debug("Refreshed token of datasource {} ahead of expiry", datasource.getId()),
+                                error -> log.debug("Unable to refresh token of datasource {} ahead of expiry", datasource.getId(), error)
+                        )
+                )
+                .then();
+    }
+
+    private Mono<AuthenticationResponse> requestRefreshedAuthentication(Datasource datasource, OAuth2 oAuth2) {
         return pluginService.findById(datasource.getPluginId())
                 .filter(plugin -> PluginType.SAAS.equals(plugin.getType()))
                 .zipWith(configService.getInstanceId())
@@ -423,11 +512,7 @@ public class AuthenticationService {
                     integrationDTO.setScope(oAuth2.getScope());
                     integrationDTO.setPluginName(plugin.getPackageName());
 
-                    WebClient.Builder builder = WebClient
-                            .builder()
-                            .baseUrl(cloudServicesConfig.getBaseUrl() + "/api/v1/integrations/oauth/refresh");
-
-                    return builder.build()
+                    return refreshWebClient
                             .method(HttpMethod.POST)
                             .body(BodyInserters.fromValue(integrationDTO))
                             .exchange()
@@ -440,22 +525,30 @@ public class AuthenticationService {
                                     return Mono.error(new AppsmithException(AppsmithError.AUTHENTICATION_FAILURE,
                                             response.statusCode()));
                                 }
-                            })
-                            .flatMap(authenticationResponse -> {
-                                oAuth2.setAuthenticationResponse(authenticationResponse);
-                                datasource.getDatasourceConfiguration().setAuthentication(oAuth2);
-                                // We return the same object instead of the update value because the updates value
-                                // will be in the encrypted form
-                                return datasourceService
-                                        .update(datasource.getId(), datasource)
-                                        .thenReturn(datasource);
                             });
                 })
-                .switchIfEmpty(Mono.just(datasource))
                 .onErrorMap(ConnectException.class,
                         error -> new AppsmithException(
                                 AppsmithError.AUTHENTICATION_FAILURE,
                                 "Unable to connect to Appsmith authentication server."
                         ));
     }
+
+    /**
+     * @return A copy of the datasource, whose configuration and authentication are also copies, so that refreshing the
+     * token of the copy doesn't change the given datasource.
+     */
+    private static Datasource copyOfAuthentication(Datasource datasource) {
+        final OAuth2 oAuth2 = new OAuth2();
+        BeanUtils.copyProperties(datasource.getDatasourceConfiguration().getAuthentication(), oAuth2);
+
+        final DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        BeanUtils.copyProperties(datasource.getDatasourceConfiguration(), datasourceConfiguration);
+        datasourceConfiguration.setAuthentication(oAuth2);
+
+        final Datasource copy = new Datasource();
+        BeanUtils.copyProperties(datasource, copy);
+        copy.setDatasourceConfiguration(datasourceConfiguration);
+        return copy;
+    }
 }
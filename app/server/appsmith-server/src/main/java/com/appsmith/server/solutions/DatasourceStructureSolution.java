@@ -22,7 +22,17 @@ import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -31,6 +41,15 @@ public class DatasourceStructureSolution {
 
     public static final int GET_STRUCTURE_TIMEOUT_SECONDS = 10;
 
+    // Cached structures older than this are still returned right away, but are refreshed in the background.
+    public static final Duration STRUCTURE_REFRESH_AFTER = Duration.ofHours(1);
+
+    // After a refresh fails, the cached structure isn't refreshed again for this long, so that a datasource that is down
+    // doesn't have every read of its structure start another fetch that waits for the timeout.
+    public static final Duration STRUCTURE_REFRESH_RETRY_AFTER = Duration.ofMinutes(5);
+
+    private static final int MAX_REFRESH_FAILURES = 1000;
+
     private final DatasourceService datasourceService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final PluginService pluginService;
@@ -38,9 +57,51 @@ public class DatasourceStructureSolution {
     private final EncryptionService encryptionService;
     private final CustomDatasourceRepository datasourceRepository;
 
+    // Structure fetches that are currently running, by datasource id, so that concurrent requests for the structure of a
+    // datasource share a single round of catalog queries.
+    private final Map<String, Mono<DatasourceStructure>> fetchesInFlight = new ConcurrentHashMap<>();
+
+    // When the last background refresh of each datasource failed, if it did. Cleared when a refresh succeeds. Only the
+    // most recently used datasources are remembered, so that datasources that keep failing, or are deleted, don't pile
+    // up. Forgetting one only means that its next refresh isn't delayed.
+    private final Map<String, Instant> refreshFailedAt = Collections.synchronizedMap(
+            new LinkedHashMap<String, Instant>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+                    return size() > MAX_REFRESH_FAILURES;
+                }
+            }
+    );
+
     public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache) {
-        return datasourceService.getById(datasourceId)
-                .flatMap(datasource -> getStructure(datasource, ignoreCache))
+        return handleStructureErrors(datasourceService.getById(datasourceId)
+                .flatMap(datasource -> getStructure(datasource, ignoreCache)));
+    }
+
+    /**
+     * Gets the complete structure of only the given tables of the datasource, for datasources with too many tables to
+     * load the structure of all of them at once. The tables are picked from the cached structure if there is one,
+     * otherwise only these tables are fetched from the datasource, and the result is not cached.
+     */
+    public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, Set<String> tableNames) {
+        if (CollectionUtils.isEmpty(tableNames)) {
+            return getStructure(datasourceId, ignoreCache);
+        }
+
+        return handleStructureErrors(datasourceService.getById(datasourceId)
+                .flatMap(datasource -> getStructure(datasource, ignoreCache, tableNames)));
+    }
+
+    /**
+     * Gets the names and types of the tables in the datasource, without their columns, keys and templates.
+     */
+    public Mono<DatasourceStructure> getTables(String datasourceId) {
+        return handleStructureErrors(datasourceService.getById(datasourceId)
+                .flatMap(this::getTables));
+    }
+
+    private Mono<DatasourceStructure> handleStructureErrors(Mono<DatasourceStructure> structureMono) {
+        return structureMono
                 .defaultIfEmpty(new DatasourceStructure())
                 .onErrorMap(
                         IllegalArgumentException.class,
@@ -71,19 +132,143 @@ public class DatasourceStructureSolution {
         }
 
         if (!ignoreCache && datasource.getStructure() != null) {
-            // Return the cached structure if available.
+            // Return the cached structure if available, and have it refreshed for later requests if it's stale.
+            if (isStale(datasource)) {
+                return refreshStructureInBackground(datasource).thenReturn(datasource.getStructure());
+            }
             return Mono.just(datasource.getStructure());
         }
 
+        if (datasource.getId() == null) {
+            return fetchStructure(datasource);
+        }
+
+        return fetchesInFlight.computeIfAbsent(
+                datasource.getId(),
+                id -> fetchStructure(datasource)
+                        .doFinally(signalType -> fetchesInFlight.remove(id))
+                        .cache()
+        );
+    }
+
+    private Mono<DatasourceStructure> getStructure(Datasource datasource, boolean ignoreCache, Set<String> tableNames) {
+        if (!CollectionUtils.isEmpty(datasource.getInvalids())) {
+            // Don't attempt to get structure for invalid datasources.
+            return Mono.empty();
+        }
+
+        if (!ignoreCache && datasource.getStructure() != null) {
+            final Mono<Void> refreshMono = isStale(datasource) ? refreshStructureInBackground(datasource) : Mono.empty();
+            return refreshMono.then(Mono.fromSupplier(() -> new DatasourceStructure(
+                    getCachedTables(datasource)
+                            .stream()
+                            .filter(table -> tableNames.contains(table.getName()))
+                            .collect(Collectors.toList())
+            )));
+        }
+
+        return callPlugin(
+                datasource,
+                (pluginExecutor, connection) ->
+                        pluginExecutor.getStructure(connection, datasource.getDatasourceConfiguration(), tableNames)
+        );
+    }
+
+    private Mono<DatasourceStructure> getTables(Datasource datasource) {
+        if (!CollectionUtils.isEmpty(datasource.getInvalids())) {
+            // Don't attempt to get structure for invalid datasources.
+            return Mono.empty();
+        }
+
+        if (datasource.getStructure() != null) {
+            final Mono<Void> refreshMono = isStale(datasource) ? refreshStructureInBackground(datasource) : Mono.empty();
+            return refreshMono.then(Mono.fromSupplier(() -> new DatasourceStructure(
+                    getCachedTables(datasource)
+                            .stream()
+                            .map(table -> new DatasourceStructure.Table(
+                                    table.getType(),
+                                    table.getSchema(),
+                                    table.getName(),
+                                    new ArrayList<>(),
+                                    new ArrayList<>(),
+                                    new ArrayList<>()
+                            ))
+                            .collect(Collectors.toList())
+            )));
+        }
+
+        return callPlugin(
+                datasource,
+                (pluginExecutor, connection) ->
+                        pluginExecutor.getTables(connection, datasource.getDatasourceConfiguration())
+        );
+    }
+
+    private List<DatasourceStructure.Table> getCachedTables(Datasource datasource) {
+        final List<DatasourceStructure.Table> tables = datasource.getStructure().getTables();
+        return tables == null ? List.of() : tables;
+    }
+
+    private boolean isStale(Datasource datasource) {
+        final Instant now = Instant.now();
+        final Instant failedAt = datasource.getId() == null ? null : refreshFailedAt.get(datasource.getId());
+        if (failedAt != null && failedAt.plus(STRUCTURE_REFRESH_RETRY_AFTER).isAfter(now)) {
+            return false;
+        }
+
+        // Structures cached before we started recording when they were fetched are considered stale.
+        return datasource.getStructureUpdatedAt() == null
+                || datasource.getStructureUpdatedAt().plus(STRUCTURE_REFRESH_AFTER).isBefore(now);
+    }
+
+    private Mono<Void> refreshStructureInBackground(Datasource datasource) {
+        if (datasource.getId() == null || fetchesInFlight.containsKey(datasource.getId())) {
+            return Mono.empty();
+        }
+
+        return Mono.subscriberContext()
+                .doOnNext(context -> getStructure(datasource, true)
+                        .subscriberContext(context)
+                        .subscribe(
+                                structure -> {
+                                    refreshFailedAt.remove(datasource.getId());
+                                    log.debug("Refreshed the structure of datasource {}", datasource.getId());
+                                },
+                                error -> {
+                                    refreshFailedAt.put(datasource.getId(), Instant.now());
+                                    log.debug("Unable to refresh the structure of datasource {}", datasource.getId(), error);
+                                }
+                        )
+                )
+                .then();
+    }
+
+    private Mono<DatasourceStructure> fetchStructure(Datasource datasource) {
         // This mono, when computed, will load the structure of the datasource by calling the plugin method.
+        return callPlugin(
+                datasource,
+                (pluginExecutor, connection) ->
+                        pluginExecutor.getStructure(connection, datasource.getDatasourceConfiguration())
+        )
+                .flatMap(structure -> datasource.getId() == null
+                        ? Mono.empty()
+                        : datasourceRepository.saveStructure(datasource.getId(), structure).thenReturn(structure)
+                );
+    }
+
+    private Mono<DatasourceStructure> callPlugin(
+            Datasource datasource,
+            BiFunction<PluginExecutor<Object>, Object, Mono<DatasourceStructure>> structureFunction) {
         return pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasource.getPluginId()))
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasource.getPluginId())))
                 .flatMap(pluginExecutor -> datasourceContextService
                         .retryOnce(
                                 datasource,
-                                resourceContext -> ((PluginExecutor<Object>) pluginExecutor)
-                                        .getStructure(resourceContext.getConnection(), datasource.getDatasourceConfiguration())
+                                resourceContext -> structureFunction.apply(
+                                        (PluginExecutor<Object>) pluginExecutor,
+                                        resourceContext.getConnection()
+                                )
                         )
                 )
                 .timeout(Duration.ofSeconds(GET_STRUCTURE_TIMEOUT_SECONDS))
@@ -119,10 +304,6 @@ public class DatasourceStructureSolution {
                     }
 
                     return e;
-                })
-                .flatMap(structure -> datasource.getId() == null
-                        ? Mono.empty()
-                        : datasourceRepository.saveStructure(datasource.getId(), structure).thenReturn(structure)
-                );
+                });
     }
 }
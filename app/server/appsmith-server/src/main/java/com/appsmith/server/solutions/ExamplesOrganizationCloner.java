@@ -1,5 +1,7 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.external.helpers.AppsmithEventContext;
+import com.appsmith.external.helpers.AppsmithEventContextType;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.constants.FieldName;
@@ -7,6 +9,7 @@ import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.User;
@@ -22,7 +25,6 @@ import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.DatasourceService;
-import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewActionService;
 import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.SessionUserService;
@@ -37,6 +39,7 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -44,6 +47,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -61,7 +65,6 @@ public class ExamplesOrganizationCloner {
     private final ApplicationPageService applicationPageService;
     private final NewPageRepository newPageRepository;
     private final NewActionService newActionService;
-    private final LayoutActionService layoutActionService;
 
     public Mono<Organization> cloneExamplesOrganization() {
         return sessionUserService
@@ -225,44 +228,25 @@ public class ExamplesOrganizationCloner {
                                 clonedPages.add(savedPage);
                                 return newActionService
                                         .findByPageId(templatePageId)
-                                        .map(newAction -> {
-                                            ActionDTO action = newAction.getUnpublishedAction();
-                                            log.info("Preparing action for cloning {} {}.", action.getName(), newAction.getId());
-                                            action.setPageId(savedPage.getId());
-                                            return newAction;
-                                        });
+                                        // Actions deleted in edit mode are not cloned
+                                        .filter(newAction -> newAction.getUnpublishedAction().getDeletedAt() == null)
+                                        .flatMapSequential(newAction -> prepareActionForCloning(newAction, toOrganizationId, cloneDatasourceMonos))
+                                        .collectList()
+                                        // Clone all the actions of this page with a single bulk insert
+                                        .flatMapMany(preparedActions -> newActionService
+                                                .cloneActionsIntoPage(
+                                                        savedPage,
+                                                        preparedActions.stream().map(Tuple2::getT2).collect(Collectors.toList()),
+                                                        new AppsmithEventContext(AppsmithEventContextType.DEFAULT)
+                                                )
+                                                .index()
+                                                .map(indexedAction -> Tuples.of(
+                                                        indexedAction.getT2().getId(),
+                                                        preparedActions.get(indexedAction.getT1().intValue()).getT1()
+                                                ))
+                                        );
                             });
                 })
-                .flatMap(newAction -> {
-                    final String originalActionId = newAction.getId();
-                    log.info("Creating clone of action {}", originalActionId);
-                    makePristine(newAction);
-                    newAction.setOrganizationId(toOrganizationId);
-                    ActionDTO action = newAction.getUnpublishedAction();
-                    action.setCollectionId(null);
-
-                    Mono<ActionDTO> actionMono = Mono.just(action);
-                    final Datasource datasourceInsideAction = action.getDatasource();
-                    if (datasourceInsideAction != null) {
-                        if (datasourceInsideAction.getId() != null) {
-                            final String datasourceId = datasourceInsideAction.getId();
-                            if (!cloneDatasourceMonos.containsKey(datasourceId)) {
-                                cloneDatasourceMonos.put(datasourceId, cloneDatasource(datasourceId, toOrganizationId).cache());
-                            }
-                            actionMono = cloneDatasourceMonos.get(datasourceId)
-                                    .map(newDatasource -> {
-                                        action.setDatasource(newDatasource);
-                                        return action;
-                                    });
-                        } else {
-                            datasourceInsideAction.setOrganizationId(toOrganizationId);
-                        }
-                    }
-                    return actionMono
-                            .flatMap(layoutActionService::createAction)
-                            .map(ActionDTO::getId)
-                            .zipWith(Mono.justOrEmpty(originalActionId));
-                })
                 // This call to `collectMap` will wait for all actions in all pages to have been processed, and so the
                 // `clonedPages` list will also contain all pages cloned.
                 .collectMap(Tuple2::getT2, Tuple2::getT1)
@@ -275,6 +259,43 @@ public class ExamplesOrganizationCloner {
                 .collectList();
     }
 
+    /**
+     * Prepares a template action to be cloned into the given organization by clearing its identity and pointing it to
+     * the clone of its datasource, creating that clone if it doesn't exist yet.
+     *
+     * @return Mono of a tuple of the template action's ID and the action to be cloned.
+     */
+    private Mono<Tuple2<String, NewAction>> prepareActionForCloning(NewAction newAction,
+                                                                     String toOrganizationId,
+                                                                     Map<String, Mono<Datasource>> cloneDatasourceMonos) {
+        final String originalActionId = newAction.getId();
+        log.info("Creating clone of action {}", originalActionId);
+        makePristine(newAction);
+        newAction.setOrganizationId(toOrganizationId);
+        ActionDTO action = newAction.getUnpublishedAction();
+        action.setCollectionId(null);
+
+        Mono<NewAction> actionMono = Mono.just(newAction);
+        final Datasource datasourceInsideAction = action.getDatasource();
+        if (datasourceInsideAction != null) {
+            if (datasourceInsideAction.getId() != null) {
+                final String datasourceId = datasourceInsideAction.getId();
+                if (!cloneDatasourceMonos.containsKey(datasourceId)) {
+                    cloneDatasourceMonos.put(datasourceId, cloneDatasource(datasourceId, toOrganizationId).cache());
+                }
+                actionMono = cloneDatasourceMonos.get(datasourceId)
+                        .map(newDatasource -> {
+                            action.setDatasource(newDatasource);
+                            return newAction;
+                        });
+            } else {
+                datasourceInsideAction.setOrganizationId(toOrganizationId);
+            }
+        }
+
+        return actionMono.map(preparedAction -> Tuples.of(originalActionId, preparedAction));
+    }
+
     private Flux<NewPage> updateActionIdsInClonedPages(List<NewPage> clonedPages, Map<String, String> actionIdsMap) {
         final List<Mono<NewPage>> pageSaveMonos = new ArrayList<>();
 
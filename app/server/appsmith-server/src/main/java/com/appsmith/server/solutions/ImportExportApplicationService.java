@@ -36,6 +36,7 @@ import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.SequenceService;
 import com.appsmith.server.services.SessionUserService;
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,15 +49,27 @@ import org.springframework.http.codec.multipart.Part;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 @Slf4j
 @Component
@@ -76,7 +89,17 @@ public class ImportExportApplicationService {
     private final SequenceService sequenceService;
     private final ExamplesOrganizationCloner examplesOrganizationCloner;
 
-    private static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.APPLICATION_JSON);
+    private static final Set<MediaType> GZIP_CONTENT_TYPES = Set.of(
+            MediaType.parseMediaType("application/gzip"),
+            MediaType.parseMediaType("application/x-gzip")
+    );
+    private static final Set<MediaType> ALLOWED_CONTENT_TYPES = Stream
+            .concat(Stream.of(MediaType.APPLICATION_JSON), GZIP_CONTENT_TYPES.stream())
+            .collect(Collectors.toUnmodifiableSet());
+    // Upper bound on the size of a decompressed file, so that a small gzip archive can't inflate to fill the memory
+    private static final long MAX_DECOMPRESSED_FILE_SIZE = 100 * 1024 * 1024;
+    // Number of received buffers requested ahead of the parser
+    private static final int FILE_BUFFER_PREFETCH = 8;
     public final String INVALID_JSON_FILE = "invalid json file";
     private enum PublishType {
         UNPUBLISHED, PUBLISHED
@@ -262,22 +285,126 @@ public class ImportExportApplicationService {
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        final Flux<DataBuffer> contentCache = filePart.content().cache();
-        Mono<String> stringifiedFile = DataBufferUtils.join(contentCache)
-            .map(dataBuffer -> {
-                byte[] data = new byte[dataBuffer.readableByteCount()];
-                dataBuffer.read(data);
-                DataBufferUtils.release(dataBuffer);
-                return new String(data);
-            });
+        final boolean isCompressed = GZIP_CONTENT_TYPES.contains(contentType);
+
+        // Parse the file while its parts are being received, instead of first joining them into a single buffer. Gson
+        // reads the JSON token by token from the stream, so only the parsed application is ever held in memory.
+        Mono<ApplicationJson> applicationJsonMono = Mono.fromCallable(() -> {
+            Type fileType = new TypeToken<ApplicationJson>() {}.getType();
+            try (InputStream inputStream = new DataBufferInputStream(filePart.content());
+                 Reader reader = getFileReader(inputStream, isCompressed)) {
+                return new Gson().<ApplicationJson>fromJson(reader, fileType);
+            } catch (IOException | JsonParseException e) {
+                if (e instanceof FileTooLargeException || e.getCause() instanceof FileTooLargeException) {
+                    throw new AppsmithException(AppsmithError.VALIDATION_FAILURE, "decompressed file is too large");
+                }
+                log.error("Error while parsing the imported application file", e);
+                throw new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
+            }
+        })
+                .subscribeOn(Schedulers.boundedElastic());
 
-        return stringifiedFile
-                .flatMap(data -> {
-                    Gson gson = new Gson();
-                    Type fileType = new TypeToken<ApplicationJson>() {}.getType();
-                    ApplicationJson jsonFile = gson.fromJson(data, fileType);
-                    return importApplicationInOrganization(orgId, jsonFile);
-                });
+        return applicationJsonMono
+                .flatMap(jsonFile -> importApplicationInOrganization(orgId, jsonFile));
+    }
+
+    /**
+     * Creates a reader over the uploaded file which decodes it as UTF-8, decompressing it first in case of a gzip
+     * archive. A decompressed file can't be larger than {@link #MAX_DECOMPRESSED_FILE_SIZE}.
+     */
+    private Reader getFileReader(InputStream inputStream, boolean isCompressed) throws IOException {
+        InputStream fileStream = isCompressed
+                ? new SizeLimitedInputStream(new GZIPInputStream(inputStream), MAX_DECOMPRESSED_FILE_SIZE)
+                : inputStream;
+        return new BufferedReader(new InputStreamReader(fileStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Blocking input stream over the parts of a file as they are received. Only {@link #FILE_BUFFER_PREFETCH} parts
+     * are requested ahead of the reader, and every part is released once it has been read.
+     */
+    private static class DataBufferInputStream extends InputStream {
+
+        private final Iterator<DataBuffer> dataBuffers;
+
+        private InputStream current = InputStream.nullInputStream();
+
+        DataBufferInputStream(Flux<DataBuffer> content) {
+            this.dataBuffers = content.toIterable(FILE_BUFFER_PREFETCH).iterator();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] singleByte = new byte[1];
+            return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = current.read(bytes, offset, length);
+            while (count == -1 && dataBuffers.hasNext()) {
+                current.close();
+                current = dataBuffers.next().asInputStream(true);
+                count = current.read(bytes, offset, length);
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            current.close();
+            // Release the parts that haven't been read, e.g., when the file turns out to be invalid
+            while (dataBuffers.hasNext()) {
+                DataBufferUtils.release(dataBuffers.next());
+            }
+        }
+    }
+
+    private static class FileTooLargeException extends IOException {
+        FileTooLargeException(long maxSize) {
+            super("File is larger than " + maxSize + " bytes");
+        }
+    }
+
+    /**
+     * Fails with a {@link FileTooLargeException} as soon as more than the given number of bytes are read from the
+     * wrapped stream.
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+
+        private long readCount = 0;
+
+        SizeLimitedInputStream(InputStream inputStream, long maxSize) {
+            super(inputStream);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            final int count = super.read(bytes, offset, length);
+            if (count > 0) {
+                count(count);
+            }
+            return count;
+        }
+
+        private void count(int count) throws FileTooLargeException {
+            readCount += count;
+            if (readCount > maxSize) {
+                throw new FileTooLargeException(maxSize);
+            }
+        }
     }
     
     public Mono<Application> importApplicationInOrganization(String organizationId, ApplicationJson importedDoc) {
@@ -6,19 +6,17 @@ import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.services.NewActionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.graph.DirectedAcyclicGraph;
-import org.jgrapht.traverse.BreadthFirstIterator;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.MustacheHelper.extractWordsAndAddToSet;
 
@@ -27,6 +25,12 @@ import static com.appsmith.external.helpers.MustacheHelper.extractWordsAndAddToS
 @RequiredArgsConstructor
 public class PageLoadActionsUtil {
 
+    private static final int NO_ACTION = -1;
+
+    private static final byte NOT_VISITED = 0;
+    private static final byte ON_PATH = 1;
+    private static final byte DONE = 2;
+
     private final NewActionService newActionService;
 
     /**
@@ -52,23 +56,10 @@ public class PageLoadActionsUtil {
                                                                   Set<ActionDependencyEdge> edges,
                                                                   Set<String> actionsUsedInDSL,
                                                                   List<ActionDTO> flatPageLoadActions) {
-        Set<String> dynamicBindingNames = new HashSet<>();
-
-        return newActionService.findUnpublishedActionsInPageByNames(bindings, pageId)
+        // All the actions in the page are read in one go, and the on load actions and their dependencies are then found
+        // in memory, instead of querying for the actions by name once for every level of dependencies.
+        return newActionService.findUnpublishedActionsForOnLoadInPage(pageId)
                 .flatMap(newAction -> newActionService.generateActionByViewMode(newAction, false))
-                // First find all the actions directly used in the DSL and get the graph started
-                .flatMap(unpublishedAction -> {
-
-                    // If the user has explicity set an action to not run on page load, this action should be ignored
-                    if (Boolean.TRUE.equals(unpublishedAction.getUserSetOnLoad()) && !Boolean.TRUE.equals(unpublishedAction.getExecuteOnLoad())) {
-                        return Mono.empty();
-                    }
-
-                    String name = unpublishedAction.getName();
-                    actionsUsedInDSL.add(name);
-                    extractAndSetActionNameAndBindingsForGraph(actionNames, edges, dynamicBindingNames, unpublishedAction);
-                    return Mono.just(unpublishedAction);
-                })
                 .collectMap(
                         action -> {
                             return action.getName();
@@ -77,16 +68,54 @@ public class PageLoadActionsUtil {
                             return action;
                         }
                 )
-                // Now add to the map, vertices, and edges the explicitly set user on load actions
-                .flatMap(onLoadActionsMap -> findExplicitUserSetOnLoadActionsAndTheirDependents(pageId, actionNames, edges, dynamicBindingNames, onLoadActionsMap))
-                // Now recursively walk the bindings to find other actions and their bindings till all the actions are identified and added
-                // to the graph which would be on load actions.
-                .flatMap(onLoadActionsMap -> recursivelyFindActionsAndTheirDependents(dynamicBindingNames, pageId, actionNames, edges, onLoadActionsMap))
+                .map(pageActionsMap -> {
+                    Map<String, ActionDTO> onLoadActionsMap = new HashMap<>();
+                    Set<String> dynamicBindingNames = new HashSet<>();
+
+                    // First find all the actions directly used in the DSL and get the graph started
+                    for (String binding : bindings) {
+                        ActionDTO action = pageActionsMap.get(binding);
+                        if (action == null || isOnLoadTurnedOffByUser(action)) {
+                            continue;
+                        }
+
+                        actionsUsedInDSL.add(action.getName());
+                        extractAndSetActionNameAndBindingsForGraph(actionNames, edges, dynamicBindingNames, action);
+                        onLoadActionsMap.put(action.getName(), action);
+                    }
+
+                    // Now add to the map, vertices, and edges the explicitly set user on load actions
+                    for (ActionDTO action : pageActionsMap.values()) {
+                        if (Boolean.TRUE.equals(action.getUserSetOnLoad()) && Boolean.TRUE.equals(action.getExecuteOnLoad())) {
+                            extractAndSetActionNameAndBindingsForGraph(actionNames, edges, dynamicBindingNames, action);
+                            onLoadActionsMap.put(action.getName(), action);
+                        }
+                    }
+
+                    // Now walk the bindings to find other actions and their bindings till all the actions are
+                    // identified and added to the graph which would be on load actions.
+                    while (!dynamicBindingNames.isEmpty()) {
+                        Set<String> bindingNames = new HashSet<>();
+
+                        for (String name : dynamicBindingNames) {
+                            ActionDTO action = pageActionsMap.get(name);
+                            if (action == null || isOnLoadTurnedOffByUser(action)) {
+                                continue;
+                            }
+
+                            extractAndSetActionNameAndBindingsForGraph(actionNames, edges, bindingNames, action);
+                            onLoadActionsMap.put(name, action);
+                        }
+
+                        dynamicBindingNames = bindingNames;
+                    }
+
+                    return onLoadActionsMap;
+                })
                 // Now that we have a global set of on load actions, create a DAG and find an offline schedule order in which the on load
                 // actions should be triggered keeping in mind their dependencies on each other.
                 .map(updatedMap -> {
-                    DirectedAcyclicGraph<String, DefaultEdge> directedAcyclicGraph = constructDAG(actionNames, edges);
-                    List<HashSet<String>> onPageLoadActionsSchedulingOrder = computeOnPageLoadActionsSchedulingOrder(directedAcyclicGraph);
+                    List<HashSet<String>> onPageLoadActionsSchedulingOrder = computeOnPageLoadActionsSchedulingOrder(actionNames, edges);
 
                     List<HashSet<DslActionDTO>> onPageLoadActions = new ArrayList<>();
 
@@ -110,89 +139,9 @@ public class PageLoadActionsUtil {
                 });
     }
 
-        private Mono<Map<String, ActionDTO>> findExplicitUserSetOnLoadActionsAndTheirDependents(String pageId,
-                                                                                            Set<String> actionNames,
-                                                                                            Set<ActionDependencyEdge> edges,
-                                                                                            Set<String> dynamicBindingNames,
-                                                                                            Map<String, ActionDTO> onLoadActionsInMap) {
-
-        //First fetch all the actions which have been tagged as on load by the user explicitly.
-        return newActionService.findUnpublishedOnLoadActionsExplicitSetByUserInPage(pageId)
-                .flatMap(newAction -> newActionService.generateActionByViewMode(newAction, false))
-                // Add the vertices and edges to the graph
-                .map(actionDTO -> {
-                    extractAndSetActionNameAndBindingsForGraph(actionNames, edges, dynamicBindingNames, actionDTO);
-                    return actionDTO;
-                })
-                .collectMap(
-                        action -> {
-                            return action.getName();
-                        },
-                        action -> {
-                            return action;
-                        }
-                )
-                .map(newActionsMap -> {
-                    onLoadActionsInMap.putAll(newActionsMap);
-                    return onLoadActionsInMap;
-                });
-    }
-
-    /**
-     * This function gets a list of binding names that come from other actions. It looks for actions in the page with
-     * the same names as words in the binding names set. If yes, it creates a new set of dynamicBindingNames, adds these newly
-     * found actions' bindings in the set, adds the new actions and their bindings to actionNames and edges and
-     * recursively calls itself with the new set of dynamicBindingNames.
-     * This ensures that the DAG that we create is complete and contains all possible actions and their dependencies
-     * @param dynamicBindingNames
-     * @param pageId
-     * @param actionNames
-     * @param edges
-     * @param onLoadActionsInMap
-     * @return
-     */
-    private Mono<Map<String, ActionDTO>> recursivelyFindActionsAndTheirDependents(Set<String> dynamicBindingNames,
-                                                                                  String pageId,
-                                                                                  Set<String> actionNames,
-                                                                                  Set<ActionDependencyEdge> edges,
-                                                                                  Map<String, ActionDTO> onLoadActionsInMap) {
-        if (dynamicBindingNames == null || dynamicBindingNames.isEmpty()) {
-            return Mono.just(onLoadActionsInMap);
-        }
-        Set<String> bindingNames = new HashSet<>();
-        // First fetch all the actions in the page whose name matches the words found in all the dynamic bindings
-        Mono<Map<String, ActionDTO>> updatedActionsMapMono = newActionService.findUnpublishedActionsInPageByNames(dynamicBindingNames, pageId)
-                .flatMap(newAction -> newActionService.generateActionByViewMode(newAction, false))
-                .flatMap(action -> {
-
-                    // If the user has explicity set an action to not run on page load, this action should be ignored
-                    if (Boolean.TRUE.equals(action.getUserSetOnLoad()) && !Boolean.TRUE.equals(action.getExecuteOnLoad())) {
-                        return Mono.empty();
-                    }
-
-                    extractAndSetActionNameAndBindingsForGraph(actionNames, edges, bindingNames, action);
-                    return Mono.just(action);
-                })
-                .collectMap(
-                        action -> {
-                            return action.getName();
-                        },
-                        action -> {
-                            return action;
-                        }
-                )
-                .map(newActionsMap -> {
-                    onLoadActionsInMap.putAll(newActionsMap);
-                    return onLoadActionsInMap;
-                });
-
-        return updatedActionsMapMono
-                .then(Mono.just(bindingNames))
-                .flatMap(bindings -> {
-                    // Now that the next set of bindings have been found, find recursively all actions by these names
-                    // and their bindings
-                    return recursivelyFindActionsAndTheirDependents(bindings, pageId, actionNames, edges, onLoadActionsInMap);
-                });
+    private boolean isOnLoadTurnedOffByUser(ActionDTO action) {
+        // If the user has explicity set an action to not run on page load, this action should be ignored
+        return Boolean.TRUE.equals(action.getUserSetOnLoad()) && !Boolean.TRUE.equals(action.getExecuteOnLoad());
     }
 
     private DslActionDTO getDslAction(String name, Map<String, ActionDTO> onLoadActionsMap) {
@@ -257,53 +206,143 @@ public class PageLoadActionsUtil {
         }
     }
 
-    private DirectedAcyclicGraph<String, DefaultEdge> constructDAG(Set<String> actionNames, Set<ActionDependencyEdge> edges) {
-        DirectedAcyclicGraph<String, DefaultEdge> actionSchedulingGraph =
-                new DirectedAcyclicGraph<>(DefaultEdge.class);
-
-        for (String name : actionNames) {
-            actionSchedulingGraph.addVertex(name);
+    /**
+     * Computes an offline schedule in which the on page load actions should be executed. Level i+1 actions are
+     * dependent on Level i actions. All actions in a level can run independently and hence are in the same set.
+     *
+     * Action names are mapped to int indices and the dependencies are kept in plain adjacency arrays, instead of
+     * building a graph object for every layout update. A single depth first search over all the edges finds the ones
+     * that close a cycle, and those are dropped so that the actions in the cycle are still scheduled. The levels are
+     * then computed from the remaining edges, so the whole schedule is linear in the actions and their edges.
+     *
+     * @param actionNames : All the on page load action names
+     * @param edges : Dependencies between the actions. Edges whose source is not an on page load action are ignored.
+     * @return : Action names grouped by the level in which they should be executed
+     */
+    private List<HashSet<String>> computeOnPageLoadActionsSchedulingOrder(Set<String> actionNames,
+                                                                          Set<ActionDependencyEdge> edges) {
+        final String[] names = actionNames.toArray(new String[0]);
+        final Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            indices.put(names[i], i);
         }
 
+        final int[][] dependents = new int[names.length][];
+        final int[] dependentsCount = new int[names.length];
+
         for (ActionDependencyEdge edge : edges) {
             // If the source of the edge is an action, only then add an edge
             // At this point we are guaranteed to find the action in the set because we have recursively found all
             // possible actions that should be on load
-            if (actionNames.contains(edge.getSource())) {
-                try {
-                    actionSchedulingGraph.addEdge(edge.getSource(), edge.getTarget());
-                } catch (IllegalArgumentException e) {
-                    log.debug("Ignoring the edge ({},{}) because {}", edge.getSource(), edge.getTarget(), e.getMessage());
-                }
+            final Integer source = indices.get(edge.getSource());
+            final Integer target = indices.get(edge.getTarget());
+            if (source == null || target == null) {
+                continue;
             }
+
+            if (source.equals(target)) {
+                log.debug("Ignoring the edge ({},{}) because it would create a cycle", edge.getSource(), edge.getTarget());
+                continue;
+            }
+
+            if (dependents[source] == null) {
+                dependents[source] = new int[4];
+            } else if (dependentsCount[source] == dependents[source].length) {
+                dependents[source] = Arrays.copyOf(dependents[source], dependentsCount[source] * 2);
+            }
+            dependents[source][dependentsCount[source]++] = target;
         }
 
-        return actionSchedulingGraph;
-    }
+        removeCycleClosingEdges(names, dependents, dependentsCount);
 
-    private List<HashSet<String>> computeOnPageLoadActionsSchedulingOrder(DirectedAcyclicGraph<String, DefaultEdge> dag) {
+        final int[] dependenciesCount = new int[names.length];
+        for (int action = 0; action < names.length; action++) {
+            for (int j = 0; j < dependentsCount[action]; j++) {
+                if (dependents[action][j] != NO_ACTION) {
+                    dependenciesCount[dependents[action][j]]++;
+                }
+            }
+        }
+
+        // Kahn's algorithm, one level at a time. An action becomes ready only once all of its dependencies have been
+        // scheduled, so it always lands in the level right after the last of them.
         List<HashSet<String>> onPageLoadActions = new ArrayList<>();
 
-        // Find all root nodes to start the BFS traversal from
-        List<String> rootNodes = dag.vertexSet().stream()
-                .filter(key -> dag.incomingEdgesOf(key).size() == 0)
-                .collect(Collectors.toList());
+        int[] ready = new int[names.length];
+        int readyCount = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (dependenciesCount[i] == 0) {
+                ready[readyCount++] = i;
+            }
+        }
 
-        BreadthFirstIterator<String, DefaultEdge> bfsIterator = new BreadthFirstIterator<>(dag, rootNodes);
+        int[] next = new int[names.length];
+        while (readyCount > 0) {
+            HashSet<String> level = new HashSet<>();
+            int nextCount = 0;
 
-        // Implementation of offline scheduler by using level by level traversal. Level i+1 actions would be dependent
-        // on Level i actions. All actions in a level can run independently and hence would get added to the same set.
-        while (bfsIterator.hasNext()) {
-            String vertex = bfsIterator.next();
-            int level = bfsIterator.getDepth(vertex);
-            if (onPageLoadActions.size() <= level) {
-                onPageLoadActions.add(new HashSet<>());
+            for (int i = 0; i < readyCount; i++) {
+                final int action = ready[i];
+                level.add(names[action]);
+
+                for (int j = 0; j < dependentsCount[action]; j++) {
+                    final int dependent = dependents[action][j];
+                    if (dependent != NO_ACTION && --dependenciesCount[dependent] == 0) {
+                        next[nextCount++] = dependent;
+                    }
+                }
             }
 
-            onPageLoadActions.get(level).add(vertex);
+            onPageLoadActions.add(level);
+
+            final int[] swap = ready;
+            ready = next;
+            next = swap;
+            readyCount = nextCount;
         }
 
         return onPageLoadActions;
     }
 
+    /**
+     * Walks the dependencies depth first, starting from every action not visited yet, and replaces each edge that
+     * points back to an action still on the walk's path with {@link #NO_ACTION}. Those are exactly the edges that close
+     * a cycle, and the dependencies left once they are gone have no cycles.
+     */
+    private void removeCycleClosingEdges(String[] names, int[][] dependents, int[] dependentsCount) {
+        final byte[] state = new byte[names.length];
+        // The index of the next edge to follow, for each action on the path
+        final int[] nextEdge = new int[names.length];
+        final int[] path = new int[names.length];
+
+        for (int root = 0; root < names.length; root++) {
+            if (state[root] != NOT_VISITED) {
+                continue;
+            }
+
+            int size = 0;
+            path[size++] = root;
+            state[root] = ON_PATH;
+
+            while (size > 0) {
+                final int action = path[size - 1];
+                if (nextEdge[action] == dependentsCount[action]) {
+                    state[action] = DONE;
+                    size--;
+                    continue;
+                }
+
+                final int edge = nextEdge[action]++;
+                final int dependent = dependents[action][edge];
+                if (state[dependent] == ON_PATH) {
+                    log.debug("Ignoring the edge ({},{}) because it would create a cycle", names[action], names[dependent]);
+                    dependents[action][edge] = NO_ACTION;
+                } else if (state[dependent] == NOT_VISITED) {
+                    state[dependent] = ON_PATH;
+                    path[size++] = dependent;
+                }
+            }
+        }
+    }
+
 }
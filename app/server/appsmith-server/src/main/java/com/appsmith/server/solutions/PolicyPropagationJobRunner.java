@@ -0,0 +1,396 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.PolicyPropagationJob;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.repositories.OrganizationRepository;
+import com.appsmith.server.repositories.PolicyPropagationJobRepository;
+import com.appsmith.server.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the policy changes that fan out to all the resources of an organization, e.g., when users join or leave it, as
+ * {@link PolicyPropagationJob}s. A job is saved before it is run and records every step it completes, so that a job
+ * that fails is retried from the step that failed, and a job abandoned by a server restart is picked up again once its
+ * lock expires. Since every step is an idempotent policy update, running a step again is harmless.
+ *
+ * When running asynchronously, submitting a job returns as soon as the job is saved, and a pool of workers runs the
+ * jobs in the background. Otherwise, the job is run before submitting it completes, the same as before the policy
+ * changes were moved to jobs, and is failed instead of retried if it fails.
+ *
+ * A job is only ever updated by the worker holding its lock, so a worker that was stalled past the expiry of its lock
+ * stops at its next checkpoint instead of overwriting the progress of the worker that picked the job up again.
+ *
+ * Only the changes to the members of an organization are run as jobs. Making an application public still updates its
+ * pages, actions and datasources in the request, since that is bounded by the size of a single application, and so
+ * are the copies made when cloning or forking applications and organizations.
+ */
+@Component
+@Slf4j
+public class PolicyPropagationJobRunner {
+
+    public static final int WORKER_COUNT = 4;
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    // The lock of a running job is renewed after every step, so this only needs to be longer than the longest step.
+    public static final Duration LOCK_DURATION = Duration.ofMinutes(10);
+
+    public static final Duration RETRY_BACKOFF = Duration.ofMinutes(1);
+
+    private static final int RUNNABLE_JOBS_BATCH_SIZE = 20;
+
+    private static final Duration OLDER_JOBS_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Duration OLDER_JOBS_TIMEOUT = Duration.ofMinutes(1);
+
+    private final PolicyPropagationJobRepository jobRepository;
+    private final PolicyUtils policyUtils;
+    private final UserRepository userRepository;
+    private final OrganizationRepository organizationRepository;
+    private final boolean isAsync;
+    private final boolean isPolling;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public PolicyPropagationJobRunner(PolicyPropagationJobRepository jobRepository,
+                                      PolicyUtils policyUtils,
+                                      UserRepository userRepository,
+                                      OrganizationRepository organizationRepository,
+                                      @Value("${appsmith.policy-propagation.async:true}") boolean isAsync,
+                                      @Value("${appsmith.policy-propagation.poll:true}") boolean isPolling) {
+        this.jobRepository = jobRepository;
+        this.policyUtils = policyUtils;
+        this.userRepository = userRepository;
+        this.organizationRepository = organizationRepository;
+        this.isAsync = isAsync;
+        this.isPolling = isPolling;
+    }
+
+    /**
+     * Submits a job that adds the given policies to, or removes them from, all the resources of an organization. The
+     * job runs with the permissions of the current user. The change the job is part of should be saved before the job
+     * is submitted, since the job may be run, or picked up again after a failure, any time after that.
+     *
+     * @param commentThreadPolicyMap Comment threads are left unchanged if this is null
+     * @return Mono that publishes the saved job once it is submitted when running asynchronously, or once it is
+     * completed otherwise
+     */
+    public Mono<PolicyPropagationJob> submit(String organizationId,
+                                             Map<String, Policy> datasourcePolicyMap,
+                                             Map<String, Policy> applicationPolicyMap,
+                                             Map<String, Policy> pagePolicyMap,
+                                             Map<String, Policy> actionPolicyMap,
+                                             Map<String, Policy> commentThreadPolicyMap,
+                                             boolean addPolicyToObject) {
+        PolicyPropagationJob job = newJob(organizationId, datasourcePolicyMap, applicationPolicyMap, pagePolicyMap,
+                actionPolicyMap, commentThreadPolicyMap, addPolicyToObject);
+
+        if (!isAsync) {
+            return runNow(job);
+        }
+
+        job.setStatus(PolicyPropagationJob.Status.PENDING);
+        return withRequestedBy(job)
+                .flatMap(jobRepository::save)
+                .doOnNext(savedJob -> startWorker());
+    }
+
+    /**
+     * Runs a job that adds the given policies to, or removes them from, all the resources of an organization, before
+     * the change it is part of is saved, e.g., when users leave an organization, so that they don't keep their access
+     * if the job fails. The job runs with the permissions of the current user, after the older jobs of the
+     * organization, and is never run again once this fails.
+     *
+     * @param commentThreadPolicyMap Comment threads are left unchanged if this is null
+     * @return Mono that publishes the job once it is completed
+     */
+    public Mono<PolicyPropagationJob> run(String organizationId,
+                                          Map<String, Policy> datasourcePolicyMap,
+                                          Map<String, Policy> applicationPolicyMap,
+                                          Map<String, Policy> pagePolicyMap,
+                                          Map<String, Policy> actionPolicyMap,
+                                          Map<String, Policy> commentThreadPolicyMap,
+                                          boolean addPolicyToObject) {
+        PolicyPropagationJob job = newJob(organizationId, datasourcePolicyMap, applicationPolicyMap, pagePolicyMap,
+                actionPolicyMap, commentThreadPolicyMap, addPolicyToObject);
+        job.setFailIfAbandoned(true);
+
+        return runNow(job);
+    }
+
+    private PolicyPropagationJob newJob(String organizationId,
+                                        Map<String, Policy> datasourcePolicyMap,
+                                        Map<String, Policy> applicationPolicyMap,
+                                        Map<String, Policy> pagePolicyMap,
+                                        Map<String, Policy> actionPolicyMap,
+                                        Map<String, Policy> commentThreadPolicyMap,
+                                        boolean addPolicyToObject) {
+        PolicyPropagationJob job = new PolicyPropagationJob();
+        job.setOrganizationId(organizationId);
+        job.setDatasourcePolicyMap(datasourcePolicyMap);
+        job.setApplicationPolicyMap(applicationPolicyMap);
+        job.setPagePolicyMap(pagePolicyMap);
+        job.setActionPolicyMap(actionPolicyMap);
+        job.setCommentThreadPolicyMap(commentThreadPolicyMap);
+        job.setAddPolicyToObject(addPolicyToObject);
+        return job;
+    }
+
+    private Mono<PolicyPropagationJob> withRequestedBy(PolicyPropagationJob job) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ((User) ctx.getAuthentication().getPrincipal()).getUsername())
+                .doOnNext(job::setRequestedBy)
+                .then(Mono.just(job));
+    }
+
+    /**
+     * Runs the job in the current request. If it fails, the job is marked as failed, instead of being retried by a
+     * worker, and the error is passed on to the request.
+     */
+    private Mono<PolicyPropagationJob> runNow(PolicyPropagationJob job) {
+        // The job is claimed right away, so that no worker picks it up while it's being run here.
+        job.setStatus(PolicyPropagationJob.Status.RUNNING);
+        job.setLockedUntil(Instant.now().plus(LOCK_DURATION));
+        job.setLockedBy(UUID.randomUUID().toString());
+        job.setAttempts(1);
+
+        return withRequestedBy(job)
+                .flatMap(jobRepository::save)
+                .flatMap(savedJob -> waitForOlderJobs(savedJob)
+                        .then(Mono.defer(() -> execute(savedJob)))
+                        .onErrorResume(error -> fail(savedJob, error).then(Mono.error(error)))
+                );
+    }
+
+    /**
+     * Waits till the older jobs of the job's organization have finished, since the jobs of an organization have to be
+     * run in the order they were created in.
+     */
+    private Mono<Void> waitForOlderJobs(PolicyPropagationJob job) {
+        return Mono.defer(() -> jobRepository.existsUnfinishedBefore(job))
+                .filter(isBlocked -> !isBlocked)
+                .repeatWhenEmpty(repeats -> repeats
+                        .doOnNext(repeat -> startWorker())
+                        .delayElements(OLDER_JOBS_POLL_INTERVAL)
+                )
+                // The older jobs will finish eventually, so the request can be made again later
+                .timeout(OLDER_JOBS_TIMEOUT, Mono.error(new AppsmithException(AppsmithError.POLICY_PROPAGATION_IN_PROGRESS)))
+                .then();
+    }
+
+    /**
+     * Gets the latest jobs of an organization, for the users who can manage it.
+     */
+    public Flux<PolicyPropagationJob> getJobsByOrganizationId(String organizationId) {
+        return organizationRepository.findById(organizationId, AclPermission.MANAGE_ORGANIZATIONS)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ORGANIZATION, organizationId)))
+                .flatMapMany(organization -> jobRepository.findTop20ByOrganizationIdOrderByIdDesc(organizationId));
+    }
+
+    /**
+     * Picks up the jobs that were not started or were abandoned, e.g., because of a server restart, and the jobs that
+     * are due to be retried.
+     */
+    @Scheduled(initialDelay = 30 * 1000 /* thirty seconds */, fixedDelay = 30 * 1000 /* thirty seconds */)
+    public void pollJobs() {
+        if (isPolling) {
+            startWorker();
+        }
+    }
+
+    /**
+     * Runs jobs till there are no more jobs that can be run right now.
+     *
+     * @return Mono that completes once there are no runnable jobs left
+     */
+    public Mono<Void> runPendingJobs() {
+        return Mono.defer(this::runNextJob)
+                .repeat()
+                .takeWhile(Boolean::booleanValue)
+                .then();
+    }
+
+    private void startWorker() {
+        if (activeWorkers.incrementAndGet() > WORKER_COUNT) {
+            activeWorkers.decrementAndGet();
+            return;
+        }
+
+        runPendingJobs()
+                .doFinally(signalType -> activeWorkers.decrementAndGet())
+                .subscribeOn(Schedulers.elastic())
+                .subscribe(
+                        null,
+                        error -> log.error("Error while running policy propagation jobs", error)
+                );
+    }
+
+    /**
+     * Claims and runs the oldest runnable job.
+     *
+     * @return Mono that publishes true if a job was run, successfully or not, and false if there were no jobs to run
+     */
+    private Mono<Boolean> runNextJob() {
+        return jobRepository.findRunnable(Instant.now(), RUNNABLE_JOBS_BATCH_SIZE)
+                // Jobs that have to wait for an older job of their organization are skipped.
+                .concatMap(job -> jobRepository.existsUnfinishedBefore(job)
+                        .filter(isBlocked -> !isBlocked)
+                        .flatMap(notBlocked -> jobRepository.claim(job, Instant.now().plus(LOCK_DURATION)))
+                )
+                .next()
+                .flatMap(job -> {
+                    if (Boolean.TRUE.equals(job.getFailIfAbandoned())) {
+                        // The request that was running this job was interrupted, e.g., by a server restart, so the
+                        // change the job is part of was never saved.
+                        return fail(job, new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR)).thenReturn(true);
+                    }
+
+                    return execute(job)
+                            .onErrorResume(error -> retryLater(job, error))
+                            .thenReturn(true);
+                })
+                .defaultIfEmpty(false);
+    }
+
+    private Mono<PolicyPropagationJob> execute(PolicyPropagationJob job) {
+        log.debug("Running policy propagation job {} of organization {}", job.getId(), job.getOrganizationId());
+        Mono<PolicyPropagationJob> stepsMono = runSteps(job)
+                .flatMap(completedJob -> {
+                    completedJob.setStatus(PolicyPropagationJob.Status.COMPLETED);
+                    completedJob.setLockedUntil(null);
+                    completedJob.setError(null);
+                    completedJob.setFinishedAt(Instant.now());
+                    return jobRepository.release(completedJob)
+                            .switchIfEmpty(lockLost(completedJob));
+                });
+
+        if (job.getRequestedBy() == null) {
+            return stepsMono;
+        }
+
+        return userRepository.findByEmail(job.getRequestedBy())
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.USER, job.getRequestedBy())))
+                .flatMap(user -> stepsMono.subscriberContext(ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+                )));
+    }
+
+    private Mono<PolicyPropagationJob> runSteps(PolicyPropagationJob job) {
+        final boolean addPolicyToObject = Boolean.TRUE.equals(job.getAddPolicyToObject());
+
+        return Mono.just(job)
+                .flatMap(job1 -> runStep(job1, PolicyPropagationJob.Step.FIND_APPLICATIONS, () -> policyUtils
+                        .findApplicationIdsByOrgId(job1.getOrganizationId())
+                        .doOnNext(job1::setApplicationIds)
+                        .then()
+                ))
+                .flatMap(job1 -> runStep(job1, PolicyPropagationJob.Step.DATASOURCES, () -> policyUtils
+                        .updatePoliciesOfDatasourcesByOrgId(job1.getOrganizationId(), job1.getDatasourcePolicyMap(), addPolicyToObject)
+                        .then()
+                ))
+                .flatMap(job1 -> runStep(job1, PolicyPropagationJob.Step.APPLICATIONS, () -> policyUtils
+                        .updatePoliciesOfApplicationsByIds(job1.getApplicationIds(), job1.getApplicationPolicyMap(), addPolicyToObject)
+                        .then()
+                ))
+                .flatMap(job1 -> runStep(job1, PolicyPropagationJob.Step.PAGES, () -> policyUtils
+                        .updatePoliciesOfPagesByApplicationIds(job1.getApplicationIds(), job1.getPagePolicyMap(), addPolicyToObject)
+                        .then()
+                ))
+                .flatMap(job1 -> runStep(job1, PolicyPropagationJob.Step.ACTIONS, () -> policyUtils
+                        .updatePoliciesOfActionsByApplicationIds(job1.getApplicationIds(), job1.getActionPolicyMap(), addPolicyToObject)
+                        .then()
+                ))
+                .flatMap(job1 -> runStep(job1, PolicyPropagationJob.Step.COMMENT_THREADS, () -> {
+                    if (job1.getCommentThreadPolicyMap() == null) {
+                        return Mono.empty();
+                    }
+                    return policyUtils
+                            .updatePoliciesOfCommentThreadsByApplicationIds(job1.getApplicationIds(), job1.getCommentThreadPolicyMap(), addPolicyToObject)
+                            .then();
+                }));
+    }
+
+    /**
+     * Runs the step unless the job has already completed it, and then saves the job as a checkpoint, renewing its lock.
+     * Fails if the lock has expired and the job was picked up by another worker in the meantime, so that the job isn't
+     * run by two workers at once.
+     */
+    private Mono<PolicyPropagationJob> runStep(PolicyPropagationJob job,
+                                               PolicyPropagationJob.Step step,
+                                               Supplier<Mono<Void>> stepSupplier) {
+        if (job.getCompletedSteps() != null && job.getCompletedSteps().contains(step)) {
+            return Mono.just(job);
+        }
+
+        return stepSupplier.get()
+                .then(Mono.defer(() -> {
+                    Set<PolicyPropagationJob.Step> completedSteps = job.getCompletedSteps() == null
+                            ? new LinkedHashSet<>()
+                            : job.getCompletedSteps();
+                    completedSteps.add(step);
+                    job.setCompletedSteps(completedSteps);
+                    job.setLockedUntil(Instant.now().plus(LOCK_DURATION));
+                    return jobRepository.saveCheckpoint(job)
+                            .switchIfEmpty(lockLost(job));
+                }));
+    }
+
+    private Mono<PolicyPropagationJob> lockLost(PolicyPropagationJob job) {
+        return Mono.defer(() -> {
+            log.warn("Policy propagation job {} of organization {} was picked up by another worker",
+                    job.getId(), job.getOrganizationId());
+            return Mono.error(new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR));
+        });
+    }
+
+    private Mono<PolicyPropagationJob> retryLater(PolicyPropagationJob job, Throwable error) {
+        log.error("Policy propagation job {} of organization {} failed on attempt {}",
+                job.getId(), job.getOrganizationId(), job.getAttempts(), error);
+
+        job.setError(error.getMessage());
+        if (job.getAttempts() != null && job.getAttempts() >= MAX_ATTEMPTS) {
+            job.setStatus(PolicyPropagationJob.Status.FAILED);
+            job.setLockedUntil(null);
+            job.setFinishedAt(Instant.now());
+        } else {
+            job.setStatus(PolicyPropagationJob.Status.PENDING);
+            job.setLockedUntil(Instant.now().plus(RETRY_BACKOFF.multipliedBy(job.getAttempts() == null ? 1 : job.getAttempts())));
+        }
+
+        // Nothing is saved if the job was picked up by another worker in the meantime.
+        return jobRepository.release(job);
+    }
+
+    private Mono<PolicyPropagationJob> fail(PolicyPropagationJob job, Throwable error) {
+        log.error("Policy propagation job {} of organization {} failed", job.getId(), job.getOrganizationId(), error);
+
+        job.setError(error.getMessage());
+        job.setStatus(PolicyPropagationJob.Status.FAILED);
+        job.setLockedUntil(null);
+        job.setFinishedAt(Instant.now());
+        return jobRepository.release(job);
+    }
+}
@@ -0,0 +1,171 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.Notification;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.RealtimeEventDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.getUserPermissions;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Pushes notifications, unread counts and comment changes to the clients connected over server sent events, so that
+ * they don't have to poll for them. Events are published on a Redis channel, so that a client connected to any of the
+ * servers receives the events generated on all of them.
+ */
+@Component
+@Slf4j
+public class RealtimeEventHandler {
+
+    private static final ChannelTopic REALTIME_EVENTS_TOPIC = new ChannelTopic("appsmith:realtime-events");
+
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private final ObjectMapper objectMapper;
+
+    // A single subscription to the Redis channel, shared by all the clients connected to this server.
+    private final Flux<RealtimeEventDTO> events;
+
+    public RealtimeEventHandler(ReactiveRedisTemplate<String, String> reactiveTemplate,
+                                ReactiveRedisMessageListenerContainer container,
+                                ObjectMapper objectMapper) {
+        this.reactiveTemplate = reactiveTemplate;
+        this.objectMapper = objectMapper;
+        this.events = container
+                .receive(REALTIME_EVENTS_TOPIC)
+                .map(ReactiveSubscription.Message::getMessage)
+                .flatMap(this::readEvent)
+                .share();
+    }
+
+    public Mono<Void> publish(Notification notification, Long unreadCount) {
+        RealtimeEventDTO event = new RealtimeEventDTO();
+        event.setType(RealtimeEventDTO.Type.NOTIFICATION);
+        event.setForUsername(notification.getForUsername());
+        event.setPayload(toPayload(notification));
+
+        return publish(event).then(publishUnreadCount(notification.getForUsername(), unreadCount));
+    }
+
+    public Mono<Void> publishUnreadCount(String username, Long unreadCount) {
+        RealtimeEventDTO event = new RealtimeEventDTO();
+        event.setType(RealtimeEventDTO.Type.UNREAD_COUNT);
+        event.setForUsername(username);
+        event.setPayload(objectMapper.valueToTree(unreadCount));
+
+        return publish(event);
+    }
+
+    public Mono<Void> publish(Comment comment) {
+        return publish(RealtimeEventDTO.Type.COMMENT, comment.getApplicationId(), comment, AclPermission.READ_COMMENT);
+    }
+
+    public Mono<Void> publish(CommentThread thread) {
+        return publish(RealtimeEventDTO.Type.COMMENT_THREAD, thread.getApplicationId(), thread, AclPermission.READ_THREAD);
+    }
+
+    /**
+     * Events meant for the given user, i.e., their new notifications and changes in their unread notifications count.
+     */
+    public Flux<RealtimeEventDTO> listenForUser(User user) {
+        return events.filter(event -> user.getUsername().equals(event.getForUsername()));
+    }
+
+    /**
+     * Comment and comment thread changes of the given application which can be read by the given user.
+     */
+    public Flux<RealtimeEventDTO> listenForApplication(String applicationId, User user) {
+        return events.filter(event -> applicationId.equals(event.getApplicationId()) && isReadableBy(event, user));
+    }
+
+    private Mono<Void> publish(RealtimeEventDTO.Type type, String applicationId, BaseDomain resource, AclPermission readPermission) {
+        Set<String> users = new HashSet<>();
+        Set<String> groups = new HashSet<>();
+        if (resource.getPolicies() != null) {
+            for (Policy policy : resource.getPolicies()) {
+                if (readPermission.getValue().equals(policy.getPermission())) {
+                    users.addAll(policy.getUsers());
+                    groups.addAll(policy.getGroups());
+                }
+            }
+        }
+
+        RealtimeEventDTO event = new RealtimeEventDTO();
+        event.setType(type);
+        event.setApplicationId(applicationId);
+        event.setReadableByUsers(users);
+        event.setReadableByGroups(groups);
+        event.setReadPermission(readPermission.getValue());
+        event.setPayload(toPayload(resource));
+
+        return publish(event);
+    }
+
+    /**
+     * The resource as sent to the clients. The policies of the resource and the permissions of the user who changed it
+     * are left out, since the event is delivered to other users.
+     */
+    private ObjectNode toPayload(BaseDomain resource) {
+        ObjectNode payload = objectMapper.valueToTree(resource);
+        payload.remove(FieldName.POLICIES);
+        payload.remove(FieldName.USER_PERMISSIONS);
+        return payload;
+    }
+
+    private Mono<Void> publish(RealtimeEventDTO event) {
+        final String message;
+        try {
+            message = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Unable to serialize realtime event of type {}", event.getType(), e);
+            return Mono.empty();
+        }
+
+        // Failing to push an event must never fail the operation that generated it.
+        return reactiveTemplate
+                .convertAndSend(REALTIME_EVENTS_TOPIC.getTopic(), message)
+                .doOnError(error -> log.error("Unable to publish realtime event of type {}", event.getType(), error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private Mono<RealtimeEventDTO> readEvent(String message) {
+        try {
+            return Mono.just(objectMapper.readValue(message, RealtimeEventDTO.class));
+        } catch (JsonProcessingException e) {
+            log.error("Unable to read realtime event {}", message, e);
+            return Mono.empty();
+        }
+    }
+
+    /**
+     * Checks the users and groups the event is readable by the same way the permissions of the user are computed when
+     * the resource is read from the database, including the resources which are readable by anonymous users.
+     */
+    private boolean isReadableBy(RealtimeEventDTO event, User user) {
+        Policy readPolicy = Policy.builder()
+                .permission(event.getReadPermission())
+                .users(event.getReadableByUsers())
+                .groups(event.getReadableByGroups())
+                .build();
+
+        return getUserPermissions(Set.of(readPolicy), user).contains(event.getReadPermission());
+    }
+}
@@ -0,0 +1,146 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.domains.SessionUserPrincipal;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/**
+ * A cache, local to this server, of the users that are logged in, so that the user of a session doesn't have to be
+ * loaded from the database on every request. Users are cached by their id and the version in the session. Changes to a
+ * user evict it from the caches of all the servers, over a Redis channel. Entries also expire after a few minutes,
+ * which bounds how long changes that aren't published can go unnoticed.
+ */
+@Component
+@Slf4j
+public class SessionUserCache implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final ChannelTopic USER_INVALIDATIONS_TOPIC = new ChannelTopic("appsmith:user-invalidations");
+
+    static final Duration TTL = Duration.ofMinutes(5);
+
+    // Upper limit on the number of users cached on this server
+    static final int MAX_ENTRIES = 10000;
+
+    private final UserRepository userRepository;
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private final ObjectProvider<ReactiveRedisMessageListenerContainer> containerProvider;
+
+    private final Map<String, CachedUser> users = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            }
+    );
+
+    public SessionUserCache(UserRepository userRepository,
+                            ReactiveRedisTemplate<String, String> reactiveTemplate,
+                            ObjectProvider<ReactiveRedisMessageListenerContainer> containerProvider) {
+        this.userRepository = userRepository;
+        this.reactiveTemplate = reactiveTemplate;
+        this.containerProvider = containerProvider;
+    }
+
+    /**
+     * Starts listening to the invalidations published by the other servers. This is done once the application is ready,
+     * instead of when this bean is created, since the listener container depends on services which depend on this.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        containerProvider.getObject()
+                .receive(USER_INVALIDATIONS_TOPIC)
+                .map(ReactiveSubscription.Message::getMessage)
+                .subscribe(this::evictLocally, error -> {
+                    // The listener is cancelled when the server shuts down, which isn't worth reporting.
+                    if (!(error instanceof CancellationException)) {
+                        log.error("Error listening to user invalidations.", error);
+                    }
+                });
+    }
+
+    /**
+     * Gets the user referred to by a session's principal. The user is looked up by its id, and only if it still has the
+     * email the session was created with, since users are cached by id. The returned user is a copy of the one in the
+     * cache, so that changes made to it while handling a request don't leak into other requests.
+     */
+    public Mono<User> get(SessionUserPrincipal principal) {
+        final String key = getKey(principal.getId(), principal.getVersion());
+        final CachedUser cachedUser = users.get(key);
+        if (cachedUser != null) {
+            if (cachedUser.expiresAt.isAfter(Instant.now())) {
+                return Mono.just(copyOf(cachedUser.user));
+            }
+            users.remove(key);
+        }
+
+        // The session's security context is being loaded, so there is none yet for the repository's findById.
+        return userRepository.findByIdAndEmail(principal.getId(), principal.getEmail())
+                .doOnNext(user -> users.put(key, new CachedUser(copyOf(user), Instant.now().plus(TTL))))
+                .map(SessionUserCache::copyOf);
+    }
+
+    /**
+     * Evicts all versions of a user from the caches of all the servers. Should be called after the user is changed.
+     */
+    public Mono<Void> invalidate(String userId) {
+        if (userId == null) {
+            return Mono.empty();
+        }
+
+        evictLocally(userId);
+
+        // Failing to publish the invalidation must never fail the operation that changed the user. The other servers
+        // will pick up the change when their entry expires.
+        return reactiveTemplate
+                .convertAndSend(USER_INVALIDATIONS_TOPIC.getTopic(), userId)
+                .doOnError(error -> log.error("Unable to publish invalidation of user {}", userId, error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void evictLocally(String userId) {
+        final String keyPrefix = userId + ":";
+        synchronized (users) {
+            users.keySet().removeIf(key -> key.startsWith(keyPrefix));
+        }
+    }
+
+    private static String getKey(String userId, long version) {
+        return userId + ":" + version;
+    }
+
+    private static User copyOf(User user) {
+        final User copy = new User();
+        BeanUtils.copyProperties(user, copy);
+        return copy;
+    }
+
+    private static class CachedUser {
+        final User user;
+        final Instant expiresAt;
+
+        CachedUser(User user, Instant expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -21,6 +21,7 @@ public class UserChangedHandler {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final CommentRepository commentRepository;
     private final OrganizationRepository organizationRepository;
+    private final SessionUserCache sessionUserCache;
 
     public User publish(User user) {
         applicationEventPublisher.publishEvent(new UserChangedEvent(user));
@@ -40,6 +41,10 @@ public class UserChangedHandler {
         updateNameInUserRoles(user)
                 .subscribeOn(Schedulers.elastic())
                 .subscribe();
+
+        sessionUserCache.invalidate(user.getId())
+                .subscribeOn(Schedulers.elastic())
+                .subscribe();
     }
 
     private Mono<Void> updateNameInComments(User user) {
@@ -0,0 +1,114 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.getUserPermissions;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InheritedPolicyResolverTest {
+
+    private static final String DEVELOPER = "developer@example.com";
+    private static final String VIEWER = "viewer@example.com";
+
+    private PolicyGenerator policyGenerator;
+
+    private ReactiveMongoOperations mongoOperations;
+
+    private User viewer;
+
+    @Before
+    public void setup() {
+        policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+
+        Application application = new Application();
+        application.setId("application1");
+        application.setPolicies(Set.of(
+                Policy.builder().permission(AclPermission.MANAGE_APPLICATIONS.getValue()).users(Set.of(DEVELOPER)).build(),
+                Policy.builder().permission(AclPermission.READ_APPLICATIONS.getValue()).users(Set.of(DEVELOPER, VIEWER)).build(),
+                Policy.builder().permission(AclPermission.COMMENT_ON_APPLICATIONS.getValue()).users(Set.of(DEVELOPER, VIEWER)).build()
+        ));
+
+        mongoOperations = Mockito.mock(ReactiveMongoOperations.class);
+        Mockito.when(mongoOperations.findDistinct(Mockito.any(Query.class), Mockito.eq(FieldName.APPLICATION_ID), Mockito.any(Class.class), Mockito.eq(String.class)))
+                .thenReturn(Flux.just("application1"));
+        Mockito.when(mongoOperations.find(Mockito.any(Query.class), Mockito.eq(Application.class)))
+                .thenReturn(Flux.just(application));
+
+        viewer = new User();
+        viewer.setEmail(VIEWER);
+    }
+
+    @Test
+    public void resolve_actionWithOutdatedPolicies_getsPermissionsFromApplication() {
+        final InheritedPolicyResolver resolver = new InheritedPolicyResolver(policyGenerator, mongoOperations, true);
+
+        // The viewer used to be a developer of the application, which the copies in the action still say.
+        NewAction action = new NewAction();
+        action.setApplicationId("application1");
+        action.setPolicies(new HashSet<>(Set.of(
+                Policy.builder().permission(AclPermission.MANAGE_ACTIONS.getValue()).users(Set.of(DEVELOPER, VIEWER)).build()
+        )));
+
+        StepVerifier.create(resolver.resolve(NewAction.class, new Query(), viewer))
+                .assertNext(inheritedPolicies -> {
+                    assertThat(inheritedPolicies.isInherited(AclPermission.MANAGE_ACTIONS)).isTrue();
+                    assertThat(inheritedPolicies.isInherited(AclPermission.EXECUTE_ACTIONS)).isTrue();
+
+                    inheritedPolicies.apply(action, action.getApplicationId());
+                    final Set<String> permissions = getUserPermissions(action.getPolicies(), viewer);
+                    assertThat(permissions).contains(AclPermission.EXECUTE_ACTIONS.getValue());
+                    assertThat(permissions).doesNotContain(AclPermission.MANAGE_ACTIONS.getValue());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void resolve_commentThread_keepsItsOwnPolicies() {
+        final InheritedPolicyResolver resolver = new InheritedPolicyResolver(policyGenerator, mongoOperations, true);
+
+        CommentThread thread = new CommentThread();
+        thread.setApplicationId("application1");
+        thread.setPolicies(new HashSet<>(Set.of(
+                Policy.builder().permission(AclPermission.MANAGE_THREAD.getValue()).users(Set.of(VIEWER)).build()
+        )));
+
+        StepVerifier.create(resolver.resolve(CommentThread.class, new Query(), viewer))
+                .assertNext(inheritedPolicies -> {
+                    assertThat(inheritedPolicies.isInherited(AclPermission.MANAGE_THREAD)).isFalse();
+
+                    inheritedPolicies.apply(thread, thread.getApplicationId());
+                    assertThat(getUserPermissions(thread.getPolicies(), viewer)).contains(
+                            AclPermission.MANAGE_THREAD.getValue(),
+                            AclPermission.READ_THREAD.getValue(),
+                            AclPermission.COMMENT_ON_THREAD.getValue()
+                    );
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void resolve_whenDisabled_inheritsNothing() {
+        final InheritedPolicyResolver resolver = new InheritedPolicyResolver(policyGenerator, mongoOperations, false);
+
+        assertThat(resolver.isInherited(NewAction.class)).isFalse();
+        StepVerifier.create(resolver.resolve(NewAction.class, new Query(), viewer))
+                .assertNext(inheritedPolicies -> assertThat(inheritedPolicies).isSameAs(InheritedPolicies.NONE))
+                .verifyComplete();
+    }
+}
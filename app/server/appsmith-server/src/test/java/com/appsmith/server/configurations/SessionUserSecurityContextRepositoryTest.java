@@ -0,0 +1,80 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.domains.SessionUserPrincipal;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.UserRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.server.WebSession;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext
+public class SessionUserSecurityContextRepositoryTest {
+
+    @Autowired
+    SessionUserSecurityContextRepository securityContextRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    public void saveAndLoad_keepsCompactPrincipalInSession() {
+        final User user = userRepository.findByEmail("api_user").block();
+        assertThat(user).isNotNull();
+
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        final SecurityContext context = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, null));
+
+        StepVerifier.create(securityContextRepository.save(exchange, context)).verifyComplete();
+
+        // The context that was saved is left untouched, while the session only holds the compact principal.
+        assertThat(context.getAuthentication().getPrincipal()).isSameAs(user);
+        final WebSession session = exchange.getSession().block();
+        final SecurityContext sessionContext = session.getAttribute(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME);
+        assertThat(sessionContext.getAuthentication().getPrincipal()).isInstanceOf(SessionUserPrincipal.class);
+
+        StepVerifier.create(securityContextRepository.load(exchange))
+                .assertNext(loadedContext -> {
+                    assertThat(loadedContext.getAuthentication()).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+                    final User loadedUser = (User) loadedContext.getAuthentication().getPrincipal();
+                    assertThat(loadedUser.getId()).isEqualTo(user.getId());
+                    assertThat(loadedUser.getEmail()).isEqualTo(user.getEmail());
+                    assertThat(loadedUser.getOrganizationIds()).isEqualTo(user.getOrganizationIds());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void load_sessionWithWholeUser_isConvertedToCompactPrincipal() {
+        final User user = userRepository.findByEmail("api_user").block();
+        assertThat(user).isNotNull();
+
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        final WebSession session = exchange.getSession().block();
+        session.getAttributes().put(
+                DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, null))
+        );
+
+        StepVerifier.create(securityContextRepository.load(exchange))
+                .assertNext(loadedContext -> assertThat(loadedContext.getAuthentication().getPrincipal()).isSameAs(user))
+                .verifyComplete();
+
+        final SecurityContext sessionContext = session.getAttribute(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME);
+        assertThat(sessionContext.getAuthentication().getPrincipal()).isInstanceOf(SessionUserPrincipal.class);
+    }
+}
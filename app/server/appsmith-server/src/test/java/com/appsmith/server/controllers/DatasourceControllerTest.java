@@ -0,0 +1,94 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.SecurityTestConfig;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.solutions.AuthenticationService;
+import com.appsmith.server.solutions.DatasourceStructureSolution;
+import com.appsmith.server.solutions.ExamplesOrganizationCloner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@RunWith(SpringRunner.class)
+@WebFluxTest(DatasourceController.class)
+@Import(SecurityTestConfig.class)
+public class DatasourceControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private DatasourceService datasourceService;
+
+    @MockBean
+    private DatasourceStructureSolution datasourceStructureSolution;
+
+    @MockBean
+    private AuthenticationService authenticationService;
+
+    @MockBean
+    private ConfigService configService;
+
+    @MockBean
+    private ExamplesOrganizationCloner examplesOrganizationCloner;
+
+    @MockBean
+    private CommonConfig commonConfig;
+
+    private static DatasourceStructure.Table makeTable(String name) {
+        return new DatasourceStructure.Table(
+                DatasourceStructure.TableType.TABLE,
+                "public",
+                name,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>()
+        );
+    }
+
+    @Test
+    @WithMockUser
+    public void getTables() {
+        Mockito.when(datasourceStructureSolution.getTables("datasource-id"))
+                .thenReturn(Mono.just(new DatasourceStructure(List.of(makeTable("public.users"), makeTable("public.orders")))));
+
+        webTestClient.get().uri("/api/v1/datasources/datasource-id/structure/tables").
+                exchange().
+                expectStatus().isOk().
+                expectBody().
+                jsonPath("$.responseMeta.status").isEqualTo(200).
+                jsonPath("$.data.tables.length()").isEqualTo(2).
+                jsonPath("$.data.tables[0].name").isEqualTo("public.users").
+                jsonPath("$.data.tables[1].name").isEqualTo("public.orders");
+    }
+
+    @Test
+    @WithMockUser
+    public void getStructureOfSelectedTables() {
+        Mockito.when(datasourceStructureSolution.getStructure("datasource-id", false, Set.of("public.users", "public.orders")))
+                .thenReturn(Mono.just(new DatasourceStructure(List.of(makeTable("public.users"), makeTable("public.orders")))));
+
+        webTestClient.get().uri("/api/v1/datasources/datasource-id/structure?tableNames=public.users&tableNames=public.orders").
+                exchange().
+                expectStatus().isOk().
+                expectBody().
+                jsonPath("$.data.tables.length()").isEqualTo(2);
+
+        Mockito.verify(datasourceStructureSolution)
+                .getStructure("datasource-id", false, Set.of("public.users", "public.orders"));
+    }
+}
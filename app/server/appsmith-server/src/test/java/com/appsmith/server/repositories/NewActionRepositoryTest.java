@@ -0,0 +1,66 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.dtos.ActionDTO;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.appsmith.server.acl.AclPermission.EXECUTE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.READ_ACTIONS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext
+public class NewActionRepositoryTest {
+
+    @Autowired
+    NewActionRepository newActionRepository;
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findByApplicationIdAndViewMode_withProjection_setsUserPermissionsFromPolicies() {
+        final String applicationId = UUID.randomUUID().toString();
+
+        ActionDTO unpublishedAction = new ActionDTO();
+        unpublishedAction.setName("projectedAction");
+        unpublishedAction.setPageId("projectedPageId");
+
+        NewAction action = new NewAction();
+        action.setApplicationId(applicationId);
+        action.setUnpublishedAction(unpublishedAction);
+        action.setPublishedAction(new ActionDTO());
+        action.setPolicies(Set.of(
+                Policy.builder().permission(READ_ACTIONS.getValue()).users(Set.of("api_user")).build(),
+                Policy.builder().permission(MANAGE_ACTIONS.getValue()).users(Set.of("api_user")).build(),
+                Policy.builder().permission(EXECUTE_ACTIONS.getValue()).users(Set.of("someone_else")).build()
+        ));
+
+        // Only the name is asked for, which is an inclusion projection that doesn't list the policies.
+        Flux<NewAction> actionsFlux = newActionRepository.save(action)
+                .thenMany(newActionRepository.findByApplicationIdAndViewMode(applicationId, false, List.of("name"), READ_ACTIONS));
+
+        StepVerifier.create(actionsFlux)
+                .assertNext(projectedAction -> {
+                    assertThat(projectedAction.getUnpublishedAction().getName()).isEqualTo("projectedAction");
+                    assertThat(projectedAction.getUnpublishedAction().getPageId()).isNull();
+                    assertThat(projectedAction.getPublishedAction()).isNull();
+                    assertThat(projectedAction.getUserPermissions())
+                            .containsExactlyInAnyOrder(READ_ACTIONS.getValue(), MANAGE_ACTIONS.getValue());
+                })
+                .verifyComplete();
+    }
+}
@@ -229,6 +229,49 @@ public class ActionServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findUnpublishedActionsForOnLoadInPage_readsOnlyTheOnLoadFields() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action = new ActionDTO();
+        action.setName("onLoadAction");
+        action.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setBody("{{ Input1.text }}");
+        actionConfiguration.setTimeoutInMillisecond("20000");
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+
+        ActionDTO createdAction = layoutActionService.createAction(action).block();
+        layoutActionService.setExecuteOnLoad(createdAction.getId(), true).block();
+
+        Plugin installedPlugin = pluginRepository.findByPackageName("installed-plugin").block();
+
+        StepVerifier
+                .create(newActionService.findUnpublishedActionsForOnLoadInPage(testPage.getId()).collectList())
+                .assertNext(actions -> {
+                    assertThat(actions).hasSize(1);
+                    NewAction newAction = actions.get(0);
+                    assertThat(newAction.getId()).isEqualTo(createdAction.getId());
+                    assertThat(newAction.getPluginType()).isEqualTo(installedPlugin.getType());
+                    assertThat(newAction.getPublishedAction()).isNull();
+
+                    ActionDTO onLoadAction = newAction.getUnpublishedAction();
+                    assertThat(onLoadAction.getName()).isEqualTo("onLoadAction");
+                    assertThat(onLoadAction.getJsonPathKeys()).containsExactly("Input1.text");
+                    assertThat(onLoadAction.getExecuteOnLoad()).isTrue();
+                    assertThat(onLoadAction.getUserSetOnLoad()).isTrue();
+                    assertThat(onLoadAction.getActionConfiguration().getTimeoutInMillisecond()).isEqualTo(20000);
+
+                    // The other fields of the action are not read.
+                    assertThat(onLoadAction.getPageId()).isNull();
+                    assertThat(onLoadAction.getActionConfiguration().getBody()).isNull();
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void validMoveAction() {
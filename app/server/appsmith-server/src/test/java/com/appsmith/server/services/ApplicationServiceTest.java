@@ -24,6 +24,7 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.solutions.ApplicationFetcher;
 import com.appsmith.server.solutions.ReleaseNotesService;
@@ -35,6 +36,10 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
@@ -46,6 +51,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -105,6 +111,12 @@ public class ApplicationServiceTest {
     @Autowired
     ApplicationRepository applicationRepository;
 
+    @Autowired
+    NewActionRepository newActionRepository;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
     @Autowired
     LayoutActionService layoutActionService;
 
@@ -764,6 +776,88 @@ public class ApplicationServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void publishApplication_withPagesAndActions_copiesUnpublishedVersions() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        Application testApplication = new Application();
+        testApplication.setName("ApplicationServiceTest Publish Application With Pages And Actions");
+        Application application = applicationPageService.createApplication(testApplication, orgId).block();
+        String applicationId = application.getId();
+
+        List<String> pageIds = new ArrayList<>();
+        pageIds.add(application.getPages().get(0).getId());
+        for (int i = 1; i <= 2; i++) {
+            PageDTO page = new PageDTO();
+            page.setName("Publish Test Page " + i);
+            page.setApplicationId(applicationId);
+            pageIds.add(applicationPageService.createPage(page).block().getId());
+        }
+
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        Datasource datasource = new Datasource();
+        datasource.setName("Publish Pages And Actions Test");
+        datasource.setPluginId(plugin.getId());
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(orgId);
+        Datasource savedDatasource = datasourceService.create(datasource).block();
+
+        List<String> actionIds = new ArrayList<>();
+        for (String pageId : pageIds) {
+            for (int i = 1; i <= 2; i++) {
+                ActionDTO action = new ActionDTO();
+                action.setName("publishTestAction" + i + "_" + pageId);
+                action.setPageId(pageId);
+                action.setDatasource(savedDatasource);
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setHttpMethod(HttpMethod.GET);
+                actionConfiguration.setPath("/page/" + pageId + "/action/" + i);
+                action.setActionConfiguration(actionConfiguration);
+                actionIds.add(layoutActionService.createAction(action).block().getId());
+            }
+        }
+
+        // Publish once so that the action deleted below has a published version, which makes deleting it in edit
+        // mode only mark it as deleted, and then publish again to remove it.
+        applicationPageService.publish(applicationId).block();
+        String deletedActionId = actionIds.remove(0);
+        newActionService.deleteUnpublishedAction(deletedActionId).block();
+
+        ActionDTO editedAction = newActionService.findActionDTObyIdAndViewMode(actionIds.get(0), false, MANAGE_ACTIONS).block();
+        editedAction.getActionConfiguration().setPath("/edited");
+        layoutActionService.updateAction(editedAction.getId(), editedAction).block();
+
+        applicationPageService.publish(applicationId).block();
+
+        StepVerifier
+                .create(Mono.zip(
+                        newPageRepository.findByApplicationId(applicationId).collectList(),
+                        newActionRepository.findByApplicationId(applicationId).collectList()
+                ))
+                .assertNext(tuple -> {
+                    List<NewPage> pages = tuple.getT1();
+                    assertThat(pages).hasSize(3);
+                    for (NewPage page : pages) {
+                        assertThat(page.getPublishedPage()).usingRecursiveComparison().isEqualTo(page.getUnpublishedPage());
+                    }
+
+                    List<NewAction> actions = tuple.getT2();
+                    assertThat(actions.stream().map(NewAction::getId).collect(Collectors.toList()))
+                            .containsExactlyInAnyOrderElementsOf(actionIds);
+                    for (NewAction action : actions) {
+                        assertThat(action.getPublishedAction()).usingRecursiveComparison().isEqualTo(action.getUnpublishedAction());
+                    }
+                    assertThat(actions.stream()
+                            .filter(action -> action.getId().equals(actionIds.get(0)))
+                            .findFirst().get()
+                            .getPublishedAction().getActionConfiguration().getPath()).isEqualTo("/edited");
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void deleteUnpublishedPageFromApplication() {
@@ -925,6 +1019,77 @@ public class ApplicationServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void cloneApplication_revalidatesActionsAndSkipsActionsDeletedInEditMode() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        Application testApplication = new Application();
+        testApplication.setName("ApplicationServiceTest Clone Application With Stale Actions");
+        Application originalApplication = applicationPageService.createApplication(testApplication, orgId).block();
+        String pageId = originalApplication.getPages().get(0).getId();
+
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        Datasource datasource = new Datasource();
+        datasource.setName("Clone App Revalidation Datasource");
+        datasource.setPluginId(plugin.getId());
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(orgId);
+        Datasource savedDatasource = datasourceService.create(datasource).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setBody("{{ Input1.text }}");
+
+        ActionDTO action = new ActionDTO();
+        action.setName("staleAction");
+        action.setPageId(pageId);
+        action.setDatasource(savedDatasource);
+        action.setActionConfiguration(actionConfiguration);
+        ActionDTO staleAction = layoutActionService.createAction(action).block();
+
+        ActionDTO actionToDelete = new ActionDTO();
+        actionToDelete.setName("deletedAction");
+        actionToDelete.setPageId(pageId);
+        actionToDelete.setDatasource(savedDatasource);
+        actionToDelete.setActionConfiguration(actionConfiguration);
+        ActionDTO deletedAction = layoutActionService.createAction(actionToDelete).block();
+
+        // Leave the derived fields of the source action out of date, and delete the other one in edit mode
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(staleAction.getId())),
+                new Update()
+                        .set("unpublishedAction.isValid", false)
+                        .set("unpublishedAction.invalids", Set.of("stale"))
+                        .set("unpublishedAction.jsonPathKeys", Set.of()),
+                NewAction.class
+        );
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(deletedAction.getId())),
+                new Update().set("unpublishedAction.deletedAt", Instant.now()),
+                NewAction.class
+        );
+
+        Mono<List<NewAction>> clonedActionsMono = applicationPageService.cloneApplication(originalApplication.getId())
+                .flatMapMany(clonedApplication -> newActionRepository.findByApplicationId(clonedApplication.getId()))
+                .collectList();
+
+        StepVerifier
+                .create(clonedActionsMono)
+                .assertNext(clonedActions -> {
+                    assertThat(clonedActions).hasSize(1);
+                    ActionDTO clonedAction = clonedActions.get(0).getUnpublishedAction();
+                    assertThat(clonedAction.getName()).isEqualTo("staleAction");
+                    assertThat(clonedAction.getIsValid()).isTrue();
+                    assertThat(clonedAction.getInvalids()).isEmpty();
+                    assertThat(clonedAction.getJsonPathKeys()).containsExactly("Input1.text");
+                    assertThat(clonedAction.getDatasource().getId()).isEqualTo(savedDatasource.getId());
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void validCloneApplicationWhenCancelledMidWay() {
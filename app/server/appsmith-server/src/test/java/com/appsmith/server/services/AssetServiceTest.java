@@ -0,0 +1,128 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.domains.Asset;
+import com.appsmith.server.repositories.AssetRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext
+public class AssetServiceTest {
+
+    @Autowired
+    AssetService assetService;
+
+    @Autowired
+    AssetRepository assetRepository;
+
+    private FilePart getImageFilePart() {
+        FilePart filepart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(filepart.content()).thenReturn(DataBufferUtils.read(
+                new ClassPathResource("test_assets/OrganizationServiceTest/my_organization_logo.png"),
+                new DefaultDataBufferFactory(),
+                4096
+        ));
+        Mockito.when(filepart.headers().getContentType()).thenReturn(MediaType.IMAGE_PNG);
+        return filepart;
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void uploadSameImageTwice_sharesAssetUntilLastReferenceIsRemoved() {
+        final Asset firstAsset = assetService.upload(getImageFilePart(), 250).block();
+        final Asset secondAsset = assetService.upload(getImageFilePart(), 250).block();
+
+        assertThat(firstAsset).isNotNull();
+        assertThat(secondAsset).isNotNull();
+        assertThat(secondAsset.getId()).isEqualTo(firstAsset.getId());
+        assertThat(secondAsset.getReferenceCount()).isEqualTo(2);
+
+        StepVerifier.create(assetService.remove(firstAsset.getId()).then(assetRepository.findById(firstAsset.getId())))
+                .assertNext(asset -> assertThat(asset.getReferenceCount()).isEqualTo(1))
+                .verifyComplete();
+
+        StepVerifier.create(assetService.remove(firstAsset.getId()).then(assetRepository.findById(firstAsset.getId())))
+                // Should be empty since the last reference to the asset has been removed.
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void uploadSameImageConcurrently_savesSingleAsset() {
+        final List<Asset> assets = Flux.range(0, 5)
+                .flatMap(i -> assetService.upload(getImageFilePart(), 250).subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        assertThat(assets).hasSize(5);
+        final String assetId = assets.get(0).getId();
+        assertThat(assets).allSatisfy(asset -> assertThat(asset.getId()).isEqualTo(assetId));
+
+        StepVerifier.create(assetRepository.findById(assetId))
+                .assertNext(asset -> assertThat(asset.getReferenceCount()).isEqualTo(5))
+                .verifyComplete();
+
+        // Remove all the references, for the other tests that upload the same image to start from scratch.
+        Flux.fromIterable(assets).concatMap(asset -> assetService.remove(asset.getId())).blockLast();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void remove_assetSavedBeforeReferencesWereCounted_isDeleted() {
+        final Asset legacyAsset = new Asset(MediaType.IMAGE_PNG, new byte[]{1, 2, 3});
+        ReflectionTestUtils.setField(legacyAsset, "referenceCount", null);
+        final Asset savedAsset = assetRepository.save(legacyAsset).block();
+
+        StepVerifier.create(assetService.remove(savedAsset.getId()).then(assetRepository.findById(savedAsset.getId())))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void makeImageResponse_withMatchingETag_isNotModified() {
+        final Asset asset = assetService.upload(getImageFilePart(), 250).block();
+        assertThat(asset).isNotNull();
+
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        final Mono<Void> responseMono = assetService.makeImageResponse(exchange, asset.getId());
+
+        StepVerifier.create(responseMono).verifyComplete();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getHeaders().getETag()).isEqualTo("\"" + asset.getHash() + "\"");
+        assertThat(exchange.getResponse().getHeaders().getCacheControl()).contains("private", "immutable");
+
+        final MockServerWebExchange conditionalExchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/").ifNoneMatch("\"" + asset.getHash() + "\""));
+        final Mono<Void> conditionalResponseMono = assetService.makeImageResponse(conditionalExchange, asset.getId());
+
+        StepVerifier.create(conditionalResponseMono).verifyComplete();
+        assertThat(conditionalExchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        // Both tests upload the same image, so its reference is removed for the other test to start from scratch.
+        assetService.remove(asset.getId()).block();
+    }
+}
@@ -7,23 +7,33 @@ import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.repositories.CommentRepository;
+import com.appsmith.server.repositories.CommentThreadRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -46,6 +56,12 @@ public class CommentServiceTest {
     @Autowired
     OrganizationService organizationService;
 
+    @Autowired
+    CommentThreadRepository commentThreadRepository;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     @Test
     @WithUserDetails(value = "api_user")
     public void setup() {
@@ -227,4 +243,211 @@ public class CommentServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getThreadsByApplicationId_WhenPaginated_ReturnsCountsWithoutComments() {
+        Organization organization = new Organization();
+        organization.setName("CommentPaginationOrg");
+        Mono<CommentThread> threadMono = organizationService
+                .create(organization)
+                .flatMap(org -> {
+                    Application testApplication = new Application();
+                    testApplication.setName("CommentPaginationApp");
+                    return applicationPageService
+                            .createApplication(testApplication, org.getId());
+                })
+                .flatMap(application -> {
+                    final CommentThread thread = new CommentThread();
+                    thread.setApplicationId(application.getId());
+                    thread.setComments(List.of(
+                            makePlainTextComment("first comment"),
+                            makePlainTextComment("second comment")
+                    ));
+                    return commentService.createThread(thread, "https://app.appsmith.com");
+                })
+                .cache();
+
+        MultiValueMap<String, String> pageParams = new LinkedMultiValueMap<>();
+        pageParams.add("pageSize", "1");
+
+        Mono<Tuple3<List<CommentThread>, List<Comment>, List<Comment>>> resultMono = threadMono
+                .flatMap(thread -> {
+                    MultiValueMap<String, String> nextPageParams = new LinkedMultiValueMap<>(pageParams);
+                    nextPageParams.add("afterDate", thread.getComments().get(0).getCreationTime());
+                    return Mono.zip(
+                            commentService.getThreadsByApplicationId(thread.getApplicationId(), pageParams),
+                            commentService.getCommentsByThreadId(thread.getId(), pageParams),
+                            commentService.getCommentsByThreadId(thread.getId(), nextPageParams)
+                    );
+                });
+
+        StepVerifier
+                .create(resultMono)
+                .assertNext(tuple -> {
+                    final List<CommentThread> threads = tuple.getT1();
+                    assertThat(threads).hasSize(1);
+                    assertThat(threads.get(0).getComments()).isNull();
+                    assertThat(threads.get(0).getCommentCount()).isEqualTo(2L);
+                    assertThat(threads.get(0).getLastComment().getBody())
+                            .isEqualTo(makePlainTextComment("second comment").getBody());
+                    assertThat(threads.get(0).getIsViewed()).isTrue();
+
+                    assertThat(tuple.getT2()).hasSize(1);
+                    assertThat(tuple.getT2().get(0).getBody()).isEqualTo(makePlainTextComment("first comment").getBody());
+                    assertThat(tuple.getT3()).hasSize(1);
+                    assertThat(tuple.getT3().get(0).getBody()).isEqualTo(makePlainTextComment("second comment").getBody());
+                })
+                .verifyComplete();
+    }
+
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getCommentsByThreadId_WhenCommentsShareCreationTime_ReturnsEachCommentOnce() {
+        Organization organization = new Organization();
+        organization.setName("CommentCursorOrg");
+        final Instant createdAt = Instant.parse("2021-06-01T10:00:00Z");
+        Mono<CommentThread> threadMono = organizationService
+                .create(organization)
+                .flatMap(org -> {
+                    Application testApplication = new Application();
+                    testApplication.setName("CommentCursorApp");
+                    return applicationPageService
+                            .createApplication(testApplication, org.getId());
+                })
+                .flatMap(application -> {
+                    final CommentThread thread = new CommentThread();
+                    thread.setApplicationId(application.getId());
+                    thread.setComments(List.of(
+                            makePlainTextComment("first comment"),
+                            makePlainTextComment("second comment"),
+                            makePlainTextComment("third comment")
+                    ));
+                    return commentService.createThread(thread, "https://app.appsmith.com");
+                })
+                // Comments created in the same millisecond end up with the same creation time.
+                .flatMap(thread -> mongoOperations.updateMulti(
+                        Query.query(where("threadId").is(thread.getId())),
+                        Update.update("createdAt", createdAt),
+                        Comment.class
+                ).thenReturn(thread))
+                .cache();
+
+        MultiValueMap<String, String> pageParams = new LinkedMultiValueMap<>();
+        pageParams.add("pageSize", "1");
+
+        Mono<List<Comment>> commentsMono = threadMono
+                .flatMap(thread -> commentService.getCommentsByThreadId(thread.getId(), pageParams)
+                        .flatMap(firstPage -> {
+                            MultiValueMap<String, String> nextPageParams = new LinkedMultiValueMap<>();
+                            nextPageParams.add("pageSize", "2");
+                            nextPageParams.add("afterDate", firstPage.get(0).getCreationTime());
+                            nextPageParams.add("afterId", firstPage.get(0).getId());
+                            return commentService.getCommentsByThreadId(thread.getId(), nextPageParams)
+                                    .map(nextPage -> {
+                                        List<Comment> comments = new ArrayList<>(firstPage);
+                                        comments.addAll(nextPage);
+                                        return comments;
+                                    });
+                        }));
+
+        StepVerifier
+                .create(commentsMono)
+                .assertNext(comments -> {
+                    assertThat(comments).hasSize(3);
+                    assertThat(comments).extracting(Comment::getId).doesNotHaveDuplicates();
+                    assertThat(comments).extracting(Comment::getId).isSorted();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateCommentCount_WithOlderComment_KeepsNewerLastComment() {
+        Organization organization = new Organization();
+        organization.setName("CommentLastCommentOrg");
+        Mono<CommentThread> threadMono = organizationService
+                .create(organization)
+                .flatMap(org -> {
+                    Application testApplication = new Application();
+                    testApplication.setName("CommentLastCommentApp");
+                    return applicationPageService
+                            .createApplication(testApplication, org.getId());
+                })
+                .flatMap(application -> {
+                    final CommentThread thread = new CommentThread();
+                    thread.setApplicationId(application.getId());
+                    thread.setComments(List.of(
+                            makePlainTextComment("first comment"),
+                            makePlainTextComment("second comment")
+                    ));
+                    return commentService.createThread(thread, "https://app.appsmith.com");
+                })
+                .cache();
+
+        // An update computed with the first comment lands after the second comment was saved.
+        Mono<CommentThread> resultMono = threadMono
+                .flatMap(thread -> commentThreadRepository
+                        .updateCommentCount(thread.getId(), 0, thread.getComments().get(0), null)
+                        .then(commentThreadRepository.findById(thread.getId())));
+
+        StepVerifier
+                .create(resultMono)
+                .assertNext(thread -> {
+                    assertThat(thread.getCommentCount()).isEqualTo(2L);
+                    assertThat(thread.getLastComment().getBody())
+                            .isEqualTo(makePlainTextComment("second comment").getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void update_WhenLastCommentIsEdited_UpdatesLastCommentOfThread() {
+        Organization organization = new Organization();
+        organization.setName("CommentUpdateOrg");
+        Mono<CommentThread> threadMono = organizationService
+                .create(organization)
+                .flatMap(org -> {
+                    Application testApplication = new Application();
+                    testApplication.setName("CommentUpdateApp");
+                    return applicationPageService
+                            .createApplication(testApplication, org.getId());
+                })
+                .flatMap(application -> {
+                    final CommentThread thread = new CommentThread();
+                    thread.setApplicationId(application.getId());
+                    thread.setComments(List.of(
+                            makePlainTextComment("first comment"),
+                            makePlainTextComment("second comment")
+                    ));
+                    return commentService.createThread(thread, "https://app.appsmith.com");
+                })
+                .cache();
+
+        Mono<Tuple2<List<CommentThread>, List<CommentThread>>> resultMono = threadMono
+                .flatMap(thread -> commentService
+                        // Editing a comment that isn't the last one leaves the thread's last comment as it is
+                        .update(thread.getComments().get(0).getId(), makePlainTextComment("first comment, edited"))
+                        .then(commentService.getThreadsByApplicationId(thread.getApplicationId(), new LinkedMultiValueMap<>()))
+                        .zipWhen(threads -> commentService
+                                .update(thread.getComments().get(1).getId(), makePlainTextComment("second comment, edited"))
+                                .then(commentService.getThreadsByApplicationId(thread.getApplicationId(), new LinkedMultiValueMap<>())))
+                );
+
+        StepVerifier
+                .create(resultMono)
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).hasSize(1);
+                    assertThat(tuple.getT1().get(0).getLastComment().getBody())
+                            .isEqualTo(makePlainTextComment("second comment").getBody());
+
+                    assertThat(tuple.getT2()).hasSize(1);
+                    assertThat(tuple.getT2().get(0).getCommentCount()).isEqualTo(2L);
+                    assertThat(tuple.getT2().get(0).getLastComment().getBody())
+                            .isEqualTo(makePlainTextComment("second comment, edited").getBody());
+                })
+                .verifyComplete();
+    }
+
 }
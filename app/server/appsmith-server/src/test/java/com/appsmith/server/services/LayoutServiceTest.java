@@ -450,6 +450,174 @@ public class LayoutServiceTest {
     }
 
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getActionsExecuteOnLoad_withTransitiveDependency_placesEachActionAfterAllItsDependencies() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        PageDTO testPage = new PageDTO();
+        testPage.setName("ActionsExecuteOnLoad Levels Test Page");
+
+        Application app = new Application();
+        app.setName("newApplication-onLoadActionLevels-Test");
+
+        // aLevelC depends on aLevelB and aLevelA, and aLevelB depends on aLevelA. The direct dependency of aLevelC on
+        // aLevelA must not pull it into the level right after aLevelA.
+        Mono<LayoutDTO> testMono = createPage(app, testPage)
+                .flatMap(page1 -> {
+                    List<Mono<ActionDTO>> monos = new ArrayList<>();
+
+                    ActionDTO action = new ActionDTO();
+                    action.setName("aLevelA");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+                    action.setPageId(page1.getId());
+                    action.setExecuteOnLoad(true);
+                    action.setDatasource(datasource);
+                    monos.add(layoutActionService.createAction(action));
+
+                    action = new ActionDTO();
+                    action.setName("aLevelB");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+                    action.getActionConfiguration().setBody("{{aLevelA.data}}");
+                    action.setJsonPathKeys(Set.of("aLevelA.data"));
+                    action.setPageId(page1.getId());
+                    action.setExecuteOnLoad(true);
+                    action.setDatasource(datasource);
+                    monos.add(layoutActionService.createAction(action));
+
+                    action = new ActionDTO();
+                    action.setName("aLevelC");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+                    action.getActionConfiguration().setBody("{{aLevelB.data}} and {{aLevelA.data}}");
+                    action.setJsonPathKeys(Set.of("aLevelB.data", "aLevelA.data"));
+                    action.setPageId(page1.getId());
+                    action.setExecuteOnLoad(true);
+                    action.setDatasource(datasource);
+                    monos.add(layoutActionService.createAction(action));
+
+                    return Mono.zip(monos, objects -> page1);
+                })
+                .zipWhen(page1 -> {
+                    Layout layout = new Layout();
+                    layout.setDsl(new JSONObject(Map.of("key", "value")));
+                    return layoutService.createLayout(page1.getId(), layout);
+                })
+                .flatMap(tuple2 -> {
+                    final PageDTO page1 = tuple2.getT1();
+                    final Layout layout = tuple2.getT2();
+
+                    Layout newLayout = new Layout();
+
+                    JSONObject obj = new JSONObject(Map.of(
+                            "widgetName", "testWidget",
+                            "key", "value-updated",
+                            "dynamicGet", "some dynamic {{aLevelC.data}}"
+                    ));
+                    JSONArray dynamicBindingsPathList = new JSONArray();
+                    dynamicBindingsPathList.add(new JSONObject(Map.of("key", "dynamicGet")));
+                    obj.put("dynamicBindingPathList", dynamicBindingsPathList);
+                    newLayout.setDsl(obj);
+
+                    return layoutActionService.updateLayout(page1.getId(), layout.getId(), newLayout);
+                });
+
+        StepVerifier
+                .create(testMono)
+                .assertNext(layout -> {
+                    assertThat(layout.getLayoutOnLoadActions()).hasSize(3);
+                    assertThat(layout.getLayoutOnLoadActions().get(0).stream().map(DslActionDTO::getName).collect(Collectors.toSet()))
+                            .containsExactly("aLevelA");
+                    assertThat(layout.getLayoutOnLoadActions().get(1).stream().map(DslActionDTO::getName).collect(Collectors.toSet()))
+                            .containsExactly("aLevelB");
+                    assertThat(layout.getLayoutOnLoadActions().get(2).stream().map(DslActionDTO::getName).collect(Collectors.toSet()))
+                            .containsExactly("aLevelC");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getActionsExecuteOnLoad_withCyclicDependency_schedulesEveryActionInTheCycle() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        PageDTO testPage = new PageDTO();
+        testPage.setName("ActionsExecuteOnLoad Cycle Test Page");
+
+        Application app = new Application();
+        app.setName("newApplication-onLoadActionCycle-Test");
+
+        // aCycleA and aCycleB depend on each other. One of the two dependencies is dropped to break the cycle, and both
+        // actions still run on page load, one after the other.
+        Mono<LayoutDTO> testMono = createPage(app, testPage)
+                .flatMap(page1 -> {
+                    List<Mono<ActionDTO>> monos = new ArrayList<>();
+
+                    ActionDTO action = new ActionDTO();
+                    action.setName("aCycleA");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+                    action.getActionConfiguration().setBody("{{aCycleB.data}}");
+                    action.setJsonPathKeys(Set.of("aCycleB.data"));
+                    action.setPageId(page1.getId());
+                    action.setExecuteOnLoad(true);
+                    action.setDatasource(datasource);
+                    monos.add(layoutActionService.createAction(action));
+
+                    action = new ActionDTO();
+                    action.setName("aCycleB");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+                    action.getActionConfiguration().setBody("{{aCycleA.data}}");
+                    action.setJsonPathKeys(Set.of("aCycleA.data"));
+                    action.setPageId(page1.getId());
+                    action.setExecuteOnLoad(true);
+                    action.setDatasource(datasource);
+                    monos.add(layoutActionService.createAction(action));
+
+                    return Mono.zip(monos, objects -> page1);
+                })
+                .zipWhen(page1 -> {
+                    Layout layout = new Layout();
+                    layout.setDsl(new JSONObject(Map.of("key", "value")));
+                    return layoutService.createLayout(page1.getId(), layout);
+                })
+                .flatMap(tuple2 -> {
+                    final PageDTO page1 = tuple2.getT1();
+                    final Layout layout = tuple2.getT2();
+
+                    Layout newLayout = new Layout();
+
+                    JSONObject obj = new JSONObject(Map.of(
+                            "widgetName", "testWidget",
+                            "key", "value-updated",
+                            "dynamicGet", "some dynamic {{aCycleA.data}}"
+                    ));
+                    JSONArray dynamicBindingsPathList = new JSONArray();
+                    dynamicBindingsPathList.add(new JSONObject(Map.of("key", "dynamicGet")));
+                    obj.put("dynamicBindingPathList", dynamicBindingsPathList);
+                    newLayout.setDsl(obj);
+
+                    return layoutActionService.updateLayout(page1.getId(), layout.getId(), newLayout);
+                });
+
+        StepVerifier
+                .create(testMono)
+                .assertNext(layout -> {
+                    assertThat(layout.getLayoutOnLoadActions()).hasSize(2);
+                    assertThat(layout.getLayoutOnLoadActions().get(0)).hasSize(1);
+                    assertThat(layout.getLayoutOnLoadActions().get(1)).hasSize(1);
+                    assertThat(layout.getLayoutOnLoadActions().stream()
+                            .flatMap(Set::stream)
+                            .map(DslActionDTO::getName)
+                            .collect(Collectors.toSet()))
+                            .containsExactlyInAnyOrder("aCycleA", "aCycleB");
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testIncorrectDynamicBindingPathInDsl() {
@@ -2,10 +2,13 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.RealtimeEventDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationByIdDTO;
 import com.appsmith.server.dtos.UpdateIsReadNotificationDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.repositories.NotificationRepository;
+import com.appsmith.server.solutions.RealtimeEventHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.client.result.UpdateResult;
 import org.junit.Before;
 import org.junit.Test;
@@ -47,6 +50,8 @@ public class NotificationServiceImplTest {
     private AnalyticsService analyticsService;
     @MockBean
     private SessionUserService sessionUserService;
+    @MockBean
+    private RealtimeEventHandler realtimeEventHandler;
 
     NotificationService notificationService;
     private User currentUser;
@@ -55,7 +60,7 @@ public class NotificationServiceImplTest {
     public void setUp() {
         notificationService = new NotificationServiceImpl(
                 scheduler, validator, mongoConverter, reactiveMongoTemplate,
-                repository, analyticsService, sessionUserService
+                repository, analyticsService, sessionUserService, realtimeEventHandler, new ObjectMapper()
         );
         currentUser = new User();
         currentUser.setEmail("sample-email");
@@ -65,6 +70,7 @@ public class NotificationServiceImplTest {
         Mockito.when(repository.countByForUsername(currentUser.getUsername())).thenReturn(Mono.just(100L));
         // mock the repository to return unread count as 5
         Mockito.when(repository.countByForUsernameAndIsReadIsFalse(currentUser.getUsername())).thenReturn(Mono.just(5L));
+        Mockito.when(realtimeEventHandler.publishUnreadCount(eq(currentUser.getUsername()), Mockito.anyLong())).thenReturn(Mono.empty());
     }
 
     private List<Notification> createSampleNotificationList() {
@@ -172,4 +178,39 @@ public class NotificationServiceImplTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getRealtimeEvents_WhenSubscribed_StartsWithUnreadCount() {
+        RealtimeEventDTO notificationEvent = new RealtimeEventDTO();
+        notificationEvent.setType(RealtimeEventDTO.Type.NOTIFICATION);
+        notificationEvent.setForUsername(currentUser.getUsername());
+
+        Mockito.when(realtimeEventHandler.listenForUser(currentUser)).thenReturn(Flux.just(notificationEvent));
+
+        StepVerifier
+                .create(notificationService.getRealtimeEvents())
+                .assertNext(event -> {
+                    assertThat(event.getType()).isEqualTo(RealtimeEventDTO.Type.UNREAD_COUNT);
+                    assertThat(event.getPayload().asLong()).isEqualTo(5L);
+                })
+                .assertNext(event -> assertThat(event.getType()).isEqualTo(RealtimeEventDTO.Type.NOTIFICATION))
+                .verifyComplete();
+    }
+
+    @Test
+    public void updateIsRead_WhenUpdateAll_PushesUnreadCount() {
+        UpdateIsReadNotificationDTO dto = new UpdateIsReadNotificationDTO();
+        dto.setIsRead(true);
+
+        Mockito.when(repository.updateIsReadByForUsername(currentUser.getUsername(), true)).thenReturn(
+                Mono.just(Mockito.mock(UpdateResult.class))
+        );
+
+        StepVerifier
+                .create(notificationService.updateIsRead(dto))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(realtimeEventHandler).publishUnreadCount(currentUser.getUsername(), 5L);
+    }
+}
@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.constants.FieldName;
@@ -33,12 +34,18 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -90,6 +97,12 @@ public class PageServiceTest {
     @Autowired
     LayoutActionService layoutActionService;
 
+    @Autowired
+    DatasourceService datasourceService;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
     Application application = null;
 
     String applicationId = null;
@@ -347,6 +360,77 @@ public class PageServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void clonePage_revalidatesActionsAndSkipsActionsDeletedInEditMode() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        setupTestApplication();
+        PageDTO testPage = new PageDTO();
+        testPage.setName("Page With Stale Actions");
+        testPage.setApplicationId(applicationId);
+        final PageDTO page = applicationPageService.createPage(testPage).block();
+
+        Datasource datasource = new Datasource();
+        datasource.setName("Clone Page Revalidation Datasource");
+        datasource.setOrganizationId(orgId);
+        datasource.setPluginId(pluginRepository.findByPackageName("installed-plugin").block().getId());
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        final Datasource savedDatasource = datasourceService.create(datasource).block();
+
+        ActionDTO action = new ActionDTO();
+        action.setName("staleAction");
+        action.setPageId(page.getId());
+        action.setDatasource(savedDatasource);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setBody("{{ Input1.text }}");
+        action.setActionConfiguration(actionConfiguration);
+        final ActionDTO staleAction = layoutActionService.createAction(action).block();
+
+        ActionDTO actionToDelete = new ActionDTO();
+        actionToDelete.setName("deletedAction");
+        actionToDelete.setPageId(page.getId());
+        actionToDelete.setDatasource(savedDatasource);
+        actionToDelete.setActionConfiguration(actionConfiguration);
+        final ActionDTO deletedAction = layoutActionService.createAction(actionToDelete).block();
+
+        // Leave the derived fields of the source action out of date, and delete the other one in edit mode
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(staleAction.getId())),
+                new Update()
+                        .set("unpublishedAction.isValid", false)
+                        .set("unpublishedAction.invalids", Set.of("stale"))
+                        .set("unpublishedAction.jsonPathKeys", Set.of()),
+                NewAction.class
+        );
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(deletedAction.getId())),
+                new Update().set("unpublishedAction.deletedAt", Instant.now()),
+                NewAction.class
+        );
+
+        Mono<List<NewAction>> clonedActionsMono = applicationPageService.clonePage(page.getId())
+                .flatMapMany(clonedPage -> newActionService.findByPageId(clonedPage.getId(), READ_ACTIONS))
+                .collectList();
+
+        StepVerifier
+                .create(clonedActionsMono)
+                .assertNext(clonedActions -> {
+                    assertThat(clonedActions).hasSize(1);
+                    final ActionDTO clonedAction = clonedActions.get(0).getUnpublishedAction();
+                    assertThat(clonedAction.getName()).isEqualTo("staleAction");
+                    assertThat(clonedAction.getIsValid()).isTrue();
+                    assertThat(clonedAction.getInvalids()).isEmpty();
+                    assertThat(clonedAction.getJsonPathKeys()).containsExactly("Input1.text");
+                    assertThat(clonedAction.getDatasource().getId()).isEqualTo(savedDatasource.getId());
+                    assertThat(clonedActions.get(0).getPluginId()).isEqualTo(savedDatasource.getPluginId());
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void reuseDeletedPageName() {
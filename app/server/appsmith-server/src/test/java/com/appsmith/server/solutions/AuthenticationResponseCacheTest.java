@@ -0,0 +1,71 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.AuthenticationResponse;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticationResponseCacheTest {
+
+    private static AuthenticationResponse makeResponse(String token, Instant issuedAt) {
+        return new AuthenticationResponse(token, "refresh-" + token, issuedAt, issuedAt.plus(1, ChronoUnit.HOURS), null);
+    }
+
+    @Test
+    public void getNewerThan_returnsOnlyTokensIssuedAfterTheGivenOne() {
+        final AuthenticationResponseCache cache = new AuthenticationResponseCache();
+        final Instant now = Instant.now();
+        cache.put("datasource1", makeResponse("refreshed", now));
+
+        final AuthenticationResponse fromOlderCopy = cache.getNewerThan("datasource1", makeResponse("old", now.minusSeconds(600)));
+        assertThat(fromOlderCopy.getToken()).isEqualTo("refreshed");
+
+        // A token that was authorized again after the refresh must not be replaced by the refreshed one
+        assertThat(cache.getNewerThan("datasource1", makeResponse("reauthorized", now.plusSeconds(10)))).isNull();
+        assertThat(cache.getNewerThan("datasource1", makeResponse("refreshed", now))).isNull();
+    }
+
+    @Test
+    public void getNewerThan_skipsTokensAboutToExpire() {
+        final AuthenticationResponseCache cache = new AuthenticationResponseCache();
+        final Instant issuedAt = Instant.now().minus(1, ChronoUnit.HOURS).plusSeconds(30);
+        cache.put("datasource1", makeResponse("expiring", issuedAt));
+
+        assertThat(cache.getNewerThan("datasource1", null)).isNull();
+    }
+
+    @Test
+    public void put_keepsTheNewerToken() {
+        final AuthenticationResponseCache cache = new AuthenticationResponseCache();
+        final Instant now = Instant.now();
+        cache.put("datasource1", makeResponse("newer", now));
+        cache.put("datasource1", makeResponse("older", now.minusSeconds(60)));
+
+        assertThat(cache.getNewerThan("datasource1", null).getToken()).isEqualTo("newer");
+    }
+
+    @Test
+    public void evict_removesTheToken() {
+        final AuthenticationResponseCache cache = new AuthenticationResponseCache();
+        cache.put("datasource1", makeResponse("refreshed", Instant.now()));
+        cache.evict("datasource1");
+
+        assertThat(cache.getNewerThan("datasource1", null)).isNull();
+    }
+
+    @Test
+    public void put_isBounded() {
+        final AuthenticationResponseCache cache = new AuthenticationResponseCache();
+        final Instant now = Instant.now();
+        for (int i = 0; i <= AuthenticationResponseCache.MAX_ENTRIES; i++) {
+            cache.put("datasource" + i, makeResponse("token" + i, now));
+        }
+
+        // The least recently used entry is the first one
+        assertThat(cache.getNewerThan("datasource0", null)).isNull();
+        assertThat(cache.getNewerThan("datasource" + AuthenticationResponseCache.MAX_ENTRIES, null)).isNotNull();
+    }
+}
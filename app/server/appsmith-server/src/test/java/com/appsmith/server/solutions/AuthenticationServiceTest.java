@@ -1,5 +1,6 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.external.models.AuthenticationResponse;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.OAuth2;
@@ -34,6 +35,8 @@ import org.springframework.util.LinkedMultiValueMap;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -66,6 +69,9 @@ public class AuthenticationServiceTest {
     @Autowired
     ApplicationPageService applicationPageService;
 
+    @Autowired
+    AuthenticationResponseCache authenticationResponseCache;
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testGetAuthorizationCodeURL_missingDatasource() {
@@ -176,4 +182,67 @@ public class AuthenticationServiceTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void refreshAuthentication_whenTokenWasAuthorizedAgain_keepsItOverCachedToken() {
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        final Instant now = Instant.now();
+        authenticationResponseCache.put("reauthorizedDatasourceId",
+                new AuthenticationResponse("refreshed", "refreshToken", now.minusSeconds(60), now.plus(1, ChronoUnit.HOURS), null));
+
+        Datasource datasource = new Datasource();
+        datasource.setId("reauthorizedDatasourceId");
+        datasource.setPluginId(plugin.getId());
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        OAuth2 oAuth2 = new OAuth2();
+        oAuth2.setAuthenticationResponse(new AuthenticationResponse("reauthorized", "refreshToken", now, now, null));
+        datasourceConfiguration.setAuthentication(oAuth2);
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+
+        StepVerifier
+                .create(authenticationService.refreshAuthentication(datasource))
+                .assertNext(refreshedDatasource -> {
+                    OAuth2 authentication = (OAuth2) refreshedDatasource.getDatasourceConfiguration().getAuthentication();
+                    assertThat(authentication.getAuthenticationResponse().getToken()).isEqualTo("reauthorized");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateDatasource_evictsCachedToken() {
+        Organization testOrg = organizationRepository.findByName("Another Test Organization", AclPermission.READ_ORGANIZATIONS).block();
+        String orgId = testOrg == null ? "" : testOrg.getId();
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
+        Datasource datasource = new Datasource();
+        datasource.setName("Cached token datasource");
+        datasource.setOrganizationId(orgId);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+
+        final Instant now = Instant.now();
+        Mono<AuthenticationResponse> cachedTokenMono = pluginMono
+                .map(plugin -> {
+                    datasource.setPluginId(plugin.getId());
+                    return datasource;
+                })
+                .flatMap(datasourceService::create)
+                .flatMap(savedDatasource -> {
+                    authenticationResponseCache.put(savedDatasource.getId(),
+                            new AuthenticationResponse("refreshed", "refreshToken", now, now.plus(1, ChronoUnit.HOURS), null));
+
+                    Datasource update = new Datasource();
+                    update.setName("Cached token datasource, renamed");
+                    return datasourceService.update(savedDatasource.getId(), update);
+                })
+                .flatMap(updatedDatasource -> Mono.justOrEmpty(authenticationResponseCache.getNewerThan(updatedDatasource.getId(), null)));
+
+        StepVerifier
+                .create(cachedTokenMono)
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,194 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.repositories.CustomDatasourceRepository;
+import com.appsmith.server.services.DatasourceContextService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.PluginService;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasourceStructureSolutionTest {
+
+    private DatasourceService datasourceService;
+    private DatasourceContextService datasourceContextService;
+    private CustomDatasourceRepository datasourceRepository;
+
+    private DatasourceStructureSolution datasourceStructureSolution;
+
+    private final AtomicInteger fetchCount = new AtomicInteger();
+
+    @Before
+    public void setup() {
+        datasourceService = Mockito.mock(DatasourceService.class);
+        datasourceContextService = Mockito.mock(DatasourceContextService.class);
+        datasourceRepository = Mockito.mock(CustomDatasourceRepository.class);
+
+        final PluginExecutorHelper pluginExecutorHelper = Mockito.mock(PluginExecutorHelper.class);
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(Mockito.mock(PluginExecutor.class)));
+        Mockito.when(datasourceRepository.saveStructure(Mockito.anyString(), Mockito.any())).thenReturn(Mono.empty());
+
+        datasourceStructureSolution = new DatasourceStructureSolution(
+                datasourceService,
+                pluginExecutorHelper,
+                Mockito.mock(PluginService.class),
+                datasourceContextService,
+                Mockito.mock(EncryptionService.class),
+                datasourceRepository
+        );
+    }
+
+    private Datasource makeDatasource(Instant structureUpdatedAt) {
+        Datasource datasource = new Datasource();
+        datasource.setId("datasource-id");
+        datasource.setPluginId("plugin-id");
+        datasource.setStructure(new DatasourceStructure(List.of()));
+        datasource.setStructureUpdatedAt(structureUpdatedAt);
+        Mockito.when(datasourceService.getById("datasource-id")).thenReturn(Mono.just(datasource));
+        return datasource;
+    }
+
+    private DatasourceStructure.Table makeTable(String name) {
+        return new DatasourceStructure.Table(
+                DatasourceStructure.TableType.TABLE,
+                "public",
+                name,
+                new ArrayList<>(List.of(new DatasourceStructure.Column("id", "int4", null))),
+                new ArrayList<>(),
+                new ArrayList<>(List.of(new DatasourceStructure.Template("SELECT", "SELECT * FROM " + name, null)))
+        );
+    }
+
+    private void mockFetch(Mono<DatasourceStructure> result) {
+        Mockito.when(datasourceContextService.retryOnce(Mockito.any(Datasource.class), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    fetchCount.incrementAndGet();
+                    return result;
+                });
+    }
+
+    @Test
+    public void getStructure_whenCachedStructureIsFresh_doesNotRefresh() {
+        makeDatasource(Instant.now());
+        mockFetch(Mono.just(new DatasourceStructure(List.of())));
+
+        StepVerifier.create(datasourceStructureSolution.getStructure("datasource-id", false))
+                .assertNext(structure -> assertThat(structure.getTables()).isEmpty())
+                .verifyComplete();
+
+        assertThat(fetchCount.get()).isZero();
+    }
+
+    @Test
+    public void getStructure_whenCachedStructureIsStale_refreshesInBackground() {
+        makeDatasource(Instant.now().minus(DatasourceStructureSolution.STRUCTURE_REFRESH_AFTER).minusSeconds(60));
+        mockFetch(Mono.just(new DatasourceStructure(List.of())));
+
+        StepVerifier.create(datasourceStructureSolution.getStructure("datasource-id", false))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(fetchCount.get()).isEqualTo(1);
+        Mockito.verify(datasourceRepository).saveStructure(Mockito.eq("datasource-id"), Mockito.any());
+    }
+
+    @Test
+    public void getStructure_afterRefreshFails_doesNotRefreshAgainRightAway() {
+        makeDatasource(Instant.now().minus(DatasourceStructureSolution.STRUCTURE_REFRESH_AFTER).minusSeconds(60));
+        mockFetch(Mono.error(new RuntimeException("Datasource is down")));
+
+        for (int i = 0; i < 3; i++) {
+            // The cached structure is still returned, even though it can't be refreshed
+            StepVerifier.create(datasourceStructureSolution.getStructure("datasource-id", false))
+                    .assertNext(structure -> assertThat(structure.getError()).isNull())
+                    .verifyComplete();
+        }
+
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getTables_whenStructureIsCached_listsCachedTablesWithoutDetails() {
+        Datasource datasource = makeDatasource(Instant.now());
+        datasource.setStructure(new DatasourceStructure(List.of(makeTable("public.users"), makeTable("public.orders"))));
+        mockFetch(Mono.just(new DatasourceStructure(List.of())));
+
+        StepVerifier.create(datasourceStructureSolution.getTables("datasource-id"))
+                .assertNext(structure -> {
+                    assertThat(structure.getTables())
+                            .extracting(DatasourceStructure.Table::getName)
+                            .containsExactly("public.users", "public.orders");
+                    assertThat(structure.getTables()).allSatisfy(table -> {
+                        assertThat(table.getColumns()).isEmpty();
+                        assertThat(table.getTemplates()).isEmpty();
+                    });
+                })
+                .verifyComplete();
+
+        assertThat(fetchCount.get()).isZero();
+    }
+
+    @Test
+    public void getTables_whenStructureIsNotCached_fetchesTablesWithoutCachingThem() {
+        Datasource datasource = makeDatasource(null);
+        datasource.setStructure(null);
+        mockFetch(Mono.just(new DatasourceStructure(List.of(makeTable("public.users")))));
+
+        StepVerifier.create(datasourceStructureSolution.getTables("datasource-id"))
+                .assertNext(structure -> assertThat(structure.getTables())
+                        .extracting(DatasourceStructure.Table::getName)
+                        .containsExactly("public.users"))
+                .verifyComplete();
+
+        assertThat(fetchCount.get()).isEqualTo(1);
+        Mockito.verify(datasourceRepository, Mockito.never()).saveStructure(Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    public void getStructureOfTables_whenStructureIsCached_returnsOnlyTheGivenTables() {
+        Datasource datasource = makeDatasource(Instant.now());
+        datasource.setStructure(new DatasourceStructure(List.of(makeTable("public.users"), makeTable("public.orders"))));
+        mockFetch(Mono.just(new DatasourceStructure(List.of())));
+
+        StepVerifier.create(datasourceStructureSolution.getStructure("datasource-id", false, Set.of("public.orders")))
+                .assertNext(structure -> {
+                    assertThat(structure.getTables()).hasSize(1);
+                    assertThat(structure.getTables().get(0).getName()).isEqualTo("public.orders");
+                    assertThat(structure.getTables().get(0).getColumns()).hasSize(1);
+                })
+                .verifyComplete();
+
+        assertThat(fetchCount.get()).isZero();
+    }
+
+    @Test
+    public void getStructure_whenFetchedConcurrently_fetchesOnce() {
+        makeDatasource(null);
+        mockFetch(Mono.delay(Duration.ofMillis(200)).thenReturn(new DatasourceStructure(List.of())));
+
+        StepVerifier.create(Mono.zip(
+                datasourceStructureSolution.getStructure("datasource-id", true),
+                datasourceStructureSolution.getStructure("datasource-id", true)
+        ))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+}
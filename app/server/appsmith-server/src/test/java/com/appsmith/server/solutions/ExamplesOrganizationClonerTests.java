@@ -20,6 +20,7 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.PageDTO;
@@ -51,6 +52,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
@@ -993,6 +995,85 @@ public class ExamplesOrganizationClonerTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void cloneOrganizationRevalidatesActionsAndSkipsActionsDeletedInEditMode() {
+        Organization newOrganization = new Organization();
+        newOrganization.setName("Template Organization With Stale Actions");
+        final Organization organization = organizationService.create(newOrganization).block();
+        final User user = sessionUserService.getCurrentUser().block();
+
+        final Application app = new Application();
+        app.setName("application with stale actions");
+        app.setOrganizationId(organization.getId());
+        final Application savedApp = applicationPageService.createApplication(app).block();
+        final String pageId = savedApp.getPages().get(0).getId();
+
+        final Datasource ds = new Datasource();
+        ds.setName("datasource of stale actions");
+        ds.setOrganizationId(organization.getId());
+        ds.setPluginId(installedPlugin.getId());
+        final Datasource savedDs = datasourceService.create(ds).block();
+
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setBody("{{ Input1.text }}");
+
+        final ActionDTO action = new ActionDTO();
+        action.setName("staleAction");
+        action.setPageId(pageId);
+        action.setDatasource(savedDs);
+        action.setActionConfiguration(actionConfiguration);
+        final ActionDTO staleAction = actionCollectionService.createAction(action).block();
+
+        final ActionDTO actionToDelete = new ActionDTO();
+        actionToDelete.setName("deletedAction");
+        actionToDelete.setPageId(pageId);
+        actionToDelete.setDatasource(savedDs);
+        actionToDelete.setActionConfiguration(actionConfiguration);
+        final ActionDTO deletedAction = actionCollectionService.createAction(actionToDelete).block();
+
+        // Leave the derived fields of the source action out of date, and delete the other one in edit mode
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(staleAction.getId())),
+                new Update()
+                        .set("unpublishedAction.isValid", false)
+                        .set("unpublishedAction.invalids", Set.of("stale"))
+                        .set("unpublishedAction.jsonPathKeys", Set.of()),
+                NewAction.class
+        );
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(deletedAction.getId())),
+                new Update().set("unpublishedAction.deletedAt", Instant.now()),
+                NewAction.class
+        );
+
+        final Mono<OrganizationData> resultMono = examplesOrganizationCloner
+                .cloneOrganizationForUser(organization.getId(), user, Flux.just(savedApp), Flux.empty())
+                .flatMap(this::loadOrganizationData);
+
+        StepVerifier.create(resultMono)
+                .assertNext(data -> {
+                    assertThat(data.applications).hasSize(1);
+                    assertThat(data.datasources).hasSize(1);
+
+                    final List<NewAction> clonedActions = mongoTemplate.find(
+                            Query.query(Criteria.where("applicationId").is(data.applications.get(0).getId())),
+                            NewAction.class
+                    );
+                    assertThat(clonedActions).hasSize(1);
+                    assertThat(clonedActions.get(0).getOrganizationId()).isEqualTo(data.organization.getId());
+
+                    final ActionDTO clonedAction = clonedActions.get(0).getUnpublishedAction();
+                    assertThat(clonedAction.getName()).isEqualTo("staleAction");
+                    assertThat(clonedAction.getIsValid()).isTrue();
+                    assertThat(clonedAction.getInvalids()).isEmpty();
+                    assertThat(clonedAction.getJsonPathKeys()).containsExactly("Input1.text");
+                    assertThat(clonedAction.getDatasource().getId()).isEqualTo(data.datasources.get(0).getId());
+                })
+                .verifyComplete();
+    }
+
     private List<String> getUnpublishedActionName(List<ActionDTO> actions) {
         List<String> names = new ArrayList<>();
         for (ActionDTO action : actions) {
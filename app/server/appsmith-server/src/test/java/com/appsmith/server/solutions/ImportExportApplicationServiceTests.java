@@ -59,12 +59,15 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import static com.appsmith.server.acl.AclPermission.EXPORT_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
@@ -524,7 +527,69 @@ public class ImportExportApplicationServiceTests {
             .verifyComplete();
     }
     
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplicationFromGzipCompressedJsonFileTest() {
+
+        FilePart filePart = createFilePart(
+            "test_assets/ImportExportServiceTest/valid-application.json.gz",
+            MediaType.parseMediaType("application/gzip")
+        );
+
+        Organization newOrganization = new Organization();
+        newOrganization.setName("Template Organization For Gzip Import");
+
+        final Mono<Application> resultMono = organizationService
+            .create(newOrganization)
+            .flatMap(organization -> importExportApplicationService
+                .extractFileAndSaveApplication(organization.getId(), filePart)
+            );
+
+        StepVerifier
+            .create(resultMono
+                .flatMap(application -> Mono.zip(
+                    Mono.just(application),
+                    newPageService.findByApplicationId(application.getId(), MANAGE_PAGES, false).collectList()
+                )))
+            .assertNext(tuple -> {
+                final Application application = tuple.getT1();
+                final List<PageDTO> pageList = tuple.getT2();
+
+                assertThat(application.getName()).isEqualTo("valid_application");
+                assertThat(application.getPages()).isNotEmpty();
+                assertThat(pageList).isNotEmpty();
+            })
+            .verifyComplete();
+    }
+    
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplicationFromGzipArchiveInflatingTooMuchTest() throws IOException {
+        // 101 MB of zeros compress to about 100 KB
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            byte[] zeros = new byte[1024 * 1024];
+            for (int i = 0; i < 101; i++) {
+                gzipOutputStream.write(zeros);
+            }
+        }
+
+        FilePart filePart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(filePart.content()).thenReturn(Flux.just(new DefaultDataBufferFactory().wrap(compressed.toByteArray())));
+        Mockito.when(filePart.headers().getContentType()).thenReturn(MediaType.parseMediaType("application/gzip"));
+
+        StepVerifier
+            .create(importExportApplicationService.extractFileAndSaveApplication(orgId, filePart))
+            .expectErrorMatches(throwable -> throwable instanceof AppsmithException &&
+                throwable.getMessage().equals(AppsmithError.VALIDATION_FAILURE.getMessage("decompressed file is too large")))
+            .verify();
+    }
+    
     private FilePart createFilePart(String filePath) {
+        return createFilePart(filePath, MediaType.APPLICATION_JSON);
+    }
+
+    private FilePart createFilePart(String filePath, MediaType contentType) {
         FilePart filepart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
         Flux<DataBuffer> dataBufferFlux = DataBufferUtils
             .read(
@@ -534,7 +599,7 @@ public class ImportExportApplicationServiceTests {
             .cache();
     
         Mockito.when(filepart.content()).thenReturn(dataBufferFlux);
-        Mockito.when(filepart.headers().getContentType()).thenReturn(MediaType.APPLICATION_JSON);
+        Mockito.when(filepart.headers().getContentType()).thenReturn(contentType);
     
         return filepart;
     
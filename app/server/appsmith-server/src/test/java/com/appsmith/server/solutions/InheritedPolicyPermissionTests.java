@@ -0,0 +1,210 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.server.acl.AppsmithRole;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.InviteUsersDTO;
+import com.appsmith.server.helpers.MockPluginExecutor;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.repositories.CommentThreadRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.OrganizationRepository;
+import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.services.ApplicationPageService;
+import com.appsmith.server.services.CommentService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.LayoutActionService;
+import com.appsmith.server.services.OrganizationService;
+import com.appsmith.server.services.PluginService;
+import com.appsmith.server.services.UserOrganizationService;
+import com.appsmith.server.services.UserService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple6;
+
+import java.util.List;
+
+import static com.appsmith.server.acl.AclPermission.READ_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static com.appsmith.server.acl.AclPermission.READ_THREAD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the pages, actions and comment threads of an application stop being readable by a user as soon as the
+ * application is no longer shared with them, when their permissions are inherited from the application.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "appsmith.acl.inherit-policies=true")
+@DirtiesContext
+public class InheritedPolicyPermissionTests {
+
+    private static final String DEVELOPER = "developer@solutiontest.com";
+
+    @Autowired
+    OrganizationService organizationService;
+
+    @Autowired
+    OrganizationRepository organizationRepository;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserOrganizationService userOrganizationService;
+
+    @Autowired
+    ApplicationPageService applicationPageService;
+
+    @Autowired
+    PluginService pluginService;
+
+    @Autowired
+    DatasourceService datasourceService;
+
+    @Autowired
+    LayoutActionService layoutActionService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    NewPageRepository newPageRepository;
+
+    @Autowired
+    NewActionRepository newActionRepository;
+
+    @Autowired
+    CommentThreadRepository commentThreadRepository;
+
+    @MockBean
+    PluginExecutorHelper pluginExecutorHelper;
+
+    String organizationId;
+
+    Application application;
+
+    String pageId;
+
+    String actionId;
+
+    String threadId;
+
+    @Before
+    @WithUserDetails(value = "api_user")
+    public void setup() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        Organization organization = new Organization();
+        organization.setName("Inherited Policy Test Organization");
+        organizationId = organizationService.create(organization).block().getId();
+
+        Application application = new Application();
+        application.setName("Inherited Policy Test Application");
+        this.application = applicationPageService.createApplication(application, organizationId).block();
+        pageId = this.application.getPages().get(0).getId();
+
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        Datasource datasource = new Datasource();
+        datasource.setName("Inherited Policy Test Datasource");
+        datasource.setPluginId(plugin.getId());
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(organizationId);
+        Datasource savedDatasource = datasourceService.create(datasource).block();
+
+        ActionDTO action = new ActionDTO();
+        action.setName("inheritedPolicyTestAction");
+        action.setPageId(pageId);
+        action.setDatasource(savedDatasource);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        action.setActionConfiguration(actionConfiguration);
+        actionId = layoutActionService.createAction(action).block().getId();
+
+        CommentThread thread = new CommentThread();
+        thread.setApplicationId(this.application.getId());
+        threadId = commentService.createThread(thread, "http://localhost:8080").block().getId();
+
+        InviteUsersDTO inviteUsersDTO = new InviteUsersDTO();
+        inviteUsersDTO.setOrgId(organizationId);
+        inviteUsersDTO.setUsernames(List.of(DEVELOPER));
+        inviteUsersDTO.setRoleName(AppsmithRole.ORGANIZATION_DEVELOPER.getName());
+        userService.inviteUsers(inviteUsersDTO, "http://localhost:8080").block();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void removedUser_cannotReadPagesActionsOrCommentThreads() {
+        final User developer = userRepository.findByEmail(DEVELOPER).block();
+
+        StepVerifier.create(readAs(developer))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isTrue();
+                    assertThat(tuple.getT2()).isEqualTo(1);
+                    assertThat(tuple.getT3()).isTrue();
+                    assertThat(tuple.getT4()).isEqualTo(1);
+                    assertThat(tuple.getT5()).isTrue();
+                    assertThat(tuple.getT6()).isEqualTo(1);
+                })
+                .verifyComplete();
+
+        Organization organization = organizationRepository.findById(organizationId).block();
+        userOrganizationService.removeUserRoleFromOrganizationGivenUserObject(organization, developer).block();
+
+        StepVerifier.create(readAs(developer))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isFalse();
+                    assertThat(tuple.getT2()).isZero();
+                    assertThat(tuple.getT3()).isFalse();
+                    assertThat(tuple.getT4()).isZero();
+                    assertThat(tuple.getT5()).isFalse();
+                    assertThat(tuple.getT6()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Reads the page, the action and the comment thread of the application by their ids, and counts them by the
+     * application's id, with the permissions of the given user.
+     */
+    private Mono<Tuple6<Boolean, Long, Boolean, Long, Boolean, Long>> readAs(User user) {
+        final String applicationId = application.getId();
+
+        return Mono.zip(
+                newPageRepository.findById(pageId, READ_PAGES).hasElement(),
+                newPageRepository.findByApplicationId(applicationId, READ_PAGES).count(),
+                newActionRepository.findById(actionId, READ_ACTIONS).hasElement(),
+                newActionRepository.findByApplicationId(applicationId, READ_ACTIONS, null).count(),
+                commentThreadRepository.findById(threadId, READ_THREAD).hasElement(),
+                commentThreadRepository.findByApplicationId(applicationId, READ_THREAD).count()
+        )
+                .subscriberContext(ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+                ));
+    }
+}
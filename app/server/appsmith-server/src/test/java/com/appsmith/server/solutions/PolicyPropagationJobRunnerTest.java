@@ -0,0 +1,281 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.PolicyPropagationJob;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PolicyPropagationJobRepository;
+import com.appsmith.server.services.ApplicationPageService;
+import com.appsmith.server.services.OrganizationService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple3;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Slf4j
+@DirtiesContext
+public class PolicyPropagationJobRunnerTest {
+
+    @Autowired
+    PolicyPropagationJobRunner policyPropagationJobRunner;
+
+    @Autowired
+    PolicyPropagationJobRepository policyPropagationJobRepository;
+
+    @Autowired
+    OrganizationService organizationService;
+
+    @Autowired
+    ApplicationPageService applicationPageService;
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
+    @Autowired
+    NewPageRepository newPageRepository;
+
+    Organization organization;
+
+    Application application;
+
+    @Before
+    @WithUserDetails(value = "api_user")
+    public void setup() {
+        Organization organization = new Organization();
+        organization.setName("Policy Propagation Job Test Organization");
+        this.organization = organizationService.create(organization).block();
+
+        Application application = new Application();
+        application.setName("Policy Propagation Job Test Application");
+        this.application = applicationPageService.createApplication(application, this.organization.getId()).block();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void abandonedJobIsResumedFromItsLastCompletedStep() {
+        final String username = "policy_job_test_user@test.com";
+        final Policy readApplicationPolicy = Policy.builder()
+                .permission(READ_APPLICATIONS.getValue())
+                .users(Set.of(username))
+                .build();
+        final Policy readPagePolicy = Policy.builder()
+                .permission(READ_PAGES.getValue())
+                .users(Set.of(username))
+                .build();
+
+        // A job that was running on a server that went down after it had found the applications and updated the
+        // applications, but before it updated the pages.
+        PolicyPropagationJob job = new PolicyPropagationJob();
+        job.setOrganizationId(organization.getId());
+        job.setRequestedBy("api_user");
+        job.setAddPolicyToObject(true);
+        job.setDatasourcePolicyMap(Map.of());
+        job.setApplicationPolicyMap(Map.of(readApplicationPolicy.getPermission(), readApplicationPolicy));
+        job.setPagePolicyMap(Map.of(readPagePolicy.getPermission(), readPagePolicy));
+        job.setActionPolicyMap(Map.of());
+        job.setStatus(PolicyPropagationJob.Status.RUNNING);
+        job.setAttempts(1);
+        job.setLockedUntil(Instant.now().minusSeconds(60));
+        job.setApplicationIds(Set.of(application.getId()));
+        job.setCompletedSteps(new LinkedHashSet<>(List.of(
+                PolicyPropagationJob.Step.FIND_APPLICATIONS,
+                PolicyPropagationJob.Step.DATASOURCES,
+                PolicyPropagationJob.Step.APPLICATIONS
+        )));
+
+        Mono<Tuple3<PolicyPropagationJob, Application, List<NewPage>>> resultMono = policyPropagationJobRepository.save(job)
+                .flatMap(savedJob -> policyPropagationJobRunner.runPendingJobs()
+                        .then(Mono.zip(
+                                policyPropagationJobRepository.findById(savedJob.getId()),
+                                applicationRepository.findById(application.getId()),
+                                newPageRepository.findByApplicationId(application.getId()).collectList()
+                        ))
+                );
+
+        StepVerifier.create(resultMono)
+                .assertNext(tuple -> {
+                    final PolicyPropagationJob completedJob = tuple.getT1();
+                    assertThat(completedJob.getStatus()).isEqualTo(PolicyPropagationJob.Status.COMPLETED);
+                    assertThat(completedJob.getAttempts()).isEqualTo(2);
+                    assertThat(completedJob.getCompletedSteps()).containsExactlyInAnyOrder(PolicyPropagationJob.Step.values());
+                    assertThat(completedJob.getFinishedAt()).isNotNull();
+
+                    // The applications step was already completed, so it isn't run again.
+                    final Application application = tuple.getT2();
+                    assertThat(application.getPolicies())
+                            .filteredOn(policy -> READ_APPLICATIONS.getValue().equals(policy.getPermission()))
+                            .allSatisfy(policy -> assertThat(policy.getUsers()).doesNotContain(username));
+
+                    final List<NewPage> pages = tuple.getT3();
+                    assertThat(pages).isNotEmpty();
+                    for (NewPage page : pages) {
+                        assertThat(page.getPolicies())
+                                .filteredOn(policy -> READ_PAGES.getValue().equals(policy.getPermission()))
+                                .hasSize(1)
+                                .allSatisfy(policy -> assertThat(policy.getUsers()).contains(username, "api_user"));
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void failedJobIsRetriedTillItRunsOutOfAttempts() {
+        // The job fails on every attempt, since the user who requested it doesn't exist.
+        PolicyPropagationJob job = new PolicyPropagationJob();
+        job.setOrganizationId(organization.getId());
+        job.setRequestedBy("missing_policy_job_test_user@test.com");
+        job.setAddPolicyToObject(true);
+        job.setStatus(PolicyPropagationJob.Status.PENDING);
+        final String jobId = policyPropagationJobRepository.save(job).block().getId();
+
+        policyPropagationJobRunner.runPendingJobs().block();
+
+        PolicyPropagationJob retriedJob = policyPropagationJobRepository.findById(jobId).block();
+        assertThat(retriedJob.getStatus()).isEqualTo(PolicyPropagationJob.Status.PENDING);
+        assertThat(retriedJob.getAttempts()).isEqualTo(1);
+        assertThat(retriedJob.getLockedUntil()).isAfter(Instant.now());
+        assertThat(retriedJob.getLockedBy()).isNull();
+        assertThat(retriedJob.getError()).isNotNull();
+        assertThat(retriedJob.getFinishedAt()).isNull();
+
+        // The backoff is over, and the next attempt is the last one.
+        retriedJob.setAttempts(PolicyPropagationJobRunner.MAX_ATTEMPTS - 1);
+        retriedJob.setLockedUntil(Instant.now().minusSeconds(60));
+        policyPropagationJobRepository.save(retriedJob).block();
+
+        Mono<PolicyPropagationJob> resultMono = policyPropagationJobRunner.runPendingJobs()
+                .then(policyPropagationJobRepository.findById(jobId));
+
+        StepVerifier.create(resultMono)
+                .assertNext(failedJob -> {
+                    assertThat(failedJob.getStatus()).isEqualTo(PolicyPropagationJob.Status.FAILED);
+                    assertThat(failedJob.getAttempts()).isEqualTo(PolicyPropagationJobRunner.MAX_ATTEMPTS);
+                    assertThat(failedJob.getLockedUntil()).isNull();
+                    assertThat(failedJob.getLockedBy()).isNull();
+                    assertThat(failedJob.getFinishedAt()).isNotNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void jobIsOnlyUpdatedByTheWorkerHoldingItsLock() {
+        // A job abandoned by a worker that stalled past the expiry of its lock.
+        PolicyPropagationJob job = new PolicyPropagationJob();
+        job.setOrganizationId(organization.getId());
+        job.setStatus(PolicyPropagationJob.Status.RUNNING);
+        job.setAttempts(1);
+        job.setLockedUntil(Instant.now().minusSeconds(60));
+        job.setLockedBy("stalled worker");
+        final PolicyPropagationJob abandonedJob = policyPropagationJobRepository.save(job).block();
+
+        final PolicyPropagationJob claimedJob = policyPropagationJobRepository
+                .claim(abandonedJob, Instant.now().plus(PolicyPropagationJobRunner.LOCK_DURATION))
+                .block();
+        assertThat(claimedJob).isNotNull();
+        assertThat(claimedJob.getAttempts()).isEqualTo(2);
+        assertThat(claimedJob.getLockedBy()).isNotNull().isNotEqualTo("stalled worker");
+
+        // Another worker that read the job before it was claimed can't claim it as well.
+        StepVerifier.create(policyPropagationJobRepository.claim(abandonedJob, Instant.now().plus(PolicyPropagationJobRunner.LOCK_DURATION)))
+                .verifyComplete();
+
+        // The stalled worker can neither save its progress, nor release the job.
+        abandonedJob.setCompletedSteps(new LinkedHashSet<>(List.of(PolicyPropagationJob.Step.FIND_APPLICATIONS)));
+        StepVerifier.create(policyPropagationJobRepository.saveCheckpoint(abandonedJob))
+                .verifyComplete();
+        abandonedJob.setStatus(PolicyPropagationJob.Status.COMPLETED);
+        StepVerifier.create(policyPropagationJobRepository.release(abandonedJob))
+                .verifyComplete();
+
+        // The worker that claimed the job can.
+        claimedJob.setLockedUntil(Instant.now().plus(PolicyPropagationJobRunner.LOCK_DURATION));
+        StepVerifier.create(policyPropagationJobRepository.saveCheckpoint(claimedJob))
+                .assertNext(savedJob -> {
+                    assertThat(savedJob.getStatus()).isEqualTo(PolicyPropagationJob.Status.RUNNING);
+                    assertThat(savedJob.getCompletedSteps()).isEmpty();
+                    assertThat(savedJob.getLockedUntil()).isCloseTo(claimedJob.getLockedUntil(), within(1, ChronoUnit.SECONDS));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void jobRunByItsRequestIsFailedInsteadOfRetried() {
+        // The applications of the organization can't be updated without a policy map.
+        Mono<PolicyPropagationJob> runMono = policyPropagationJobRunner.run(
+                organization.getId(), Map.of(), null, Map.of(), Map.of(), null, true
+        );
+
+        StepVerifier.create(runMono)
+                .expectError()
+                .verify();
+
+        Mono<PolicyPropagationJob> jobMono = policyPropagationJobRunner.runPendingJobs()
+                .then(policyPropagationJobRepository.findTop20ByOrganizationIdOrderByIdDesc(organization.getId()).next());
+
+        StepVerifier.create(jobMono)
+                .assertNext(job -> {
+                    assertThat(job.getStatus()).isEqualTo(PolicyPropagationJob.Status.FAILED);
+                    assertThat(job.getAttempts()).isEqualTo(1);
+                    assertThat(job.getLockedUntil()).isNull();
+                    assertThat(job.getCompletedSteps()).containsExactly(
+                            PolicyPropagationJob.Step.FIND_APPLICATIONS,
+                            PolicyPropagationJob.Step.DATASOURCES
+                    );
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void abandonedJobRunByItsRequestIsFailedInsteadOfResumed() {
+        // A job that was being run by a request on a server that went down.
+        PolicyPropagationJob job = new PolicyPropagationJob();
+        job.setOrganizationId(organization.getId());
+        job.setRequestedBy("api_user");
+        job.setAddPolicyToObject(false);
+        job.setStatus(PolicyPropagationJob.Status.RUNNING);
+        job.setAttempts(1);
+        job.setLockedUntil(Instant.now().minusSeconds(60));
+        job.setFailIfAbandoned(true);
+
+        Mono<PolicyPropagationJob> resultMono = policyPropagationJobRepository.save(job)
+                .flatMap(savedJob -> policyPropagationJobRunner.runPendingJobs()
+                        .then(policyPropagationJobRepository.findById(savedJob.getId())));
+
+        StepVerifier.create(resultMono)
+                .assertNext(abandonedJob -> {
+                    assertThat(abandonedJob.getStatus()).isEqualTo(PolicyPropagationJob.Status.FAILED);
+                    assertThat(abandonedJob.getCompletedSteps()).isEmpty();
+                    assertThat(abandonedJob.getLockedUntil()).isNull();
+                })
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,119 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.RealtimeEventDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.MANAGE_THREAD;
+import static com.appsmith.server.acl.AclPermission.READ_THREAD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RealtimeEventHandlerTest {
+
+    private static final String APPLICATION_ID = "realtimeApplicationId";
+
+    private RealtimeEventHandler realtimeEventHandler;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        // Messages sent to Redis are received back by the same server, as they would be from the channel.
+        DirectProcessor<ReactiveSubscription.Message<String, String>> channel = DirectProcessor.create();
+        ReactiveRedisTemplate<String, String> reactiveTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        Mockito.when(reactiveTemplate.convertAndSend(Mockito.anyString(), Mockito.anyString())).thenAnswer(invocation -> {
+            channel.onNext(new ReactiveSubscription.ChannelMessage<>(invocation.getArgument(0), invocation.getArgument(1)));
+            return Mono.just(1L);
+        });
+
+        ReactiveRedisMessageListenerContainer container = Mockito.mock(ReactiveRedisMessageListenerContainer.class);
+        Mockito.when(container.receive(Mockito.any(ChannelTopic.class))).thenReturn(channel);
+
+        realtimeEventHandler = new RealtimeEventHandler(reactiveTemplate, container, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    public void listenForApplication_deliversThreadToReadersOnly() {
+        CommentThread thread = createThread(Policy.builder()
+                .permission(READ_THREAD.getValue())
+                .users(Set.of("reader@test.com"))
+                .groups(Set.of("readerGroup"))
+                .build());
+
+        assertThreadIsDelivered(thread, createUser("reader@test.com"));
+        assertThreadIsDelivered(thread, createUser("groupMember@test.com", "readerGroup"));
+        assertThreadIsNotDelivered(thread, createUser("other@test.com", "otherGroup"));
+    }
+
+    @Test
+    public void listenForApplication_deliversThreadReadableByAnonymousUsersToEveryone() {
+        CommentThread thread = createThread(Policy.builder()
+                .permission(READ_THREAD.getValue())
+                .users(Set.of(FieldName.ANONYMOUS_USER))
+                .build());
+
+        assertThreadIsDelivered(thread, createUser("other@test.com"));
+    }
+
+    @Test
+    public void listenForApplication_ignoresOtherPermissions() {
+        CommentThread thread = createThread(Policy.builder()
+                .permission(MANAGE_THREAD.getValue())
+                .users(Set.of("manager@test.com"))
+                .build());
+
+        assertThreadIsNotDelivered(thread, createUser("manager@test.com"));
+    }
+
+    private void assertThreadIsDelivered(CommentThread thread, User user) {
+        StepVerifier.create(realtimeEventHandler.listenForApplication(APPLICATION_ID, user).next())
+                .then(() -> realtimeEventHandler.publish(thread).block())
+                .assertNext(event -> {
+                    assertThat(event.getType()).isEqualTo(RealtimeEventDTO.Type.COMMENT_THREAD);
+                    assertThat(event.getPayload().get("id").asText()).isEqualTo(thread.getId());
+                    assertThat(event.getPayload().has(FieldName.POLICIES)).isFalse();
+                    assertThat(event.getPayload().has(FieldName.USER_PERMISSIONS)).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    private void assertThreadIsNotDelivered(CommentThread thread, User user) {
+        StepVerifier.create(realtimeEventHandler.listenForApplication(APPLICATION_ID, user))
+                .then(() -> realtimeEventHandler.publish(thread).block())
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+    }
+
+    private CommentThread createThread(Policy policy) {
+        CommentThread thread = new CommentThread();
+        thread.setId("realtimeThreadId");
+        thread.setApplicationId(APPLICATION_ID);
+        thread.setPolicies(Set.of(policy));
+        // The permissions of the user who changed the thread
+        thread.setUserPermissions(Set.of(MANAGE_THREAD.getValue()));
+        return thread;
+    }
+
+    private User createUser(String email, String... groupIds) {
+        User user = new User();
+        user.setEmail(email);
+        user.setGroupIds(Set.of(groupIds));
+        return user;
+    }
+}
@@ -0,0 +1,97 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.domains.SessionUserPrincipal;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.UserRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionUserCacheTest {
+
+    private static final String USER_ID = "sessionUserId";
+    private static final String EMAIL = "session_user@test.com";
+
+    private UserRepository userRepository;
+
+    private DirectProcessor<ReactiveSubscription.Message<String, String>> invalidations;
+
+    private SessionUserCache sessionUserCache;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setEmail(EMAIL);
+
+        userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByIdAndEmail(USER_ID, EMAIL)).thenAnswer(invocation -> Mono.just(user));
+
+        ReactiveRedisTemplate<String, String> reactiveTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        Mockito.when(reactiveTemplate.convertAndSend(Mockito.anyString(), Mockito.anyString())).thenReturn(Mono.just(1L));
+
+        invalidations = DirectProcessor.create();
+        ReactiveRedisMessageListenerContainer container = Mockito.mock(ReactiveRedisMessageListenerContainer.class);
+        Mockito.when(container.receive(Mockito.any(ChannelTopic.class))).thenReturn(invalidations);
+        ObjectProvider<ReactiveRedisMessageListenerContainer> containerProvider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(containerProvider.getObject()).thenReturn(container);
+
+        sessionUserCache = new SessionUserCache(userRepository, reactiveTemplate, containerProvider);
+        sessionUserCache.onApplicationEvent(Mockito.mock(ApplicationReadyEvent.class));
+    }
+
+    @Test
+    public void get_withChangedEmail_findsNoUser() {
+        Mockito.when(userRepository.findByIdAndEmail(USER_ID, "old_email@test.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(sessionUserCache.get(new SessionUserPrincipal(USER_ID, "old_email@test.com", 1)))
+                .verifyComplete();
+    }
+
+    @Test
+    public void invalidate_evictsAllVersionsOfUser() {
+        cacheVersions();
+
+        sessionUserCache.invalidate(USER_ID).block();
+
+        assertAllVersionsAreLoadedAgain();
+    }
+
+    @Test
+    public void invalidationFromAnotherServer_evictsAllVersionsOfUser() {
+        cacheVersions();
+
+        invalidations.onNext(new ReactiveSubscription.ChannelMessage<>("appsmith:user-invalidations", USER_ID));
+
+        assertAllVersionsAreLoadedAgain();
+    }
+
+    private void cacheVersions() {
+        for (long version = 1; version <= 2; version++) {
+            final SessionUserPrincipal principal = new SessionUserPrincipal(USER_ID, EMAIL, version);
+            // The second read of each version is served from the cache.
+            assertThat(sessionUserCache.get(principal).block()).isNotNull();
+            assertThat(sessionUserCache.get(principal).block()).isNotNull();
+        }
+        Mockito.verify(userRepository, Mockito.times(2)).findByIdAndEmail(USER_ID, EMAIL);
+    }
+
+    private void assertAllVersionsAreLoadedAgain() {
+        for (long version = 1; version <= 2; version++) {
+            assertThat(sessionUserCache.get(new SessionUserPrincipal(USER_ID, EMAIL, version)).block()).isNotNull();
+        }
+        Mockito.verify(userRepository, Mockito.times(4)).findByIdAndEmail(USER_ID, EMAIL);
+    }
+}